@@ -0,0 +1,97 @@
+package com.pado.inflow.employee.security;
+
+import com.pado.inflow.employee.security.dto.AccessTokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* 설명. 요청당 액세스 토큰 검증 비용: 기존 JwtFilter 경로와 JwtUtil.verifyAccessToken 비교
+ *  - baselineParseTwice : 기존처럼 validateAccessToken + parseClaims에서 매번 parser를 만들어 두 번 검증
+ *  - prebuiltParserOnce : 미리 만든 parser로 한 번만 검증
+ *  - verifyCacheMiss    : verifyAccessToken, 검증 캐시보다 많은 토큰을 돌려 써서 항상 캐시 미스
+ *  - verifyCacheHit     : verifyAccessToken, 같은 토큰을 반복 (같은 토큰으로 연달아 요청하는 일반적인 경우)
+ *  실행: ./gradlew jmh -Pjmh.includes=JwtVerifyBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerifyBenchmark {
+
+    private static final int CACHE_SIZE = 4096;
+    private static final int MISS_TOKENS = CACHE_SIZE * 2;
+
+    private Key key;
+    private JwtUtil jwtUtil;
+    private String token;
+    private String[] missTokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] secret = new byte[64];
+        for (int i = 0; i < secret.length; i++) {
+            secret[i] = (byte) (i * 31 + 7);
+        }
+        String encoded = Base64.getEncoder().encodeToString(secret);
+        key = Keys.hmacShaKeyFor(secret);
+        jwtUtil = new JwtUtil(encoded, encoded, 1800000L, 604800000L, false, CACHE_SIZE,
+                null, null, null, null);
+
+        token = accessToken("202400001", 1L);
+        missTokens = new String[MISS_TOKENS];
+        for (int i = 0; i < MISS_TOKENS; i++) {
+            missTokens[i] = accessToken(String.valueOf(202400000 + i), i);
+        }
+    }
+
+    @Benchmark
+    public Object baselineParseTwice() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return claims.get("auth");
+    }
+
+    @Benchmark
+    public Object prebuiltParserOnce() {
+        return jwtUtil.getAccessTokenParser().parseClaimsJws(token).getBody().get("auth");
+    }
+
+    @Benchmark
+    public AccessTokenClaims verifyCacheMiss() {
+        String current = missTokens[next];
+        next = (next + 1) % MISS_TOKENS;
+        return jwtUtil.verifyAccessToken(current);
+    }
+
+    @Benchmark
+    public AccessTokenClaims verifyCacheHit() {
+        return jwtUtil.verifyAccessToken(token);
+    }
+
+    private String accessToken(String employeeNumber, long employeeId) {
+        return Jwts.builder()
+                .setSubject(employeeNumber)
+                .claim("auth", List.of("ROLE_EMPLOYEE"))
+                .claim("employeeId", employeeId)
+                .claim("employeeNumber", employeeNumber)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(key, SignatureAlgorithm.HS512)
+                .compact();
+    }
+}
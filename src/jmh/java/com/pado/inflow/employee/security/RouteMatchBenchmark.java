@@ -0,0 +1,76 @@
+package com.pado.inflow.employee.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* 설명. 요청 한 건의 권한 규칙 조회: 기존 AntPathRequestMatcher 체인과 RouteAuthorizationTable 비교
+ *  - baselineChain : 기존 WebSecurity처럼 규칙을 선언 순서대로 하나씩 비교해 처음 일치한 규칙을 찾는다.
+ *  - trie          : RouteAuthorizationTable.match
+ *  요청은 체인 앞쪽 규칙(early), 뒤쪽 규칙(late), 중간의 "*" 규칙(wildcard), 규칙 없음(unmatched)으로 나눠 잰다.
+ *  실행: ./gradlew jmh -Pjmh.includes=RouteMatchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteMatchBenchmark {
+
+    @Param({"early", "wildcard", "late", "unmatched"})
+    public String route;
+
+    private List<AntPathRequestMatcher> chain;
+    private List<RouteRule> rules;
+    private RouteAuthorizationTable table;
+    private MockHttpServletRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rules = RouteRules.defaults();
+        chain = new ArrayList<>(rules.size());
+        for (RouteRule rule : rules) {
+            chain.add(new AntPathRequestMatcher(rule.pattern(), rule.method()));
+        }
+        table = new RouteAuthorizationTable(rules);
+
+        request = switch (route) {
+            case "early" -> request("GET", "/api/employees/202400001");
+            case "wildcard" -> request("GET", "/api/departments/my-department/DP001/members/attendance");
+            case "late" -> request("GET", "/api/evaluations/taskTypeEval/2024/1");
+            case "unmatched" -> request("GET", "/api/notices/12");
+            default -> throw new IllegalArgumentException(route);
+        };
+    }
+
+    @Benchmark
+    public RouteRule baselineChain() {
+        for (int i = 0; i < chain.size(); i++) {
+            if (chain.get(i).matches(request)) {
+                return rules.get(i);
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public RouteRule trie() {
+        return table.match(request);
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
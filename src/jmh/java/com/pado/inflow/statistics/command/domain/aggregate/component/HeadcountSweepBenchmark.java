@@ -0,0 +1,154 @@
+package com.pado.inflow.statistics.command.domain.aggregate.component;
+
+import com.pado.inflow.statistics.command.domain.aggregate.dto.HeadcountCohort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/* 설명. 사원 수 통계 계산: 기존 (연도 x 12개월 x 사원) 반복과 HeadcountSweep 비교
+ *  - legacyScan       : 기존 EmployeeNumServiceImpl.calculate와 같은 3중 반복 (사원 한 명씩)
+ *  - sweepPerEmployee : 사원 한 명씩 넣은 sweep (GROUP BY 없이 전체 사원을 읽는 경우)
+ *  - sweepGrouped     : 같은 연월끼리 묶은 결과를 넣은 sweep (실제 findHeadcountCohorts와 같은 입력)
+ *  실행: ./gradlew jmh -Pjmh.includes=HeadcountSweepBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HeadcountSweepBenchmark {
+
+    @Param({"10000", "100000"})
+    public int employees;
+
+    private List<Cohort> perEmployee;
+    private List<Cohort> grouped;
+    private List<Integer> years;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(20241101L);
+        perEmployee = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            int inYear = 2005 + random.nextInt(20);
+            int inMonth = 1 + random.nextInt(12);
+            if (random.nextInt(3) == 0) {
+                int leftYear = inYear + random.nextInt(5);
+                perEmployee.add(new Cohort(inYear, inMonth, "Y", leftYear, 1 + random.nextInt(12), 1L));
+            } else {
+                perEmployee.add(new Cohort(inYear, inMonth, "N", null, null, 1L));
+            }
+        }
+
+        Map<List<Object>, Long> counts = new HashMap<>();
+        for (Cohort cohort : perEmployee) {
+            counts.merge(cohort.key(), 1L, Long::sum);
+        }
+        grouped = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> grouped.add(new Cohort((Integer) key.get(0), (Integer) key.get(1),
+                (String) key.get(2), (Integer) key.get(3), (Integer) key.get(4), count)));
+
+        years = perEmployee.stream()
+                .flatMap(emp -> emp.getLeftYear() != null
+                        ? List.of(emp.getInYear(), emp.getLeftYear()).stream()
+                        : List.of(emp.getInYear()).stream())
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    @Benchmark
+    public long legacyScan() {
+        long checksum = 0;
+        for (int y : years) {
+            for (int m = 1; m <= 12; m++) {
+                long tot = 0, in = 0, out = 0;
+                for (Cohort em : perEmployee) {
+                    if (em.getInYear() == y && em.getInMonth() == m) in++;
+                    if ("Y".equals(em.getLeftStatus()) && em.getLeftYear() == y && em.getLeftMonth() == m) out++;
+                    if (((em.getInYear() < y) || (em.getInYear() == y && em.getInMonth() <= m)) &&
+                            ((em.getLeftYear() == null) || (em.getLeftYear() > y) ||
+                                    (em.getLeftYear() == y && em.getLeftMonth() > m))) {
+                        tot++;
+                    }
+                }
+                checksum += tot * 31 + in * 7 + out;
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long sweepPerEmployee() {
+        return checksum(HeadcountSweep.of(perEmployee));
+    }
+
+    @Benchmark
+    public long sweepGrouped() {
+        return checksum(HeadcountSweep.of(grouped));
+    }
+
+    // 설명. 통계 행을 만드는 것과 같은 범위(통계 연도 x 12개월)를 읽는다.
+    private static long checksum(HeadcountSweep sweep) {
+        long checksum = 0;
+        for (int y = sweep.getFirstYear(); y <= sweep.getLastYear(); y++) {
+            if (!sweep.hasYear(y)) {
+                continue;
+            }
+            for (int m = 1; m <= 12; m++) {
+                checksum += sweep.total(y, m) * 31L + sweep.joined(y, m) * 7L + sweep.left(y, m);
+            }
+        }
+        return checksum;
+    }
+
+    private record Cohort(Integer inYear, Integer inMonth, String leftStatus,
+                          Integer leftYear, Integer leftMonth, Long employeeCount) implements HeadcountCohort {
+
+        List<Object> key() {
+            return Arrays.asList(inYear, inMonth, leftStatus, leftYear, leftMonth);
+        }
+
+        @Override
+        public Integer getInYear() {
+            return inYear;
+        }
+
+        @Override
+        public Integer getInMonth() {
+            return inMonth;
+        }
+
+        @Override
+        public String getLeftStatus() {
+            return leftStatus;
+        }
+
+        @Override
+        public Integer getLeftYear() {
+            return leftYear;
+        }
+
+        @Override
+        public Integer getLeftMonth() {
+            return leftMonth;
+        }
+
+        @Override
+        public Long getEmployeeCount() {
+            return employeeCount;
+        }
+    }
+}
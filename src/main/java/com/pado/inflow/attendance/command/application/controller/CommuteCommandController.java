@@ -1,22 +1,40 @@
 package com.pado.inflow.attendance.command.application.controller;
 
+import com.pado.inflow.attendance.command.application.dto.ResponseCommuteIngestDTO;
 import com.pado.inflow.attendance.command.application.service.CommuteCommandService;
+import com.pado.inflow.attendance.command.application.service.CommuteIngestService;
+import com.pado.inflow.attendance.command.application.service.MonthlyWorkSummaryService;
 import com.pado.inflow.common.ResponseDTO;
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.exception.ErrorCode;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
 @RestController("commandCommuteController")
 @RequestMapping("/api/commutes")
 public class CommuteCommandController {
 
     private final CommuteCommandService commuteCommandService;
+    private final MonthlyWorkSummaryService monthlyWorkSummaryService;
+    private final CommuteIngestService commuteIngestService;
 
     @Autowired
-    public CommuteCommandController(CommuteCommandService commuteCommandService) {
+    public CommuteCommandController(CommuteCommandService commuteCommandService,
+                                    MonthlyWorkSummaryService monthlyWorkSummaryService,
+                                    CommuteIngestService commuteIngestService) {
         this.commuteCommandService=commuteCommandService;
+        this.monthlyWorkSummaryService = monthlyWorkSummaryService;
+        this.commuteIngestService = commuteIngestService;
     }
 
     //설명. 사원별 출퇴근 이력을 조회하고, 업데이트 하는 API
@@ -26,4 +44,32 @@ public class CommuteCommandController {
         return ResponseDTO.ok(commuteStatus);
     }
 
+    //설명. 출입 게이트/사원증 출입 기록 일괄 적재 API
+    // 요청 본문을 파일 그대로 보낸다. (Content-Type: text/csv 또는 application/x-ndjson)
+    @PostMapping(value = "/bulk", consumes = {"text/csv", "application/x-ndjson", "application/jsonl"})
+    public ResponseDTO<?> ingestCommutes(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                         InputStream body) {
+        ResponseCommuteIngestDTO result = commuteIngestService.ingest(body, contentType);
+        return ResponseDTO.ok(result);
+    }
+
+    //설명. 기간(yyyy-MM ~ yyyy-MM)의 월별 근무 요약을 출퇴근 내역에서 다시 집계하는 API (과거 데이터 적재, 보정용)
+    @PostMapping("/summary/rebuild")
+    public ResponseDTO<?> rebuildMonthlyWorkSummary(@RequestParam("from") String from,
+                                                    @RequestParam("to") String to) {
+        YearMonth fromMonth;
+        YearMonth toMonth;
+        try {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
+            fromMonth = YearMonth.parse(from, formatter);
+            toMonth = YearMonth.parse(to, formatter);
+        } catch (DateTimeParseException e) {
+            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+        }
+        if (fromMonth.isAfter(toMonth)) {
+            throw new CommonException(ErrorCode.INVALID_DATE_RANGE);
+        }
+        return ResponseDTO.ok(monthlyWorkSummaryService.rebuild(fromMonth, toMonth));
+    }
+
 }
@@ -17,4 +17,5 @@ public class ResponseAttendanceRequestFileDTO {
     private String fileName;
     private String fileUrl;
     private Long attendanceRequestId;
+    private Long attachmentBlobId;
 }
@@ -0,0 +1,33 @@
+package com.pado.inflow.attendance.command.application.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ResponseCommuteIngestDTO {
+    private Long lineCount;             // 읽은 줄 수
+    private Long acceptedEventCount;    // 반영한 출입 기록 수
+    private Integer insertedCount;      // 새로 등록한 출근 내역 수
+    private Integer updatedCount;       // 갱신한 출근 내역 수
+    private Long rejectedCount;         // 거절한 기록 수
+    private List<RejectDTO> rejects;    // 거절 사유 (최대 commute.ingest.max-reported-rejects건)
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Data
+    public static class RejectDTO {
+        private Long lineNumber;
+        private String reason;
+    }
+}
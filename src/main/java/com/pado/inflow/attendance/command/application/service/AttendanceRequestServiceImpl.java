@@ -4,53 +4,73 @@ import com.pado.inflow.attendance.command.application.dto.*;
 import com.pado.inflow.attendance.command.domain.aggregate.entity.*;
 import com.pado.inflow.attendance.command.domain.aggregate.type.*;
 import com.pado.inflow.attendance.command.domain.repository.*;
+import com.pado.inflow.common.counter.CounterDomain;
+import com.pado.inflow.common.counter.RequestCounterService;
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.common.registry.ReferenceDataRegistry;
+import com.pado.inflow.common.upload.AttachmentUploader;
+import com.pado.inflow.common.upload.UploadedAttachment;
+import com.pado.inflow.department.query.service.DepartmentAttendanceBoard;
 import com.pado.inflow.employee.info.command.domain.repository.EmployeeRepository;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 
 @Service("appAttendanceService")
 public class AttendanceRequestServiceImpl implements AttendanceRequestService {
 
     private final ModelMapper modelMapper;
     private final AttendanceRequestRepository attendanceRequestRepository;
-    private final AttendanceRequestTypeRepository attendanceRequestTypeRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final AttendanceRequestFileRepository attendanceRequestFileRepository;
     private final BusinessTripRepository businessTripRepository;
     private final CommuteRepository commuteRepository;
     private final LeaveReturnRepository leaveReturnRepository;
     private final EmployeeRepository employeeRepository;
-    private final AttendanceS3Service attendanceS3Service;
+    private final AttachmentUploader attachmentUploader;
+    private final RequestCounterService requestCounterService;
+    private final MonthlyWorkSummaryService monthlyWorkSummaryService;
+    private final DepartmentAttendanceBoard departmentAttendanceBoard;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public AttendanceRequestServiceImpl(ModelMapper modelMapper,
                                         AttendanceRequestRepository attendanceRequestRepository,
-                                        AttendanceRequestTypeRepository attendanceRequestTypeRepository,
+                                        ReferenceDataRegistry referenceDataRegistry,
                                         AttendanceRequestFileRepository attendanceRequestFileRepository,
                                         BusinessTripRepository businessTripRepository,
                                         CommuteRepository commuteRepository,
                                         LeaveReturnRepository leaveReturnRepository,
                                         EmployeeRepository employeeRepository,
-                                        AttendanceS3Service attendanceS3Service) {
+                                        AttachmentUploader attachmentUploader,
+                                        RequestCounterService requestCounterService,
+                                        MonthlyWorkSummaryService monthlyWorkSummaryService,
+                                        DepartmentAttendanceBoard departmentAttendanceBoard,
+                                        PlatformTransactionManager transactionManager) {
         this.modelMapper = modelMapper;
         this.attendanceRequestRepository = attendanceRequestRepository;
-        this.attendanceRequestTypeRepository = attendanceRequestTypeRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.attendanceRequestFileRepository = attendanceRequestFileRepository;
         this.businessTripRepository = businessTripRepository;
         this.commuteRepository = commuteRepository;
         this.leaveReturnRepository = leaveReturnRepository;
         this.employeeRepository = employeeRepository;
-        this.attendanceS3Service = attendanceS3Service;
+        this.attachmentUploader = attachmentUploader;
+        this.requestCounterService = requestCounterService;
+        this.monthlyWorkSummaryService = monthlyWorkSummaryService;
+        this.departmentAttendanceBoard = departmentAttendanceBoard;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     // 재택근무 신청
@@ -62,10 +82,11 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_EMPLOYEE));
 
         // 근태신청유형 유효성 검사
-        AttendanceRequestType attendanceRequestType = attendanceRequestTypeRepository.findById(reqCommuteRequestDTO.getAttendanceRequestTypeId())
-                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST_TYPE));
+        String attendanceRequestTypeName =
+                referenceDataRegistry.findAttendanceRequestTypeName(reqCommuteRequestDTO.getAttendanceRequestTypeId())
+                        .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST_TYPE));
 
-        if (!attendanceRequestType.getAttendanceRequestTypeName().equals("재택근무")) {
+        if (!attendanceRequestTypeName.equals("재택근무")) {
             throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
         }
 
@@ -111,6 +132,8 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
         // 재택근무 신청 내역 등록
         AttendanceRequest attendanceRequest =
                 attendanceRequestRepository.save(modelMapper.map(responseCommuteRequestDTO, AttendanceRequest.class));
+        requestCounterService.increment(CounterDomain.ATTENDANCE_REQUEST, attendanceRequest.getEmployeeId(),
+                attendanceRequest.getAttendanceRequestTypeId(), attendanceRequest.getCreatedAt());
 
         // 재택근무 내역 등록
         ResponseCommuteDTO commuteDTO = ResponseCommuteDTO
@@ -137,10 +160,11 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_EMPLOYEE));
 
         // 근태신청유형 유효성 검사
-        AttendanceRequestType attendanceRequestType = attendanceRequestTypeRepository.findById(reqCommuteRequestDTO.getAttendanceRequestTypeId())
-                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST_TYPE));
+        String attendanceRequestTypeName =
+                referenceDataRegistry.findAttendanceRequestTypeName(reqCommuteRequestDTO.getAttendanceRequestTypeId())
+                        .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST_TYPE));
 
-        if (!attendanceRequestType.getAttendanceRequestTypeName().equals("초과근무")) {
+        if (!attendanceRequestTypeName.equals("초과근무")) {
             throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
         }
 
@@ -205,6 +229,8 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
         // 초과근무 신청 내역 등록
         AttendanceRequest attendanceRequest =
                 attendanceRequestRepository.save(modelMapper.map(responseCommuteRequestDTO, AttendanceRequest.class));
+        requestCounterService.increment(CounterDomain.ATTENDANCE_REQUEST, attendanceRequest.getEmployeeId(),
+                attendanceRequest.getAttendanceRequestTypeId(), attendanceRequest.getCreatedAt());
 
         // 초과근무 내역 등록
         ResponseCommuteDTO commuteDTO = ResponseCommuteDTO
@@ -219,6 +245,9 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
 
         commuteRepository.save(modelMapper.map(commuteDTO, Commute.class));
 
+        // 월별 근무 요약 반영
+        monthlyWorkSummaryService.recordOvertime(attendanceRequest.getEmployeeId(), startTime, endTime);
+
         return modelMapper.map(attendanceRequest, ResponseCommuteRequestDTO.class);
     }
 
@@ -231,11 +260,11 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_EMPLOYEE));
 
         // 근태신청유형 유효성 검사
-        AttendanceRequestType attendanceRequestType =
-                attendanceRequestTypeRepository.findById(reqBusinessTripRequestDTO.getAttendanceRequestTypeId())
-                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST_TYPE));
+        String attendanceRequestTypeName =
+                referenceDataRegistry.findAttendanceRequestTypeName(reqBusinessTripRequestDTO.getAttendanceRequestTypeId())
+                        .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST_TYPE));
 
-        if (!attendanceRequestType.getAttendanceRequestTypeName().equals("출장")) {
+        if (!attendanceRequestTypeName.equals("출장")) {
             throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
         }
 
@@ -292,6 +321,8 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
         // 출장 신청 내역 등록
         AttendanceRequest attendanceRequest =
                 attendanceRequestRepository.save(modelMapper.map(resBusinessTripRequestDTO, AttendanceRequest.class));
+        requestCounterService.increment(CounterDomain.ATTENDANCE_REQUEST, attendanceRequest.getEmployeeId(),
+                attendanceRequest.getAttendanceRequestTypeId(), attendanceRequest.getCreatedAt());
 
         // 출장 내역 등록
         ResponseBusinessTripDTO businessTripDTO = ResponseBusinessTripDTO
@@ -318,11 +349,11 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_EMPLOYEE));
 
         // 근태신청유형 유효성 검사
-        AttendanceRequestType attendanceRequestType =
-                attendanceRequestTypeRepository.findById(reqBusinessTripRequestDTO.getAttendanceRequestTypeId())
+        String attendanceRequestTypeName =
+                referenceDataRegistry.findAttendanceRequestTypeName(reqBusinessTripRequestDTO.getAttendanceRequestTypeId())
                         .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST_TYPE));
 
-        if (!attendanceRequestType.getAttendanceRequestTypeName().equals("파견")) {
+        if (!attendanceRequestTypeName.equals("파견")) {
             throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
         }
 
@@ -379,6 +410,8 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
         // 파견 신청 내역 등록
         AttendanceRequest attendanceRequest =
                 attendanceRequestRepository.save(modelMapper.map(resBusinessTripRequestDTO, AttendanceRequest.class));
+        requestCounterService.increment(CounterDomain.ATTENDANCE_REQUEST, attendanceRequest.getEmployeeId(),
+                attendanceRequest.getAttendanceRequestTypeId(), attendanceRequest.getCreatedAt());
 
         // 파견 내역 등록
         ResponseBusinessTripDTO businessTripDTO = ResponseBusinessTripDTO
@@ -396,20 +429,28 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
         return modelMapper.map(attendanceRequest, ResponseBusinessTripRequestDTO.class);
     }
 
-    // 휴직 신청
-    @Transactional
+    /* 설명. 휴직 신청
+     *  첨부 파일은 트랜잭션을 열기 전에 동시에 업로드하고(같은 내용이 이미 있으면 재사용),
+     *  트랜잭션에서는 업로드된 파일 내역만 저장한다.
+     */
     @Override
     public ResponseLeaveReturnRequestDTO registLeaveRequest(RequestLeaveRequestDTO reqLeaveRequestDTO) {
+        List<UploadedAttachment> attachments = attachmentUploader.upload(reqLeaveRequestDTO.getAttachments());
+        return transactionTemplate.execute(status -> saveLeaveRequest(reqLeaveRequestDTO, attachments));
+    }
+
+    private ResponseLeaveReturnRequestDTO saveLeaveRequest(RequestLeaveRequestDTO reqLeaveRequestDTO,
+                                                           List<UploadedAttachment> attachments) {
         // 사원 유효성 검사
         employeeRepository.findById(reqLeaveRequestDTO.getEmployeeId())
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_EMPLOYEE));
 
         // 근태신청유형 유효성 검사
-        AttendanceRequestType attendanceRequestType =
-                attendanceRequestTypeRepository.findById(reqLeaveRequestDTO.getAttendanceRequestTypeId())
+        String attendanceRequestTypeName =
+                referenceDataRegistry.findAttendanceRequestTypeName(reqLeaveRequestDTO.getAttendanceRequestTypeId())
                         .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST_TYPE));
 
-        if (!attendanceRequestType.getAttendanceRequestTypeName().equals("휴직")) {
+        if (!attendanceRequestTypeName.equals("휴직")) {
             throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
         }
 
@@ -461,26 +502,22 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
         // 휴직 신청 내역 등록
         AttendanceRequest leaveRequest =
                 attendanceRequestRepository.save(modelMapper.map(resLeaveReturnRequestDTO, AttendanceRequest.class));
+        requestCounterService.increment(CounterDomain.ATTENDANCE_REQUEST, leaveRequest.getEmployeeId(),
+                leaveRequest.getAttendanceRequestTypeId(), leaveRequest.getCreatedAt());
+
+        // 업로드된 첨부 파일 DB 저장 처리
+        for (UploadedAttachment attachment : attachments) {
+            ResponseAttendanceRequestFileDTO resAttendanceRequestFileDTO = ResponseAttendanceRequestFileDTO
+                    .builder()
+                    .fileName(attachment.fileName())
+                    .fileUrl(attachment.fileUrl())
+                    .attachmentBlobId(attachment.attachmentBlobId())
+                    .attendanceRequestId(leaveRequest.getAttendanceRequestId())
+                    .build();
 
-        // 파일 업로드 및 DB 저장 처리
-        if (reqLeaveRequestDTO.getAttachments() != null && !reqLeaveRequestDTO.getAttachments().isEmpty()) {
-            try {
-                for (MultipartFile file : reqLeaveRequestDTO.getAttachments()) {
-                    String fileUrl = attendanceS3Service.uploadFile(file, leaveRequest.getEmployeeId());
-                    ResponseAttendanceRequestFileDTO resAttendanceRequestFileDTO = ResponseAttendanceRequestFileDTO
-                            .builder()
-                            .fileName(file.getOriginalFilename())
-                            .fileUrl(fileUrl)
-                            .attendanceRequestId(leaveRequest.getAttendanceRequestId())
-                            .build();
-
-                    attendanceRequestFileRepository.save(modelMapper.map(resAttendanceRequestFileDTO, AttendanceRequestFile.class));
-                }
-            } catch (Exception e) {
-                // 파일 업로드 실패 시 트랜잭션 롤백
-                throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
-            }
+            attendanceRequestFileRepository.save(modelMapper.map(resAttendanceRequestFileDTO, AttendanceRequestFile.class));
         }
+        attachmentUploader.confirm(attachments);
 
         // 휴직 내역 등록
         ResponseLeaveReturnDTO leaveReturnDTO = ResponseLeaveReturnDTO
@@ -493,12 +530,21 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
 
         leaveReturnRepository.save(modelMapper.map(leaveReturnDTO, LeaveReturn.class));
 
+        // 부서 근태 현황판 반영 (오늘이 휴직 기간인 경우)
+        departmentAttendanceBoard.markLeave(leaveRequest.getEmployeeId(), startDate.toLocalDate(), endDate.toLocalDate());
+
         return modelMapper.map(leaveRequest, ResponseLeaveReturnRequestDTO.class);
     }
 
-    // 복직 신청
+    // 복직 신청 (첨부 파일 처리는 휴직 신청과 같음)
     @Override
     public ResponseLeaveReturnRequestDTO registReturnRequest(RequestReturnRequestDTO reqReturnRequestDTO) {
+        List<UploadedAttachment> attachments = attachmentUploader.upload(reqReturnRequestDTO.getAttachments());
+        return transactionTemplate.execute(status -> saveReturnRequest(reqReturnRequestDTO, attachments));
+    }
+
+    private ResponseLeaveReturnRequestDTO saveReturnRequest(RequestReturnRequestDTO reqReturnRequestDTO,
+                                                            List<UploadedAttachment> attachments) {
         // 근태신청 유효성 검사
         AttendanceRequest leaveRequest =
                 attendanceRequestRepository.findById(reqReturnRequestDTO.getAttendanceRequestId())
@@ -509,11 +555,11 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_EMPLOYEE));
 
         // 근태신청유형 유효성 검사
-        AttendanceRequestType attendanceRequestType =
-                attendanceRequestTypeRepository.findById(reqReturnRequestDTO.getAttendanceRequestTypeId())
+        String attendanceRequestTypeName =
+                referenceDataRegistry.findAttendanceRequestTypeName(reqReturnRequestDTO.getAttendanceRequestTypeId())
                         .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST_TYPE));
 
-        if (!attendanceRequestType.getAttendanceRequestTypeName().equals("복직")) {
+        if (!attendanceRequestTypeName.equals("복직")) {
             throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
         }
 
@@ -566,26 +612,22 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
         // 복직 신청 등록
         AttendanceRequest returnRequest =
                 attendanceRequestRepository.save(modelMapper.map(resLeaveReturnDTO, AttendanceRequest.class));
+        requestCounterService.increment(CounterDomain.ATTENDANCE_REQUEST, returnRequest.getEmployeeId(),
+                returnRequest.getAttendanceRequestTypeId(), returnRequest.getCreatedAt());
+
+        // 업로드된 첨부 파일 DB 저장 처리
+        for (UploadedAttachment attachment : attachments) {
+            ResponseAttendanceRequestFileDTO resAttendanceRequestFileDTO = ResponseAttendanceRequestFileDTO
+                    .builder()
+                    .fileName(attachment.fileName())
+                    .fileUrl(attachment.fileUrl())
+                    .attachmentBlobId(attachment.attachmentBlobId())
+                    .attendanceRequestId(returnRequest.getAttendanceRequestId())
+                    .build();
 
-        // 파일 업로드 및 DB 저장 처리
-        if (reqReturnRequestDTO.getAttachments() != null && !reqReturnRequestDTO.getAttachments().isEmpty()) {
-            try {
-                for (MultipartFile file : reqReturnRequestDTO.getAttachments()) {
-                    String fileUrl = attendanceS3Service.uploadFile(file, returnRequest.getEmployeeId());
-                    ResponseAttendanceRequestFileDTO resAttendanceRequestFileDTO = ResponseAttendanceRequestFileDTO
-                            .builder()
-                            .fileName(file.getOriginalFilename())
-                            .fileUrl(fileUrl)
-                            .attendanceRequestId(returnRequest.getAttendanceRequestId())
-                            .build();
-
-                    attendanceRequestFileRepository.save(modelMapper.map(resAttendanceRequestFileDTO, AttendanceRequestFile.class));
-                }
-            } catch (Exception e) {
-                // 파일 업로드 실패 시 트랜잭션 롤백
-                throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
-            }
+            attendanceRequestFileRepository.save(modelMapper.map(resAttendanceRequestFileDTO, AttendanceRequestFile.class));
         }
+        attachmentUploader.confirm(attachments);
 
         // 휴직 종료일 변경
         leaveRequest.setEndDate(endDate.minusDays(1));
@@ -599,6 +641,9 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
         attendanceRequestRepository.save(leaveRequest);
         leaveReturnRepository.save(leaveReturn);
 
+        // 휴직 기간이 바뀌었으므로 부서 근태 현황판은 DB 기준으로 다시 판단
+        departmentAttendanceBoard.markChanged(leaveRequest.getEmployeeId());
+
         return modelMapper.map(returnRequest, ResponseLeaveReturnRequestDTO.class);
     }
 
@@ -625,6 +670,9 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
         attendanceRequest.setCancelReason(reqCancelAttendanceRequestDTO.getCancelReason());
         attendanceRequest.setCancelStatus(CancelStatus.Y);
 
+        // 취소된 신청이 당일 근태에 영향을 줄 수 있으므로 부서 근태 현황판은 DB 기준으로 다시 판단
+        departmentAttendanceBoard.markChanged(attendanceRequest.getEmployeeId());
+
         return modelMapper.map(attendanceRequestRepository.save(attendanceRequest), ResponseAttendanceRequestDTO.class);
     }
 
@@ -669,10 +717,15 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
         }
 
         // 초과근무 종료시간 연장
+        LocalDateTime previousEndTime = commute.getEndTime();
         attendanceRequest.setEndDate(endTime);
         commute.setEndTime(endTime);
         commuteRepository.save(commute);
 
+        // 월별 근무 요약 반영 (늘어난 초과근무 시간만큼)
+        monthlyWorkSummaryService.recordOvertimeExtension(commute.getEmployeeId(), commute.getStartTime(),
+                previousEndTime, endTime);
+
         return modelMapper.map(attendanceRequestRepository.save(attendanceRequest), ResponseCommuteRequestDTO.class);
     }
 
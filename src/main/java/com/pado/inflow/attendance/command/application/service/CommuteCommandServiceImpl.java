@@ -1,15 +1,16 @@
 package com.pado.inflow.attendance.command.application.service;
 
 import com.pado.inflow.attendance.command.application.dto.ResponseCommuteDTO;
+import com.pado.inflow.attendance.command.domain.aggregate.component.TodayAttendanceSnapshot;
 import com.pado.inflow.attendance.command.domain.aggregate.entity.Commute;
-import com.pado.inflow.attendance.command.domain.aggregate.type.OvertimeStatus;
-import com.pado.inflow.attendance.command.domain.aggregate.type.RemoteStatus;
 import com.pado.inflow.attendance.command.domain.repository.CommuteRepository;
 import com.pado.inflow.attendance.query.dto.CommuteDTO;
 import com.pado.inflow.attendance.query.service.CommuteQueryService;
 import com.pado.inflow.attendance.query.service.LeaveReturnService;
+import com.pado.inflow.common.DateRange;
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.department.query.service.DepartmentAttendanceBoard;
 import com.pado.inflow.vacation.query.service.VacationRequestService;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
@@ -27,17 +28,26 @@ public class CommuteCommandServiceImpl implements CommuteCommandService {
     private final CommuteQueryService commuteQueryService;
     private final LeaveReturnService leaveReturnService;
     private final VacationRequestService vacationRequestService;
+    private final TodayAttendanceSnapshot todayAttendanceSnapshot;
+    private final MonthlyWorkSummaryService monthlyWorkSummaryService;
+    private final DepartmentAttendanceBoard departmentAttendanceBoard;
 
     public CommuteCommandServiceImpl(ModelMapper modelMapper,
                                      CommuteRepository commuteRepository,
                                      CommuteQueryService commuteQueryService,
                                      LeaveReturnService leaveReturnService,
-                                     VacationRequestService vacationRequestService) {
+                                     VacationRequestService vacationRequestService,
+                                     TodayAttendanceSnapshot todayAttendanceSnapshot,
+                                     MonthlyWorkSummaryService monthlyWorkSummaryService,
+                                     DepartmentAttendanceBoard departmentAttendanceBoard) {
         this.modelMapper = modelMapper;
         this.commuteRepository = commuteRepository;
         this.commuteQueryService = commuteQueryService;
         this.leaveReturnService = leaveReturnService;
         this.vacationRequestService = vacationRequestService;
+        this.todayAttendanceSnapshot = todayAttendanceSnapshot;
+        this.monthlyWorkSummaryService = monthlyWorkSummaryService;
+        this.departmentAttendanceBoard = departmentAttendanceBoard;
     }
 
     // 출근
@@ -56,6 +66,11 @@ public class CommuteCommandServiceImpl implements CommuteCommandService {
             return "근무 시간이 아닙니다.";
         }
 
+        // 이 서버의 당일 출근 현황으로 이미 출근한 사원은 조회 없이 바로 응답
+        if (todayAttendanceSnapshot.isCheckedIn(employeeId)) {
+            return "이미 출근했습니다.";
+        }
+
         // 오늘 휴가인가
         if(vacationRequestService.isVacationNow(employeeId)) {
             return "휴가중입니다.";
@@ -68,6 +83,7 @@ public class CommuteCommandServiceImpl implements CommuteCommandService {
 
         // 오늘 출근한 적이 있는가
         if(commuteQueryService.findTodayCommuteByEmployeeId(employeeId) != null) {
+            todayAttendanceSnapshot.markCheckedIn(employeeId);
             return "이미 출근했습니다.";
         }
 
@@ -78,27 +94,27 @@ public class CommuteCommandServiceImpl implements CommuteCommandService {
             return "재택 출근 완료";
         }
 
-        // 출퇴근 내역 생성
-        goToWork(employeeId);
-        return "출근 완료";
+        // 출퇴근 내역 생성 (조회 이후 다른 요청이 먼저 출근했으면 등록되지 않는다)
+        return insertCommute(employeeId) ? "출근 완료" : "이미 출근했습니다.";
     }
 
-    // 일반 출퇴근 내역 생성
-    @Transactional
-    public ResponseCommuteDTO goToWork(Long employeeId) {
-        ResponseCommuteDTO commuteDTO = ResponseCommuteDTO
-                .builder()
-                .startTime(LocalDateTime.now().withNano(0))
-                .endTime(LocalDate.now().atTime(18,0))
-                .remoteStatus(RemoteStatus.N)
-                .overtimeStatus(OvertimeStatus.N)
-                .employeeId(employeeId)
-                .attendanceRequestId(null)
-                .build();
-
-        Commute commute = modelMapper.map(commuteDTO, Commute.class);
-
-        return modelMapper.map(commuteRepository.save(commute), ResponseCommuteDTO.class);
+    // 출근 내역 한 건 등록 (오늘 출근 내역이 이미 있으면 등록하지 않고 false)
+    private boolean insertCommute(Long employeeId) {
+        LocalDateTime startTime = LocalDateTime.now().withNano(0);
+        LocalDateTime endTime = LocalDate.now().atTime(18, 0);
+        DateRange today = DateRange.ofDay(startTime.toLocalDate());
+        if (commuteRepository.insertIfNotCheckedIn(employeeId, startTime, endTime, today.getFrom(), today.getTo()) == 0) {
+            return false;
+        }
+
+        // 월별 근무 요약 반영
+        monthlyWorkSummaryService.recordCheckIn(employeeId, startTime, endTime, false);
+
+        // 부서 근태 현황판, 당일 출근 현황 반영
+        departmentAttendanceBoard.markCheckIn(employeeId, false);
+        todayAttendanceSnapshot.markCheckedIn(employeeId);
+
+        return true;
     }
 
     // 재택근무 출퇴근 내역 업데이트
@@ -109,8 +125,16 @@ public class CommuteCommandServiceImpl implements CommuteCommandService {
 
         commute.setStartTime(LocalDateTime.now().withNano(0));
         commute.setEndTime(LocalDate.now().atTime(18,0));
+        commute = commuteRepository.save(commute);
+
+        // 월별 근무 요약 반영
+        monthlyWorkSummaryService.recordCheckIn(commute.getEmployeeId(), commute.getStartTime(), commute.getEndTime(), true);
+
+        // 부서 근태 현황판, 당일 출근 현황 반영
+        departmentAttendanceBoard.markCheckIn(commute.getEmployeeId(), true);
+        todayAttendanceSnapshot.markCheckedIn(commute.getEmployeeId());
 
-        return modelMapper.map(commuteRepository.save(commute), ResponseCommuteDTO.class);
+        return modelMapper.map(commute, ResponseCommuteDTO.class);
     }
 
 }
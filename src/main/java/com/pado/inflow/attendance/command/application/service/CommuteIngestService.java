@@ -0,0 +1,192 @@
+package com.pado.inflow.attendance.command.application.service;
+
+import com.pado.inflow.attendance.command.application.dto.ResponseCommuteIngestDTO;
+import com.pado.inflow.attendance.command.domain.aggregate.component.CommuteLogFolder;
+import com.pado.inflow.attendance.command.domain.aggregate.component.CommuteLogFolder.Format;
+import com.pado.inflow.attendance.command.domain.aggregate.component.CommuteLogFolder.WorkDay;
+import com.pado.inflow.attendance.command.domain.aggregate.component.CommuteLogFolder.WorkDayKey;
+import com.pado.inflow.attendance.command.domain.aggregate.component.TodayAttendanceSnapshot;
+import com.pado.inflow.attendance.command.domain.repository.CommuteBatchRepository;
+import com.pado.inflow.attendance.command.domain.repository.CommuteBatchRepository.ExistingCommute;
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.department.query.service.DepartmentAttendanceBoard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/* 설명. 출입 기록 일괄 적재
+ *  요청 본문(CSV 또는 NDJSON)을 스트림으로 읽어 사원별 하루 한 건으로 접은 뒤,
+ *  batchSize 단위 청크마다 짧은 트랜잭션 안에서 JDBC 배치로 commute를 upsert한다.
+ *  - 존재하지 않는 사원, 형식이 잘못된 줄은 거절하고 결과에 줄 번호와 사유를 담는다.
+ *  - 적재가 끝나면 해당 월의 근무 요약을 다시 집계하고, 기간에 오늘이 포함되면 당일 근태 현황도 다시 구성한다.
+ */
+@Slf4j
+@Service
+public class CommuteIngestService {
+
+    private final CommuteBatchRepository commuteBatchRepository;
+    private final MonthlyWorkSummaryService monthlyWorkSummaryService;
+    private final TodayAttendanceSnapshot todayAttendanceSnapshot;
+    private final DepartmentAttendanceBoard departmentAttendanceBoard;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReportedRejects;
+
+    @Autowired
+    public CommuteIngestService(CommuteBatchRepository commuteBatchRepository,
+                                MonthlyWorkSummaryService monthlyWorkSummaryService,
+                                TodayAttendanceSnapshot todayAttendanceSnapshot,
+                                DepartmentAttendanceBoard departmentAttendanceBoard,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${commute.ingest.batch-size:1000}") int batchSize,
+                                @Value("${commute.ingest.max-reported-rejects:1000}") int maxReportedRejects) {
+        this.commuteBatchRepository = commuteBatchRepository;
+        this.monthlyWorkSummaryService = monthlyWorkSummaryService;
+        this.todayAttendanceSnapshot = todayAttendanceSnapshot;
+        this.departmentAttendanceBoard = departmentAttendanceBoard;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxReportedRejects = maxReportedRejects;
+    }
+
+    // 출입 기록 일괄 적재
+    public ResponseCommuteIngestDTO ingest(InputStream body, String contentType) {
+        Format format = formatOf(contentType);
+
+        // 1. 스트림으로 읽으며 (사원, 날짜)별로 접기
+        CommuteLogFolder folder = new CommuteLogFolder(maxReportedRejects);
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            folder.fold(reader, format);
+        } catch (IOException e) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
+        }
+
+        // 2. 존재하지 않는 사원의 기록 거절
+        List<WorkDay> workDays = excludeUnknownEmployees(folder, folder.getWorkDays());
+
+        // 3. 청크마다 기존 출근 내역은 갱신, 없으면 등록
+        int inserted = 0;
+        int updated = 0;
+        for (int from = 0; from < workDays.size(); from += batchSize) {
+            List<WorkDay> chunk = workDays.subList(from, Math.min(from + batchSize, workDays.size()));
+            int[] counts = transactionTemplate.execute(status -> upsert(chunk));
+            inserted += counts[0];
+            updated += counts[1];
+        }
+
+        // 4. 파생 데이터 반영
+        if (!workDays.isEmpty()) {
+            refreshDerived(workDays);
+        }
+
+        log.info("출입 기록 적재 완료: {}줄, 기록 {}건 반영, 출근 내역 {}건 등록/{}건 갱신, {}건 거절",
+                folder.getLineCount(), folder.getAcceptedCount(), inserted, updated, folder.getRejectedCount());
+
+        List<ResponseCommuteIngestDTO.RejectDTO> rejects = new ArrayList<>();
+        for (CommuteLogFolder.Reject reject : folder.getRejects()) {
+            rejects.add(new ResponseCommuteIngestDTO.RejectDTO(reject.lineNumber(), reject.reason()));
+        }
+        return ResponseCommuteIngestDTO.builder()
+                .lineCount(folder.getLineCount())
+                .acceptedEventCount(folder.getAcceptedCount())
+                .insertedCount(inserted)
+                .updatedCount(updated)
+                .rejectedCount(folder.getRejectedCount())
+                .rejects(rejects)
+                .build();
+    }
+
+    // 설명. 청크 하나를 upsert ([등록 건수, 갱신 건수])
+    private int[] upsert(List<WorkDay> chunk) {
+        Map<WorkDayKey, ExistingCommute> existing = commuteBatchRepository.findExistingCommutes(chunk);
+
+        List<WorkDay> inserts = new ArrayList<>();
+        Map<Long, WorkDay> updates = new HashMap<>();
+        for (WorkDay workDay : chunk) {
+            ExistingCommute commute = existing.get(new WorkDayKey(workDay.employeeId(), workDay.workDate()));
+            if (commute == null) {
+                inserts.add(workDay);
+            } else {
+                updates.put(commute.commuteId(), workDay);
+            }
+        }
+        return new int[] {commuteBatchRepository.insertAll(inserts), commuteBatchRepository.updateAll(updates)};
+    }
+
+    private List<WorkDay> excludeUnknownEmployees(CommuteLogFolder folder, List<WorkDay> workDays) {
+        Set<Long> employeeIds = new LinkedHashSet<>();
+        for (WorkDay workDay : workDays) {
+            employeeIds.add(workDay.employeeId());
+        }
+
+        Set<Long> known = new HashSet<>();
+        List<Long> ids = new ArrayList<>(employeeIds);
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            known.addAll(commuteBatchRepository.findExistingEmployeeIds(
+                    ids.subList(from, Math.min(from + batchSize, ids.size()))));
+        }
+        if (known.size() == employeeIds.size()) {
+            return workDays;
+        }
+
+        List<WorkDay> accepted = new ArrayList<>(workDays.size());
+        List<WorkDay> unknown = new ArrayList<>();
+        for (WorkDay workDay : workDays) {
+            (known.contains(workDay.employeeId()) ? accepted : unknown).add(workDay);
+        }
+        folder.rejectWorkDays(unknown, "존재하지 않는 사원입니다");
+        return accepted;
+    }
+
+    // 설명. 적재한 기간의 월별 근무 요약 재집계, 기간에 오늘이 포함되면 당일 근태 현황과 부서 현황판도 재구성
+    private void refreshDerived(List<WorkDay> workDays) {
+        LocalDate first = workDays.get(0).workDate();
+        LocalDate last = first;
+        for (WorkDay workDay : workDays) {
+            first = workDay.workDate().isBefore(first) ? workDay.workDate() : first;
+            last = workDay.workDate().isAfter(last) ? workDay.workDate() : last;
+        }
+        monthlyWorkSummaryService.rebuild(YearMonth.from(first), YearMonth.from(last));
+
+        LocalDate today = LocalDate.now();
+        if (!today.isBefore(first) && !today.isAfter(last)) {
+            todayAttendanceSnapshot.refresh();
+            departmentAttendanceBoard.refresh();
+        }
+    }
+
+    private static Format formatOf(String contentType) {
+        if (contentType == null) {
+            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+        }
+        String mediaType = contentType.split(";")[0].trim().toLowerCase();
+        switch (mediaType) {
+            case "text/csv":
+                return Format.CSV;
+            case "application/x-ndjson":
+            case "application/jsonl":
+                return Format.NDJSON;
+            default:
+                throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.pado.inflow.attendance.command.application.service;
+
+import com.pado.inflow.attendance.command.domain.repository.MonthlyWorkSummaryRepository;
+import com.pado.inflow.common.DateRange;
+import com.pado.inflow.common.schedule.SchedulerLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+
+/* 설명. 사원별 월별 근무 요약 (monthly_work_summary)
+ *  - 출근, 초과근무 신청/연장을 처리하는 커맨드 서비스는 같은 트랜잭션 안에서 증분만 더한다. (한 행 upsert)
+ *  - 월간 근태 화면과 통계는 한 달치 출퇴근 내역 대신 (사원, 연월) 한 행을 읽는다.
+ *  - 초과근무는 시작 시각의 연월로, 일반 출근은 출근 시각의 연월로 집계한다.
+ *  - 장애로 어긋난 값이나 과거 데이터는 rebuild가 출퇴근 내역 기준으로 다시 집계해 바로잡는다.
+ */
+@Slf4j
+@Service
+public class MonthlyWorkSummaryService {
+
+    // 설명. 이 시각 이후 출근은 지각으로 집계 (V6 초기 적재와 같은 기준)
+    static final LocalTime LATE_AFTER = LocalTime.of(9, 0);
+
+    private final MonthlyWorkSummaryRepository monthlyWorkSummaryRepository;
+    private final int rebuildMonths;
+    private final SchedulerLock schedulerLock;
+
+    @Autowired
+    public MonthlyWorkSummaryService(MonthlyWorkSummaryRepository monthlyWorkSummaryRepository,
+                                     @Value("${work-summary.rebuild-months:2}") int rebuildMonths,
+                                     SchedulerLock schedulerLock) {
+        this.monthlyWorkSummaryRepository = monthlyWorkSummaryRepository;
+        this.rebuildMonths = rebuildMonths;
+        this.schedulerLock = schedulerLock;
+    }
+
+    // 설명. 출근 반영 (호출한 쪽 트랜잭션에 참여해 출퇴근 내역과 함께 커밋/롤백된다.)
+    @Transactional
+    public void recordCheckIn(Long employeeId, LocalDateTime startTime, LocalDateTime endTime, boolean remote) {
+        monthlyWorkSummaryRepository.add(employeeId, yyyymm(YearMonth.from(startTime)),
+                minutesBetween(startTime, endTime), 0, remote ? 1 : 0, isLate(startTime) ? 1 : 0);
+    }
+
+    // 설명. 초과근무 등록 반영
+    @Transactional
+    public void recordOvertime(Long employeeId, LocalDateTime startTime, LocalDateTime endTime) {
+        monthlyWorkSummaryRepository.add(employeeId, yyyymm(YearMonth.from(startTime)),
+                0, minutesBetween(startTime, endTime), 0, 0);
+    }
+
+    // 설명. 초과근무 연장 반영 (늘어난 시간만 시작 시각의 연월에 더한다)
+    @Transactional
+    public void recordOvertimeExtension(Long employeeId, LocalDateTime startTime,
+                                        LocalDateTime previousEndTime, LocalDateTime endTime) {
+        int addedMinutes = minutesBetween(startTime, endTime) - minutesBetween(startTime, previousEndTime);
+        if (addedMinutes == 0) {
+            return;
+        }
+        monthlyWorkSummaryRepository.add(employeeId, yyyymm(YearMonth.from(startTime)), 0, addedMinutes, 0, 0);
+    }
+
+    // 설명. 기간(시작 월 ~ 마지막 월)의 요약을 출퇴근 내역에서 다시 집계 (과거 데이터 적재, 수동 보정용)
+    @Transactional
+    public int rebuild(YearMonth fromMonth, YearMonth toMonth) {
+        DateRange range = DateRange.ofMonths(fromMonth, toMonth);
+        monthlyWorkSummaryRepository.deleteBetween(yyyymm(fromMonth), yyyymm(toMonth));
+        int summarized = monthlyWorkSummaryRepository.summarize(range.getFrom(), range.getTo(), LATE_AFTER);
+
+        log.info("월별 근무 요약 재집계 완료: {} ~ {} ({}건)", fromMonth, toMonth, summarized);
+        return summarized;
+    }
+
+    // 설명. 매일 새벽 최근 rebuildMonths 개월(이번 달 포함)의 요약을 다시 집계 (여러 서버 중 한 서버만)
+    @Scheduled(cron = "${work-summary.rebuild-cron:0 30 4 * * *}")
+    public void rebuildRecentMonths() {
+        YearMonth thisMonth = YearMonth.now();
+        schedulerLock.runExclusivelyInTransaction("workSummaryRebuild",
+                () -> rebuild(thisMonth.minusMonths(Math.max(rebuildMonths, 1) - 1L), thisMonth));
+    }
+
+    // 설명. 출퇴근 시각 사이의 분 (종료 시각이 없거나 앞서면 0)
+    static int minutesBetween(LocalDateTime startTime, LocalDateTime endTime) {
+        if (startTime == null || endTime == null || !endTime.isAfter(startTime)) {
+            return 0;
+        }
+        return (int) Duration.between(startTime, endTime).toMinutes();
+    }
+
+    static boolean isLate(LocalDateTime startTime) {
+        return startTime.toLocalTime().isAfter(LATE_AFTER);
+    }
+
+    static Integer yyyymm(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+}
@@ -0,0 +1,231 @@
+package com.pado.inflow.attendance.command.domain.aggregate.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 설명. 출입 기록(출입 게이트/사원증 로그)을 한 줄씩 읽어 사원별 하루 한 건의 출퇴근으로 접는다.
+ *  파일 전체를 메모리에 올리지 않고, (사원, 날짜)마다 첫 출근/마지막 퇴근 시각만 남긴다.
+ *  - CSV    : employee_id,event_time[,direction]  (첫 줄이 employee_id로 시작하면 헤더로 본다)
+ *  - NDJSON : {"employee_id": 1, "event_time": "2024-11-05T08:55:00", "direction": "IN"}
+ *  - event_time은 yyyy-MM-ddTHH:mm[:ss] 또는 yyyy-MM-dd HH:mm[:ss], direction은 IN/OUT (없으면 첫 기록/마지막 기록)
+ *  형식이 잘못된 줄은 건너뛰고 줄 번호와 사유를 남긴다. (maxReportedRejects건까지만 보관, 건수는 모두 센다)
+ *  스레드 안전하지 않으므로 적재 한 번마다 새로 만든다.
+ */
+public class CommuteLogFolder {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    // 설명. 퇴근 기록이 없을 때의 퇴근 시각 (출근 처리와 같은 기준)
+    static final LocalTime DEFAULT_END = LocalTime.of(18, 0);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public record WorkDayKey(Long employeeId, LocalDate workDate) {
+    }
+
+    public record WorkDay(Long employeeId, LocalDate workDate, LocalDateTime startTime,
+                          LocalDateTime endTime, long firstLine) {
+    }
+
+    public record Reject(long lineNumber, String reason) {
+    }
+
+    // 설명. (사원, 날짜)별로 누적 중인 기록
+    private static final class Span {
+        private LocalDateTime firstIn;
+        private LocalDateTime lastOut;
+        private LocalDateTime earliest;
+        private LocalDateTime latest;
+        private boolean undirected;
+        private final long firstLine;
+
+        private Span(long firstLine) {
+            this.firstLine = firstLine;
+        }
+    }
+
+    private final int maxReportedRejects;
+    private final Map<WorkDayKey, Span> spans = new HashMap<>();
+    private final List<Reject> rejects = new ArrayList<>();
+    private long rejectedCount;
+    private long acceptedCount;
+    private long lineCount;
+
+    public CommuteLogFolder(int maxReportedRejects) {
+        this.maxReportedRejects = maxReportedRejects;
+    }
+
+    // 설명. 스트림을 끝까지 읽으며 접는다. (여러 번 호출하면 이어서 누적된다)
+    public void fold(Reader reader, Format format) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineCount++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && acceptedCount == 0 && rejectedCount == 0 && isCsvHeader(line)) {
+                continue;
+            }
+            try {
+                if (format == Format.CSV) {
+                    foldCsv(line);
+                } else {
+                    foldJson(line);
+                }
+                acceptedCount++;
+            } catch (IllegalArgumentException | DateTimeParseException | JsonProcessingException e) {
+                reject(lineCount, e.getMessage());
+            }
+        }
+    }
+
+    // 설명. 접은 결과 (사원, 날짜 순)
+    public List<WorkDay> getWorkDays() {
+        List<WorkDay> workDays = new ArrayList<>(spans.size());
+        for (Map.Entry<WorkDayKey, Span> entry : spans.entrySet()) {
+            workDays.add(toWorkDay(entry.getKey(), entry.getValue()));
+        }
+        workDays.sort(Comparator.comparing(WorkDay::employeeId).thenComparing(WorkDay::workDate));
+        return workDays;
+    }
+
+    // 설명. 적재할 수 없는 사원(존재하지 않는 사원 등)의 기록을 거절로 옮긴다.
+    public void rejectWorkDays(Collection<WorkDay> workDays, String reason) {
+        for (WorkDay workDay : workDays) {
+            spans.remove(new WorkDayKey(workDay.employeeId(), workDay.workDate()));
+            reject(workDay.firstLine(), reason + ": " + workDay.employeeId());
+        }
+    }
+
+    public List<Reject> getRejects() {
+        return rejects;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    private void foldCsv(String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length < 2 || columns.length > 3) {
+            throw new IllegalArgumentException("열 개수가 올바르지 않습니다.");
+        }
+        add(parseEmployeeId(columns[0].trim()), parseTime(columns[1].trim()),
+                columns.length == 3 ? columns[2].trim() : null);
+    }
+
+    private void foldJson(String line) throws JsonProcessingException {
+        JsonNode node = OBJECT_MAPPER.readTree(line);
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("JSON 객체가 아닙니다.");
+        }
+        JsonNode employeeId = node.get("employee_id");
+        JsonNode eventTime = node.get("event_time");
+        JsonNode direction = node.get("direction");
+        if (employeeId == null || eventTime == null) {
+            throw new IllegalArgumentException("employee_id, event_time은 필수입니다.");
+        }
+        add(parseEmployeeId(employeeId.asText()), parseTime(eventTime.asText()),
+                direction == null || direction.isNull() ? null : direction.asText());
+    }
+
+    private void add(Long employeeId, LocalDateTime eventTime, String direction) {
+        boolean in = false;
+        boolean out = false;
+        if (direction != null && !direction.isEmpty()) {
+            in = "IN".equalsIgnoreCase(direction);
+            out = "OUT".equalsIgnoreCase(direction);
+            if (!in && !out) {
+                throw new IllegalArgumentException("direction은 IN 또는 OUT이어야 합니다: " + direction);
+            }
+        }
+
+        Span span = spans.computeIfAbsent(new WorkDayKey(employeeId, eventTime.toLocalDate()),
+                key -> new Span(lineCount));
+        if (in && (span.firstIn == null || eventTime.isBefore(span.firstIn))) {
+            span.firstIn = eventTime;
+        }
+        if (out && (span.lastOut == null || eventTime.isAfter(span.lastOut))) {
+            span.lastOut = eventTime;
+        }
+        if (!in && !out) {
+            span.undirected = true;
+        }
+        if (span.earliest == null || eventTime.isBefore(span.earliest)) {
+            span.earliest = eventTime;
+        }
+        if (span.latest == null || eventTime.isAfter(span.latest)) {
+            span.latest = eventTime;
+        }
+    }
+
+    /* 설명. 출근은 첫 출근 기록(없으면 그날 첫 기록),
+     *  퇴근은 마지막 퇴근 기록(방향 없는 기록뿐이면 그날 마지막 기록, 둘 다 없으면 18시 또는 출근 시각)
+     */
+    private static WorkDay toWorkDay(WorkDayKey key, Span span) {
+        LocalDateTime start = span.firstIn != null ? span.firstIn : span.earliest;
+        LocalDateTime end;
+        if (span.lastOut != null && span.lastOut.isAfter(start)) {
+            end = span.lastOut;
+        } else if (span.undirected && span.latest.isAfter(start)) {
+            end = span.latest;
+        } else {
+            LocalDateTime defaultEnd = key.workDate().atTime(DEFAULT_END);
+            end = defaultEnd.isAfter(start) ? defaultEnd : start;
+        }
+        return new WorkDay(key.employeeId(), key.workDate(), start, end, span.firstLine);
+    }
+
+    private void reject(long lineNumber, String reason) {
+        rejectedCount++;
+        if (rejects.size() < maxReportedRejects) {
+            rejects.add(new Reject(lineNumber, reason));
+        }
+    }
+
+    private static boolean isCsvHeader(String line) {
+        return line.trim().toLowerCase().startsWith("employee_id");
+    }
+
+    private static Long parseEmployeeId(String value) {
+        try {
+            long employeeId = Long.parseLong(value);
+            if (employeeId <= 0) {
+                throw new IllegalArgumentException("사원 ID가 올바르지 않습니다: " + value);
+            }
+            return employeeId;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("사원 ID가 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        return LocalDateTime.parse(value.replace(' ', 'T')).withNano(0);
+    }
+}
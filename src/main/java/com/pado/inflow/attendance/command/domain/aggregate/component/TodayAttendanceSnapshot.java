@@ -0,0 +1,127 @@
+package com.pado.inflow.attendance.command.domain.aggregate.component;
+
+import com.pado.inflow.attendance.query.repository.CommuteMapper;
+import com.pado.inflow.common.DateRange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/* 설명. 출근 처리용 당일 출근 현황 스냅샷
+ *  자정(과 주기적인 갱신)에 당일 출근 내역으로 출근한 사원을 메모리에 만들어 두고,
+ *  이 서버에서 출근이 커밋되면 바로 반영한다.
+ *  출근 여부는 하루 안에서 되돌아가지 않으므로 "이미 출근" 응답에만 사용하고,
+ *  휴가/휴직/재택근무처럼 다른 서버에서 언제든 승인될 수 있는 상태는 출근할 때마다 DB로 판단한다.
+ *  - 스냅샷에 없는 사원(다른 서버에서 출근했거나 스냅샷이 아직 없음)은 DB 조회와 조건부 INSERT가 걸러 낸다.
+ */
+@Slf4j
+@Component
+public class TodayAttendanceSnapshot {
+
+    private static final int CHECKED_IN = 1;
+
+    private final CommuteMapper commuteMapper;
+
+    // 설명. 아래 필드는 모두 this 락 안에서만 접근한다.
+    private TodayStatusTable table;
+    private LocalDate date;
+    private List<Consumer<TodayStatusTable>> pendingDuringRebuild;
+
+    @Autowired
+    public TodayAttendanceSnapshot(CommuteMapper commuteMapper) {
+        this.commuteMapper = commuteMapper;
+    }
+
+    // 설명. 자정에 새 날짜 기준으로 다시 구성
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rebuildAtMidnight() {
+        rebuild();
+    }
+
+    // 설명. 기동 직후와 이후 주기적으로 다시 구성 (다른 서버의 출근을 따라잡기 위함)
+    @Scheduled(fixedDelayString = "${attendance.today-snapshot.refresh-interval:300000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    // 설명. 오늘 이미 출근한 사원인지 여부 (false면 출근하지 않았다는 뜻이 아니라 DB로 확인해야 한다는 뜻)
+    public synchronized boolean isCheckedIn(long employeeId) {
+        return table != null && LocalDate.now().equals(date)
+                && (table.getFlags(employeeId) & CHECKED_IN) != 0;
+    }
+
+    // 설명. 출근 반영 (트랜잭션 안이라면 커밋 이후에 반영)
+    public void markCheckedIn(long employeeId) {
+        afterCommit(() -> apply(current -> current.addFlags(employeeId, CHECKED_IN)));
+    }
+
+    /* 설명. DB에서 당일 출근 내역을 읽어 새 테이블을 만든 뒤 교체
+     *  읽는 동안 들어온 변경은 모아 두었다가 새 테이블에 다시 적용한다.
+     */
+    private void rebuild() {
+        synchronized (this) {
+            if (pendingDuringRebuild != null) {
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        TodayStatusTable rebuilt = null;
+        LocalDate today = LocalDate.now();
+        try {
+            List<Long> checkedInEmployeeIds = commuteMapper.findTodayCommuteEmployeeIds(DateRange.ofDay(today));
+
+            rebuilt = new TodayStatusTable(checkedInEmployeeIds.size());
+            for (Long employeeId : checkedInEmployeeIds) {
+                rebuilt.addFlags(employeeId, CHECKED_IN);
+            }
+        } catch (RuntimeException e) {
+            log.error("당일 출근 현황 스냅샷 구성 실패", e);
+        } finally {
+            synchronized (this) {
+                if (rebuilt != null) {
+                    // 설명. 최초 구성이거나 같은 날짜의 재구성이라면 그 사이의 변경을 다시 적용하고, 날짜가 바뀌었으면 버린다.
+                    if (date == null || today.equals(date)) {
+                        for (Consumer<TodayStatusTable> operation : pendingDuringRebuild) {
+                            operation.accept(rebuilt);
+                        }
+                    }
+                    table = rebuilt;
+                    date = today;
+                    log.debug("당일 출근 현황 스냅샷 구성 완료: {} ({}명)", today, rebuilt.size());
+                }
+                pendingDuringRebuild = null;
+            }
+        }
+    }
+
+    // 설명. 현재 테이블에 변경 적용 (재구성 중이면 새 테이블에도 적용하도록 보관)
+    private synchronized void apply(Consumer<TodayStatusTable> operation) {
+        if (table != null) {
+            operation.accept(table);
+        }
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(operation);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
@@ -0,0 +1,109 @@
+package com.pado.inflow.attendance.command.domain.aggregate.component;
+
+import java.util.Arrays;
+
+/* 설명. 사원 ID(long)를 키로 당일 근태 상태 플래그를 담는 해시 테이블
+ *  박싱 없이 long 배열로 키를 보관하는 open addressing(선형 탐사) 방식이며,
+ *  하루 단위로 새로 만들어지므로 삭제는 지원하지 않는다. (플래그를 지우는 것으로 대신한다)
+ *  스레드 안전하지 않으므로 TodayAttendanceSnapshot의 락 안에서만 사용한다.
+ */
+class TodayStatusTable {
+
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] flags;
+    private int size;
+
+    TodayStatusTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    int getFlags(long employeeId) {
+        int index = indexOf(employeeId);
+        return index < 0 ? 0 : flags[index];
+    }
+
+    void addFlags(long employeeId, int flag) {
+        int index = insertIndex(employeeId);
+        flags[index] |= flag;
+    }
+
+    void clearFlags(long employeeId, int flag) {
+        int index = indexOf(employeeId);
+        if (index >= 0) {
+            flags[index] &= ~flag;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int indexOf(long employeeId) {
+        int mask = keys.length - 1;
+        int index = hash(employeeId) & mask;
+        while (true) {
+            long key = keys[index];
+            if (key == employeeId) {
+                return index;
+            }
+            if (key == EMPTY_KEY) {
+                return -1;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private int insertIndex(long employeeId) {
+        if (employeeId == EMPTY_KEY) {
+            throw new IllegalArgumentException("사용할 수 없는 사원 ID입니다: " + employeeId);
+        }
+        int mask = keys.length - 1;
+        int index = hash(employeeId) & mask;
+        while (true) {
+            long key = keys[index];
+            if (key == employeeId) {
+                return index;
+            }
+            if (key == EMPTY_KEY) {
+                if ((size + 1) * 2 > keys.length) {
+                    resize();
+                    return insertIndex(employeeId);
+                }
+                keys[index] = employeeId;
+                size++;
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldFlags = flags;
+        allocate(oldKeys.length << 1);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int index = insertIndex(oldKeys[i]);
+                flags[index] = oldFlags[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        flags = new int[capacity];
+    }
+
+    // 설명. 연속된 사원 ID가 한곳에 몰리지 않도록 섞는다. (murmur3 finalizer)
+    static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
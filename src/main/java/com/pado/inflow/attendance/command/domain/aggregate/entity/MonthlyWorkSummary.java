@@ -0,0 +1,35 @@
+package com.pado.inflow.attendance.command.domain.aggregate.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/* 설명. 사원별 월별 근무 요약
+ *  (employee_id, yyyymm) 기본키 한 행으로 해당 월의 근무 시간, 초과근무 시간, 재택근무 일수, 지각 횟수를 조회한다.
+ *  - yyyymm : 출근(초과근무 시작) 시각의 연월 (ex. 202411)
+ *  출근/초과근무 처리와 같은 트랜잭션에서 증분을 더하고, MonthlyWorkSummaryService의 재집계로 어긋난 값을 바로잡는다.
+ */
+@Entity(name = "monthly_work_summary")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class MonthlyWorkSummary {
+
+    @EmbeddedId
+    private MonthlyWorkSummaryId id;
+
+    @Column(name = "regular_minutes", nullable = false)
+    private Integer regularMinutes;
+
+    @Column(name = "overtime_minutes", nullable = false)
+    private Integer overtimeMinutes;
+
+    @Column(name = "remote_days", nullable = false)
+    private Integer remoteDays;
+
+    @Column(name = "late_count", nullable = false)
+    private Integer lateCount;
+}
@@ -0,0 +1,22 @@
+package com.pado.inflow.attendance.command.domain.aggregate.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyWorkSummaryId implements Serializable {
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "yyyymm", nullable = false)
+    private Integer yyyymm;
+}
@@ -0,0 +1,139 @@
+package com.pado.inflow.attendance.command.domain.repository;
+
+import com.pado.inflow.attendance.command.domain.aggregate.component.CommuteLogFolder.WorkDay;
+import com.pado.inflow.attendance.command.domain.aggregate.component.CommuteLogFolder.WorkDayKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/* 설명. 출입 기록 일괄 적재용 JDBC 배치 저장소
+ *  commute는 IDENTITY 키라 JPA로는 한 건씩 INSERT되므로, 적재는 JDBC batchUpdate로 묶어서 보낸다.
+ *  (MariaDB 드라이버는 배치를 한 번의 왕복으로 보낸다)
+ *  commute에는 (사원, 날짜) 유일 키가 없으므로 청크마다 기존 일반 출근 내역을 한 번에 조회해
+ *  있으면 UPDATE, 없으면 INSERT로 나눠 upsert한다.
+ *  재택근무 내역은 재택 출근 전까지 start_time이 NULL이므로 재택근무 신청일로 날짜를 맞춘다.
+ */
+@Repository
+public class CommuteBatchRepository {
+
+    public record ExistingCommute(Long commuteId, Long employeeId, LocalDate workDate) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public CommuteBatchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 존재하는 사원 ID만 추려서 조회
+    public Set<Long> findExistingEmployeeIds(Collection<Long> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT employee_id FROM employee WHERE employee_id IN (:employeeIds)",
+                new MapSqlParameterSource("employeeIds", employeeIds), Long.class));
+    }
+
+    /* 설명. 청크에 해당하는 기존 일반 출근 내역 조회 ((사원, 날짜)별 가장 먼저 등록된 한 건)
+     *  - 출근 시각이 있는 내역: 출근 시각의 날짜
+     *  - 출근 전 재택근무 내역(start_time NULL): 재택근무 신청일 (findTodayRemoteByEmployeeId와 같은 조건)
+     */
+    public Map<WorkDayKey, ExistingCommute> findExistingCommutes(List<WorkDay> workDays) {
+        Set<Long> employeeIds = new HashSet<>();
+        LocalDate from = null;
+        LocalDate to = null;
+        for (WorkDay workDay : workDays) {
+            employeeIds.add(workDay.employeeId());
+            from = from == null || workDay.workDate().isBefore(from) ? workDay.workDate() : from;
+            to = to == null || workDay.workDate().isAfter(to) ? workDay.workDate() : to;
+        }
+
+        Map<WorkDayKey, ExistingCommute> existing = new HashMap<>();
+        if (employeeIds.isEmpty()) {
+            return existing;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("employeeIds", employeeIds)
+                .addValue("from", Timestamp.valueOf(from.atStartOfDay()))
+                .addValue("to", Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        jdbcTemplate.query(
+                "SELECT commute_id, employee_id, start_time AS work_time FROM commute " +
+                " WHERE employee_id IN (:employeeIds) " +
+                "   AND start_time >= :from AND start_time < :to " +
+                "   AND overtime_status = 'N' " +
+                "UNION ALL " +
+                "SELECT C.commute_id, C.employee_id, R.start_date AS work_time " +
+                "  FROM attendance_request R " +
+                "  JOIN commute C ON C.attendance_request_id = R.attendance_request_id " +
+                " WHERE R.employee_id IN (:employeeIds) " +
+                "   AND R.attendance_request_type_id = 1 " +
+                "   AND R.request_status = 'ACCEPT' " +
+                "   AND R.cancel_status = 'N' " +
+                "   AND R.start_date >= :from AND R.start_date < :to " +
+                "   AND C.start_time IS NULL " +
+                " ORDER BY commute_id",
+                params,
+                rs -> {
+                    ExistingCommute commute = new ExistingCommute(rs.getLong("commute_id"), rs.getLong("employee_id"),
+                            rs.getTimestamp("work_time").toLocalDateTime().toLocalDate());
+                    existing.putIfAbsent(new WorkDayKey(commute.employeeId(), commute.workDate()), commute);
+                });
+        return existing;
+    }
+
+    // 출근 내역 일괄 등록
+    public int insertAll(List<WorkDay> workDays) {
+        if (workDays.isEmpty()) {
+            return 0;
+        }
+        List<MapSqlParameterSource> batch = new ArrayList<>(workDays.size());
+        for (WorkDay workDay : workDays) {
+            batch.add(new MapSqlParameterSource()
+                    .addValue("startTime", Timestamp.valueOf(workDay.startTime()))
+                    .addValue("endTime", Timestamp.valueOf(workDay.endTime()))
+                    .addValue("employeeId", workDay.employeeId()));
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO commute (start_time, end_time, remote_status, overtime_status, employee_id, attendance_request_id) " +
+                "VALUES (:startTime, :endTime, 'N', 'N', :employeeId, NULL)",
+                batch.toArray(new MapSqlParameterSource[0]));
+        return workDays.size();
+    }
+
+    /* 설명. 기존 출근 내역 일괄 갱신
+     *  출근은 더 이른 시각을 남기고, 퇴근은 출입 기록을 기준으로 한다. (출근 처리 시 미리 넣어 둔 18시를 덮어쓴다)
+     *  출근 전 재택근무 내역은 start_time이 NULL이라 LEAST가 NULL이 되므로 출입 기록의 출근 시각으로 채운다.
+     */
+    public int updateAll(Map<Long, WorkDay> workDaysByCommuteId) {
+        if (workDaysByCommuteId.isEmpty()) {
+            return 0;
+        }
+        List<MapSqlParameterSource> batch = new ArrayList<>(workDaysByCommuteId.size());
+        for (Map.Entry<Long, WorkDay> entry : workDaysByCommuteId.entrySet()) {
+            batch.add(new MapSqlParameterSource()
+                    .addValue("commuteId", entry.getKey())
+                    .addValue("startTime", Timestamp.valueOf(entry.getValue().startTime()))
+                    .addValue("endTime", Timestamp.valueOf(entry.getValue().endTime())));
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE commute " +
+                "   SET start_time = LEAST(COALESCE(start_time, :startTime), :startTime), " +
+                "       end_time = GREATEST(LEAST(COALESCE(start_time, :startTime), :startTime), :endTime) " +
+                " WHERE commute_id = :commuteId",
+                batch.toArray(new MapSqlParameterSource[0]));
+        return workDaysByCommuteId.size();
+    }
+}
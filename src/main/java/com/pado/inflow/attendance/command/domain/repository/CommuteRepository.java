@@ -2,9 +2,30 @@ package com.pado.inflow.attendance.command.domain.repository;
 
 import com.pado.inflow.attendance.command.domain.aggregate.entity.Commute;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface CommuteRepository extends JpaRepository<Commute, Long> {
     Optional<Commute> findByAttendanceRequestId(Long attendanceRequestId);
+
+    /* 오늘 출근 내역이 없을 때만 출근 내역 등록 (등록했으면 1, 이미 있으면 0)
+     *  조회와 등록 사이에 다른 서버에서 먼저 출근했어도 DB에서 한 번 더 막는다.
+     *  "오늘 출근 내역"의 조건은 CommuteMapper.findTodayCommuteByEmployeeId와 같다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO commute (start_time, end_time, remote_status, overtime_status, employee_id, attendance_request_id) " +
+            "SELECT :startTime, :endTime, 'N', 'N', :employeeId, NULL FROM DUAL " +
+            " WHERE NOT EXISTS (SELECT 1 FROM commute " +
+            "                    WHERE employee_id = :employeeId " +
+            "                      AND start_time >= :from AND start_time < :to " +
+            "                      AND overtime_status = 'N')", nativeQuery = true)
+    int insertIfNotCheckedIn(@Param("employeeId") Long employeeId,
+                             @Param("startTime") LocalDateTime startTime,
+                             @Param("endTime") LocalDateTime endTime,
+                             @Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to);
 }
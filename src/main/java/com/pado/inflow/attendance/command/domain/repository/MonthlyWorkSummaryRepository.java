@@ -0,0 +1,61 @@
+package com.pado.inflow.attendance.command.domain.repository;
+
+import com.pado.inflow.attendance.command.domain.aggregate.entity.MonthlyWorkSummary;
+import com.pado.inflow.attendance.command.domain.aggregate.entity.MonthlyWorkSummaryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+public interface MonthlyWorkSummaryRepository extends JpaRepository<MonthlyWorkSummary, MonthlyWorkSummaryId> {
+
+    // 증분 반영 (없으면 증분 값으로 생성)
+    @Modifying
+    @Query(value = "INSERT INTO monthly_work_summary " +
+            "(employee_id, yyyymm, regular_minutes, overtime_minutes, remote_days, late_count) " +
+            "VALUES (:employeeId, :yyyymm, :regularMinutes, :overtimeMinutes, :remoteDays, :lateCount) " +
+            "ON DUPLICATE KEY UPDATE regular_minutes = regular_minutes + VALUES(regular_minutes), " +
+            "                        overtime_minutes = overtime_minutes + VALUES(overtime_minutes), " +
+            "                        remote_days = remote_days + VALUES(remote_days), " +
+            "                        late_count = late_count + VALUES(late_count)", nativeQuery = true)
+    int add(@Param("employeeId") Long employeeId,
+            @Param("yyyymm") Integer yyyymm,
+            @Param("regularMinutes") int regularMinutes,
+            @Param("overtimeMinutes") int overtimeMinutes,
+            @Param("remoteDays") int remoteDays,
+            @Param("lateCount") int lateCount);
+
+    /* 설명. 아래는 재집계용
+     *  기간 내 요약을 지우고 출퇴근 내역에서 다시 집계한다.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM monthly_work_summary WHERE yyyymm >= :fromYyyymm AND yyyymm <= :toYyyymm",
+            nativeQuery = true)
+    int deleteBetween(@Param("fromYyyymm") Integer fromYyyymm,
+                      @Param("toYyyymm") Integer toYyyymm);
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_work_summary " +
+            "(employee_id, yyyymm, regular_minutes, overtime_minutes, remote_days, late_count) " +
+            "SELECT employee_id, EXTRACT(YEAR_MONTH FROM start_time), " +
+            "       SUM(CASE WHEN overtime_status = 'N' " +
+            "                THEN GREATEST(TIMESTAMPDIFF(MINUTE, start_time, end_time), 0) ELSE 0 END), " +
+            "       SUM(CASE WHEN overtime_status = 'Y' " +
+            "                THEN GREATEST(TIMESTAMPDIFF(MINUTE, start_time, end_time), 0) ELSE 0 END), " +
+            "       SUM(CASE WHEN overtime_status = 'N' AND remote_status = 'Y' THEN 1 ELSE 0 END), " +
+            "       SUM(CASE WHEN overtime_status = 'N' AND TIME(start_time) > :lateAfter THEN 1 ELSE 0 END) " +
+            "  FROM commute " +
+            " WHERE start_time >= :from AND start_time < :to " +
+            "   AND end_time IS NOT NULL " +
+            " GROUP BY employee_id, EXTRACT(YEAR_MONTH FROM start_time) " +
+            "ON DUPLICATE KEY UPDATE regular_minutes = VALUES(regular_minutes), " +
+            "                        overtime_minutes = VALUES(overtime_minutes), " +
+            "                        remote_days = VALUES(remote_days), " +
+            "                        late_count = VALUES(late_count)", nativeQuery = true)
+    int summarize(@Param("from") LocalDateTime from,
+                  @Param("to") LocalDateTime to,
+                  @Param("lateAfter") LocalTime lateAfter);
+}
@@ -1,6 +1,7 @@
 package com.pado.inflow.attendance.query.controller;
 
 import com.pado.inflow.attendance.query.dto.AttendanceRequestDTO;
+import com.pado.inflow.attendance.query.dto.CursorPageDTO;
 import com.pado.inflow.attendance.query.dto.PageDTO;
 import com.pado.inflow.attendance.query.service.AttendanceRequestService;
 import com.pado.inflow.common.ResponseDTO;
@@ -131,4 +132,15 @@ public class AttendanceRequestController {
         return ResponseDTO.ok(attendanceRequests);
     }
 
+    // 사원별 유형별 신청 내역 커서 기반 조회 (다음 페이지는 응답의 next_cursor를 cursor로 전달)
+    @GetMapping("/scroll")
+    public ResponseDTO<?> getAttendanceRequestsByEmployeeId(@RequestParam("eid") Long employeeId,
+                                                            @RequestParam("type") Long attendanceRequestTypeId,
+                                                            @RequestParam(value = "cursor", required = false) Long cursor,
+                                                            @RequestParam(value = "date", required = false) String date) {
+        CursorPageDTO<AttendanceRequestDTO> attendanceRequests =
+                attendanceRequestService.findAttendanceRequestsByEmployeeId(employeeId, attendanceRequestTypeId, cursor, date);
+        return ResponseDTO.ok(attendanceRequests);
+    }
+
 }
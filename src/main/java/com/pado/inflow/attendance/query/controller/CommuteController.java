@@ -1,6 +1,7 @@
 package com.pado.inflow.attendance.query.controller;
 
 import com.pado.inflow.attendance.query.dto.CommuteDTO;
+import com.pado.inflow.attendance.query.dto.MonthlyWorkSummaryDTO;
 import com.pado.inflow.attendance.query.dto.ResponseCommuteDTO;
 import com.pado.inflow.attendance.query.service.CommuteQueryService;
 import com.pado.inflow.common.ResponseDTO;
@@ -39,4 +40,12 @@ public class CommuteController {
         return ResponseDTO.ok(overtimes);
     }
 
+    // 사원별 월별 근무 요약 조회
+    @GetMapping("/summary")
+    public ResponseDTO<?> getMonthlyWorkSummary(@RequestParam("eid") Long employeeId,
+                                                @RequestParam("date") String date) {
+        MonthlyWorkSummaryDTO summary = commuteService.findMonthlyWorkSummary(employeeId, date);
+        return ResponseDTO.ok(summary);
+    }
+
 }
@@ -0,0 +1,27 @@
+package com.pado.inflow.attendance.query.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 설명. 커서 기반 페이지 (다음 페이지는 next_cursor를 cursor로 넘겨 조회)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class CursorPageDTO<T> {
+
+    @JsonProperty("elements")
+    private List<T> elements; // 요소
+
+    @JsonProperty("elements_per_page")
+    private Integer elementsPerPage; // 한 페이지에 보여줄 요소 개수
+
+    @JsonProperty("next_cursor")
+    private Long nextCursor; // 다음 페이지 커서 (마지막 요소의 ID, 다음 페이지가 없으면 null)
+
+    @JsonProperty("next")
+    private Boolean next; // 다음 페이지 존재 여부
+}
@@ -0,0 +1,20 @@
+package com.pado.inflow.attendance.query.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class MonthlyWorkSummaryDTO {
+    private Long employeeId;
+    private Integer yyyymm;
+    private Integer regularMinutes;     // 근무 시간 (분)
+    private Integer overtimeMinutes;    // 초과근무 시간 (분)
+    private Integer remoteDays;         // 재택근무 일수
+    private Integer lateCount;          // 지각 횟수
+}
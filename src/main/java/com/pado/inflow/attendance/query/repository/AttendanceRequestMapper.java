@@ -1,10 +1,10 @@
 package com.pado.inflow.attendance.query.repository;
 
 import com.pado.inflow.attendance.query.dto.AttendanceRequestDTO;
+import com.pado.inflow.common.DateRange;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
-import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
@@ -13,79 +13,34 @@ public interface AttendanceRequestMapper {
     // 사원별 초과근무 신청 내역 미리보기 조회
     List<AttendanceRequestDTO> findOvertimeRequestPreviewsByEmployeeId(Long employeeId);
 
-    // 사원별 초과근무 신청 내역 전체 조회
-    List<AttendanceRequestDTO> findOvertimeRequestsByEmployeeId(@Param("employeeId") Long employeeId,
-                                                                @Param("elementsPerPage") Integer elementsPerPage,
-                                                                @Param("offset") Integer offset,
-                                                                @Param("date") LocalDate date);
-
-    // 사원별 초과근무 신청 내역 전체 개수 조회
-    Integer getTotalOvertimeRequestsByEmployeeId(@Param("employeeId") Long employeeId,
-                                                 @Param("date") LocalDate date);
-
     // 사원별 재택근무 신청 내역 미리보기 조회
     List<AttendanceRequestDTO> findRemoteRequestPreviewsByEmployeeId(Long employeeId);
 
-    // 사원별 재택근무 신청 내역 전체 조회
-    List<AttendanceRequestDTO> findRemoteRequestsByEmployeeId(@Param("employeeId") Long employeeId,
-                                                              @Param("elementsPerPage") Integer elementsPerPage,
-                                                              @Param("offset") Integer offset,
-                                                              @Param("date") LocalDate date);
-
-    // 사원별 재택근무 신청 내역 전체 개수 조회
-    Integer getTotalRemoteRequestsByEmployeeId(@Param("employeeId") Long employeeId,
-                                               @Param("date") LocalDate date);
-
     // 사원별 출장 신청 내역 미리보기 조회
     List<AttendanceRequestDTO> findBusinessTripRequestPreviewsByEmployeeId(Long employeeId);
 
-    // 사원별 출장 신청 내역 전체 조회
-    List<AttendanceRequestDTO> findBusinessTripRequestsByEmployeeId(@Param("employeeId") Long employeeId,
-                                                                    @Param("elementsPerPage") Integer elementsPerPage,
-                                                                    @Param("offset") Integer offset,
-                                                                    @Param("date") LocalDate date);
-
-    // 사원별 출장 신청 내역 전체 개수 조회
-    Integer getTotalBusinessTripRequestsByEmployeeId(@Param("employeeId") Long employeeId,
-                                                     @Param("date") LocalDate date);
-
     // 사원별 파견 신청 내역 미리보기 조회
     List<AttendanceRequestDTO> findDispatchRequestPreviewsByEmployeeId(Long employeeId);
 
-    // 사원별 파견 신청 내역 전체 조회
-    List<AttendanceRequestDTO> findDispatchRequestsByEmployeeId(@Param("employeeId") Long employeeId,
-                                                                @Param("elementsPerPage") Integer elementsPerPage,
-                                                                @Param("offset") Integer offset,
-                                                                @Param("date") LocalDate date);
-
-    // 사원별 파견 신청 내역 전체 개수 조회
-    Integer getTotalDispatchRequestsByEmployeeId(@Param("employeeId") Long employeeId,
-                                                 @Param("date") LocalDate date);
-
     // 사원별 휴직 신청 내역 미리보기 조회
     List<AttendanceRequestDTO> findLeaveRequestPreviewsByEmployeeId(Long employeeId);
 
-    // 사원별 휴직 신청 내역 전체 조회
-    List<AttendanceRequestDTO> findLeaveRequestsByEmployeeId(@Param("employeeId") Long employeeId,
-                                                             @Param("elementsPerPage") Integer elementsPerPage,
-                                                             @Param("offset") Integer offset,
-                                                             @Param("date") LocalDate date);
-
-    // 사원별 휴직 신청 내역 전체 개수 조회
-    Integer getTotalLeaveRequestsByEmployeeId(@Param("employeeId") Long employeeId,
-                                              @Param("date") LocalDate date);
-
     // 사원별 복직 신청 내역 미리보기 조회
     List<AttendanceRequestDTO> findReturnRequestPreviewsByEmployeeId(Long employeeId);
 
-    // 사원별 복직 신청 내역 전체 조회
-    List<AttendanceRequestDTO> findReturnRequestsByEmployeeId(@Param("employeeId") Long employeeId,
-                                                              @Param("elementsPerPage") Integer elementsPerPage,
-                                                              @Param("offset") Integer offset,
-                                                              @Param("date") LocalDate date);
-
-    // 사원별 복직 신청 내역 전체 개수 조회
-    Integer getTotalReturnRequestsByEmployeeId(@Param("employeeId") Long employeeId,
-                                               @Param("date") LocalDate date);
+    /* 설명. 사원별 유형별 신청 내역 목록은 두 단계로 조회한다.
+     *  1. 페이지에 해당하는 신청 ID만 조회 (cursor 이후 또는 offset 기준, range는 생략 가능)
+     *  2. 그 ID들만 사원명, 유형명, 첨부파일과 함께 조회
+     */
+    List<Long> findAttendanceRequestIds(@Param("employeeId") Long employeeId,
+                                        @Param("attendanceRequestTypeId") Long attendanceRequestTypeId,
+                                        @Param("range") DateRange range,
+                                        @Param("cursor") Long cursor,
+                                        @Param("limit") Integer limit,
+                                        @Param("offset") Integer offset);
+
+    // 신청 ID 목록으로 신청 내역 조회 (ID 내림차순)
+    List<AttendanceRequestDTO> findAttendanceRequestsByIds(
+            @Param("attendanceRequestIds") List<Long> attendanceRequestIds);
 
 }
@@ -1,10 +1,11 @@
 package com.pado.inflow.attendance.query.repository;
 
 import com.pado.inflow.attendance.query.dto.CommuteDTO;
+import com.pado.inflow.attendance.query.dto.MonthlyWorkSummaryDTO;
+import com.pado.inflow.common.DateRange;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
-import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
@@ -12,16 +13,25 @@ public interface CommuteMapper {
 
     // 사원별 출퇴근 내역 조회
     List<CommuteDTO> findCommutesByEmployeeId(@Param("employeeId") Long employeeId,
-                                              @Param("date") LocalDate date);
+                                              @Param("range") DateRange range);
 
     // 사원별 초과근무 내역 조회
     List<CommuteDTO> findOvertimesByEmployeeId(@Param("employeeId") Long employeeId,
-                                               @Param("date") LocalDate date);
+                                               @Param("range") DateRange range);
 
     // 당일 재택 출퇴근 내역 조회
-    CommuteDTO findTodayRemoteByEmployeeId(Long employeeId);
+    CommuteDTO findTodayRemoteByEmployeeId(@Param("employeeId") Long employeeId,
+                                           @Param("today") DateRange today);
 
     // 당일 출퇴근 내역 조회
-    CommuteDTO findTodayCommuteByEmployeeId(Long employeeId);
+    CommuteDTO findTodayCommuteByEmployeeId(@Param("employeeId") Long employeeId,
+                                            @Param("today") DateRange today);
+
+    // 당일 출근한 사원 목록 조회 (당일 출근 현황 스냅샷용)
+    List<Long> findTodayCommuteEmployeeIds(@Param("today") DateRange today);
+
+    // 사원별 월별 근무 요약 조회 (yyyymm ex. 202411)
+    MonthlyWorkSummaryDTO findMonthlyWorkSummary(@Param("employeeId") Long employeeId,
+                                                 @Param("yyyymm") Integer yyyymm);
 
 }
@@ -1,7 +1,9 @@
 package com.pado.inflow.attendance.query.repository;
 
 import com.pado.inflow.attendance.query.dto.LeaveReturnDTO;
+import com.pado.inflow.common.DateRange;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -15,6 +17,7 @@ public interface LeaveReturnMapper {
     Integer getTotalLeaveReturnsByEmployeeId(Long employeeId);
 
     // 당일기준 휴복직 내역 조회
-    LeaveReturnDTO findTodayLeaveByEmployeeId(Long employeeId);
+    LeaveReturnDTO findTodayLeaveByEmployeeId(@Param("employeeId") Long employeeId,
+                                              @Param("today") DateRange today);
 
 }
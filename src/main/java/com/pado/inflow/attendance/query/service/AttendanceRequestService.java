@@ -1,6 +1,7 @@
 package com.pado.inflow.attendance.query.service;
 
 import com.pado.inflow.attendance.query.dto.AttendanceRequestDTO;
+import com.pado.inflow.attendance.query.dto.CursorPageDTO;
 import com.pado.inflow.attendance.query.dto.PageDTO;
 
 import java.util.List;
@@ -43,4 +44,10 @@ public interface AttendanceRequestService {
     // 사원별 복직 신청 내역 전체 조회
     PageDTO<AttendanceRequestDTO> findReturnRequestsByEmployeeId(Long employeeId, Integer pageNo, String date);
 
+    // 사원별 유형별 신청 내역 커서 기반 조회 (cursor 미지정 시 최신부터, date(yyyy-MM) 미지정 시 전체 기간)
+    CursorPageDTO<AttendanceRequestDTO> findAttendanceRequestsByEmployeeId(Long employeeId,
+                                                                         Long attendanceRequestTypeId,
+                                                                         Long cursor,
+                                                                         String date);
+
 }
@@ -1,14 +1,17 @@
 package com.pado.inflow.attendance.query.service;
 
 import com.pado.inflow.attendance.query.dto.AttendanceRequestDTO;
+import com.pado.inflow.attendance.query.dto.CursorPageDTO;
 import com.pado.inflow.attendance.query.dto.PageDTO;
 import com.pado.inflow.attendance.query.repository.AttendanceRequestMapper;
+import com.pado.inflow.common.DateRange;
+import com.pado.inflow.common.counter.CounterDomain;
+import com.pado.inflow.common.counter.RequestCounterService;
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -17,14 +20,25 @@ import java.util.List;
 @Service
 public class AttendanceRequestServiceImpl implements AttendanceRequestService {
 
+    // 설명. attendance_request_type의 유형 ID
+    private static final Long REMOTE = 1L;
+    private static final Long OVERTIME = 2L;
+    private static final Long BUSINESS_TRIP = 3L;
+    private static final Long DISPATCH = 4L;
+    private static final Long LEAVE = 5L;
+    private static final Long RETURN = 6L;
+
     private final Integer PAGE_SIZE = 10; // 페이지 간격
     private final Integer ELEMENTS_PER_PAGE = 10; // 한 페이지 당 요소 개수
 
     private final AttendanceRequestMapper attendanceRequestMapper;
+    private final RequestCounterService requestCounterService;
 
     @Autowired
-    public AttendanceRequestServiceImpl(AttendanceRequestMapper attendanceRequestMapper) {
+    public AttendanceRequestServiceImpl(AttendanceRequestMapper attendanceRequestMapper,
+                                        RequestCounterService requestCounterService) {
         this.attendanceRequestMapper = attendanceRequestMapper;
+        this.requestCounterService = requestCounterService;
     }
 
     // 사원별 초과근무 신청 내역 미리보기 조회
@@ -43,35 +57,7 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
     // 사원별 초과근무 신청 내역 전체 조회
     @Override
     public PageDTO<AttendanceRequestDTO> findOvertimeRequestsByEmployeeId(Long employeeId, Integer pageNo, String date) {
-        // 페이지 번호 유효성 검사
-        if(pageNo == null || pageNo < 1) {
-            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
-        }
-
-        // 날짜 형식 유효성 검사 및 변환 (yyyy-MM)
-        YearMonth parsedDate;
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
-            parsedDate = YearMonth.parse(date, formatter);
-        } catch (DateTimeParseException e) {
-            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
-        }
-
-        LocalDate startOfMonth = parsedDate.atDay(1); // 해당 월의 첫 번째 날
-
-        Integer totalElements = attendanceRequestMapper.getTotalOvertimeRequestsByEmployeeId(employeeId, startOfMonth);
-        if(totalElements == null || totalElements < 1) {
-            throw new CommonException(ErrorCode.NOT_FOUND_COMMUTE);
-        }
-
-        Integer offset = (pageNo - 1) * ELEMENTS_PER_PAGE;
-        List<AttendanceRequestDTO> attendanceRequests =
-                attendanceRequestMapper.findOvertimeRequestsByEmployeeId(employeeId, ELEMENTS_PER_PAGE, offset, startOfMonth);
-        if (attendanceRequests == null || attendanceRequests.isEmpty()) {
-            throw new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST);
-        }
-
-        return new PageDTO<>(attendanceRequests, pageNo, PAGE_SIZE, ELEMENTS_PER_PAGE, totalElements);
+        return findRequestPage(employeeId, OVERTIME, pageNo, date);
     }
 
     // 사원별 재택근무 신청 내역 미리보기 조회
@@ -90,35 +76,7 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
     // 사원별 재택근무 신청 내역 전체 조회
     @Override
     public PageDTO<AttendanceRequestDTO> findRemoteRequestsByEmployeeId(Long employeeId, Integer pageNo, String date) {
-        // 페이지 번호 유효성 검사
-        if(pageNo == null || pageNo < 1) {
-            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
-        }
-
-        // 날짜 형식 유효성 검사 및 변환 (yyyy-MM)
-        YearMonth parsedDate;
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
-            parsedDate = YearMonth.parse(date, formatter);
-        } catch (DateTimeParseException e) {
-            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
-        }
-
-        LocalDate startOfMonth = parsedDate.atDay(1); // 해당 월의 첫 번째 날
-
-        Integer totalElements = attendanceRequestMapper.getTotalRemoteRequestsByEmployeeId(employeeId, startOfMonth);
-        if(totalElements == null || totalElements < 1) {
-            throw new CommonException(ErrorCode.NOT_FOUND_COMMUTE);
-        }
-
-        Integer offset = (pageNo - 1) * ELEMENTS_PER_PAGE;
-        List<AttendanceRequestDTO> attendanceRequests =
-                attendanceRequestMapper.findRemoteRequestsByEmployeeId(employeeId, ELEMENTS_PER_PAGE, offset, startOfMonth);
-        if (attendanceRequests == null || attendanceRequests.isEmpty()) {
-            throw new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST);
-        }
-
-        return new PageDTO<>(attendanceRequests, pageNo, PAGE_SIZE, ELEMENTS_PER_PAGE, totalElements);
+        return findRequestPage(employeeId, REMOTE, pageNo, date);
     }
 
     // 사원별 출장 신청 내역 미리보기 조회
@@ -137,35 +95,7 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
     // 사원별 출장 신청 내역 전체 조회
     @Override
     public PageDTO<AttendanceRequestDTO> findBusinessTripRequestsByEmployeeId(Long employeeId, Integer pageNo, String date) {
-        // 페이지 번호 유효성 검사
-        if(pageNo == null || pageNo < 1) {
-            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
-        }
-
-        // 날짜 형식 유효성 검사 및 변환 (yyyy-MM)
-        YearMonth parsedDate;
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
-            parsedDate = YearMonth.parse(date, formatter);
-        } catch (DateTimeParseException e) {
-            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
-        }
-
-        LocalDate startOfMonth = parsedDate.atDay(1); // 해당 월의 첫 번째 날
-
-        Integer totalElements = attendanceRequestMapper.getTotalBusinessTripRequestsByEmployeeId(employeeId, startOfMonth);
-        if(totalElements == null || totalElements < 1) {
-            throw new CommonException(ErrorCode.NOT_FOUND_COMMUTE);
-        }
-
-        Integer offset = (pageNo - 1) * ELEMENTS_PER_PAGE;
-        List<AttendanceRequestDTO> attendanceRequests =
-                attendanceRequestMapper.findBusinessTripRequestsByEmployeeId(employeeId, ELEMENTS_PER_PAGE, offset, startOfMonth);
-        if (attendanceRequests == null || attendanceRequests.isEmpty()) {
-            throw new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST);
-        }
-
-        return new PageDTO<>(attendanceRequests, pageNo, PAGE_SIZE, ELEMENTS_PER_PAGE, totalElements);
+        return findRequestPage(employeeId, BUSINESS_TRIP, pageNo, date);
     }
 
     // 사원별 파견 신청 내역 미리보기 조회
@@ -184,35 +114,7 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
     // 사원별 파견 신청 내역 전체 조회
     @Override
     public PageDTO<AttendanceRequestDTO> findDispatchRequestsByEmployeeId(Long employeeId, Integer pageNo, String date) {
-        // 페이지 번호 유효성 검사
-        if(pageNo == null || pageNo < 1) {
-            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
-        }
-
-        // 날짜 형식 유효성 검사 및 변환 (yyyy-MM)
-        YearMonth parsedDate;
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
-            parsedDate = YearMonth.parse(date, formatter);
-        } catch (DateTimeParseException e) {
-            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
-        }
-
-        LocalDate startOfMonth = parsedDate.atDay(1); // 해당 월의 첫 번째 날
-
-        Integer totalElements = attendanceRequestMapper.getTotalDispatchRequestsByEmployeeId(employeeId, startOfMonth);
-        if(totalElements == null || totalElements < 1) {
-            throw new CommonException(ErrorCode.NOT_FOUND_COMMUTE);
-        }
-
-        Integer offset = (pageNo - 1) * ELEMENTS_PER_PAGE;
-        List<AttendanceRequestDTO> attendanceRequests =
-                attendanceRequestMapper.findDispatchRequestsByEmployeeId(employeeId, ELEMENTS_PER_PAGE, offset, startOfMonth);
-        if (attendanceRequests == null || attendanceRequests.isEmpty()) {
-            throw new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST);
-        }
-
-        return new PageDTO<>(attendanceRequests, pageNo, PAGE_SIZE, ELEMENTS_PER_PAGE, totalElements);
+        return findRequestPage(employeeId, DISPATCH, pageNo, date);
     }
 
     // 사원별 휴직 신청 내역 미리보기 조회
@@ -231,35 +133,7 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
     // 사원별 휴직 신청 내역 전체 조회
     @Override
     public PageDTO<AttendanceRequestDTO> findLeaveRequestsByEmployeeId(Long employeeId, Integer pageNo, String date) {
-        // 페이지 번호 유효성 검사
-        if(pageNo == null || pageNo < 1) {
-            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
-        }
-
-        // 날짜 형식 유효성 검사 및 변환 (yyyy-MM)
-        YearMonth parsedDate;
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
-            parsedDate = YearMonth.parse(date, formatter);
-        } catch (DateTimeParseException e) {
-            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
-        }
-
-        LocalDate startOfMonth = parsedDate.atDay(1); // 해당 월의 첫 번째 날
-
-        Integer totalElements = attendanceRequestMapper.getTotalLeaveRequestsByEmployeeId(employeeId, startOfMonth);
-        if(totalElements == null || totalElements < 1) {
-            throw new CommonException(ErrorCode.NOT_FOUND_COMMUTE);
-        }
-
-        Integer offset = (pageNo - 1) * ELEMENTS_PER_PAGE;
-        List<AttendanceRequestDTO> attendanceRequests =
-                attendanceRequestMapper.findLeaveRequestsByEmployeeId(employeeId, ELEMENTS_PER_PAGE, offset, startOfMonth);
-        if (attendanceRequests == null || attendanceRequests.isEmpty()) {
-            throw new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST);
-        }
-
-        return new PageDTO<>(attendanceRequests, pageNo, PAGE_SIZE, ELEMENTS_PER_PAGE, totalElements);
+        return findRequestPage(employeeId, LEAVE, pageNo, date);
     }
 
     // 사원별 복직 신청 내역 미리보기 조회
@@ -278,35 +152,81 @@ public class AttendanceRequestServiceImpl implements AttendanceRequestService {
     // 사원별 복직 신청 내역 전체 조회
     @Override
     public PageDTO<AttendanceRequestDTO> findReturnRequestsByEmployeeId(Long employeeId, Integer pageNo, String date) {
-        // 페이지 번호 유효성 검사
-        if(pageNo == null || pageNo < 1) {
+        return findRequestPage(employeeId, RETURN, pageNo, date);
+    }
+
+    // 사원별 유형별 신청 내역 커서 기반 조회
+    @Override
+    public CursorPageDTO<AttendanceRequestDTO> findAttendanceRequestsByEmployeeId(Long employeeId,
+                                                                                Long attendanceRequestTypeId,
+                                                                                Long cursor,
+                                                                                String date) {
+        if (attendanceRequestTypeId == null || attendanceRequestTypeId < REMOTE || attendanceRequestTypeId > RETURN
+                || (cursor != null && cursor < 1)) {
             throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
         }
+        DateRange month = date == null ? null : DateRange.ofMonth(parseMonth(date));
 
-        // 날짜 형식 유효성 검사 및 변환 (yyyy-MM)
-        YearMonth parsedDate;
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
-            parsedDate = YearMonth.parse(date, formatter);
-        } catch (DateTimeParseException e) {
+        // 설명. 한 건 더 조회해서 다음 페이지 존재 여부를 판단 (전체 개수 조회 없음)
+        List<Long> attendanceRequestIds = attendanceRequestMapper.findAttendanceRequestIds(
+                employeeId, attendanceRequestTypeId, month, cursor, ELEMENTS_PER_PAGE + 1, null);
+        if (attendanceRequestIds == null || attendanceRequestIds.isEmpty()) {
+            throw new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST);
+        }
+
+        boolean hasNext = attendanceRequestIds.size() > ELEMENTS_PER_PAGE;
+        if (hasNext) {
+            attendanceRequestIds = attendanceRequestIds.subList(0, ELEMENTS_PER_PAGE);
+        }
+
+        List<AttendanceRequestDTO> attendanceRequests =
+                attendanceRequestMapper.findAttendanceRequestsByIds(attendanceRequestIds);
+        Long nextCursor = hasNext ? attendanceRequestIds.get(attendanceRequestIds.size() - 1) : null;
+
+        return new CursorPageDTO<>(attendanceRequests, ELEMENTS_PER_PAGE, nextCursor, hasNext);
+    }
+
+    // 사원별 유형별 신청 내역 페이지 번호 기반 조회
+    private PageDTO<AttendanceRequestDTO> findRequestPage(Long employeeId,
+                                                          Long attendanceRequestTypeId,
+                                                          Integer pageNo,
+                                                          String date) {
+        // 페이지 번호 유효성 검사
+        if(pageNo == null || pageNo < 1) {
             throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
         }
 
-        LocalDate startOfMonth = parsedDate.atDay(1); // 해당 월의 첫 번째 날
+        YearMonth parsedDate = parseMonth(date);
+        DateRange month = DateRange.ofMonth(parsedDate);
 
-        Integer totalElements = attendanceRequestMapper.getTotalReturnRequestsByEmployeeId(employeeId, startOfMonth);
-        if(totalElements == null || totalElements < 1) {
+        // 전체 개수는 월별 신청 건수 카운터에서 조회
+        Integer totalElements = requestCounterService.getMonthlyCount(
+                CounterDomain.ATTENDANCE_REQUEST, employeeId, attendanceRequestTypeId, parsedDate);
+        if(totalElements < 1) {
             throw new CommonException(ErrorCode.NOT_FOUND_COMMUTE);
         }
 
         Integer offset = (pageNo - 1) * ELEMENTS_PER_PAGE;
-        List<AttendanceRequestDTO> attendanceRequests =
-                attendanceRequestMapper.findReturnRequestsByEmployeeId(employeeId, ELEMENTS_PER_PAGE, offset, startOfMonth);
-        if (attendanceRequests == null || attendanceRequests.isEmpty()) {
+        List<Long> attendanceRequestIds = attendanceRequestMapper.findAttendanceRequestIds(
+                employeeId, attendanceRequestTypeId, month, null, ELEMENTS_PER_PAGE, offset);
+        if (attendanceRequestIds == null || attendanceRequestIds.isEmpty()) {
             throw new CommonException(ErrorCode.NOT_FOUND_ATTENDANCE_REQUEST);
         }
 
+        List<AttendanceRequestDTO> attendanceRequests =
+                attendanceRequestMapper.findAttendanceRequestsByIds(attendanceRequestIds);
+
         return new PageDTO<>(attendanceRequests, pageNo, PAGE_SIZE, ELEMENTS_PER_PAGE, totalElements);
     }
 
+    // 날짜 형식 유효성 검사 및 변환 (yyyy-MM)
+    private YearMonth parseMonth(String date) {
+        try {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
+            return YearMonth.parse(date, formatter);
+        } catch (DateTimeParseException e) {
+            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+        }
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.pado.inflow.attendance.query.service;
 
 import com.pado.inflow.attendance.query.dto.CommuteDTO;
+import com.pado.inflow.attendance.query.dto.MonthlyWorkSummaryDTO;
 import com.pado.inflow.attendance.query.dto.ResponseCommuteDTO;
 
 import java.util.List;
@@ -13,6 +14,9 @@ public interface CommuteQueryService {
     // 사원별 초과근무 내역 조회
     List<CommuteDTO> findOvertimesByEmployeeId(Long employeeId, String date);
 
+    // 사원별 월별 근무 요약 조회
+    MonthlyWorkSummaryDTO findMonthlyWorkSummary(Long employeeId, String date);
+
     // 당일 재택 출퇴근 내역 조회
     CommuteDTO findTodayRemoteByEmployeeId(Long employeeId);
 
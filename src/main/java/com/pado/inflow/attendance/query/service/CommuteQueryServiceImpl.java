@@ -1,8 +1,10 @@
 package com.pado.inflow.attendance.query.service;
 
 import com.pado.inflow.attendance.query.dto.CommuteDTO;
+import com.pado.inflow.attendance.query.dto.MonthlyWorkSummaryDTO;
 import com.pado.inflow.attendance.query.dto.ResponseCommuteDTO;
 import com.pado.inflow.attendance.query.repository.CommuteMapper;
+import com.pado.inflow.common.DateRange;
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
@@ -10,7 +12,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -40,9 +41,9 @@ public class CommuteQueryServiceImpl implements CommuteQueryService {
             throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
         }
 
-        LocalDate startOfMonth = parsedDate.atDay(1); // 해당 월의 첫 번째 날
+        DateRange month = DateRange.ofMonth(parsedDate); // 해당 월의 첫날 ~ 다음 달 첫날
 
-        List<CommuteDTO> commutes = commuteMapper.findCommutesByEmployeeId(employeeId, startOfMonth);
+        List<CommuteDTO> commutes = commuteMapper.findCommutesByEmployeeId(employeeId, month);
         if (commutes == null || commutes.isEmpty()) {
             throw new CommonException(ErrorCode.NOT_FOUND_COMMUTE);
         }
@@ -108,25 +109,45 @@ public class CommuteQueryServiceImpl implements CommuteQueryService {
             throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
         }
 
-        LocalDate startOfMonth = parsedDate.atDay(1); // 해당 월의 첫 번째 날
+        DateRange month = DateRange.ofMonth(parsedDate); // 해당 월의 첫날 ~ 다음 달 첫날
 
-        List<CommuteDTO> overtimes = commuteMapper.findOvertimesByEmployeeId(employeeId, startOfMonth);
+        List<CommuteDTO> overtimes = commuteMapper.findOvertimesByEmployeeId(employeeId, month);
         if (overtimes == null || overtimes.isEmpty()) {
             throw new CommonException(ErrorCode.NOT_FOUND_COMMUTE);
         }
         return overtimes;
     }
 
+    // 사원별 월별 근무 요약 조회 (한 달치 출퇴근 내역 대신 요약 한 행)
+    @Override
+    public MonthlyWorkSummaryDTO findMonthlyWorkSummary(Long employeeId, String date) {
+        // 날짜 형식 유효성 검사 및 변환 (yyyy-MM)
+        YearMonth parsedDate;
+        try {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
+            parsedDate = YearMonth.parse(date, formatter);
+        } catch (DateTimeParseException e) {
+            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+        }
+
+        MonthlyWorkSummaryDTO summary = commuteMapper.findMonthlyWorkSummary(employeeId,
+                parsedDate.getYear() * 100 + parsedDate.getMonthValue());
+        if (summary == null) {
+            throw new CommonException(ErrorCode.NOT_FOUND_COMMUTE);
+        }
+        return summary;
+    }
+
     // 당일 재택 출퇴근 내역 조회
     @Override
     public CommuteDTO findTodayRemoteByEmployeeId(Long employeeId) {
-        return commuteMapper.findTodayRemoteByEmployeeId(employeeId);
+        return commuteMapper.findTodayRemoteByEmployeeId(employeeId, DateRange.today());
     }
 
     // 당일 출퇴근 내역 조회
     @Override
     public CommuteDTO findTodayCommuteByEmployeeId(Long employeeId) {
-        return commuteMapper.findTodayCommuteByEmployeeId(employeeId);
+        return commuteMapper.findTodayCommuteByEmployeeId(employeeId, DateRange.today());
     }
 
 }
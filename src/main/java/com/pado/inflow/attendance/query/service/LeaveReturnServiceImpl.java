@@ -3,6 +3,7 @@ package com.pado.inflow.attendance.query.service;
 import com.pado.inflow.attendance.query.dto.LeaveReturnDTO;
 import com.pado.inflow.attendance.query.dto.PageDTO;
 import com.pado.inflow.attendance.query.repository.LeaveReturnMapper;
+import com.pado.inflow.common.DateRange;
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,7 +49,7 @@ public class LeaveReturnServiceImpl implements LeaveReturnService {
     // 당일기준 휴직 여부 검사
     @Override
     public Boolean isLeaveNow(Long employeeId) {
-        return leaveReturnMapper.findTodayLeaveByEmployeeId(employeeId) != null;
+        return leaveReturnMapper.findTodayLeaveByEmployeeId(employeeId, DateRange.today()) != null;
     }
 
 }
@@ -0,0 +1,74 @@
+package com.pado.inflow.common;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+
+/* 설명. 매퍼에 넘기는 반열린 기간 [from, to)
+ *  YEAR(col) = ?, MONTH(col) = ?, DATE(col) = CURRENT_DATE 처럼 컬럼을 함수로 감싸면
+ *  인덱스를 탈 수 없으므로 매퍼에서는 항상 아래 형태로 비교한다.
+ *      col >= #{ range.from } AND col < #{ range.to }
+ *  기간과 겹치는 행(시작~종료 컬럼)은 아래처럼 비교한다.
+ *      start_col < #{ range.to } AND end_col >= #{ range.from }
+ */
+@Getter
+public final class DateRange {
+
+    private final LocalDateTime from;   // 포함
+    private final LocalDateTime to;     // 미포함
+
+    private DateRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("기간의 시작은 끝보다 앞서야 합니다: " + from + " ~ " + to);
+        }
+        this.from = from;
+        this.to = to;
+    }
+
+    public static DateRange of(LocalDateTime from, LocalDateTime to) {
+        return new DateRange(from, to);
+    }
+
+    // 설명. 하루 [day 00:00, 다음날 00:00)
+    public static DateRange ofDay(LocalDate day) {
+        return ofDays(day, day);
+    }
+
+    // 설명. 첫날부터 마지막날까지(마지막날 포함) [firstDay 00:00, lastDay 다음날 00:00)
+    public static DateRange ofDays(LocalDate firstDay, LocalDate lastDay) {
+        return new DateRange(firstDay.atStartOfDay(), lastDay.plusDays(1).atStartOfDay());
+    }
+
+    public static DateRange today() {
+        return ofDay(LocalDate.now());
+    }
+
+    public static DateRange ofMonth(YearMonth month) {
+        return ofMonths(month, month);
+    }
+
+    public static DateRange ofMonth(int year, int month) {
+        return ofMonth(YearMonth.of(year, month));
+    }
+
+    // 설명. 시작 월부터 마지막 월까지(마지막 월 포함)
+    public static DateRange ofMonths(YearMonth firstMonth, YearMonth lastMonth) {
+        return new DateRange(firstMonth.atDay(1).atStartOfDay(), lastMonth.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    public static DateRange ofYear(int year) {
+        return new DateRange(Year.of(year).atDay(1).atStartOfDay(), Year.of(year + 1).atDay(1).atStartOfDay());
+    }
+
+    public boolean contains(LocalDateTime dateTime) {
+        return !dateTime.isBefore(from) && dateTime.isBefore(to);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + from + ", " + to + ")";
+    }
+}
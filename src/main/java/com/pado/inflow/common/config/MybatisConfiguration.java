@@ -0,0 +1,10 @@
+package com.pado.inflow.common.config;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration("commonMybatisConfiguration")
+@MapperScan(basePackages = "com.pado.inflow.common.registry", annotationClass = Mapper.class)
+public class MybatisConfiguration {
+}
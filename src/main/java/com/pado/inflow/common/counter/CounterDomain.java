@@ -0,0 +1,8 @@
+package com.pado.inflow.common.counter;
+
+// 설명. 신청 건수 카운터를 관리하는 내역 종류
+public enum CounterDomain {
+    ATTENDANCE_REQUEST, // 근태 신청 (유형 ID 별)
+    VACATION_REQUEST,   // 휴가 신청
+    PAYMENT             // 급여 지급
+}
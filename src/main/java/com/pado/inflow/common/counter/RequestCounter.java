@@ -0,0 +1,22 @@
+package com.pado.inflow.common.counter;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/* 설명. 사원별 월별 신청 건수
+ *  (employee_id, domain, type_id, yyyymm) 기본키로 목록 화면의 전체 건수를 COUNT(*) 없이 조회한다.
+ *  - type_id : 근태 신청은 attendance_request_type_id, 유형이 없는 내역은 0
+ *  - yyyymm  : 생성(지급) 시각의 연월 (ex. 202411)
+ *  신청 등록과 같은 트랜잭션에서 증가시키고, RequestCounterService의 정기 보정으로 어긋난 값을 바로잡는다.
+ */
+@Entity
+@Table(name = "request_counter")
+@Data
+public class RequestCounter {
+
+    @EmbeddedId
+    private RequestCounterId id;
+
+    @Column(name = "request_count", nullable = false)
+    private Integer requestCount;
+}
@@ -0,0 +1,31 @@
+package com.pado.inflow.common.counter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestCounterId implements Serializable {
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "domain", nullable = false, length = 30)
+    @Enumerated(EnumType.STRING)
+    private CounterDomain domain;
+
+    @Column(name = "type_id", nullable = false)
+    private Long typeId;
+
+    @Column(name = "yyyymm", nullable = false)
+    private Integer yyyymm;
+}
@@ -0,0 +1,73 @@
+package com.pado.inflow.common.counter;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface RequestCounterRepository extends JpaRepository<RequestCounter, RequestCounterId> {
+
+    // 건수 1 증가 (없으면 1로 생성)
+    @Modifying
+    @Query(value = "INSERT INTO request_counter (employee_id, domain, type_id, yyyymm, request_count) " +
+            "VALUES (:employeeId, :domain, :typeId, :yyyymm, 1) " +
+            "ON DUPLICATE KEY UPDATE request_count = request_count + 1", nativeQuery = true)
+    int increment(@Param("employeeId") Long employeeId,
+                  @Param("domain") String domain,
+                  @Param("typeId") Long typeId,
+                  @Param("yyyymm") Integer yyyymm);
+
+    // 전체 기간 건수 (사원, 종류, 유형 기준 기본키 범위 조회)
+    @Query(value = "SELECT COALESCE(SUM(request_count), 0) FROM request_counter " +
+            "WHERE employee_id = :employeeId AND domain = :domain AND type_id = :typeId", nativeQuery = true)
+    int sumCount(@Param("employeeId") Long employeeId,
+                 @Param("domain") String domain,
+                 @Param("typeId") Long typeId);
+
+    // 기준 연월 이전 건수 (보정 구간 밖의 확정된 카운터만 합산)
+    @Query(value = "SELECT COALESCE(SUM(request_count), 0) FROM request_counter " +
+            "WHERE employee_id = :employeeId AND domain = :domain AND type_id = :typeId " +
+            "AND yyyymm < :beforeYyyymm", nativeQuery = true)
+    int sumCountBefore(@Param("employeeId") Long employeeId,
+                       @Param("domain") String domain,
+                       @Param("typeId") Long typeId,
+                       @Param("beforeYyyymm") Integer beforeYyyymm);
+
+    /* 설명. 아래는 정기 보정용
+     *  기준 연월 이후의 카운터를 지우고 원본 테이블에서 다시 집계한다.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM request_counter WHERE domain = :domain AND yyyymm >= :fromYyyymm", nativeQuery = true)
+    int deleteSince(@Param("domain") String domain,
+                    @Param("fromYyyymm") Integer fromYyyymm);
+
+    @Modifying
+    @Query(value = "INSERT INTO request_counter (employee_id, domain, type_id, yyyymm, request_count) " +
+            "SELECT employee_id, 'ATTENDANCE_REQUEST', attendance_request_type_id, " +
+            "       EXTRACT(YEAR_MONTH FROM created_at), COUNT(*) " +
+            "  FROM attendance_request " +
+            " WHERE created_at >= :from " +
+            " GROUP BY employee_id, attendance_request_type_id, EXTRACT(YEAR_MONTH FROM created_at) " +
+            "ON DUPLICATE KEY UPDATE request_count = VALUES(request_count)", nativeQuery = true)
+    int recountAttendanceRequests(@Param("from") LocalDateTime from);
+
+    @Modifying
+    @Query(value = "INSERT INTO request_counter (employee_id, domain, type_id, yyyymm, request_count) " +
+            "SELECT employee_id, 'VACATION_REQUEST', 0, EXTRACT(YEAR_MONTH FROM created_at), COUNT(*) " +
+            "  FROM vacation_request " +
+            " WHERE created_at >= :from " +
+            " GROUP BY employee_id, EXTRACT(YEAR_MONTH FROM created_at) " +
+            "ON DUPLICATE KEY UPDATE request_count = VALUES(request_count)", nativeQuery = true)
+    int recountVacationRequests(@Param("from") LocalDateTime from);
+
+    @Modifying
+    @Query(value = "INSERT INTO request_counter (employee_id, domain, type_id, yyyymm, request_count) " +
+            "SELECT employee_id, 'PAYMENT', 0, EXTRACT(YEAR_MONTH FROM paid_at), COUNT(*) " +
+            "  FROM payment " +
+            " WHERE paid_at >= :from " +
+            " GROUP BY employee_id, EXTRACT(YEAR_MONTH FROM paid_at) " +
+            "ON DUPLICATE KEY UPDATE request_count = VALUES(request_count)", nativeQuery = true)
+    int recountPayments(@Param("from") LocalDateTime from);
+}
@@ -0,0 +1,98 @@
+package com.pado.inflow.common.counter;
+
+import com.pado.inflow.common.schedule.SchedulerLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/* 설명. 사원별 월별 신청 건수 카운터
+ *  - 신청을 등록하는 커맨드 서비스는 같은 트랜잭션 안에서 increment를 호출한다.
+ *  - 목록 조회는 COUNT(*) 대신 기본키 조회(getMonthlyCount, getTotalCount)로 전체 건수를 얻는다.
+ *  - 장애로 어긋난 값은 reconcile이 최근 몇 달치(보정 구간)를 원본 기준으로 다시 집계해 바로잡는다.
+ *  - 애플리케이션 밖에서 적재되는 내역(급여)은 increment가 없으므로, 보정 구간 이전 카운터(getTotalCountBefore)에
+ *    보정 구간의 건수를 원본에서 직접 세어 더한다. (보정 구간 시작 이후만 세므로 인덱스 범위 조회로 끝난다)
+ */
+@Slf4j
+@Service
+public class RequestCounterService {
+
+    // 설명. 유형 구분이 없는 내역의 type_id
+    public static final Long NO_TYPE = 0L;
+
+    private final RequestCounterRepository requestCounterRepository;
+    private final int reconcileMonths;
+    private final SchedulerLock schedulerLock;
+
+    @Autowired
+    public RequestCounterService(RequestCounterRepository requestCounterRepository,
+                                 @Value("${request-counter.reconcile-months:3}") int reconcileMonths,
+                                 SchedulerLock schedulerLock) {
+        this.requestCounterRepository = requestCounterRepository;
+        this.reconcileMonths = reconcileMonths;
+        this.schedulerLock = schedulerLock;
+    }
+
+    // 설명. 호출한 쪽 트랜잭션에 참여해 신청 등록과 함께 커밋/롤백된다.
+    @Transactional
+    public void increment(CounterDomain domain, Long employeeId, Long typeId, LocalDateTime createdAt) {
+        requestCounterRepository.increment(employeeId, domain.name(), typeOf(typeId), yyyymm(YearMonth.from(createdAt)));
+    }
+
+    // 해당 월의 건수
+    public int getMonthlyCount(CounterDomain domain, Long employeeId, Long typeId, YearMonth month) {
+        return requestCounterRepository.findById(new RequestCounterId(employeeId, domain, typeOf(typeId), yyyymm(month)))
+                .map(RequestCounter::getRequestCount)
+                .orElse(0);
+    }
+
+    // 전체 기간 건수
+    public int getTotalCount(CounterDomain domain, Long employeeId, Long typeId) {
+        return requestCounterRepository.sumCount(employeeId, domain.name(), typeOf(typeId));
+    }
+
+    // 보정 구간 시작 월 이전까지의 건수
+    public int getTotalCountBefore(CounterDomain domain, Long employeeId, Long typeId, YearMonth month) {
+        return requestCounterRepository.sumCountBefore(employeeId, domain.name(), typeOf(typeId), yyyymm(month));
+    }
+
+    // 설명. 보정 구간(이번 달 포함 최근 reconcileMonths 개월)의 시작 월
+    public YearMonth getReconcileFromMonth() {
+        return YearMonth.now().minusMonths(Math.max(reconcileMonths, 1) - 1L);
+    }
+
+    // 설명. 매일 새벽 최근 reconcileMonths 개월(이번 달 포함)의 카운터를 원본 테이블 기준으로 다시 집계
+    @Scheduled(cron = "${request-counter.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        // 여러 서버 중 임대를 잡은 한 서버만 실행
+        schedulerLock.runExclusivelyInTransaction("requestCounterReconcile", this::recount);
+    }
+
+    private void recount() {
+        YearMonth fromMonth = getReconcileFromMonth();
+        LocalDateTime from = fromMonth.atDay(1).atStartOfDay();
+
+        for (CounterDomain domain : CounterDomain.values()) {
+            requestCounterRepository.deleteSince(domain.name(), yyyymm(fromMonth));
+        }
+        int attendanceRequests = requestCounterRepository.recountAttendanceRequests(from);
+        int vacationRequests = requestCounterRepository.recountVacationRequests(from);
+        int payments = requestCounterRepository.recountPayments(from);
+
+        log.info("신청 건수 카운터 보정 완료: {} 이후 (근태 신청 {}건, 휴가 신청 {}건, 급여 {}건의 카운터 재집계)",
+                fromMonth, attendanceRequests, vacationRequests, payments);
+    }
+
+    private static Long typeOf(Long typeId) {
+        return typeId == null ? NO_TYPE : typeId;
+    }
+
+    private static Integer yyyymm(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+}
@@ -137,7 +137,10 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(50000, HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류입니다"),
     PASSWORD_ENCODING_FAILED(50001, HttpStatus.INTERNAL_SERVER_ERROR, "비밀번호 암호화 실패"),
     SmsSendingException(50002, HttpStatus.INTERNAL_SERVER_ERROR, "SMS 전송 실패"),
-    MAX_UPLOAD_SIZE_EXCEEDED(50003, HttpStatus.INTERNAL_SERVER_ERROR, "업로드 실패: 파일의 크기가 너무 큽니다.");
+    MAX_UPLOAD_SIZE_EXCEEDED(50003, HttpStatus.INTERNAL_SERVER_ERROR, "업로드 실패: 파일의 크기가 너무 큽니다."),
+
+    // 503: 일시적 과부하 (Service Unavailable)
+    LOGIN_OVERLOADED(50300, HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요."); // 로그인 검증 대기열 초과
 
     private final Integer code;
     private final HttpStatus httpStatus;
@@ -0,0 +1,14 @@
+package com.pado.inflow.common.registry;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 설명. 코드(문자열)로 식별하는 코드 테이블 한 행 (직책, 직위, 직무, 부서, 발령 항목)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ReferenceCodeDTO {
+    private String code;
+    private String name;
+}
@@ -0,0 +1,125 @@
+package com.pado.inflow.common.registry;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/* 설명. 코드 테이블 불변 스냅샷
+ *  한 번 만들어진 뒤에는 바뀌지 않으므로 여러 스레드가 락 없이 읽는다.
+ *  변경은 ReferenceDataRegistry가 새 스냅샷을 만들어 통째로 교체하는 방식으로만 반영된다.
+ */
+public final class ReferenceData {
+
+    // 설명. 관리자 직위 코드 (PositionRepository.isManagerPosition과 같은 기준)
+    public static final String MANAGER_POSITION_CODE = "P005";
+
+    public record Item(Long id, String name, Integer amount) {
+    }
+
+    @Getter
+    private final long version;
+
+    private final Map<Long, Item> attendanceRequestTypes;
+    private final Map<Long, Item> vacationTypes;
+    private final Map<String, String> roles;
+    private final Map<String, String> positions;
+    private final Map<String, String> duties;
+    private final Map<String, String> departments;
+    private final Map<String, String> appointmentItems;
+    private final List<Item> irregularAllowances;
+    private final List<Item> nonTaxables;
+
+    ReferenceData(long version,
+                  List<ReferenceItemDTO> attendanceRequestTypes,
+                  List<ReferenceItemDTO> vacationTypes,
+                  List<ReferenceCodeDTO> roles,
+                  List<ReferenceCodeDTO> positions,
+                  List<ReferenceCodeDTO> duties,
+                  List<ReferenceCodeDTO> departments,
+                  List<ReferenceCodeDTO> appointmentItems,
+                  List<ReferenceItemDTO> irregularAllowances,
+                  List<ReferenceItemDTO> nonTaxables) {
+        this.version = version;
+        this.attendanceRequestTypes = itemsById(attendanceRequestTypes);
+        this.vacationTypes = itemsById(vacationTypes);
+        this.roles = namesByCode(roles);
+        this.positions = namesByCode(positions);
+        this.duties = namesByCode(duties);
+        this.departments = namesByCode(departments);
+        this.appointmentItems = namesByCode(appointmentItems);
+        this.irregularAllowances = List.copyOf(itemsById(irregularAllowances).values());
+        this.nonTaxables = List.copyOf(itemsById(nonTaxables).values());
+    }
+
+    public Optional<String> findAttendanceRequestTypeName(Long attendanceRequestTypeId) {
+        return Optional.ofNullable(attendanceRequestTypes.get(attendanceRequestTypeId)).map(Item::name);
+    }
+
+    public boolean hasVacationType(Long vacationTypeId) {
+        return vacationTypes.containsKey(vacationTypeId);
+    }
+
+    public Optional<String> findRoleName(String roleCode) {
+        return Optional.ofNullable(roles.get(roleCode));
+    }
+
+    public boolean hasPosition(String positionCode) {
+        return positions.containsKey(positionCode);
+    }
+
+    public boolean isManagerPosition(String positionCode) {
+        return MANAGER_POSITION_CODE.equals(positionCode) && positions.containsKey(positionCode);
+    }
+
+    // 설명. 아래 코드 목록은 코드 오름차순
+    public List<String> getRoleCodes() {
+        return List.copyOf(roles.keySet());
+    }
+
+    public List<String> getPositionCodes() {
+        return List.copyOf(positions.keySet());
+    }
+
+    public List<String> getDutyCodes() {
+        return List.copyOf(duties.keySet());
+    }
+
+    public List<String> getDepartmentCodes() {
+        return List.copyOf(departments.keySet());
+    }
+
+    public List<String> getAppointmentItemCodes() {
+        return List.copyOf(appointmentItems.keySet());
+    }
+
+    // 설명. 비정기 수당/비과세 항목 (ID 오름차순)
+    public List<Item> getIrregularAllowances() {
+        return irregularAllowances;
+    }
+
+    public List<Item> getNonTaxables() {
+        return nonTaxables;
+    }
+
+    private static Map<Long, Item> itemsById(List<ReferenceItemDTO> rows) {
+        return toMap(rows, ReferenceItemDTO::getId, row -> new Item(row.getId(), row.getName(), row.getAmount()));
+    }
+
+    private static Map<String, String> namesByCode(List<ReferenceCodeDTO> rows) {
+        return toMap(rows, ReferenceCodeDTO::getCode, ReferenceCodeDTO::getName);
+    }
+
+    // 설명. 조회 순서를 유지한 읽기 전용 맵
+    private static <R, K, V> Map<K, V> toMap(List<R> rows, Function<R, K> key, Function<R, V> value) {
+        Map<K, V> map = new LinkedHashMap<>(Math.max(16, rows.size() * 2));
+        for (R row : rows) {
+            map.put(key.apply(row), value.apply(row));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
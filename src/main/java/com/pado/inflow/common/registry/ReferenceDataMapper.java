@@ -0,0 +1,18 @@
+package com.pado.inflow.common.registry;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+@Mapper
+public interface ReferenceDataMapper {
+    List<ReferenceItemDTO> getAttendanceRequestTypes();
+    List<ReferenceItemDTO> getVacationTypes();
+    List<ReferenceCodeDTO> getRoles();
+    List<ReferenceCodeDTO> getPositions();
+    List<ReferenceCodeDTO> getDuties();
+    List<ReferenceCodeDTO> getDepartments();
+    List<ReferenceCodeDTO> getAppointmentItems();
+    List<ReferenceItemDTO> getIrregularAllowances();
+    List<ReferenceItemDTO> getNonTaxables();
+}
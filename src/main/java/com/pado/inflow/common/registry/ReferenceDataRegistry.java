@@ -0,0 +1,118 @@
+package com.pado.inflow.common.registry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/* 설명. 코드 테이블(근태 신청 유형, 휴가 종류, 직책, 직위, 직무, 부서, 발령 항목, 비정기 수당, 비과세 항목) 레지스트리
+ *  커맨드 서비스가 매 요청마다 작은 코드 테이블을 조회하지 않도록 전체를 불변 스냅샷(ReferenceData)으로 메모리에 두고
+ *  새 스냅샷을 만들어 한 번에 교체하는 방식으로만 갱신한다. (읽는 쪽은 락 없이 항상 일관된 버전을 본다)
+ *  - 코드 테이블을 변경하는 커맨드 서비스는 refreshAfterCommit을 호출해 커밋 직후 다시 읽는다.
+ *  - 다른 서버에서의 변경이나 DB 직접 수정은 주기적인 갱신(reference-data.refresh-interval)으로 따라잡는다.
+ *  - 스냅샷에 없는 코드를 찾으면 최근에 갱신하지 않았을 때만 한 번 다시 읽은 뒤 판단한다.
+ */
+@Slf4j
+@Component
+public class ReferenceDataRegistry {
+
+    private final ReferenceDataMapper referenceDataMapper;
+    private final long missRefreshIntervalMillis;
+
+    private volatile ReferenceData current;
+    private volatile long refreshedAt;
+
+    @Autowired
+    public ReferenceDataRegistry(ReferenceDataMapper referenceDataMapper,
+                                 @Value("${reference-data.miss-refresh-interval:5000}") long missRefreshIntervalMillis) {
+        this.referenceDataMapper = referenceDataMapper;
+        this.missRefreshIntervalMillis = missRefreshIntervalMillis;
+    }
+
+    // 설명. 현재 스냅샷 (아직 없으면 바로 구성)
+    public ReferenceData current() {
+        ReferenceData data = current;
+        return data != null ? data : refresh();
+    }
+
+    // 설명. 기동 직후와 이후 주기적으로 다시 구성
+    @Scheduled(fixedDelayString = "${reference-data.refresh-interval:600000}")
+    public void refreshPeriodically() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("코드 테이블 스냅샷 갱신 실패 (기존 스냅샷 유지)", e);
+        }
+    }
+
+    // 설명. 코드 테이블을 변경한 트랜잭션이 커밋된 뒤 다시 구성 (트랜잭션 밖이면 바로)
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshPeriodically();
+                }
+            });
+            return;
+        }
+        refreshPeriodically();
+    }
+
+    // 설명. 전체 코드 테이블을 읽어 새 스냅샷으로 교체
+    public synchronized ReferenceData refresh() {
+        ReferenceData previous = current;
+        ReferenceData rebuilt = new ReferenceData(previous == null ? 1L : previous.getVersion() + 1,
+                referenceDataMapper.getAttendanceRequestTypes(),
+                referenceDataMapper.getVacationTypes(),
+                referenceDataMapper.getRoles(),
+                referenceDataMapper.getPositions(),
+                referenceDataMapper.getDuties(),
+                referenceDataMapper.getDepartments(),
+                referenceDataMapper.getAppointmentItems(),
+                referenceDataMapper.getIrregularAllowances(),
+                referenceDataMapper.getNonTaxables());
+        current = rebuilt;
+        refreshedAt = System.currentTimeMillis();
+        log.debug("코드 테이블 스냅샷 갱신: version = {}", rebuilt.getVersion());
+        return rebuilt;
+    }
+
+    public Optional<String> findAttendanceRequestTypeName(Long attendanceRequestTypeId) {
+        return lookup(data -> data.findAttendanceRequestTypeName(attendanceRequestTypeId));
+    }
+
+    public boolean hasVacationType(Long vacationTypeId) {
+        return lookup(data -> Optional.ofNullable(vacationTypeId).filter(data::hasVacationType)).isPresent();
+    }
+
+    public Optional<String> findRoleName(String roleCode) {
+        return lookup(data -> data.findRoleName(roleCode));
+    }
+
+    public boolean isManagerPosition(String positionCode) {
+        return lookup(data -> Optional.ofNullable(positionCode).filter(data::hasPosition))
+                .filter(ReferenceData.MANAGER_POSITION_CODE::equals)
+                .isPresent();
+    }
+
+    public List<ReferenceData.Item> getIrregularAllowances() {
+        return current().getIrregularAllowances();
+    }
+
+    // 설명. 스냅샷에 없으면 최근 갱신 이후 일정 시간이 지났을 때만 다시 읽고 한 번 더 찾는다.
+    private <T> Optional<T> lookup(Function<ReferenceData, Optional<T>> finder) {
+        Optional<T> found = finder.apply(current());
+        if (found.isPresent() || System.currentTimeMillis() - refreshedAt < missRefreshIntervalMillis) {
+            return found;
+        }
+        return finder.apply(refresh());
+    }
+}
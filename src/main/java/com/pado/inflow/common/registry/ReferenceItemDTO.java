@@ -0,0 +1,15 @@
+package com.pado.inflow.common.registry;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 설명. ID로 식별하는 코드 테이블 한 행 (근태 신청 유형, 휴가 종류, 비정기 수당, 비과세 항목), 금액이 없는 테이블은 amount가 NULL
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ReferenceItemDTO {
+    private Long id;
+    private String name;
+    private Integer amount;
+}
@@ -0,0 +1,82 @@
+package com.pado.inflow.common.schedule;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/* 설명. 스케줄 작업 임대(scheduler_lease) 저장소
+ *  모든 변경은 조건부 UPDATE 한 문장이라, 여러 서버가 동시에 시도해도 영향받은 행이 1인 서버만 성공한다.
+ *  스케줄 작업이 자기 트랜잭션 안에서 임대를 잡더라도 바로 커밋되도록 항상 새 트랜잭션으로 실행한다.
+ */
+@Repository
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public class SchedulerLeaseRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SchedulerLeaseRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 설명. 만료된 임대를 잡는다. (처음 쓰는 작업이면 만료된 상태로 행을 먼저 만든다)
+    public boolean tryAcquire(String leaseName, String owner, long ttlMillis) {
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO scheduler_lease (lease_name, lease_until) VALUES (:leaseName, NOW(3))",
+                new MapSqlParameterSource("leaseName", leaseName));
+        return jdbcTemplate.update(
+                "UPDATE scheduler_lease " +
+                "   SET owner = :owner, acquired_at = NOW(3), heartbeat_at = NOW(3), released_at = NULL, " +
+                "       lease_until = NOW(3) + INTERVAL :ttlMicros MICROSECOND " +
+                " WHERE lease_name = :leaseName AND lease_until <= NOW(3)",
+                params(leaseName, owner).addValue("ttlMicros", ttlMillis * 1000)) == 1;
+    }
+
+    // 설명. 정상 종료 없이 만료된 임대(실행 중이던 서버가 죽은 경우)만 이어받는다.
+    public boolean takeOver(String leaseName, String owner, long ttlMillis) {
+        return jdbcTemplate.update(
+                "UPDATE scheduler_lease " +
+                "   SET owner = :owner, acquired_at = NOW(3), heartbeat_at = NOW(3), " +
+                "       lease_until = NOW(3) + INTERVAL :ttlMicros MICROSECOND " +
+                " WHERE lease_name = :leaseName AND lease_until <= NOW(3) AND released_at IS NULL",
+                params(leaseName, owner).addValue("ttlMicros", ttlMillis * 1000)) == 1;
+    }
+
+    // 설명. 실행 중인 임대 연장 (다른 서버가 이미 가져갔으면 false)
+    public boolean heartbeat(String leaseName, String owner, long ttlMillis) {
+        return jdbcTemplate.update(
+                "UPDATE scheduler_lease " +
+                "   SET heartbeat_at = NOW(3), lease_until = NOW(3) + INTERVAL :ttlMicros MICROSECOND " +
+                " WHERE lease_name = :leaseName AND owner = :owner AND released_at IS NULL",
+                params(leaseName, owner).addValue("ttlMicros", ttlMillis * 1000)) == 1;
+    }
+
+    /* 설명. 정상 종료 기록
+     *  다른 서버의 같은 시각 실행이 조금 늦게 도착해도 다시 실행하지 않도록, 임대는 잡은 시각부터 minHold까지 유지한다.
+     */
+    public void release(String leaseName, String owner, long minHoldMillis) {
+        jdbcTemplate.update(
+                "UPDATE scheduler_lease " +
+                "   SET released_at = NOW(3), " +
+                "       lease_until = GREATEST(NOW(3), acquired_at + INTERVAL :minHoldMicros MICROSECOND) " +
+                " WHERE lease_name = :leaseName AND owner = :owner",
+                params(leaseName, owner).addValue("minHoldMicros", minHoldMillis * 1000));
+    }
+
+    // 설명. 마지막 실행이 정상 종료됐는지 여부
+    public boolean isReleased(String leaseName) {
+        Integer released = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM scheduler_lease WHERE lease_name = :leaseName AND released_at IS NOT NULL",
+                new MapSqlParameterSource("leaseName", leaseName), Integer.class);
+        return released != null && released > 0;
+    }
+
+    private static MapSqlParameterSource params(String leaseName, String owner) {
+        return new MapSqlParameterSource()
+                .addValue("leaseName", leaseName)
+                .addValue("owner", owner);
+    }
+}
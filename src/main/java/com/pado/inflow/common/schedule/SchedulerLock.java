@@ -0,0 +1,170 @@
+package com.pado.inflow.common.schedule;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/* 설명. 여러 서버에서 같은 스케줄이 동시에 실행될 때 한 서버만 실행하게 하는 DB 임대 잠금
+ *  - 임대를 잡은 서버만 작업을 실행하고, 실행 중에는 ttl/3마다 heartbeat로 임대를 연장한다.
+ *  - 임대를 못 잡은 서버는 작업을 건너뛰되, 임대가 정상 종료 없이 만료되면(실행 서버가 죽으면) 이어받아 실행한다.
+ *  - 서버마다 로컬 캐시를 갱신하는 스케줄(스냅샷, 폐기 필터 동기화 등)에는 쓰지 않는다.
+ *  heartbeat와 이어받은 작업은 스케줄러 스레드가 아니라 이 잠금의 전용 스레드에서 실행된다.
+ *  이어받은 작업은 heartbeat/감시 스레드(leaseScheduler)와 분리된 takeoverExecutor에서 실행해,
+ *  오래 걸리는 작업이 자기 임대나 다른 임대의 heartbeat를 밀어내 임대를 잃지 않게 한다.
+ *  정상 종료 후에도 임대는 잡은 시각부터 min-hold 동안 유지되므로, min-hold는 가장 짧은 실행 주기보다 짧아야 한다.
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final long ttlMillis;
+    private final long minHoldMillis;
+    private final ThreadPoolTaskScheduler leaseScheduler;
+    private final ThreadPoolTaskExecutor takeoverExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Getter
+    private final String owner;
+
+    @Autowired
+    public SchedulerLock(SchedulerLeaseRepository schedulerLeaseRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${scheduler.lease.ttl:60000}") long ttlMillis,
+                         @Value("${scheduler.lease.min-hold:60000}") long minHoldMillis,
+                         @Value("${scheduler.lease.pool-size:4}") int poolSize,
+                         @Value("${scheduler.lease.takeover-pool-size:2}") int takeoverPoolSize) {
+        this(schedulerLeaseRepository, transactionManager, ttlMillis, minHoldMillis, poolSize, takeoverPoolSize,
+                hostName() + "-" + UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    SchedulerLock(SchedulerLeaseRepository schedulerLeaseRepository,
+                  PlatformTransactionManager transactionManager,
+                  long ttlMillis, long minHoldMillis, int poolSize, int takeoverPoolSize, String owner) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.ttlMillis = ttlMillis;
+        this.minHoldMillis = minHoldMillis;
+        this.owner = owner;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.leaseScheduler = new ThreadPoolTaskScheduler();
+        leaseScheduler.setPoolSize(Math.max(poolSize, 2));
+        leaseScheduler.setThreadNamePrefix("scheduler-lease-");
+        leaseScheduler.initialize();
+
+        this.takeoverExecutor = new ThreadPoolTaskExecutor();
+        takeoverExecutor.setCorePoolSize(Math.max(takeoverPoolSize, 1));
+        takeoverExecutor.setMaxPoolSize(Math.max(takeoverPoolSize, 1));
+        takeoverExecutor.setThreadNamePrefix("scheduler-takeover-");
+        takeoverExecutor.initialize();
+    }
+
+    /* 설명. 임대를 잡으면 작업을 실행하고 true, 다른 서버가 실행 중이면 건너뛰고 false
+     *  건너뛴 경우 실행 중인 서버가 정상 종료할 때까지 지켜보다가, 죽은 것으로 보이면 이어받아 실행한다.
+     */
+    public boolean runExclusively(String leaseName, Runnable task) {
+        if (!schedulerLeaseRepository.tryAcquire(leaseName, owner, ttlMillis)) {
+            log.debug("{} 임대를 다른 서버가 보유 중이어서 실행하지 않습니다.", leaseName);
+            watch(leaseName, task);
+            return false;
+        }
+        runHolding(leaseName, task);
+        return true;
+    }
+
+    /* 설명. 작업을 한 트랜잭션으로 실행하는 runExclusively
+     *  이어받은 작업은 임대 전용 스레드에서 실행되므로, 스케줄 메서드의 @Transactional 대신 이것을 쓴다.
+     *  임대는 트랜잭션이 커밋된 뒤에 해제된다.
+     */
+    public boolean runExclusivelyInTransaction(String leaseName, Runnable task) {
+        return runExclusively(leaseName, () -> transactionTemplate.executeWithoutResult(status -> task.run()));
+    }
+
+    private void runHolding(String leaseName, Runnable task) {
+        ScheduledFuture<?> heartbeat = leaseScheduler.scheduleWithFixedDelay(() -> {
+            if (!schedulerLeaseRepository.heartbeat(leaseName, owner, ttlMillis)) {
+                log.warn("{} 임대를 잃었습니다. 다른 서버가 이어서 실행했을 수 있습니다. owner = {}", leaseName, owner);
+            }
+        }, Instant.now().plus(heartbeatInterval()), heartbeatInterval());
+        try {
+            task.run();
+        } finally {
+            heartbeat.cancel(false);
+            schedulerLeaseRepository.release(leaseName, owner, minHoldMillis);
+        }
+    }
+
+    /* 설명. 실행 중인 서버가 정상 종료하면 그만 지켜보고, 임대가 그냥 만료되면 이어받아 실행한다.
+     *  감시는 leaseScheduler에서, 이어받은 작업은 takeoverExecutor에서 실행한다.
+     */
+    private void watch(String leaseName, Runnable task) {
+        Duration interval = heartbeatInterval();
+        AtomicReference<ScheduledFuture<?>> watcher = new AtomicReference<>();
+        watcher.set(leaseScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                if (schedulerLeaseRepository.takeOver(leaseName, owner, ttlMillis)) {
+                    cancel(watcher);
+                    log.warn("{} 임대가 정상 종료 없이 만료되어 이어받아 실행합니다. owner = {}", leaseName, owner);
+                    takeoverExecutor.execute(() -> runTakenOver(leaseName, task));
+                } else if (schedulerLeaseRepository.isReleased(leaseName)) {
+                    cancel(watcher);
+                }
+            } catch (TaskRejectedException e) {
+                // 설명. 종료 중이라 실행하지 못한 임대는 해제하지 않고 만료되게 두어 다른 서버가 이어받게 한다.
+                log.warn("{} 이어받은 작업을 실행하지 못했습니다. (종료 중)", leaseName);
+            } catch (RuntimeException e) {
+                cancel(watcher);
+                log.error("{} 임대 감시 실패", leaseName, e);
+            }
+        }, Instant.now().plus(interval), interval));
+    }
+
+    private void runTakenOver(String leaseName, Runnable task) {
+        try {
+            runHolding(leaseName, task);
+        } catch (RuntimeException e) {
+            log.error("{} 이어받은 작업 실행 실패", leaseName, e);
+        }
+    }
+
+    private Duration heartbeatInterval() {
+        return Duration.ofMillis(Math.max(ttlMillis / 3, 1));
+    }
+
+    private static void cancel(AtomicReference<ScheduledFuture<?>> watcher) {
+        ScheduledFuture<?> future = watcher.get();
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        takeoverExecutor.shutdown();
+        leaseScheduler.shutdown();
+    }
+}
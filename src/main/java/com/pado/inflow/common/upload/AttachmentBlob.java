@@ -0,0 +1,51 @@
+package com.pado.inflow.common.upload;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/* 설명. 첨부 파일 내용(SHA-256) 단위로 한 번만 저장되는 S3 객체
+ *  같은 진단서를 여러 신청에 첨부해도 객체는 하나이며, 근태/휴가 신청 파일 내역이 attachment_blob_id로 참조한다.
+ *  - ref_count   : 이 객체를 참조하는 파일 내역 수 (신청 트랜잭션에서 증가)
+ *  - uploaded_at : S3 업로드가 끝난 시각 (NULL이면 아직 업로드 전이거나 실패)
+ *  - touched_at  : 마지막으로 업로드/재사용을 시도한 시각
+ *  참조가 없는 채로 유예 시간이 지난 객체는 AttachmentUploader.sweep이 정리한다.
+ */
+@Entity(name = "attachment_blob")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AttachmentBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "attachment_blob_id")
+    private Long attachmentBlobId;
+
+    @Column(name = "sha256")
+    private String sha256;
+
+    @Column(name = "bucket_name")
+    private String bucketName;
+
+    @Column(name = "object_key")
+    private String objectKey;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "ref_count")
+    private Integer refCount;
+
+    @Column(name = "uploaded_at")
+    private LocalDateTime uploadedAt;
+
+    @Column(name = "touched_at")
+    private LocalDateTime touchedAt;
+}
@@ -0,0 +1,55 @@
+package com.pado.inflow.common.upload;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, Long> {
+
+    Optional<AttachmentBlob> findBySha256(String sha256);
+
+    // 같은 내용이 없으면 참조 0으로 생성, 있으면 재사용 시각만 갱신 (기존 객체 키는 유지)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO attachment_blob " +
+            "(sha256, bucket_name, object_key, content_type, file_size, ref_count, uploaded_at, touched_at) " +
+            "VALUES (:sha256, :bucketName, :objectKey, :contentType, :fileSize, 0, NULL, :touchedAt) " +
+            "ON DUPLICATE KEY UPDATE touched_at = VALUES(touched_at)", nativeQuery = true)
+    int upsert(@Param("sha256") String sha256,
+               @Param("bucketName") String bucketName,
+               @Param("objectKey") String objectKey,
+               @Param("contentType") String contentType,
+               @Param("fileSize") Long fileSize,
+               @Param("touchedAt") LocalDateTime touchedAt);
+
+    // S3 업로드 완료 표시
+    @Transactional
+    @Modifying
+    @Query("UPDATE attachment_blob b SET b.uploadedAt = :uploadedAt WHERE b.attachmentBlobId = :attachmentBlobId")
+    int markUploaded(@Param("attachmentBlobId") Long attachmentBlobId,
+                     @Param("uploadedAt") LocalDateTime uploadedAt);
+
+    // 참조 추가 (신청 트랜잭션에 참여, 정리되어 없어진 객체면 0 반환)
+    @Modifying
+    @Query("UPDATE attachment_blob b SET b.refCount = b.refCount + :count WHERE b.attachmentBlobId = :attachmentBlobId")
+    int addReferences(@Param("attachmentBlobId") Long attachmentBlobId,
+                      @Param("count") int count);
+
+    // 정리 대상 후보 (참조가 없고 기준 시각 이후 사용되지 않은 객체, 오래된 순)
+    List<AttachmentBlob> findTop500ByRefCountAndTouchedAtBeforeOrderByAttachmentBlobIdAsc(Integer refCount,
+                                                                                          LocalDateTime touchedAt);
+
+    // 그 사이 참조되거나 재사용되지 않았을 때만 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM attachment_blob b " +
+            "WHERE b.attachmentBlobId = :attachmentBlobId AND b.refCount = 0 AND b.touchedAt < :touchedAt")
+    int deleteIfUnreferenced(@Param("attachmentBlobId") Long attachmentBlobId,
+                             @Param("touchedAt") LocalDateTime touchedAt);
+}
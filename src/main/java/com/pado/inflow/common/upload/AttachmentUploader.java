@@ -0,0 +1,221 @@
+package com.pado.inflow.common.upload;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/* 설명. 근태/휴가 신청 첨부 파일 저장소 (내용 기준 중복 제거)
+ *  신청 트랜잭션 안에서 파일을 하나씩 올리면 S3 응답을 기다리는 동안 DB 커넥션을 붙잡고 있게 되므로
+ *  아래 순서로 나누어 처리한다.
+ *   1. upload  : 트랜잭션 밖에서, 크기가 제한된 I/O 풀에서 파일마다 동시에
+ *                SHA-256을 계산하고 같은 내용의 객체(attachment_blob)가 이미 있으면 업로드를 건너뛴다.
+ *   2. confirm : 신청 트랜잭션 안에서 파일 내역을 저장하면서 객체의 참조 수를 올린다. (함께 커밋/롤백)
+ *  신청이 실패했거나 서버가 중간에 죽어 참조되지 않은 객체는
+ *  sweep이 유예 시간(attachment.upload.orphan-grace)이 지난 뒤 정리한다.
+ */
+@Slf4j
+@Component
+public class AttachmentUploader {
+
+    private static final String KEY_PREFIX = "attachments/";
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final AmazonS3Client s3Client;
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final String bucketName;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMillis;
+    private final long orphanGraceMillis;
+
+    @Autowired
+    public AttachmentUploader(AmazonS3Client s3Client,
+                              AttachmentBlobRepository attachmentBlobRepository,
+                              @Value("${cloud.aws.s3.buckets.inflow-vacation-attendance}") String bucketName,
+                              @Value("${attachment.upload.pool-size:8}") int poolSize,
+                              @Value("${attachment.upload.queue-capacity:64}") int queueCapacity,
+                              @Value("${attachment.upload.timeout:30000}") long timeoutMillis,
+                              @Value("${attachment.upload.orphan-grace:3600000}") long orphanGraceMillis) {
+        this.s3Client = s3Client;
+        this.attachmentBlobRepository = attachmentBlobRepository;
+        this.bucketName = bucketName;
+        this.timeoutMillis = timeoutMillis;
+        this.orphanGraceMillis = orphanGraceMillis;
+
+        // 설명. S3 업로드는 I/O 대기가 대부분이므로 코어 수와 무관하게 고정 크기로 두고,
+        //  대기열이 가득 차면 요청 스레드에서 직접 올린다. (거절하지 않고 속도만 늦춘다)
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("attachment-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+    }
+
+    /* 설명. 첨부 파일을 동시에 저장 (트랜잭션 밖에서 호출)
+     *  하나라도 실패하면 FILE_UPLOAD_ERROR를 던진다. (이미 올라간 객체는 참조가 없으므로 sweep이 정리)
+     *  결과는 전달받은 파일 순서와 같다.
+     */
+    public List<UploadedAttachment> upload(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        List<Future<UploadedAttachment>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(executor.submit(() -> store(file)));
+        }
+
+        List<UploadedAttachment> uploaded = new ArrayList<>(files.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            for (Future<UploadedAttachment> future : futures) {
+                uploaded.add(future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS));
+            }
+            return uploaded;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("첨부 파일 업로드 실패 (files = {})", files.size(), e);
+            futures.forEach(future -> future.cancel(true));
+            throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+    }
+
+    /* 설명. 신청 트랜잭션 안에서 호출해 파일 내역 저장과 함께 객체의 참조 수를 올린다.
+     *  업로드 이후 유예 시간이 지나 객체가 정리되었다면 FILE_UPLOAD_ERROR로 신청 전체를 롤백한다.
+     */
+    @Transactional
+    public void confirm(List<UploadedAttachment> attachments) {
+        Map<Long, Integer> references = new LinkedHashMap<>();
+        for (UploadedAttachment attachment : attachments) {
+            references.merge(attachment.attachmentBlobId(), 1, Integer::sum);
+        }
+        references.forEach((attachmentBlobId, count) -> {
+            if (attachmentBlobRepository.addReferences(attachmentBlobId, count) == 0) {
+                throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+            }
+        });
+    }
+
+    // 설명. 유예 시간이 지나도록 참조되지 않은 객체 정리
+    @Scheduled(fixedDelayString = "${attachment.upload.sweep-interval:600000}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(orphanGraceMillis, ChronoUnit.MILLIS);
+        int swept = 0;
+        List<AttachmentBlob> orphans;
+        do {
+            orphans = attachmentBlobRepository
+                    .findTop500ByRefCountAndTouchedAtBeforeOrderByAttachmentBlobIdAsc(0, cutoff);
+            for (AttachmentBlob orphan : orphans) {
+                // 설명. 기록을 먼저 지워 그 사이 재사용되는 객체를 지우지 않도록 한다.
+                if (attachmentBlobRepository.deleteIfUnreferenced(orphan.getAttachmentBlobId(), cutoff) == 0) {
+                    continue;
+                }
+                deleteObject(orphan);
+                swept++;
+            }
+        } while (orphans.size() == SWEEP_BATCH_SIZE);
+
+        if (swept > 0) {
+            log.info("참조되지 않은 첨부 파일 {}건 정리", swept);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 설명. 파일 한 건 저장 (같은 내용이 이미 올라가 있으면 업로드 생략)
+    private UploadedAttachment store(MultipartFile file) {
+        String sha256 = sha256Of(file);
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        /* 설명. 객체 키에 UUID를 붙여, 정리된 뒤 같은 내용이 다시 올라오더라도
+         *  늦게 실행된 이전 객체 삭제가 새 객체를 지우지 않게 한다.
+         */
+        attachmentBlobRepository.upsert(sha256, bucketName, KEY_PREFIX + sha256 + "_" + UUID.randomUUID(),
+                file.getContentType(), file.getSize(), now);
+        AttachmentBlob blob = attachmentBlobRepository.findBySha256(sha256)
+                .orElseThrow(() -> new IllegalStateException("첨부 파일 기록이 없습니다: " + sha256));
+
+        if (blob.getUploadedAt() == null) {
+            putObject(file, blob);
+            attachmentBlobRepository.markUploaded(blob.getAttachmentBlobId(), now);
+        }
+
+        return new UploadedAttachment(blob.getAttachmentBlobId(), file.getOriginalFilename(),
+                s3Client.getUrl(blob.getBucketName(), blob.getObjectKey()).toString());
+    }
+
+    private void putObject(MultipartFile file, AttachmentBlob blob) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(file.getContentType());
+        metadata.setContentLength(file.getSize());
+
+        try (InputStream inputStream = file.getInputStream()) {
+            s3Client.putObject(blob.getBucketName(), blob.getObjectKey(), inputStream, metadata);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteObject(AttachmentBlob blob) {
+        try {
+            s3Client.deleteObject(blob.getBucketName(), blob.getObjectKey());
+        } catch (RuntimeException e) {
+            log.warn("첨부 파일 삭제 실패: {}/{}", blob.getBucketName(), blob.getObjectKey(), e);
+        }
+    }
+
+    // 설명. 파일을 버퍼 단위로 읽으면서 SHA-256 계산 (전체를 메모리에 올리지 않는다)
+    private static String sha256Of(MultipartFile file) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,9 @@
+package com.pado.inflow.common.upload;
+
+/* 설명. 신청에 첨부된 파일 한 건
+ *  내용이 같은 파일은 같은 attachmentBlobId(S3 객체)를 가리키며, 파일 이름은 신청마다 따로 보관한다.
+ */
+public record UploadedAttachment(Long attachmentBlobId,
+                                 String fileName,
+                                 String fileUrl) {
+}
@@ -2,6 +2,7 @@ package com.pado.inflow.department.command.application.service;
 
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.common.registry.ReferenceDataRegistry;
 import com.pado.inflow.department.command.domain.aggregate.dto.*;
 import com.pado.inflow.department.command.domain.aggregate.entity.Department;
 import com.pado.inflow.department.command.domain.aggregate.entity.DepartmentMember;
@@ -21,11 +22,14 @@ public class DepartmentCommandServiceImpl implements DepartmentCommandService {
 
     private final DepartmentRepository departmentRepository;
     private final DepartmentMemberRepository departmentMemberRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     public DepartmentCommandServiceImpl(DepartmentRepository departmentRepository,
-                                        DepartmentMemberRepository departmentMemberRepository) {
+                                        DepartmentMemberRepository departmentMemberRepository,
+                                        ReferenceDataRegistry referenceDataRegistry) {
         this.departmentRepository = departmentRepository;
         this.departmentMemberRepository = departmentMemberRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
 
@@ -48,8 +52,9 @@ public class DepartmentCommandServiceImpl implements DepartmentCommandService {
         department.setUpperDepartmentCode(addDepartmentRequestDTO.getUpperDepartmentCode());
         department.setMinEmployeeNum(addDepartmentRequestDTO.getMinEmployeeNum());
 
-        // 부서 저장
+        // 부서 저장 (커밋 이후 코드 테이블 스냅샷 갱신)
         Department savedDepartment = departmentRepository.save(department);
+        referenceDataRegistry.refreshAfterCommit();
 
         // 2. 부서장 정보 수정
         DepartmentMember departmentHead = departmentMemberRepository.findByName(addDepartmentRequestDTO.getDepartmentHeadName())
@@ -123,8 +128,9 @@ public class DepartmentCommandServiceImpl implements DepartmentCommandService {
             departmentMemberRepository.save(newDepartmentHead);
         }
 
-        // 4. 부서 업데이트 후 저장
+        // 4. 부서 업데이트 후 저장 (커밋 이후 코드 테이블 스냅샷 갱신)
         Department updatedDepartment = departmentRepository.save(department);
+        referenceDataRegistry.refreshAfterCommit();
 
         // 5. 응답 DTO 생성 및 반환
         return new DepartmentResponseDTO(
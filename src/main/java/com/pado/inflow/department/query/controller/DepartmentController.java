@@ -3,8 +3,11 @@ package com.pado.inflow.department.query.controller;
 
 import com.pado.inflow.common.ResponseDTO;
 import com.pado.inflow.department.query.dto.*;
+import com.pado.inflow.department.query.service.DepartmentAttendanceBoard;
 import com.pado.inflow.department.query.service.DepartmentService;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -13,8 +16,11 @@ import java.util.List;
 public class DepartmentController {
 
     private final DepartmentService departmentService;
-    public DepartmentController(DepartmentService departmentService){
+    private final DepartmentAttendanceBoard departmentAttendanceBoard;
+    public DepartmentController(DepartmentService departmentService,
+                                DepartmentAttendanceBoard departmentAttendanceBoard){
         this.departmentService = departmentService;
+        this.departmentAttendanceBoard = departmentAttendanceBoard;
     }
 
 
@@ -89,6 +95,12 @@ public class DepartmentController {
 
     }
 
+    // 3. 내 부서 근태 현황판 구독 (SSE: 처음에 snapshot, 이후 바뀐 사원만 status 이벤트)
+    @GetMapping(value = "/my-department/{departmentCode}/members/attendance", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeMyDepartmentAttendance(@PathVariable("departmentCode") String departmentCode) {
+        return departmentAttendanceBoard.subscribe(departmentCode);
+    }
+
 
 
 
@@ -0,0 +1,34 @@
+package com.pado.inflow.department.query.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class MemberAttendanceStatusDTO {
+
+    // 사원 ID, 부서 구성원 ID, 사원명, 부서 코드, 당일 근태 상태
+
+    @JsonProperty("employee_id")
+    private Long employeeId;
+
+    @JsonProperty("department_member_id")
+    private Long departmentMemberId;
+
+    @JsonProperty("employee_name")
+    private String employeeName;
+
+    @JsonProperty("department_code")
+    private String departmentCode;
+
+    @JsonProperty("attendance_status")
+    private String attendanceStatus;            // AT_WORK, REMOTE, ON_VACATION, ON_LEAVE, NOT_CHECKED_IN
+
+    @JsonProperty("attendance_status_type_name")
+    private String attendanceStatusTypeName;    // 화면 표시용 (정상출근, 재택근무, 휴가, 휴직, 미출근)
+}
@@ -1,6 +1,7 @@
 package com.pado.inflow.department.query.repository;
 
 
+import com.pado.inflow.common.DateRange;
 import com.pado.inflow.department.query.dto.*;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -41,6 +42,11 @@ public interface DepartmentMapper {
     // 2. 시원명 키워드를 통한 사원 조회
     List<ManagerDepartmentMemberListDTO> findDepartmentMemberListForManager(@Param("departmentCode") String departmentCode, @Param("keyword") String keyword);
 
+    // 3. 부서(와 바로 아래 하위 부서) 사원들의 당일 근태 상태 조회 (employeeId를 주면 해당 사원만)
+    List<MemberAttendanceStatusDTO> findMemberAttendanceStatuses(@Param("departmentCode") String departmentCode,
+                                                                 @Param("employeeId") Long employeeId,
+                                                                 @Param("today") DateRange today);
+
 
 
 
@@ -0,0 +1,440 @@
+package com.pado.inflow.department.query.service;
+
+import com.pado.inflow.common.DateRange;
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.department.query.dto.MemberAttendanceStatusDTO;
+import com.pado.inflow.department.query.repository.DepartmentMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/* 설명. 내 부서 근태 현황판 (Server-Sent Events)
+ *  팀장이 부서 사원 목록을 계속 다시 조회하지 않도록, 구독 중인 부서마다 사원별 당일 근태 상태를 메모리에 두고
+ *  출근/휴가/휴직 처리가 커밋된 뒤 상태가 바뀐 사원 한 명만 이벤트로 보낸다.
+ *  - 구독하면 "snapshot" 이벤트로 전체 목록을, 이후에는 "status" 이벤트로 바뀐 사원만 보낸다.
+ *  - 취소/복직처럼 결과 상태를 바로 알 수 없는 변경은 해당 사원만 DB에서 다시 읽는다.
+ *  - 다른 서버에서 처리된 변경, 구성원 변경, 날짜 변경은 주기적인 재조회(attendance-board.refresh-interval)로 따라잡는다.
+ *  - 이벤트는 구독자마다 대기열에 쌓고 크기가 정해진 전송 풀에서 구독자별로 순서대로 보내므로,
+ *    커밋한 요청 스레드를 붙잡지 않고 느린 구독자 하나가 다른 구독자(다른 현황판)를 멈추지 않는다.
+ *    대기열이 넘치는 구독자는 연결을 끊는다. (다시 구독하면 snapshot부터 받는다)
+ */
+@Slf4j
+@Component
+public class DepartmentAttendanceBoard {
+
+    public enum Status {
+        AT_WORK("정상출근"),
+        REMOTE("재택근무"),
+        ON_VACATION("휴가"),
+        ON_LEAVE("휴직"),
+        NOT_CHECKED_IN("미출근");
+
+        private final String typeName;
+
+        Status(String typeName) {
+            this.typeName = typeName;
+        }
+
+        public String getTypeName() {
+            return typeName;
+        }
+    }
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String STATUS_EVENT = "status";
+
+    // 설명. 구독자 한 명의 전송 대기열 (아래 필드는 구독자 락 안에서만 접근한다)
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<Supplier<SseEmitter.SseEventBuilder>> pending = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    // 설명. 구독 중인 부서 하나의 현황 (구독자가 모두 떠나면 버린다)
+    private static final class Board {
+        private final Map<Long, MemberAttendanceStatusDTO> members;
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        private LocalDate date;
+
+        private Board(Map<Long, MemberAttendanceStatusDTO> members, LocalDate date) {
+            this.members = members;
+            this.date = date;
+        }
+    }
+
+    private final DepartmentMapper departmentMapper;
+    private final ThreadPoolTaskExecutor dispatcher;
+    private final long emitterTimeout;
+    private final int subscriberQueueCapacity;
+
+    // 설명. 아래 필드는 모두 this 락 안에서만 접근한다. (하위 부서 사원은 여러 현황판에 속할 수 있다)
+    private final Map<String, Board> boards = new HashMap<>();
+    private final Map<Long, Set<String>> departmentCodesByEmployee = new HashMap<>();
+
+    @Autowired
+    public DepartmentAttendanceBoard(DepartmentMapper departmentMapper,
+                                     @Value("${attendance-board.emitter-timeout:1800000}") long emitterTimeout,
+                                     @Value("${attendance-board.dispatcher-threads:4}") int dispatcherThreads,
+                                     @Value("${attendance-board.subscriber-queue-capacity:100}") int subscriberQueueCapacity) {
+        this.departmentMapper = departmentMapper;
+        this.emitterTimeout = emitterTimeout;
+        this.subscriberQueueCapacity = subscriberQueueCapacity;
+
+        /* 설명. 구독자별 순서는 구독자 대기열이 지키므로 여러 스레드로 보낸다.
+         *  풀 대기열에는 구독자마다 전송 작업이 최대 하나만 들어가므로 크기를 따로 제한하지 않는다.
+         */
+        this.dispatcher = new ThreadPoolTaskExecutor();
+        dispatcher.setCorePoolSize(dispatcherThreads);
+        dispatcher.setMaxPoolSize(dispatcherThreads);
+        dispatcher.setThreadNamePrefix("attendance-board-");
+        dispatcher.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (this) {
+            for (Board board : boards.values()) {
+                board.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+            }
+        }
+        dispatcher.shutdown();
+    }
+
+    // 설명. 부서 현황판 구독 (처음 구독하는 부서라면 DB에서 당일 상태를 읽어 현황판을 만든다)
+    public SseEmitter subscribe(String departmentCode) {
+        if (departmentCode == null || departmentCode.trim().isEmpty()) {
+            throw new CommonException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        LocalDate today = LocalDate.now();
+        boolean loaded;
+        synchronized (this) {
+            Board board = boards.get(departmentCode);
+            loaded = board != null && today.equals(board.date);
+        }
+        List<MemberAttendanceStatusDTO> members = loaded ? null : load(departmentCode, today);
+
+        SseEmitter emitter = createEmitter();
+        emitter.onCompletion(() -> unsubscribe(departmentCode, emitter));
+        emitter.onTimeout(() -> unsubscribe(departmentCode, emitter));
+        emitter.onError(e -> unsubscribe(departmentCode, emitter));
+
+        synchronized (this) {
+            Board board = boards.get(departmentCode);
+            if (board == null) {
+                if (members == null) {
+                    // 설명. 확인한 직후 마지막 구독자가 떠나 현황판이 사라진 경우
+                    members = load(departmentCode, today);
+                }
+                if (members.isEmpty()) {
+                    throw new CommonException(ErrorCode.NOT_FOUND_DEPARTMENT_MEMBER);
+                }
+                board = new Board(toMap(members), today);
+                boards.put(departmentCode, board);
+                index(departmentCode, board.members.keySet());
+            } else if (members != null && !today.equals(board.date)) {
+                replaceMembers(departmentCode, board, members, today);
+            }
+            Subscriber subscriber = new Subscriber(emitter);
+            board.subscribers.add(subscriber);
+
+            List<MemberAttendanceStatusDTO> snapshot = new ArrayList<>(board.members.values());
+            dispatch(List.of(subscriber), () -> SseEmitter.event().name(SNAPSHOT_EVENT).data(snapshot));
+        }
+        return emitter;
+    }
+
+    // 설명. 출근 반영 (일반 출근 / 재택 출근)
+    public void markCheckIn(Long employeeId, boolean remote) {
+        afterCommit(() -> apply(employeeId, remote ? Status.REMOTE : Status.AT_WORK));
+    }
+
+    // 설명. 휴가 등록 반영 (오늘이 휴가 기간에 포함될 때만)
+    public void markVacation(Long employeeId, LocalDate startDate, LocalDate endDate) {
+        if (coversToday(startDate, endDate)) {
+            afterCommit(() -> apply(employeeId, Status.ON_VACATION));
+        }
+    }
+
+    // 설명. 휴직 등록 반영 (오늘이 휴직 기간에 포함될 때만)
+    public void markLeave(Long employeeId, LocalDate startDate, LocalDate endDate) {
+        if (coversToday(startDate, endDate)) {
+            afterCommit(() -> apply(employeeId, Status.ON_LEAVE));
+        }
+    }
+
+    // 설명. 취소/복직처럼 결과 상태를 바로 알 수 없는 변경은 해당 사원만 DB에서 다시 읽는다. (전송 스레드에서)
+    public void markChanged(Long employeeId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                if (!departmentCodesByEmployee.containsKey(employeeId)) {
+                    return;
+                }
+            }
+            execute(() -> {
+                try {
+                    for (MemberAttendanceStatusDTO member : departmentMapper.findMemberAttendanceStatuses(
+                            null, employeeId, DateRange.today())) {
+                        apply(employeeId, Status.valueOf(member.getAttendanceStatus()));
+                    }
+                } catch (RuntimeException e) {
+                    // 설명. 다음 재조회에서 반영된다.
+                    log.error("부서 근태 현황판 사원 상태 재조회 실패: {}", employeeId, e);
+                }
+            });
+        });
+    }
+
+    // 설명. 구독 중인 부서를 주기적으로 다시 읽어 바뀐 사원만 보낸다. (구성원이 바뀌었으면 전체 목록)
+    @Scheduled(fixedDelayString = "${attendance-board.refresh-interval:60000}")
+    public void refresh() {
+        List<String> departmentCodes;
+        synchronized (this) {
+            departmentCodes = new ArrayList<>(boards.keySet());
+        }
+
+        LocalDate today = LocalDate.now();
+        for (String departmentCode : departmentCodes) {
+            List<MemberAttendanceStatusDTO> members;
+            try {
+                members = load(departmentCode, today);
+            } catch (RuntimeException e) {
+                log.error("부서 근태 현황판 재조회 실패: {}", departmentCode, e);
+                continue;
+            }
+            synchronized (this) {
+                Board board = boards.get(departmentCode);
+                if (board != null) {
+                    replaceMembers(departmentCode, board, members, today);
+                }
+            }
+        }
+    }
+
+    // 설명. 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송 (끊긴 연결도 이때 정리된다)
+    @Scheduled(fixedDelayString = "${attendance-board.heartbeat-interval:30000}")
+    public void heartbeat() {
+        synchronized (this) {
+            for (Board board : boards.values()) {
+                dispatch(board.subscribers, () -> SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    // 설명. 테스트에서 보낸 이벤트를 확인할 수 있도록 분리
+    SseEmitter createEmitter() {
+        return new SseEmitter(emitterTimeout);
+    }
+
+    private List<MemberAttendanceStatusDTO> load(String departmentCode, LocalDate today) {
+        List<MemberAttendanceStatusDTO> members =
+                departmentMapper.findMemberAttendanceStatuses(departmentCode, null, DateRange.ofDay(today));
+        if (members == null) {
+            return List.of();
+        }
+        for (MemberAttendanceStatusDTO member : members) {
+            member.setAttendanceStatusTypeName(Status.valueOf(member.getAttendanceStatus()).getTypeName());
+        }
+        return members;
+    }
+
+    // 설명. 해당 사원이 속한 현황판마다 상태가 바뀌었을 때만 전송
+    private synchronized void apply(Long employeeId, Status status) {
+        Set<String> departmentCodes = departmentCodesByEmployee.get(employeeId);
+        if (departmentCodes == null) {
+            return;
+        }
+        for (String departmentCode : departmentCodes) {
+            Board board = boards.get(departmentCode);
+            MemberAttendanceStatusDTO member = board.members.get(employeeId);
+            if (member == null || status.name().equals(member.getAttendanceStatus())) {
+                continue;
+            }
+            MemberAttendanceStatusDTO changed = member.toBuilder()
+                    .attendanceStatus(status.name())
+                    .attendanceStatusTypeName(status.getTypeName())
+                    .build();
+            board.members.put(employeeId, changed);
+            dispatch(board.subscribers, () -> SseEmitter.event().name(STATUS_EVENT).data(changed));
+        }
+    }
+
+    // 설명. 다시 읽은 목록으로 교체 (this 락 안에서 호출)
+    private void replaceMembers(String departmentCode, Board board,
+                                List<MemberAttendanceStatusDTO> members, LocalDate today) {
+        Map<Long, MemberAttendanceStatusDTO> loaded = toMap(members);
+        board.date = today;
+
+        if (!loaded.keySet().equals(board.members.keySet())) {
+            unindex(departmentCode, board.members.keySet());
+            board.members.clear();
+            board.members.putAll(loaded);
+            index(departmentCode, board.members.keySet());
+
+            List<MemberAttendanceStatusDTO> snapshot = new ArrayList<>(board.members.values());
+            dispatch(board.subscribers, () -> SseEmitter.event().name(SNAPSHOT_EVENT).data(snapshot));
+            return;
+        }
+
+        for (MemberAttendanceStatusDTO member : loaded.values()) {
+            MemberAttendanceStatusDTO current = board.members.put(member.getEmployeeId(), member);
+            if (!member.equals(current)) {
+                dispatch(board.subscribers, () -> SseEmitter.event().name(STATUS_EVENT).data(member));
+            }
+        }
+    }
+
+    private synchronized void unsubscribe(String departmentCode, SseEmitter emitter) {
+        Board board = boards.get(departmentCode);
+        if (board == null || !board.subscribers.removeIf(subscriber -> subscriber.emitter == emitter)
+                || !board.subscribers.isEmpty()) {
+            return;
+        }
+        boards.remove(departmentCode);
+        unindex(departmentCode, board.members.keySet());
+    }
+
+    private void index(String departmentCode, Set<Long> employeeIds) {
+        for (Long employeeId : employeeIds) {
+            departmentCodesByEmployee.computeIfAbsent(employeeId, key -> new HashSet<>()).add(departmentCode);
+        }
+    }
+
+    private void unindex(String departmentCode, Set<Long> employeeIds) {
+        for (Long employeeId : employeeIds) {
+            Set<String> departmentCodes = departmentCodesByEmployee.get(employeeId);
+            if (departmentCodes != null && departmentCodes.remove(departmentCode) && departmentCodes.isEmpty()) {
+                departmentCodesByEmployee.remove(employeeId);
+            }
+        }
+    }
+
+    /* 설명. 구독자별 대기열에 이벤트를 넣고, 전송 중이 아닌 구독자는 전송 풀에 맡긴다.
+     *  상태 변경과 같은 락 안에서 대기열에 넣으므로 구독자는 변경 순서대로 받는다.
+     */
+    private void dispatch(List<Subscriber> subscribers, Supplier<SseEmitter.SseEventBuilder> event) {
+        for (Subscriber subscriber : subscribers) {
+            boolean schedule;
+            synchronized (subscriber) {
+                if (subscriber.closed) {
+                    continue;
+                }
+                if (subscriber.pending.size() >= subscriberQueueCapacity) {
+                    // 설명. 대기열이 가득 찼다면 전송 중이므로, 전송 스레드가 지금 보내는 이벤트를 마치고 연결을 끊는다.
+                    subscriber.closed = true;
+                    subscriber.pending.clear();
+                    log.warn("부서 근태 현황판 구독자의 전송 대기열이 가득 차 연결을 끊습니다.");
+                    continue;
+                }
+                subscriber.pending.add(event);
+                schedule = !subscriber.draining;
+                subscriber.draining = true;
+            }
+            if (schedule && !execute(() -> drain(subscriber))) {
+                synchronized (subscriber) {
+                    subscriber.pending.clear();
+                    subscriber.draining = false;
+                }
+            }
+        }
+    }
+
+    // 설명. 한 구독자의 대기열을 비울 때까지 순서대로 전송 (전송 풀에서 구독자마다 하나씩만 실행)
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Supplier<SseEmitter.SseEventBuilder> event;
+            boolean closed;
+            synchronized (subscriber) {
+                closed = subscriber.closed;
+                event = closed ? null : subscriber.pending.poll();
+                if (event == null) {
+                    subscriber.draining = false;
+                }
+            }
+            // 설명. 연결 종료는 락 밖에서 (종료 콜백이 현황판 락을 잡는다)
+            if (closed) {
+                subscriber.emitter.completeWithError(new IllegalStateException("부서 근태 현황판 전송 대기열 초과"));
+                return;
+            }
+            if (event == null) {
+                return;
+            }
+            try {
+                subscriber.emitter.send(event.get());
+            } catch (IOException | IllegalStateException e) {
+                // 설명. 끊긴 연결 (onError/onCompletion에서 구독 해제)
+                synchronized (subscriber) {
+                    subscriber.closed = true;
+                    subscriber.pending.clear();
+                    subscriber.draining = false;
+                }
+                subscriber.emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    private boolean execute(Runnable task) {
+        try {
+            dispatcher.execute(task);
+            return true;
+        } catch (TaskRejectedException e) {
+            // 설명. 종료 중인 경우 (버린 변경은 다음 재조회에서 반영된다)
+            log.warn("부서 근태 현황판 전송 풀이 작업을 받지 않아 이벤트를 버립니다.");
+            return false;
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private static Map<Long, MemberAttendanceStatusDTO> toMap(List<MemberAttendanceStatusDTO> members) {
+        Map<Long, MemberAttendanceStatusDTO> map = new LinkedHashMap<>();
+        for (MemberAttendanceStatusDTO member : members) {
+            map.put(member.getEmployeeId(), member);
+        }
+        return map;
+    }
+
+    private static boolean coversToday(LocalDate startDate, LocalDate endDate) {
+        LocalDate today = LocalDate.now();
+        return !today.isBefore(startDate) && !today.isAfter(endDate);
+    }
+}
@@ -2,6 +2,7 @@ package com.pado.inflow.employee.info.command.application.service;
 
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.common.registry.ReferenceDataRegistry;
 import com.pado.inflow.department.command.domain.aggregate.entity.DepartmentMember;
 import com.pado.inflow.department.command.domain.repository.DepartmentMemberRepository;
 import com.pado.inflow.employee.info.command.domain.aggregate.dto.request.RequestAppointmentDTO;
@@ -9,6 +10,8 @@ import com.pado.inflow.employee.info.command.domain.aggregate.dto.response.Respo
 import com.pado.inflow.employee.info.command.domain.aggregate.entity.Appointment;
 import com.pado.inflow.employee.info.command.domain.aggregate.entity.Employee;
 import com.pado.inflow.employee.info.command.domain.repository.*;
+import com.pado.inflow.employee.security.PrincipalCache;
+import com.pado.inflow.employee.security.TokenRevocationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,23 +26,26 @@ public class AppointmentService {
     private final EmployeeRepository employeeRepository;
     private final AppointmentRepository appointmentRepository;
     private final DepartmentMemberRepository departmentMemberRepository;
-    private final RoleRepository roleRepository;
-    private final PositionRepository positionRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final DutyRepository dutyRepository;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Autowired
     public AppointmentService(EmployeeRepository employeeRepository,
                               AppointmentRepository appointmentRepository,
                               DepartmentMemberRepository departmentMemberRepository,
-                              RoleRepository roleRepository,
-                              PositionRepository positionRepository,
-                              DutyRepository dutyRepository) {
+                              ReferenceDataRegistry referenceDataRegistry,
+                              DutyRepository dutyRepository,
+                              PrincipalCache principalCache,
+                              TokenRevocationService tokenRevocationService) {
         this.employeeRepository = employeeRepository;
         this.appointmentRepository = appointmentRepository;
         this.departmentMemberRepository = departmentMemberRepository;
-        this.roleRepository = roleRepository;
-        this.positionRepository = positionRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.dutyRepository = dutyRepository;
+        this.principalCache = principalCache;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     /**
@@ -70,7 +76,11 @@ public class AppointmentService {
         // 4. 부서 구성원 추가
         addDepartmentMember(employee, appointmentRequestDTO);
 
-        // 5. Response DTO 생성 및 반환
+        // 5. 직책/직위가 바뀌었으므로 캐시된 인증 정보 무효화 (커밋 이후 반영) 및 리프레시 토큰 폐기
+        principalCache.invalidate(employee.getEmployeeNumber());
+        tokenRevocationService.revokeEmployee(employee.getEmployeeNumber());
+
+        // 6. Response DTO 생성 및 반환
         return buildResponseAppointmentDTO(appointment, employee);
     }
 
@@ -154,17 +164,17 @@ public class AppointmentService {
     }
 
     /**
-     * 설명: 직책 코드에 따라 직책 이름을 조회.
+     * 설명: 직책 코드에 따라 직책 이름을 조회. (코드 테이블 스냅샷 기준)
      */
     private String mapRoleCodeToRoleName(String roleCode) {
-        return roleRepository.findRoleNameByRoleCode(roleCode)
+        return referenceDataRegistry.findRoleName(roleCode)
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_ROLE));
     }
 
     /**
-     * 설명: 직위 코드에 따라 관리자 여부를 확인.
+     * 설명: 직위 코드에 따라 관리자 여부를 확인. (코드 테이블 스냅샷 기준)
      */
     private String determineManagerStatus(String positionCode) {
-        return positionRepository.isManagerPosition(positionCode) ? "Y" : "N";
+        return referenceDataRegistry.isManagerPosition(positionCode) ? "Y" : "N";
     }
 }
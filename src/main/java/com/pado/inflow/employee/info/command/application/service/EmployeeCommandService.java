@@ -15,6 +15,8 @@ import com.pado.inflow.employee.info.command.domain.repository.ContractRepositor
 import com.pado.inflow.employee.info.command.domain.repository.EmployeeRepository;
 import com.pado.inflow.employee.info.enums.EmployeeRole;
 import com.pado.inflow.employee.info.enums.ResignationStatus;
+import com.pado.inflow.employee.security.PrincipalCache;
+import com.pado.inflow.employee.security.TokenRevocationService;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
@@ -51,6 +53,10 @@ public class EmployeeCommandService implements UserDetailsService {
     private final ContractRepository contractRepository;
     private final S3Config s3Config;
 
+    //설명. 권한/상태 변경 시 인증 캐시 무효화
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
+
     @Autowired
     public EmployeeCommandService(EmployeeRepository employeeRepository
             , ModelMapper modelMapper
@@ -59,6 +65,8 @@ public class EmployeeCommandService implements UserDetailsService {
             , AmazonS3Client s3Client
             , ContractRepository contractRepository
             , S3Config s3Config
+            , PrincipalCache principalCache
+            , TokenRevocationService tokenRevocationService
     ) {
         this.employeeRepository = employeeRepository;
         this.modelMapper = modelMapper;
@@ -67,6 +75,8 @@ public class EmployeeCommandService implements UserDetailsService {
         this.s3Client = s3Client;
         this.contractRepository = contractRepository;
         this.s3Config = s3Config;
+        this.principalCache = principalCache;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     //설명.1.1 사원 등록 ( 환영 메시지를 전송, 초기 비밀번호: "사번!성명@생년월일")
@@ -284,6 +294,10 @@ public class EmployeeCommandService implements UserDetailsService {
         employee.setPassword(encryptedPassword);
 
         employeeRepository.save(employee);
+
+        // 비밀번호가 바뀌었으므로 캐시된 인증 정보는 DB에서 다시 읽고, 기존 리프레시 토큰은 폐기한다.
+        principalCache.invalidate(employee.getEmployeeNumber());
+        tokenRevocationService.revokeEmployee(employee.getEmployeeNumber());
     }
 
     //설명. 4. 메서드
@@ -327,9 +341,10 @@ public class EmployeeCommandService implements UserDetailsService {
                 new SimpleGrantedAuthority("ROLE_" + loginEmployee.getEmployeeRole().name())
         );
 
-        // 4. UserDetails 객체 반환
+        // 4. UserDetails 객체 반환 (퇴사한 사원은 비활성 계정으로 반환)
+        boolean enabled = loginEmployee.getResignationStatus() != ResignationStatus.Y;
         return new User(loginEmployee.getEmployeeNumber(), encryptedPwd,
-                true, true, true, true,
+                enabled, true, true, true,
                 grantedAuthorities);
     }
 
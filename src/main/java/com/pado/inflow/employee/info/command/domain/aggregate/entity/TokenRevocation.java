@@ -0,0 +1,29 @@
+package com.pado.inflow.employee.info.command.domain.aggregate.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/* 설명. 리프레시 토큰 폐기 목록
+ *  revocation_key 접두어로 종류를 구분한다.
+ *  - T:{jti}            : 회전(rotation)으로 이미 사용된 리프레시 토큰
+ *  - F:{familyId}       : 폐기된 토큰 family (재사용 탐지 등)
+ *  - E:{employeeNumber} : revoked_at 이전에 발급된 해당 사원의 모든 리프레시 토큰
+ *  expires_at 이후에는 원래 토큰도 만료되므로 정리 대상이 된다.
+ */
+@Entity
+@Table(name = "token_revocation")
+@Data
+public class TokenRevocation {
+
+    @Id
+    @Column(name = "revocation_key", nullable = false, length = 100)
+    private String revocationKey;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -2,8 +2,6 @@ package com.pado.inflow.employee.info.command.domain.repository;
 
 import com.pado.inflow.employee.info.command.domain.aggregate.entity.Employee;
 import com.pado.inflow.employee.info.enums.ResignationStatus;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -14,7 +12,8 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      */
     Optional<Employee> findByEmployeeNumber(String employeeNumber);
     Optional<Employee> findByEmployeeId(Long employeeId);
-    // 퇴사 여부로 조회
-    Page<Employee> findByResignationStatus(ResignationStatus resignationStatus, Pageable pageable);
+    // 퇴사 여부로 사원 ID가 가장 작은/큰 사원 조회 (파티션 구간 계산)
+    Optional<Employee> findFirstByResignationStatusOrderByEmployeeIdAsc(ResignationStatus resignationStatus);
+    Optional<Employee> findFirstByResignationStatusOrderByEmployeeIdDesc(ResignationStatus resignationStatus);
 
 }
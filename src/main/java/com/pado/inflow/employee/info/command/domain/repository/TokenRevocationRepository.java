@@ -0,0 +1,45 @@
+package com.pado.inflow.employee.info.command.domain.repository;
+
+import com.pado.inflow.employee.info.command.domain.aggregate.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, String> {
+
+    // 아직 유효한 폐기 항목 (필터 재구성용)
+    List<TokenRevocation> findByExpiresAtAfter(LocalDateTime now);
+
+    // 마지막 동기화 이후 다른 서버에서 추가된 폐기 항목
+    List<TokenRevocation> findByRevokedAtAfter(LocalDateTime since);
+
+    // 최초 폐기 시각을 유지해야 하는 항목(토큰, family)은 이미 있으면 무시
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO token_revocation (revocation_key, revoked_at, expires_at) " +
+            "VALUES (:revocationKey, :revokedAt, :expiresAt)", nativeQuery = true)
+    int insertIfAbsent(@Param("revocationKey") String revocationKey,
+                       @Param("revokedAt") LocalDateTime revokedAt,
+                       @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 사원 단위 폐기는 마지막 폐기 시각으로 갱신
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO token_revocation (revocation_key, revoked_at, expires_at) " +
+            "VALUES (:revocationKey, :revokedAt, :expiresAt) " +
+            "ON DUPLICATE KEY UPDATE revoked_at = VALUES(revoked_at), " +
+            "expires_at = GREATEST(expires_at, VALUES(expires_at))", nativeQuery = true)
+    int upsert(@Param("revocationKey") String revocationKey,
+               @Param("revokedAt") LocalDateTime revokedAt,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TokenRevocation t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,5 +1,6 @@
 package com.pado.inflow.employee.info.query.repository;
 
+import com.pado.inflow.common.DateRange;
 import com.pado.inflow.employee.info.query.dto.response.AppointmentHistoryDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -10,8 +11,7 @@ import java.util.List;
 public interface AppointmentMapper {
 
     List<AppointmentHistoryDTO> getAppointmentHistory(
-            @Param("year") int year,
-            @Param("month") int month,
+            @Param("range") DateRange range,
             @Param("appointmentItemCode") String appointmentItemCode
     );
 
@@ -6,7 +6,6 @@ import com.pado.inflow.employee.info.query.dto.response.EmployeeDetailResponse;
 import com.pado.inflow.employee.info.query.dto.response.EmploymentCertificateResponse;
 import com.pado.inflow.employee.info.query.dto.response.EmploymentContractResponse;
 import com.pado.inflow.employee.info.query.dto.response.ResponseSecurityAgreementResponse;
-import com.pado.inflow.payroll.query.dto.IrregularAllowanceDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -37,9 +36,6 @@ public interface EmployeeMapper {
     //설명.6.근로계약서 발급 데이터 조회
     EmploymentContractResponse getEmploymentContractInfo(@Param("employeeId") Long employeeId);
 
-    //설명.6.1. 비정기 수당 데이터 데이터 조회
-    List<IrregularAllowanceDTO> getIrregularAllowances();
-
     //설명.7. 비밀 유지 서약서 발급 데이터 조회
     ResponseSecurityAgreementResponse getSecurityAgreementInfo(@Param("employeeId") Long employeeId);
 
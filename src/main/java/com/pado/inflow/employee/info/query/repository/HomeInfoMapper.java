@@ -1,5 +1,6 @@
 package com.pado.inflow.employee.info.query.repository;
 
+import com.pado.inflow.common.DateRange;
 import com.pado.inflow.employee.info.query.dto.HomeInfoDTO;
 import org.apache.ibatis.annotations.Mapper;
 
@@ -8,5 +9,6 @@ import java.util.List;
 
 @Mapper
 public interface HomeInfoMapper {
-    List<HomeInfoDTO> getEvents(Long employeeId, int month);
+    // 설명. range 기간(올해의 해당 월)에 있는 일정 조회
+    List<HomeInfoDTO> getEvents(Long employeeId, DateRange range);
 }
@@ -1,10 +1,14 @@
 package com.pado.inflow.employee.info.query.service;
 
+import com.pado.inflow.common.DateRange;
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.exception.ErrorCode;
 import com.pado.inflow.employee.info.query.dto.response.AppointmentHistoryDTO;
 import com.pado.inflow.employee.info.query.repository.AppointmentMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.DateTimeException;
 import java.util.List;
 
 @Service
@@ -17,8 +21,14 @@ public class AppointmentQueryService {
     }
 
     public List<AppointmentHistoryDTO> getAppointmentHistory(int year, int month, String appointmentItemCode) {
+        DateRange range;
+        try {
+            range = DateRange.ofMonth(year, month);
+        } catch (DateTimeException e) {
+            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+        }
 
-        List<AppointmentHistoryDTO>  appointmentHistorys =appointmentMapper.getAppointmentHistory(year, month, appointmentItemCode);
+        List<AppointmentHistoryDTO>  appointmentHistorys =appointmentMapper.getAppointmentHistory(range, appointmentItemCode);
 
         log.info("appointmentHistorys: {}",appointmentHistorys);
         return appointmentHistorys;
@@ -2,6 +2,7 @@ package com.pado.inflow.employee.info.query.service;
 
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.common.registry.ReferenceDataRegistry;
 import com.pado.inflow.employee.info.command.domain.aggregate.dto.response.ResponseContractDTO;
 import com.pado.inflow.employee.info.query.dto.EmployeeDTO;
 import com.pado.inflow.employee.info.query.dto.response.EmployeeDetailResponse;
@@ -19,10 +20,13 @@ import java.util.List;
 @Service("employeeQueryService")
 public class EmployeeQueryService {
     private final EmployeeMapper employeeMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Autowired
-    public EmployeeQueryService(EmployeeMapper employeeMapper) {
+    public EmployeeQueryService(EmployeeMapper employeeMapper,
+                                ReferenceDataRegistry referenceDataRegistry) {
         this.employeeMapper = employeeMapper;
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
     //설명.1.1.  사원 리스트 전체 조회
@@ -103,8 +107,10 @@ public class EmployeeQueryService {
         // 사원 근로 계약 정보 조회
         EmploymentContractResponse contract = employeeMapper.getEmploymentContractInfo(employeeId);
 
-        // 비정기 수당 정보 조회
-        List<IrregularAllowanceDTO> allowances = employeeMapper.getIrregularAllowances();
+        // 비정기 수당 정보 조회 (코드 테이블 스냅샷 기준)
+        List<IrregularAllowanceDTO> allowances = referenceDataRegistry.getIrregularAllowances().stream()
+                .map(allowance -> new IrregularAllowanceDTO(allowance.id(), allowance.name(), allowance.amount()))
+                .toList();
         contract.setIrregularAllowances(allowances);
 
         // 업무 장소 설정
@@ -1,11 +1,16 @@
 package com.pado.inflow.employee.info.query.service;
 
+import com.pado.inflow.common.DateRange;
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.exception.ErrorCode;
 import com.pado.inflow.employee.info.query.dto.HomeInfoDTO;
 import com.pado.inflow.employee.info.query.repository.HomeInfoMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.time.Year;
 import java.util.List;
 
 @Service("queryHomeService")
@@ -19,7 +24,13 @@ public class HomeService {
     }
 
     public List<HomeInfoDTO> getHomeInfo(Long employeeId, int month) {
-        return homeInfoMapper.getEvents(employeeId, month);
+        DateRange range;
+        try {
+            range = DateRange.ofMonth(Year.now().getValue(), month);
+        } catch (DateTimeException e) {
+            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+        }
+        return homeInfoMapper.getEvents(employeeId, range);
     }
 
 }
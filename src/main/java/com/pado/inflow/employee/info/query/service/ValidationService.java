@@ -1,46 +1,27 @@
 package com.pado.inflow.employee.info.query.service;
 
+import com.pado.inflow.common.registry.ReferenceData;
+import com.pado.inflow.common.registry.ReferenceDataRegistry;
 import com.pado.inflow.employee.info.query.dto.response.validate.ValidationResponseDTO;
-import com.pado.inflow.employee.info.query.repository.ValidationMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.stream.Collectors;
-
 @Service
 @RequiredArgsConstructor
 public class ValidationService {
-    private final ValidationMapper validationMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
+    // 설명. 코드 테이블 스냅샷에서 ID 값만 추출하여 설정 (한 버전의 스냅샷에서 모두 꺼낸다)
     public ValidationResponseDTO getValidationResponse() {
+        ReferenceData referenceData = referenceDataRegistry.current();
         ValidationResponseDTO response = new ValidationResponseDTO();
 
-        // ID 값만 추출하여 설정
-        response.setPositions(validationMapper.getAllPositions()
-                .stream()
-                .map(position -> position.getPositionCode())
-                .collect(Collectors.toList()));
-
-        response.setRoles(validationMapper.getAllRoles()
-                .stream()
-                .map(role -> role.getRoleCode())
-                .collect(Collectors.toList()));
-
-        response.setDuties(validationMapper.getAllDuties()
-                .stream()
-                .map(duty -> duty.getDutyCode())
-                .collect(Collectors.toList()));
-
-        response.setDepartments(validationMapper.getAllDepartments()
-                .stream()
-                .map(department -> department.getDepartmentCode())
-                .collect(Collectors.toList()));
-
-        response.setAppointmentItems(validationMapper.getAllAppointmentItems()
-                .stream()
-                .map(item -> item.getAppointmentItemCode())
-                .collect(Collectors.toList()));
+        response.setPositions(referenceData.getPositionCodes());
+        response.setRoles(referenceData.getRoleCodes());
+        response.setDuties(referenceData.getDutyCodes());
+        response.setDepartments(referenceData.getDepartmentCodes());
+        response.setAppointmentItems(referenceData.getAppointmentItemCodes());
 
         return response;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,156 @@
+package com.pado.inflow.employee.security;
+
+import com.pado.inflow.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/* 설명. 시큐리티 필터의 요청 단위 텔레메트리
+ *  요청마다 INFO 로그를 남기던 방식 대신
+ *  - 모든 요청은 Micrometer 타이머/카운터로만 집계하고 (actuator로 노출)
+ *  - 구조화된 이벤트 로그(inflow.auth.event)는 일부 요청만 샘플링해서 남긴다.
+ *  - 특정 사원만 런타임에 추적을 켜면 해당 사원의 요청은 샘플링과 관계없이 상세 이벤트를 남긴다.
+ *  이벤트 문자열은 기록이 결정된 경우에만 만들어지므로 평상시 요청 경로에서는 할당이 거의 없다.
+ */
+@Component
+public class AuthTelemetry {
+
+    private static final Logger eventLog = LoggerFactory.getLogger("inflow.auth.event");
+
+    public enum Stage {
+        JWT("jwt", "inflow.auth.jwt"),
+        LOGIN("login", "inflow.login.latency");
+
+        private final String tag;
+        private final String meterName;
+
+        Stage(String tag, String meterName) {
+            this.tag = tag;
+            this.meterName = meterName;
+        }
+    }
+
+    public enum Outcome {
+        PERMITTED("permitted"),         // permitAll 경로 (토큰 검사 생략)
+        AUTHENTICATED("authenticated"), // 토큰 검증 성공
+        SUCCESS("success"),             // 로그인 성공
+        FAILURE("failure"),             // 로그인 실패 (아이디/비밀번호/퇴사)
+        REJECTED("rejected");           // 토큰 거부 또는 로그인 과부하
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final long traceTtlMillis;
+
+    private final Map<Stage, Map<Outcome, Timer>> timers = new EnumMap<>(Stage.class);
+    private final Map<ErrorCode, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    // 설명. 추적 중인 사번과 추적 종료 시각
+    private final Map<String, Long> tracedEmployees = new ConcurrentHashMap<>();
+
+    public AuthTelemetry(MeterRegistry meterRegistry,
+                         @Value("${telemetry.auth.sample-rate:0.01}") double sampleRate,
+                         @Value("${telemetry.auth.trace-ttl:1800000}") long traceTtlMillis) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+        this.traceTtlMillis = traceTtlMillis;
+
+        registerTimers(Stage.JWT, Outcome.PERMITTED, Outcome.AUTHENTICATED, Outcome.REJECTED);
+        registerTimers(Stage.LOGIN, Outcome.SUCCESS, Outcome.FAILURE, Outcome.REJECTED);
+    }
+
+    // 설명. 필터 처리 결과 기록 (employeeNumber, errorCode는 없으면 null)
+    public void record(Stage stage, Outcome outcome, HttpServletRequest request,
+                       String employeeNumber, ErrorCode errorCode, long startedAtNanos) {
+        long elapsedNanos = System.nanoTime() - startedAtNanos;
+        Timer timer = timers.get(stage).get(outcome);
+        if (timer != null) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        if (errorCode != null) {
+            errorCounters.computeIfAbsent(errorCode, this::registerErrorCounter).increment();
+        }
+
+        if (isTraced(employeeNumber)) {
+            eventLog.info("stage={} outcome={} code={} employee={} method={} path={} latencyMicros={} remote={} agent={}",
+                    stage.tag, outcome.tag, errorCode, employeeNumber, request.getMethod(), request.getRequestURI(),
+                    TimeUnit.NANOSECONDS.toMicros(elapsedNanos), request.getRemoteAddr(), request.getHeader("User-Agent"));
+        } else if (eventLog.isInfoEnabled() && sampled()) {
+            eventLog.info("stage={} outcome={} code={} employee={} method={} path={} latencyMicros={}",
+                    stage.tag, outcome.tag, errorCode, employeeNumber, request.getMethod(), request.getRequestURI(),
+                    TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        }
+    }
+
+    // 설명. 추적 중인 사원인지 여부 (추적 시간이 지나면 자동으로 해제)
+    public boolean isTraced(String employeeNumber) {
+        if (employeeNumber == null || tracedEmployees.isEmpty()) {
+            return false;
+        }
+        Long until = tracedEmployees.get(employeeNumber);
+        if (until == null) {
+            return false;
+        }
+        if (until <= System.currentTimeMillis()) {
+            tracedEmployees.remove(employeeNumber, until);
+            return false;
+        }
+        return true;
+    }
+
+    // 설명. 특정 사원의 상세 추적 시작
+    public void startTrace(String employeeNumber) {
+        tracedEmployees.put(employeeNumber, System.currentTimeMillis() + traceTtlMillis);
+    }
+
+    // 설명. 특정 사원의 상세 추적 종료
+    public void stopTrace(String employeeNumber) {
+        tracedEmployees.remove(employeeNumber);
+    }
+
+    // 설명. 추적 중인 사번 목록
+    public Set<String> getTracedEmployees() {
+        tracedEmployees.entrySet().removeIf(entry -> entry.getValue() <= System.currentTimeMillis());
+        return Set.copyOf(tracedEmployees.keySet());
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private void registerTimers(Stage stage, Outcome... outcomes) {
+        Map<Outcome, Timer> byOutcome = new EnumMap<>(Outcome.class);
+        for (Outcome outcome : outcomes) {
+            byOutcome.put(outcome, Timer.builder(stage.meterName)
+                    .description("시큐리티 필터 처리 시간")
+                    .tag("outcome", outcome.tag)
+                    .register(meterRegistry));
+        }
+        timers.put(stage, byOutcome);
+    }
+
+    private Counter registerErrorCounter(ErrorCode errorCode) {
+        return Counter.builder("inflow.auth.errors")
+                .description("시큐리티 필터에서 응답한 에러 코드별 횟수")
+                .tag("code", errorCode.name())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,44 @@
+package com.pado.inflow.employee.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/* 설명. 특정 사원의 인증 상세 추적을 런타임에 켜고 끄는 actuator 엔드포인트
+ *  - GET    /actuator/authtrace                  : 추적 중인 사번 목록
+ *  - POST   /actuator/authtrace/{employeeNumber} : 추적 시작 (telemetry.auth.trace-ttl 이후 자동 해제)
+ *  - DELETE /actuator/authtrace/{employeeNumber} : 추적 종료
+ *  management.endpoints.web.exposure.include에 authtrace를 추가해야 노출되며, ADMIN만 호출할 수 있다.
+ */
+@Component
+@Endpoint(id = "authtrace")
+public class AuthTraceEndpoint {
+
+    private final AuthTelemetry authTelemetry;
+
+    @Autowired
+    public AuthTraceEndpoint(AuthTelemetry authTelemetry) {
+        this.authTelemetry = authTelemetry;
+    }
+
+    @ReadOperation
+    public Set<String> tracedEmployees() {
+        return authTelemetry.getTracedEmployees();
+    }
+
+    @WriteOperation
+    public void startTrace(@Selector String employeeNumber) {
+        authTelemetry.startTrace(employeeNumber);
+    }
+
+    @DeleteOperation
+    public void stopTrace(@Selector String employeeNumber) {
+        authTelemetry.stopTrace(employeeNumber);
+    }
+}
@@ -1,7 +1,6 @@
 package com.pado.inflow.employee.security;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pado.inflow.common.ResponseDTO;
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
@@ -9,6 +8,8 @@ import com.pado.inflow.employee.info.command.domain.aggregate.entity.Employee;
 import com.pado.inflow.employee.info.command.application.service.EmployeeCommandService;
 import com.pado.inflow.employee.info.command.domain.repository.EmployeeRepository;
 import com.pado.inflow.employee.info.enums.ResignationStatus;
+import com.pado.inflow.employee.security.AuthTelemetry.Outcome;
+import com.pado.inflow.employee.security.AuthTelemetry.Stage;
 import com.pado.inflow.employee.security.dto.RequestLoginVO;
 import com.pado.inflow.employee.security.dto.ResponseLoginVO;
 import com.pado.inflow.payroll.common.Common;
@@ -27,32 +28,42 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
 public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
+    // 설명. 로그인 처리 시작 시각을 담아두는 request attribute (지연시간 지표용)
+    private static final String LOGIN_STARTED_AT = AuthenticationFilter.class.getName() + ".STARTED_AT";
+    // 설명. 로그인 요청 사번 (텔레메트리 이벤트용)
+    private static final String LOGIN_EMPLOYEE_NUMBER = AuthenticationFilter.class.getName() + ".EMPLOYEE_NUMBER";
+
     private final EmployeeRepository employeeRepository;
     private final Environment env;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder; // 추가
+    private final LoginVerifier loginVerifier; // BCrypt 검증 전용 풀
+    private final AuthTelemetry authTelemetry; // 로그인 지표/샘플링 이벤트
 
     public AuthenticationFilter(AuthenticationManager authenticationManager,
                                 EmployeeRepository employeeRepository,
                                 Environment env,
-                                BCryptPasswordEncoder bCryptPasswordEncoder) { // 추가
+                                LoginVerifier loginVerifier,
+                                AuthTelemetry authTelemetry) {
         super(authenticationManager);
         this.employeeRepository=employeeRepository;
         this.env = env;
-        this.bCryptPasswordEncoder = bCryptPasswordEncoder; // 필드 초기화
+        this.loginVerifier = loginVerifier;
+        this.authTelemetry = authTelemetry;
     }
 
     @Override
@@ -69,53 +80,50 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
          */
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
+        request.setAttribute(LOGIN_STARTED_AT, System.nanoTime());
         try {
-            // 1. 요청 데이터 파싱
-            log.info("로그인 요청 데이터 수신 중...");
-            RequestLoginVO creds = new ObjectMapper().readValue(request.getInputStream(), RequestLoginVO.class);
-            log.info("로그인 요청 데이터: {}", creds);
+            // 1. 요청 데이터 파싱 (공용 ObjectMapper 사용)
+            RequestLoginVO creds = SecurityResponseWriter.OBJECT_MAPPER.readValue(request.getInputStream(), RequestLoginVO.class);
 
-            // 설명. EmployeeNumber로 사원 조회
+            // 설명. EmployeeNumber로 사원 조회 (실패 사유는 로그 대신 로그인 지표/이벤트로 남긴다)
             String employeeNumber = creds.getEmployeeNumber();
-            log.info("사용자 조회 중: userAuthId = {}", employeeNumber);
+            request.setAttribute(LOGIN_EMPLOYEE_NUMBER, employeeNumber);
 
             // 2. 사용자 조회 및 예외 처리 (employeeNumber를 기준으로 조회)
             Employee loginEmployee = employeeRepository.findByEmployeeNumber(employeeNumber)
-                    .orElseThrow(() -> {
-                        log.error("아이디가 잘못되었습니다. employeeNumber = {}", employeeNumber);
-                        return new BadCredentialsException("아이디를 잘못 입력하셨습니다.");
-                    });
-
-            log.info("사용자 조회 성공: {}",loginEmployee);
+                    .orElseThrow(() -> new BadCredentialsException("아이디를 잘못 입력하셨습니다."));
 
             // 4. 사용자 퇴사 여부 확인
             if (loginEmployee.getResignationStatus() == ResignationStatus.Y) {
-                log.error("퇴사한 사원 입니다. employeeNumber = {}", loginEmployee);
                 throw new BadCredentialsException("퇴사한 사원 입니다."); // 퇴사한 사원에 대한 예외
             }
 
-            // 5. 비밀번호 체크
-            log.info("비밀번호 검증 중...");
-            if (!bCryptPasswordEncoder.matches(creds.getPassword(), loginEmployee.getPassword())) {
-                log.error("비밀번호가 틀렸습니다. loginEmployee = {}", loginEmployee);
+            // 5. 비밀번호 체크 (전용 검증 풀에서 수행, 대기열이 가득 차면 503)
+            if (!loginVerifier.matches(creds.getPassword(), loginEmployee.getPassword())) {
                 throw new BadCredentialsException("비밀번호를 잘못 입력하셨습니다."); // 비밀번호가 틀린 경우 예외 처리
             }
 
             // 6. 인증 토큰 생성
-            log.info("인증 토큰 생성 중...");
+            //    비밀번호는 위에서 이미 검증했으므로 AuthenticationManager를 다시 거치지 않는다.
+            //    (loadUserByUsername 재조회와 BCrypt 재검증 방지)
+            List<GrantedAuthority> authorities =
+                    List.of(new SimpleGrantedAuthority("ROLE_" + loginEmployee.getEmployeeRole().name()));
+            User principal = new User(employeeNumber, "", authorities);
             UsernamePasswordAuthenticationToken authToken =
-                    new UsernamePasswordAuthenticationToken(employeeNumber, creds.getPassword(), new ArrayList<>());
+                    UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities);
 
-            authToken.setDetails(creds);
+            // 조회한 사원 정보는 successfulAuthentication에서 재사용한다.
+            authToken.setDetails(loginEmployee);
 
-            log.info("인증 토큰 생성 완료. 인증 처리 중...");
-            return getAuthenticationManager().authenticate(authToken);
+            return authToken;
+        } catch (CommonException e) {
+            // 로그인 검증 대기열 초과: 인증 실패가 아니므로 503과 Retry-After로 바로 응답
+            writeOverloaded(response, e);
+            recordLogin(request, Outcome.REJECTED, e.getErrorCode());
+            return null;
         } catch (IOException e) {
             log.error("요청 데이터를 읽는 중 오류 발생", e);
             throw new AuthenticationServiceException("요청 데이터를 읽는 중 오류 발생", e);
-        } catch (AuthenticationException e) {
-            log.error("인증 처리 중 오류 발생: {}", e.getMessage());
-            throw e;
         }
     }
     
@@ -126,15 +134,14 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
                                             FilterChain chain,
                                             Authentication authResult) throws IOException, ServletException {
 
-
-        log.info("로그인 성공하고 security가 관리하는 principal객체(authResult): {}", authResult);
-
         // 사용자 인증 정보 및 식별자 생성
         String employeeNumber = ((User) authResult.getPrincipal()).getUsername();
 
-        // 사용자 정보 조회 후 id 반환
-        Employee loginEmployee = employeeRepository.findByEmployeeNumber(employeeNumber)
-                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_EMPLOYEE));
+        // 사용자 정보는 attemptAuthentication에서 조회한 것을 재사용
+        Employee loginEmployee = authResult.getDetails() instanceof Employee employee
+                ? employee
+                : employeeRepository.findByEmployeeNumber(employeeNumber)
+                        .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_EMPLOYEE));
         
         // Claims 및 역할 정보 설정
         Claims claims = Jwts.claims().setSubject(employeeNumber);
@@ -145,6 +152,10 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
         claims.put("employeeId", loginEmployee.getEmployeeId());
         claims.put("employeeNumber", employeeNumber);
 
+        // 발급 시각 (사원 단위 폐기와 비교할 밀리초 발급 시각도 함께 담는다)
+        Date issuedAt = new Date();
+        claims.put(JwtUtil.ISSUED_AT_MILLIS, issuedAt.getTime());
+
         // 만료 시간 설정
         long accessExpiration = System.currentTimeMillis() + getExpirationTime(env.getProperty("token.access-expiration-time"));
         long refreshExpiration = System.currentTimeMillis() + getExpirationTime(env.getProperty("token.refresh-expiration-time"));
@@ -152,13 +163,18 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
         // 액세스 토큰 생성
         String accessToken = Jwts.builder()
                 .setClaims(claims)
+                .setIssuedAt(issuedAt)
                 .setExpiration(new Date(accessExpiration))
                 .signWith(SignatureAlgorithm.HS512, env.getProperty("token.access-secret"))
                 .compact();
 
-        // 리프레시 토큰 생성
+        // 리프레시 토큰 생성 (토큰 id와 새 token family id 포함, 재발급 시 회전됨)
+        Claims refreshClaims = Jwts.claims(new HashMap<>(claims));
+        refreshClaims.setId(UUID.randomUUID().toString());
+        refreshClaims.put("fid", UUID.randomUUID().toString());
         String refreshToken = Jwts.builder()
-                .setClaims(claims)
+                .setClaims(refreshClaims)
+                .setIssuedAt(issuedAt)
                 .setExpiration(new Date(refreshExpiration))
                 .signWith(SignatureAlgorithm.HS512, env.getProperty("token.refresh-secret"))
                 .compact();
@@ -174,12 +190,34 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
         );
 
         // 응답 객체를 JSON 형태로 반환
-        ResponseDTO<ResponseLoginVO> responseDTO = ResponseDTO.ok(loginResponseVO);
-        String jsonResponse = new ObjectMapper().writeValueAsString(responseDTO);
+        SecurityResponseWriter.writeJson(response, ResponseDTO.ok(loginResponseVO));
+
+        recordLogin(request, Outcome.SUCCESS, null);
+    }
 
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-        response.getWriter().write(jsonResponse);
+    @Override
+    protected void unsuccessfulAuthentication(HttpServletRequest request,
+                                              HttpServletResponse response,
+                                              AuthenticationException failed) throws IOException, ServletException {
+        recordLogin(request, Outcome.FAILURE, null);
+        super.unsuccessfulAuthentication(request, response, failed);
+    }
+
+    // 설명. 503 + Retry-After 응답
+    private void writeOverloaded(HttpServletResponse response, CommonException e) {
+        try {
+            response.setHeader("Retry-After", String.valueOf(loginVerifier.getRetryAfterSeconds()));
+            SecurityResponseWriter.writeError(response, e.getErrorCode());
+        } catch (IOException ioException) {
+            log.error("과부하 응답 작성 중 오류 발생", ioException);
+        }
+    }
+
+    private void recordLogin(HttpServletRequest request, Outcome outcome, ErrorCode errorCode) {
+        if (request.getAttribute(LOGIN_STARTED_AT) instanceof Long startedAt) {
+            authTelemetry.record(Stage.LOGIN, outcome, request,
+                    (String) request.getAttribute(LOGIN_EMPLOYEE_NUMBER), errorCode, startedAt);
+        }
     }
 
 
@@ -0,0 +1,66 @@
+package com.pado.inflow.employee.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/* 설명. 문자열 키용 블룸 필터
+ *  mightContain()이 false면 절대 포함되지 않은 키이고, true면 "포함됐을 수도 있는" 키다.
+ *  비트 배열을 AtomicLongArray로 두어 락 없이 여러 스레드에서 put/조회할 수 있다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int numBits;
+    private final int numHashes;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.numBits = (int) Math.max(64, Math.min(optimalBits, Integer.MAX_VALUE - 64));
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * ln2));
+        this.bits = new AtomicLongArray((numBits + 63) >>> 6);
+    }
+
+    public void put(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            int index = bitIndex(h1 + i * h2);
+            long mask = 1L << index;
+            bits.getAndAccumulate(index >>> 6, mask, (current, m) -> current | m);
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            int index = bitIndex(h1 + i * h2);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int bitIndex(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % numBits;
+    }
+
+    // 설명. FNV-1a 64bit + murmur3 finalizer (키 분포를 고르게 섞기 위함)
+    private static long hash64(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
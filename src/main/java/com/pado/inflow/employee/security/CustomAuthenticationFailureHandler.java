@@ -1,8 +1,5 @@
 package com.pado.inflow.employee.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.pado.inflow.common.ResponseDTO;
-import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,29 +20,22 @@ public class CustomAuthenticationFailureHandler implements AuthenticationFailure
                                         HttpServletResponse response,
                                         AuthenticationException exception) throws IOException, ServletException {
 
-        log.error("로그인 실패: {}", exception.getMessage());
-
-        // 403 응답 상태 코드 설정
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-        response.setContentType("application/json;charset=UTF-8");
+        log.debug("로그인 실패: {}", exception.getMessage());
 
         // 실패 메시지 반환
-        CommonException customException;
+        ErrorCode errorCode;
         if (exception.getMessage().equals("아이디를 잘못 입력하셨습니다.")) {
-            customException = new CommonException(ErrorCode.NOT_FOUND_USER_ID); // 사용자 정의 에러코드로 설정
+            errorCode = ErrorCode.NOT_FOUND_USER_ID; // 사용자 정의 에러코드로 설정
         } else if (exception.getMessage().equals("비밀번호를 잘못 입력하셨습니다.")) {
-            customException = new CommonException(ErrorCode.INVALID_PASSWORD); // 사용자 정의 에러코드로 설정
+            errorCode = ErrorCode.INVALID_PASSWORD; // 사용자 정의 에러코드로 설정
         } else if (exception.getMessage().equals("퇴사한 사원 입니다.")) {
-            customException = new CommonException(ErrorCode.INACTIVE_USER); // 사용자 정의 에러코드로 설정
+            errorCode = ErrorCode.INACTIVE_USER; // 사용자 정의 에러코드로 설정
         }
         else {
-            customException = new CommonException(ErrorCode.LOGIN_FAILURE); // 기본적으로 비밀번호 틀림 처리
+            errorCode = ErrorCode.LOGIN_FAILURE; // 기본적으로 비밀번호 틀림 처리
         }
 
-        ResponseDTO<Object> errorResponse = ResponseDTO.fail(customException);
-
-        // JSON 형태로 반환
-        ObjectMapper objectMapper = new ObjectMapper();
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        // 403 응답 상태 코드로 미리 직렬화된 JSON 반환
+        SecurityResponseWriter.writeError(response, HttpServletResponse.SC_FORBIDDEN, errorCode);
     }
 }
@@ -0,0 +1,74 @@
+package com.pado.inflow.employee.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/* 설명. 크기 제한(LRU)과 항목별 만료 시각을 함께 갖는 작은 인메모리 캐시
+ *  - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다.
+ *  - 조회 시 만료된 항목은 즉시 제거하고 없는 것으로 취급한다.
+ *  모든 연산이 O(1)이고 요청 스레드에서 짧게만 락을 잡으므로 필터의 hot path에서 사용해도 된다.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, Node<V>> store;
+
+    public ExpiringLruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.store = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Node<V>> eldest) {
+                return size() > ExpiringLruCache.this.maxSize;
+            }
+        };
+    }
+
+    // 설명. 만료되지 않은 값 조회 (없거나 만료되었으면 null)
+    public synchronized V get(K key) {
+        Node<V> node = store.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (node.expiresAt <= System.currentTimeMillis()) {
+            store.remove(key);
+            return null;
+        }
+        return node.value;
+    }
+
+    // 설명. 값의 만료 시각 조회 (없거나 만료되었으면 0)
+    public synchronized long getExpiresAt(K key) {
+        Node<V> node = store.get(key);
+        if (node == null || node.expiresAt <= System.currentTimeMillis()) {
+            return 0L;
+        }
+        return node.expiresAt;
+    }
+
+    // 설명. 만료 시각(epoch millis)을 지정해 저장
+    public synchronized void put(K key, V value, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            store.remove(key);
+            return;
+        }
+        store.put(key, new Node<>(value, expiresAt));
+    }
+
+    public synchronized void remove(K key) {
+        store.remove(key);
+    }
+
+    public synchronized void clear() {
+        store.clear();
+    }
+
+    public synchronized int size() {
+        return store.size();
+    }
+
+    private record Node<T>(T value, long expiresAt) {
+    }
+}
@@ -1,10 +1,11 @@
 package com.pado.inflow.employee.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.pado.inflow.common.ResponseDTO;
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
 import com.pado.inflow.employee.info.command.application.service.EmployeeCommandService;
+import com.pado.inflow.employee.security.AuthTelemetry.Outcome;
+import com.pado.inflow.employee.security.AuthTelemetry.Stage;
+import com.pado.inflow.employee.security.dto.AccessTokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,76 +25,59 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final EmployeeCommandService employeeService;
     private final JwtUtil jwtUtil;
+    private final RouteAuthorizationManager routeAuthorizationManager;
+    private final AuthTelemetry authTelemetry;
 
-    public JwtFilter(EmployeeCommandService employeeService, JwtUtil jwtUtil) {
+    public JwtFilter(EmployeeCommandService employeeService, JwtUtil jwtUtil,
+                     RouteAuthorizationManager routeAuthorizationManager, AuthTelemetry authTelemetry) {
         this.employeeService = employeeService;
         this.jwtUtil = jwtUtil;
+        this.routeAuthorizationManager = routeAuthorizationManager;
+        this.authTelemetry = authTelemetry;
     }
 
-    /*설명. 들고 온(Request Header) 토큰이 유효한지 판별 및 인증(Authentication 객체로 관리)*/
+    /*설명. 들고 온(Request Header) 토큰이 유효한지 판별 및 인증(Authentication 객체로 관리)
+     *  요청마다 남기던 INFO 로그(헤더, 토큰, principal)는 AuthTelemetry의 지표와 샘플링 이벤트로 대체한다.
+     */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-        log.info("UsernamePasswordAuthenticationFilter보다 먼저 동작하는 필터");
+        long startedAt = System.nanoTime();
 
-        String requestURI = request.getRequestURI();
-        log.info("Request URI: {}", requestURI);
-
-        // 로그인 요청은 필터를 통과시킴
-        if ("/actuator/health".equals(requestURI) || "/api/login".equals(requestURI) || "/api/auth/refresh-token".equals(requestURI)) {
-            log.info("로그인/리프레시 재발급 요청은 필터를 통과합니다.");
+        // 로그인 요청은 필터를 통과시킴 (permitAll 규칙에 해당하는 요청)
+        if (routeAuthorizationManager.isPermitAll(request)) {
+            authTelemetry.record(Stage.JWT, Outcome.PERMITTED, request, null, null, startedAt);
             filterChain.doFilter(request, response);
             return;
         }
 
         String authorizationHeader = request.getHeader("Authorization");
-        log.info("Authorization header: {}", authorizationHeader);
 
-        // Authorization 헤더가 null이거나 Bearer로 시작하지 않는 경우
+        // Authorization 헤더가 null이거나 Bearer로 시작하지 않는 경우 401 응답 후 필터 체인 종료
         if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
-            log.error("Authorization header가 없거나 잘못된 형식입니다.");
-
-            // 401 상태 코드와 에러 응답 반환
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setContentType("application/json;charset=UTF-8");
-            response.setCharacterEncoding("UTF-8");
-
-            CommonException customException = new CommonException(ErrorCode.TOKEN_TYPE_ERROR);
-            ResponseDTO<Object> errorResponse = ResponseDTO.fail(customException);
-
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonResponse = objectMapper.writeValueAsString(errorResponse);
-            response.getWriter().write(jsonResponse);
-
-            return; // 필터 체인 종료
+            authTelemetry.record(Stage.JWT, Outcome.REJECTED, request, null, ErrorCode.TOKEN_TYPE_ERROR, startedAt);
+            SecurityResponseWriter.writeError(response, HttpServletResponse.SC_UNAUTHORIZED, ErrorCode.TOKEN_TYPE_ERROR);
+            return;
         }
 
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            String token = authorizationHeader.substring(7);
-            log.info("토큰 값: " + token);
-
-            try {
-                if (jwtUtil.validateAccessToken(token)) {
-                    Authentication authentication = jwtUtil.getAuthentication(token);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.info("JwtFilter를 통과한 유효한 토큰을 통해 security가 관리할 principal 객체: {}", authentication);
-                }
-            } catch (CommonException ex) {
-                // 예외를 잡고 ResponseDTO 형식으로 응답
-                response.setStatus(ex.getErrorCode().getHttpStatus().value());
-                response.setContentType("application/json");
-                response.setCharacterEncoding("UTF-8");  // 응답 인코딩을 UTF-8로 설정
-
-                ResponseDTO<Object> errorResponse = ResponseDTO.fail(ex);
-                ObjectMapper objectMapper = new ObjectMapper();
-                String jsonResponse = objectMapper.writeValueAsString(errorResponse);
-
-                response.getWriter().write(jsonResponse);
-                return;
-            }
+        String token = authorizationHeader.substring(7);
+        AccessTokenClaims claims = null;
+
+        try {
+            // 설명. 서명 검증과 claims 파싱은 한 번만 수행한다.
+            claims = jwtUtil.verifyAccessToken(token);
+            Authentication authentication = jwtUtil.getAuthentication(claims);
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            authTelemetry.record(Stage.JWT, Outcome.AUTHENTICATED, request, claims.employeeNumber(), null, startedAt);
+        } catch (CommonException ex) {
+            // 예외를 잡고 미리 직렬화된 ResponseDTO 형식으로 응답
+            // 설명. 서명 검증을 통과한 뒤 거부된 경우(퇴사 등)에는 사번을 함께 남긴다. (사원별 추적 대상이면 상세 이벤트)
+            String employeeNumber = claims != null ? claims.employeeNumber() : null;
+            authTelemetry.record(Stage.JWT, Outcome.REJECTED, request, employeeNumber, ex.getErrorCode(), startedAt);
+            SecurityResponseWriter.writeError(response, ex.getErrorCode());
+            return;
         }
 
         filterChain.doFilter(request, response);
     }
 }
-
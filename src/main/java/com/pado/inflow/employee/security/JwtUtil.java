@@ -5,6 +5,8 @@ import com.pado.inflow.common.exception.ErrorCode;
 import com.pado.inflow.employee.info.command.domain.aggregate.entity.Employee;
 import com.pado.inflow.employee.info.command.application.service.EmployeeCommandService;
 import com.pado.inflow.employee.info.command.domain.repository.EmployeeRepository;
+import com.pado.inflow.employee.info.enums.ResignationStatus;
+import com.pado.inflow.employee.security.dto.AccessTokenClaims;
 import com.pado.inflow.employee.security.dto.AuthTokens;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -16,10 +18,15 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -34,14 +41,38 @@ public class JwtUtil {
     private final long refreshExpirationTime;
     private final EmployeeCommandService employeeService;
     private final EmployeeRepository employeeRepository;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final boolean claimsOnlyAuth;
+
+    // 설명. 밀리초 발급 시각 claim (iat는 초 단위라 같은 초 안의 사원 단위 폐기와 선후를 가릴 수 없다)
+    static final String ISSUED_AT_MILLIS = "iat_ms";
+
+    // 설명. JwtParser는 불변 객체이므로 키별로 한 번만 만들어 재사용한다.
+    private final JwtParser accessTokenParser;
+    private final JwtParser refreshTokenParser;
+
+    // 설명. 최근 검증한 액세스 토큰(SHA-256 digest) -> claims, 토큰 만료 시각에 함께 만료
+    private final ExpiringLruCache<String, AccessTokenClaims> verifiedTokenCache;
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
 
     public JwtUtil(
             @Value("${token.access-secret}") String accessSecretKey,
             @Value("${token.refresh-secret}") String refreshSecretKey,
             @Value("${token.access-expiration-time}") long accessExpirationTime,
             @Value("${token.refresh-expiration-time}") long refreshExpirationTime,
+            @Value("${token.claims-only-auth:false}") boolean claimsOnlyAuth,
+            @Value("${token.verified-cache.max-size:4096}") int verifiedCacheMaxSize,
             EmployeeCommandService employeeService,
-            EmployeeRepository employeeRepository
+            EmployeeRepository employeeRepository,
+            PrincipalCache principalCache,
+            TokenRevocationService tokenRevocationService
     ) {
         byte[] accessKeyBytes = Decoders.BASE64.decode(accessSecretKey);
         this.accessSecretKey = Keys.hmacShaKeyFor(accessKeyBytes);
@@ -49,121 +80,291 @@ public class JwtUtil {
         byte[] refreshKeyBytes = Decoders.BASE64.decode(refreshSecretKey);
         this.refreshSecretKey = Keys.hmacShaKeyFor(refreshKeyBytes);
 
+        this.accessTokenParser = Jwts.parserBuilder().setSigningKey(this.accessSecretKey).build();
+        this.refreshTokenParser = Jwts.parserBuilder().setSigningKey(this.refreshSecretKey).build();
+        this.verifiedTokenCache = new ExpiringLruCache<>(verifiedCacheMaxSize);
+
         this.accessExpirationTime = accessExpirationTime;
         this.refreshExpirationTime = refreshExpirationTime;
         this.employeeService = employeeService;
         this.employeeRepository=employeeRepository;
+        this.principalCache = principalCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.claimsOnlyAuth = claimsOnlyAuth;
     }
 
     // 설명. 리프레시 토큰으로 액세스 토큰 재발급하는 로직 처리
-    // 설명. 리프레시 토큰으로 액세스 토큰 재발급
+    /* 설명. 리프레시 토큰으로 액세스 토큰 재발급 (리프레시 토큰 회전)
+     *  - 같은 family id로 새 리프레시 토큰을 발급하고, 사용한 토큰은 폐기 목록에 올린다.
+     *  - 폐기 여부는 메모리의 블룸 필터로 먼저 판별하므로 보통은 DB를 읽지 않는다.
+     *  - 새 액세스 토큰은 리프레시 토큰의 claims로 만들며, 권한이 바뀐 사원은
+     *    사원 단위 폐기(revokeEmployee)로 재로그인을 유도한다.
+     */
     public AuthTokens refreshAccessToken(String refreshToken) {
-        if (!validateRefreshToken(refreshToken)) {
-            throw new CommonException(ErrorCode.EXPIRED_TOKEN_ERROR);
+        Claims claims = parseRefreshClaims(refreshToken);
+        String employeeNumber = claims.getSubject();
+        String tokenId = claims.getId();
+        String familyId = claims.get("fid", String.class);
+        List<String> roles = readRoles(claims);
+        Object employeeIdClaim = claims.get("employeeId");
+
+        // 설명. 회전 도입 이전에 발급된 토큰(jti/fid/auth 없음)은 한 번만 DB에서 사원 정보를 읽어 새 family를 시작한다.
+        if (tokenId == null || familyId == null || roles.isEmpty() || !(employeeIdClaim instanceof Number)) {
+            Employee employee = employeeRepository.findByEmployeeNumber(employeeNumber)
+                    .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_EMPLOYEE));
+            if (employee.getResignationStatus() == ResignationStatus.Y) {
+                throw new CommonException(ErrorCode.INACTIVE_USER);
+            }
+            tokenRevocationService.verifyEmployee(employeeNumber, issuedAt(claims));
+            return issueTokens(employeeNumber, employee.getEmployeeId(),
+                    List.of("ROLE_" + employee.getEmployeeRole().name()), UUID.randomUUID().toString());
         }
 
-        String employeeNumber = getEmployeeNumberFromRefresh(refreshToken);
+        tokenRevocationService.verifyAndRotate(tokenId, familyId, employeeNumber,
+                issuedAt(claims), claims.getExpiration());
 
-        Employee employee = employeeRepository.findByEmployeeNumber(employeeNumber)
-                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_EMPLOYEE));
+        return issueTokens(employeeNumber, ((Number) employeeIdClaim).longValue(), roles, familyId);
+    }
+
+    private AuthTokens issueTokens(String employeeNumber, Long employeeId, List<String> roles, String familyId) {
+        long accessExpiration = getAccessTokenExpiration();
+        long refreshExpiration = getRefreshTokenExpiration();
+
+        Date issuedAt = new Date();
+        String newAccessToken = Jwts.builder()
+                .setSubject(employeeNumber)
+                .claim("auth", roles)
+                .claim("employeeId", employeeId)
+                .claim("employeeNumber", employeeNumber)
+                .claim(ISSUED_AT_MILLIS, issuedAt.getTime())
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(accessExpiration))
+                .signWith(accessSecretKey, SignatureAlgorithm.HS512)
+                .compact();
 
-        String newAccessToken = generateAccessToken(employee);
+        String newRefreshToken = buildRefreshToken(employeeNumber, employeeId, roles, familyId, refreshExpiration);
 
         return new AuthTokens(
                 newAccessToken,
-                refreshToken,
+                newRefreshToken,
                 "Bearer",
-                getAccessTokenExpiration(),
-                getRefreshTokenExpiration(),
-                employee.getEmployeeId(),
+                accessExpiration,
+                refreshExpiration,
+                employeeId,
                 employeeNumber
         );
     }
 
     // 설명. 액세스 토큰 생성
     public String generateAccessToken(Employee employee) {
+        Date issuedAt = new Date();
         return Jwts.builder()
                 .setSubject(employee.getEmployeeNumber())
                 .claim("auth", List.of("ROLE_" + employee.getEmployeeRole().name()))
                 .claim("employeeId", employee.getEmployeeId())
                 .claim("employeeNumber", employee.getEmployeeNumber())
-                .setIssuedAt(new Date())
+                .claim(ISSUED_AT_MILLIS, issuedAt.getTime())
+                .setIssuedAt(issuedAt)
                 .setExpiration(new Date(System.currentTimeMillis() + accessExpirationTime))
                 .signWith(accessSecretKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    // 설명. 리프레시 토큰 생성
+    // 설명. 리프레시 토큰 생성 (새 token family 시작)
     public String generateRefreshToken(Employee employee) {
+        return buildRefreshToken(employee.getEmployeeNumber(), employee.getEmployeeId(),
+                List.of("ROLE_" + employee.getEmployeeRole().name()), UUID.randomUUID().toString(),
+                getRefreshTokenExpiration());
+    }
+
+    // 설명. 리프레시 토큰: jti(토큰 id)와 fid(family id), 밀리초 발급 시각을 포함한다.
+    private String buildRefreshToken(String employeeNumber, Long employeeId, List<String> roles,
+                                     String familyId, long expiration) {
+        Date issuedAt = new Date();
         return Jwts.builder()
-                .setSubject(employee.getEmployeeNumber())
-                .claim("employeeId", employee.getEmployeeId())
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + refreshExpirationTime))
+                .setSubject(employeeNumber)
+                .setId(UUID.randomUUID().toString())
+                .claim("fid", familyId)
+                .claim("auth", roles)
+                .claim("employeeId", employeeId)
+                .claim("employeeNumber", employeeNumber)
+                .claim(ISSUED_AT_MILLIS, issuedAt.getTime())
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(expiration))
                 .signWith(refreshSecretKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
 
 
-    // 설명. 액세스 토큰 검증
-    public boolean validateAccessToken(String token) {
+    /* 설명. 액세스 토큰 검증 (요청당 한 번만 서명 검증 + 파싱)
+     *  최근에 검증한 토큰이면 digest 캐시에서 바로 claims를 돌려주고,
+     *  아니면 미리 만들어 둔 parser로 검증한 뒤 타입이 정해진 claims로 변환해 캐시에 넣는다.
+     */
+    public AccessTokenClaims verifyAccessToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new CommonException(ErrorCode.INVALID_TOKEN_ERROR);
+        }
+
+        String digest = digest(token);
+        AccessTokenClaims cached = verifiedTokenCache.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims;
         try {
-            Jwts.parserBuilder().setSigningKey(accessSecretKey).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
-            log.info("Invalid Access Token: {}", e.getMessage());
+            claims = accessTokenParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid Access Token: {}", e.getMessage());
             throw new CommonException(ErrorCode.INVALID_TOKEN_ERROR);
         }
+
+        AccessTokenClaims verified = toAccessTokenClaims(claims);
+        verifiedTokenCache.put(digest, verified, verified.expiresAt());
+        return verified;
+    }
+
+    // 설명. 액세스 토큰 검증
+    public boolean validateAccessToken(String token) {
+        verifyAccessToken(token);
+        return true;
     }
 
     // 설명. 리프레시 토큰 검증
     public boolean validateRefreshToken(String token) {
+        parseRefreshClaims(token);
+        return true;
+    }
+
+    // 설명. 리프레시 토큰 검증 및 Claims 추출 (한 번만 파싱)
+    private Claims parseRefreshClaims(String token) {
         try {
-            Claims claims = Jwts.parserBuilder().setSigningKey(refreshSecretKey).build().parseClaimsJws(token).getBody();
-            return true;
-        } catch (JwtException e) {
-            log.info("Invalid Refresh Token: {}", e.getMessage());
+            return refreshTokenParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid Refresh Token: {}", e.getMessage());
             throw new CommonException(ErrorCode.INVALID_TOKEN_ERROR);
         }
     }
 
     // 설명. Token에서 인증 객체 추출
     public Authentication getAuthentication(String token) {
-        String employeeNumber = this.getEmployeeNumberFromAccess(token);
-        UserDetails userDetails  = employeeService.loadUserByUsername(employeeNumber);
-
-        Claims claims = parseClaims(token);
-        log.info("넘어온 AccessToken claims 확인: {}", claims);
+        return getAuthentication(verifyAccessToken(token));
+    }
 
-        String authClaim = claims.get("auth") != null ? claims.get("auth").toString() : null;
-        if (authClaim == null || authClaim.trim().isEmpty()) {
+    // 설명. 검증된 claims로 인증 객체 생성
+    public Authentication getAuthentication(AccessTokenClaims claims) {
+        if (claims.roles().isEmpty()) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
 
-        Collection<? extends GrantedAuthority> authorities
-                = Arrays.stream(authClaim.replace("[", "").replace("]", "").split(", "))
-                .map(String::trim)
-                .filter(role -> !role.isEmpty()) // 빈 문자열 제거
+        String employeeNumber = claims.employeeNumber();
+        Collection<? extends GrantedAuthority> authorities = claims.roles().stream()
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
 
+        // 설명. claims 전용 모드에서는 요청마다 DB를 조회하지 않고 캐시된 principal을 사용한다.
+        if (claimsOnlyAuth) {
+            UserDetails principal = resolvePrincipal(employeeNumber, authorities, claims.issuedAt());
+            return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+        }
+
+        UserDetails userDetails  = employeeService.loadUserByUsername(employeeNumber);
         return new UsernamePasswordAuthenticationToken(userDetails, "", authorities);
     }
 
+    /* 설명. claims 전용 모드의 principal 결정
+     *  - 캐시 적중(recheck-interval 이내): 그대로 사용
+     *  - 캐시 없음/오래됨/무효화 표시: 사원 단위 폐기 기록으로 다른 서버에서 권한/상태가 바뀌었는지 확인한다.
+     *    (폐기 기록은 블룸 필터에 걸릴 때만 DB에서 읽으므로 폐기가 없는 사원은 DB를 읽지 않는다)
+     *    - 오래된 캐시 + 그 뒤의 폐기 없음: 캐시된 principal을 그대로 쓰고 확인 시각만 갱신
+     *    - 폐기 기록이 없거나 토큰이 폐기 이후에 발급됨: 검증된 claims로 principal 생성
+     *      (무효화 표시는 폐기 기록과 함께 남으므로, 폐기 기록 없이 무효화 표시만 있으면 claims를 믿지 않는다)
+     *    - 그 외(폐기 이전에 발급된 토큰): DB에서 다시 읽는다.
+     */
+    private UserDetails resolvePrincipal(String employeeNumber, Collection<? extends GrantedAuthority> authorities,
+                                         long issuedAt) {
+        PrincipalCache.Entry cached = principalCache.get(employeeNumber);
+        if (cached != null && principalCache.isFresh(cached)) {
+            return cached.principal();
+        }
+
+        Optional<LocalDateTime> revokedAt = tokenRevocationService.findEmployeeRevokedAt(employeeNumber);
+        boolean invalidated = cached != null && cached.isInvalidated();
+        boolean claimsCurrent = revokedAt.map(at -> principalCache.isIssuedAfter(issuedAt, at)).orElse(!invalidated);
+
+        UserDetails principal;
+        if (cached != null && !invalidated
+                && revokedAt.map(at -> !principalCache.isChangedSince(cached, at)).orElse(true)) {
+            principal = cached.principal();
+        } else if (claimsCurrent) {
+            principal = new User(employeeNumber, "", authorities);
+        } else {
+            UserDetails loaded = employeeService.loadUserByUsername(employeeNumber);
+            if (!loaded.isEnabled()) {
+                throw new CommonException(ErrorCode.INACTIVE_USER);
+            }
+            // 설명. 캐시에는 비밀번호 해시를 남기지 않는다.
+            principal = new User(loaded.getUsername(), "", loaded.getAuthorities());
+        }
+        principalCache.put(employeeNumber, principal);
+        return principal;
+    }
+
+    // 설명. jjwt Claims -> 타입이 정해진 claims (auth는 JSON 배열로 들어온다)
+    private AccessTokenClaims toAccessTokenClaims(Claims claims) {
+        Object employeeId = claims.get("employeeId");
+        Date issuedAt = issuedAt(claims);
+        return new AccessTokenClaims(
+                claims.getSubject(),
+                employeeId instanceof Number number ? number.longValue() : null,
+                readRoles(claims),
+                issuedAt != null ? issuedAt.getTime() : 0L,
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : 0L
+        );
+    }
+
+    // 설명. 발급 시각 (iat_ms가 있으면 밀리초, 없으면 초 단위 iat)
+    static Date issuedAt(Claims claims) {
+        Object millis = claims.get(ISSUED_AT_MILLIS);
+        return millis instanceof Number number ? new Date(number.longValue()) : claims.getIssuedAt();
+    }
+
+    private List<String> readRoles(Claims claims) {
+        List<String> roles = new ArrayList<>();
+        Object auth = claims.get("auth");
+        if (auth instanceof Collection<?> authList) {
+            for (Object role : authList) {
+                if (role != null && !role.toString().isBlank()) {
+                    roles.add(role.toString().trim());
+                }
+            }
+        } else if (auth != null && !auth.toString().isBlank()) {
+            roles.add(auth.toString().trim());
+        }
+        return List.copyOf(roles);
+    }
+
+    private String digest(String token) {
+        MessageDigest messageDigest = SHA_256.get();
+        messageDigest.reset();
+        byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
     // 설명. accessToken에서 Claims 추출
     public Claims parseClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(accessSecretKey).build().parseClaimsJws(token).getBody();
+        return accessTokenParser.parseClaimsJws(token).getBody();
     }
 
     // 설명. 토큰에서 employeeNumber 추출 (액세스 토큰)
     public String getEmployeeNumberFromAccess(String token) {
-        return Jwts.parserBuilder().setSigningKey(accessSecretKey).build().parseClaimsJws(token).getBody().getSubject();
+        return verifyAccessToken(token).employeeNumber();
     }
 
     // 설명. 토큰에서 employeeNumber 추출 (리프레시 토큰)
     public String getEmployeeNumberFromRefresh(String token) {
-        return Jwts.parserBuilder().setSigningKey(refreshSecretKey).build().parseClaimsJws(token).getBody().getSubject();
+        return parseRefreshClaims(token).getSubject();
     }
 
     // 설명. 액세스 토큰 만료 시간 가져오기
@@ -0,0 +1,116 @@
+package com.pado.inflow.employee.security;
+
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/* 설명. 로그인 비밀번호(BCrypt) 검증 전용 스레드 풀
+ *  출근 시간대처럼 로그인이 몰릴 때 BCrypt 연산이 Tomcat 스레드를 모두 점유하지 않도록
+ *  크기가 제한된 풀과 대기열에서만 검증한다. 대기열이 가득 차면 바로 LOGIN_OVERLOADED(503)를 던져
+ *  클라이언트가 Retry-After 이후 다시 시도하게 한다.
+ */
+@Slf4j
+@Component
+public class LoginVerifier {
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMillis;
+
+    @Getter
+    private final long retryAfterSeconds;
+
+    private final Timer queueWaitTimer;
+    private final Timer bcryptTimer;
+    private final Counter rejectedCounter;
+
+    public LoginVerifier(BCryptPasswordEncoder bCryptPasswordEncoder,
+                         MeterRegistry meterRegistry,
+                         @Value("${login.verifier.pool-size:0}") int poolSize,
+                         @Value("${login.verifier.queue-capacity:64}") int queueCapacity,
+                         @Value("${login.verifier.timeout:5000}") long timeoutMillis,
+                         @Value("${login.verifier.retry-after:3}") long retryAfterSeconds) {
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        // 설명. BCrypt는 CPU 작업이므로 기본값은 코어 수
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("login-verifier-");
+        executor.initialize();
+
+        this.queueWaitTimer = Timer.builder("inflow.login.queue.wait")
+                .description("로그인 검증 대기열 대기 시간")
+                .register(meterRegistry);
+        this.bcryptTimer = Timer.builder("inflow.login.bcrypt")
+                .description("BCrypt 비밀번호 검증 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("inflow.login.rejected")
+                .description("대기열 초과로 거절된 로그인 수")
+                .register(meterRegistry);
+        Gauge.builder("inflow.login.queue.depth", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("로그인 검증 대기열 길이")
+                .register(meterRegistry);
+    }
+
+    // 설명. 검증 풀에서 비밀번호 일치 여부 확인 (대기열 초과/시간 초과 시 LOGIN_OVERLOADED)
+    public boolean matches(String rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return bCryptPasswordEncoder.matches(rawPassword, encodedPassword);
+                } finally {
+                    bcryptTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            log.warn("로그인 검증 대기열이 가득 찼습니다. queueSize = {}",
+                    executor.getThreadPoolExecutor().getQueue().size());
+            throw new CommonException(ErrorCode.LOGIN_OVERLOADED);
+        }
+
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejectedCounter.increment();
+            throw new CommonException(ErrorCode.LOGIN_OVERLOADED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommonException(ErrorCode.LOGIN_OVERLOADED);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 검증 중 오류 발생", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,109 @@
+package com.pado.inflow.employee.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/* 설명. JwtFilter에서 사용하는 인증 주체(principal) 캐시
+ *  - 사번(employeeNumber) 단위로 UserDetails를 보관하며 크기 제한과 TTL을 가진다.
+ *  - 권한/재직 상태가 바뀌면 invalidate()로 "무효화" 표시를 남긴다.
+ *    무효화 표시는 액세스 토큰 수명 동안 유지되어, 변경 이전에 발급된 토큰의 claims를
+ *    그대로 믿지 않고 한 번은 DB에서 다시 읽도록 강제한다.
+ *  - 무효화 표시는 이 서버에만 남으므로, 다른 서버의 변경은 공유 폐기 기록(token_revocation의 사원 단위 폐기)으로 확인한다.
+ *    항목마다 마지막 확인 시각을 두고 recheck-interval이 지나면 그 기록을 다시 확인한다. (isFresh, isChangedSince)
+ *    폐기 이후에 발급된 토큰이면 캐시가 없어도 claims를 그대로 쓴다. (isIssuedAfter)
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private final ExpiringLruCache<String, Entry> cache;
+    private final long ttl;
+    private final long invalidationTtl;
+    private final long recheckInterval;
+
+    public PrincipalCache(
+            @Value("${token.principal-cache.max-size:10000}") int maxSize,
+            @Value("${token.principal-cache.ttl:600000}") long ttl,
+            @Value("${token.principal-cache.recheck-interval:30000}") long recheckInterval,
+            @Value("${token.access-expiration-time}") long accessExpirationTime
+    ) {
+        this.cache = new ExpiringLruCache<>(maxSize);
+        this.ttl = ttl;
+        this.recheckInterval = recheckInterval;
+        this.invalidationTtl = accessExpirationTime;
+    }
+
+    // 설명. 캐시 조회 (없으면 null, principal이 null인 Entry는 무효화 표시)
+    public Entry get(String employeeNumber) {
+        return cache.get(employeeNumber);
+    }
+
+    // 설명. principal 저장 (무효화 표시를 덮어쓸 때는 표시의 만료 시각보다 먼저 사라지지 않게 한다)
+    public void put(String employeeNumber, UserDetails principal) {
+        long expiresAt = Math.max(System.currentTimeMillis() + ttl, cache.getExpiresAt(employeeNumber));
+        cache.put(employeeNumber, new Entry(principal, System.currentTimeMillis()), expiresAt);
+    }
+
+    // 설명. 공유 폐기 기록을 다시 확인하지 않고 그대로 써도 되는 항목인지 여부
+    public boolean isFresh(Entry entry) {
+        return !entry.isInvalidated() && System.currentTimeMillis() - entry.checkedAt() < recheckInterval;
+    }
+
+    /* 설명. 항목을 마지막으로 확인한 뒤에 사원 단위 폐기가 있었는지 여부
+     *  폐기 시각은 권한 변경 트랜잭션 안에서 기록되어 커밋이 늦을 수 있으므로,
+     *  확인 시각보다 한 주기 앞선 폐기까지 변경으로 본다. (DB에서 한 번 더 읽을 뿐이다)
+     */
+    public boolean isChangedSince(Entry entry, LocalDateTime revokedAt) {
+        return toMillis(revokedAt) > entry.checkedAt() - recheckInterval;
+    }
+
+    /* 설명. 토큰(밀리초 발급 시각)이 사원 단위 폐기 이후에 발급되어 claims를 그대로 믿어도 되는지 여부
+     *  같은 이유로 폐기 후 한 주기 안에 발급된 토큰은 변경 이전 정보일 수 있다고 보고 DB에서 읽는다.
+     */
+    public boolean isIssuedAfter(long issuedAt, LocalDateTime revokedAt) {
+        return issuedAt - recheckInterval > toMillis(revokedAt);
+    }
+
+    /* 설명. 권한/상태 변경 시 호출. 트랜잭션 안이라면 커밋 이후에 무효화한다.
+     *  이 서버에만 적용되므로 다른 서버에는 TokenRevocationService.revokeEmployee()의 폐기 기록으로 알린다.
+     */
+    public void invalidate(String employeeNumber) {
+        if (employeeNumber == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markInvalidated(employeeNumber);
+                }
+            });
+            return;
+        }
+        markInvalidated(employeeNumber);
+    }
+
+    private void markInvalidated(String employeeNumber) {
+        log.debug("principal 캐시 무효화: employeeNumber = {}", employeeNumber);
+        cache.put(employeeNumber, Entry.INVALIDATED, System.currentTimeMillis() + invalidationTtl);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public record Entry(UserDetails principal, long checkedAt) {
+        static final Entry INVALIDATED = new Entry(null, 0L);
+
+        public boolean isInvalidated() {
+            return principal == null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.pado.inflow.employee.security;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/* 설명. RouteAuthorizationTable 기반 인가 처리
+ *  - permitAll 규칙: 누구나 허용
+ *  - hasAnyRole 규칙: 인증된 사용자가 규칙의 권한 중 하나라도 가지고 있으면 허용
+ *  - 규칙 없음: 익명이 아닌 인증된 사용자면 허용 (기존 anyRequest().authenticated())
+ *  - ASYNC 디스패치: 허용 (SSE 등 비동기 응답의 재디스패치)
+ *    최초 요청(REQUEST)에서 이미 인가를 마쳤고, JwtFilter는 ASYNC 디스패치에서 다시 실행되지 않으며
+ *    (OncePerRequestFilter) SecurityContext를 저장하지도 않으므로 재디스패치는 익명으로 보인다.
+ */
+@Component
+public class RouteAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final RouteAuthorizationTable table;
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+    public RouteAuthorizationManager() {
+        this.table = new RouteAuthorizationTable(RouteRules.defaults());
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        if (context.getRequest().getDispatcherType() == DispatcherType.ASYNC) {
+            return GRANTED;
+        }
+
+        RouteRule rule = table.match(context.getRequest());
+        if (rule != null && rule.permitAll()) {
+            return GRANTED;
+        }
+
+        Authentication current = authentication.get();
+        if (current == null || !current.isAuthenticated()) {
+            return DENIED;
+        }
+
+        if (rule == null) {
+            return trustResolver.isAnonymous(current) ? DENIED : GRANTED;
+        }
+
+        for (GrantedAuthority authority : current.getAuthorities()) {
+            if (rule.authorities().contains(authority.getAuthority())) {
+                return GRANTED;
+            }
+        }
+        return DENIED;
+    }
+
+    // 설명. JwtFilter에서 토큰 검사를 건너뛸 요청인지 판단할 때 사용
+    public boolean isPermitAll(HttpServletRequest request) {
+        return table.isPermitAll(request);
+    }
+}
@@ -0,0 +1,158 @@
+package com.pado.inflow.employee.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 설명. 경로 권한 규칙을 HTTP 메서드별 세그먼트 트라이로 컴파일한 조회 테이블
+ *  기존 AntPathRequestMatcher 체인은 요청마다 규칙을 위에서부터 하나씩 비교했지만,
+ *  이 테이블은 경로 세그먼트 수만큼만 내려가며 후보 규칙을 찾는다.
+ *  - 규칙마다 선언 순서를 기억해 두고, 후보 중 가장 먼저 선언된 규칙을 돌려준다. (first-match 유지)
+ *  - 메서드가 없는 규칙은 별도의 트라이에 두고 메서드별 트라이와 함께 조회한다.
+ *  지원 패턴: 리터럴 세그먼트, "*"(세그먼트 하나), 끝에 오는 "/**"(0개 이상의 세그먼트)
+ */
+public final class RouteAuthorizationTable {
+
+    private static final String SINGLE_WILDCARD = "*";
+    private static final String MULTI_WILDCARD = "**";
+
+    private final Map<String, Node> rootsByMethod = new HashMap<>();
+    private final Node anyMethodRoot = new Node();
+
+    public RouteAuthorizationTable(List<RouteRule> rules) {
+        for (int order = 0; order < rules.size(); order++) {
+            RouteRule rule = rules.get(order);
+            Node root = rule.method() == null
+                    ? anyMethodRoot
+                    : rootsByMethod.computeIfAbsent(rule.method(), method -> new Node());
+            insert(root, rule, order);
+        }
+    }
+
+    // 설명. 요청에 적용할 규칙 조회 (해당 규칙이 없으면 null)
+    public RouteRule match(HttpServletRequest request) {
+        return match(request.getMethod(), getRequestPath(request));
+    }
+
+    public RouteRule match(String method, String path) {
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        List<String> segments = split(path);
+        boolean trailingSlash = path.length() > 1 && path.charAt(path.length() - 1) == '/';
+
+        Ranked best = null;
+        Node methodRoot = method == null ? null : rootsByMethod.get(method);
+        if (methodRoot != null) {
+            best = find(methodRoot, segments, 0, trailingSlash, null);
+        }
+        best = find(anyMethodRoot, segments, 0, trailingSlash, best);
+        return best == null ? null : best.rule();
+    }
+
+    // 설명. 인증 없이 통과시키는 요청인지 여부
+    public boolean isPermitAll(HttpServletRequest request) {
+        RouteRule rule = match(request);
+        return rule != null && rule.permitAll();
+    }
+
+    // 설명. AntPathRequestMatcher와 동일하게 servletPath + pathInfo 기준으로 비교
+    private static String getRequestPath(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+    }
+
+    private static void insert(Node root, RouteRule rule, int order) {
+        String pattern = rule.pattern();
+        if (pattern == null || !pattern.startsWith("/")) {
+            throw new IllegalArgumentException("경로 패턴은 '/'로 시작해야 합니다: " + pattern);
+        }
+        if (pattern.length() > 1 && pattern.endsWith("/")) {
+            throw new IllegalArgumentException("경로 패턴은 '/'로 끝날 수 없습니다: " + pattern);
+        }
+
+        List<String> segments = split(pattern);
+        Ranked ranked = new Ranked(order, rule);
+        Node node = root;
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (MULTI_WILDCARD.equals(segment)) {
+                if (i != segments.size() - 1) {
+                    throw new IllegalArgumentException("'**'는 패턴의 마지막에만 올 수 있습니다: " + pattern);
+                }
+                node.subtree = earlier(node.subtree, ranked);
+                return;
+            }
+            if (SINGLE_WILDCARD.equals(segment)) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node();
+                }
+                node = node.wildcard;
+                continue;
+            }
+            if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0) {
+                throw new IllegalArgumentException("지원하지 않는 와일드카드 패턴입니다: " + pattern);
+            }
+            node = node.children.computeIfAbsent(segment, key -> new Node());
+        }
+        node.exact = earlier(node.exact, ranked);
+    }
+
+    private static Ranked find(Node node, List<String> segments, int index, boolean trailingSlash, Ranked best) {
+        // 설명. "/**" 규칙은 남은 세그먼트와 관계없이 일치
+        best = earlier(best, node.subtree);
+
+        if (index == segments.size()) {
+            return trailingSlash ? best : earlier(best, node.exact);
+        }
+
+        String segment = segments.get(index);
+        Node child = node.children.get(segment);
+        if (child != null) {
+            best = find(child, segments, index + 1, trailingSlash, best);
+        }
+        if (node.wildcard != null) {
+            best = find(node.wildcard, segments, index + 1, trailingSlash, best);
+        }
+        return best;
+    }
+
+    // 설명. 빈 세그먼트("//", 앞뒤 '/')는 무시하고 나눈다.
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>(8);
+        int start = 0;
+        int length = path.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return segments;
+    }
+
+    private static Ranked earlier(Ranked current, Ranked candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        if (current == null || candidate.order() < current.order()) {
+            return candidate;
+        }
+        return current;
+    }
+
+    private record Ranked(int order, RouteRule rule) {
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node wildcard;
+        private Ranked subtree;
+        private Ranked exact;
+    }
+}
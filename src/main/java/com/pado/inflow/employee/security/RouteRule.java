@@ -0,0 +1,24 @@
+package com.pado.inflow.employee.security;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/* 설명. 경로 권한 규칙 한 건
+ *  method가 null이면 모든 HTTP 메서드에 적용된다.
+ *  pattern은 "/**"(끝에만), "*"(세그먼트 하나) 와일드카드를 지원한다.
+ */
+public record RouteRule(String method, String pattern, boolean permitAll, Set<String> authorities) {
+
+    public static RouteRule permitAll(String pattern, String method) {
+        return new RouteRule(method, pattern, true, Set.of());
+    }
+
+    // 설명. hasAnyRole과 동일하게 "ROLE_" 접두어를 붙인 권한으로 보관
+    public static RouteRule hasAnyRole(String pattern, String method, String... roles) {
+        Set<String> authorities = Arrays.stream(roles)
+                .map(role -> "ROLE_" + role)
+                .collect(Collectors.toUnmodifiableSet());
+        return new RouteRule(method, pattern, false, authorities);
+    }
+}
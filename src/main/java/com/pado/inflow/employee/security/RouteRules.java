@@ -0,0 +1,230 @@
+package com.pado.inflow.employee.security;
+
+import java.util.List;
+
+/* 설명. API 경로별 권한 규칙 목록
+ *  선언 순서가 곧 우선순위이다. (먼저 선언된 규칙이 이긴다)
+ *  RouteAuthorizationTable이 기동 시 이 목록을 트라이로 컴파일하며,
+ *  목록에 없는 요청은 인증만 되어 있으면 허용한다.
+ */
+public final class RouteRules {
+
+    private RouteRules() {
+    }
+
+    public static List<RouteRule> defaults() {
+        return List.of(
+                RouteRule.permitAll("/actuator/health", "GET"),
+                RouteRule.hasAnyRole("/actuator/authtrace/**", null, "ADMIN"),
+                RouteRule.hasAnyRole("/actuator/vacationbatch/**", null, "ADMIN"),
+                // 설명. 1. 로그인은 어떤 사용자도 이용 가능
+                RouteRule.permitAll("/api/login", "POST"),
+                RouteRule.permitAll("/api/auth/**", "POST"),
+
+                // 설명. 2. employee(사원) 도메인
+                // 설명. 2.1. 사원 테이블 관련 API
+                RouteRule.hasAnyRole("/api/employees/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/employees/**", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/employees/**", "DELETE", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/employees/**", "PUT", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/employees/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 설명. 2.2. 인사 발령 테이블 관련 API
+                RouteRule.hasAnyRole("/api/appointments/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/appointments/**", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/appointments/**", "DELETE", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/appointments/**", "PUT", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/appointments/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 설명. 2.3. 회사 테이블 관련 API
+                RouteRule.hasAnyRole("/api/companies/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 설명. 2.4. 엑셀 양식 관련 API
+                RouteRule.hasAnyRole("/api/forms/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 설명. 2.5. 유효성검사 관련 API
+                RouteRule.hasAnyRole("/api/validations/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 그외.. 테이블 관련 api
+
+                // 설명. 3. department(부서) 도메인
+                // 사원 찾기 - 부서 폴더구조 목록 조회
+                RouteRule.hasAnyRole("/api/departments/hierarchy/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                // 사원 찾기 - 검색 키워드(사원명, 사원코드, 부서명, 전화번호) 사원 목록 조회
+                RouteRule.hasAnyRole("/api/departments/search/members/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                // 사원찾기 - 사원정보 상세조회
+                RouteRule.hasAnyRole("/api/departments/search/members/detail/employee-code/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                // 인사관리 - 부서 상세 조회
+                RouteRule.hasAnyRole("/api/departments/search/members/detail/department-code/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                // 인사관리 - 검색 키워드(부서코드, 부서명, 부서장명) 부서 목록 조회
+                RouteRule.hasAnyRole("/api/departments/search/departments/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                // 인사관리 - 부서 생성을 위한 드롭다운
+                RouteRule.hasAnyRole("/api/departments/dropdown/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                // 팀장권한 - 내 부서 관리
+                RouteRule.hasAnyRole("/api/departments/my-department/*/members/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                // 인사관리 - 부서 삭제
+                RouteRule.hasAnyRole("/api/departments/**", "DELETE", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                // 인사관리 - 부서 추가
+                RouteRule.hasAnyRole("/api/departments/add-department/**", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                // 인사관리 - 부서 수정
+                RouteRule.hasAnyRole("/api/departments/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 설명. 4. attendance(근태) 도메인
+                // 월별 근무 요약 재집계는 관리자/인사팀만
+                RouteRule.hasAnyRole("/api/commutes/summary/rebuild", "POST", "HR", "ADMIN"),
+                // 출입 기록 일괄 적재도 관리자/인사팀만
+                RouteRule.hasAnyRole("/api/commutes/bulk", "POST", "HR", "ADMIN"),
+                RouteRule.hasAnyRole("/api/attendance-requests/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/attendance-requests/**", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/attendance-requests/**", "DELETE", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/attendance-requests/**", "PUT", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/attendance-requests/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 설명. 5. vacation(휴가) 도메인
+                RouteRule.hasAnyRole("/api/vacations/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/vacations/**", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/vacations/**", "DELETE", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/vacations/**", "PUT", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/vacations/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                /* -------------------------------------------------------------------------------------------------------------------------------------------------------------- */
+                // 설명. 6. evaluation(평가) 도메인
+
+                // 과제 유형 ( Task_Type )
+                RouteRule.hasAnyRole("/api/evaluations/taskType/allTaskType", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskType/create", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"), // 설명. 6. evaluation(평가) 도메인
+
+                // 과제 유형 ( Task_Type )
+                RouteRule.hasAnyRole("/api/evaluations/taskType/allTaskType", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskType/create", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskType/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskType/**", "DELETE", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 과제 항목 ( Task_Item )
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/departmentTasks", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/departmentTask", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/individualTasks", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/individualTask/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/AllTaskItems/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/commonTasks", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/commonTask/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/TaskItems/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 과제별 평가 ( Task_Eval )
+                RouteRule.hasAnyRole("/api/evaluations/taskEval/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskEval/byEvaluationId/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskEval/**", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskEval/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 평가 등급 ( grade )
+                RouteRule.hasAnyRole("/api/evaluations/grade/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 평가 피드백 ( feedback )
+                RouteRule.hasAnyRole("/api/evaluations/feedback/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/feedback/**", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/feedback/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 평가 정책 ( EvaluationPolicy )
+                RouteRule.hasAnyRole("/api/evaluations/evaluationPolicy/policySearch", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/evaluationPolicy/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/evaluationPolicy/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/evaluationPolicy/**", "DELETE", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/evaluationPolicy/policyCreation", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 평가 ( Evaluation )
+                RouteRule.hasAnyRole("/api/evaluations/evaluation/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 평가정책별 평가 ( TaskTypeEval )
+                RouteRule.hasAnyRole("/api/evaluations/taskTypeEval/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                /* -------------------------------------------------------------------------------------------------------------------------------------------------------------- */
+
+                RouteRule.hasAnyRole("/api/evaluations/taskType/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskType/**", "DELETE", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 과제 항목 ( Task_Item )
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/departmentTasks", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/departmentTask", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/individualTasks", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/individualTask/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/AllTaskItems/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/commonTasks", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/commonTask/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskItem/TaskItems/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 과제별 평가 ( Task_Eval )
+                RouteRule.hasAnyRole("/api/evaluations/taskEval/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskEval/byEvaluationId/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskEval/**", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/taskEval/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 평가 등급 ( grade )
+                RouteRule.hasAnyRole("/api/evaluations/grade/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 평가 피드백 ( feedback )
+                RouteRule.hasAnyRole("/api/evaluations/feedback/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/feedback/**", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/feedback/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 평가 정책 ( EvaluationPolicy )
+                RouteRule.hasAnyRole("/api/evaluations/evaluationPolicy/policySearch", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/evaluationPolicy/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/evaluationPolicy/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/evaluationPolicy/**", "DELETE", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/evaluations/evaluationPolicy/policyCreation", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 평가 ( Evaluation )
+                RouteRule.hasAnyRole("/api/evaluations/evaluation/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 평가정책별 평가 ( TaskTypeEval )
+                RouteRule.hasAnyRole("/api/evaluations/taskTypeEval/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                /* -------------------------------------------------------------------------------------------------------------------------------------------------------------- */
+
+                // 설명. 7. payroll(급여) 도메인
+
+                // 사원별 연월별 급여 명세서 조회
+                RouteRule.hasAnyRole("/api/payrolls/details", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 사원별 전체 급여 내역 조회
+                RouteRule.hasAnyRole("/api/payrolls/all", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/payrolls/**", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/payrolls/**", "DELETE", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/payrolls/**", "PUT", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/payrolls/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 급여 기간별 조회
+                RouteRule.hasAnyRole("/api/payrolls/period", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 급여 연도별 조회
+                RouteRule.hasAnyRole("/api/payrolls/list", null, "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 급여 비과세 항목 전체 조회
+                RouteRule.hasAnyRole("/api/non-taxable-payrolls/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 급여 비과세 항목 등록
+                RouteRule.hasAnyRole("/api/non-taxable-payrolls/**", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 급여 비과세 항목 수정
+                RouteRule.hasAnyRole("/api/non-taxable-payrolls/**", "PUT", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 급여 비정기 수당 항목 전체 조회
+                RouteRule.hasAnyRole("/api/irregular-allowances/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 급여 비정기 수당 항목 등록
+                RouteRule.hasAnyRole("/api/irregular-allowances/**", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 급여 비정기 수당 항목 수정
+                RouteRule.hasAnyRole("/api/irregular-allowances/**", "PUT", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 퇴직금 조회를 위한 api
+                RouteRule.hasAnyRole("/api/severance-pay/estimate/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/severance-pay/calculate/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+
+                // 설명. 8. statistics(통계) 도메인
+                RouteRule.hasAnyRole("/api/statistics/**", "GET", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/statistics/**", "POST", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/statistics/**", "DELETE", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/statistics/**", "PUT", "EMPLOYEE", "HR", "MANAGER", "ADMIN"),
+                RouteRule.hasAnyRole("/api/statistics/**", "PATCH", "EMPLOYEE", "HR", "MANAGER", "ADMIN")
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package com.pado.inflow.employee.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pado.inflow.common.ResponseDTO;
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/* 설명. 시큐리티 필터에서 JSON 응답을 쓰는 공용 유틸
+ *  - ObjectMapper는 스레드 안전하므로 요청마다 만들지 않고 하나만 사용한다.
+ *  - ErrorCode 실패 응답은 내용이 고정이므로 기동 시 미리 직렬화해 두고 바이트만 쓴다.
+ */
+public final class SecurityResponseWriter {
+
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+    private static final Map<ErrorCode, byte[]> ERROR_BODIES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            try {
+                ERROR_BODIES.put(errorCode,
+                        OBJECT_MAPPER.writeValueAsBytes(ResponseDTO.fail(new CommonException(errorCode))));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("에러 응답 직렬화 실패: " + errorCode, e);
+            }
+        }
+    }
+
+    private SecurityResponseWriter() {
+    }
+
+    // 설명. ErrorCode의 상태 코드로 실패 응답 작성
+    public static void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        writeError(response, errorCode.getHttpStatus().value(), errorCode);
+    }
+
+    // 설명. 상태 코드를 직접 지정해 실패 응답 작성 (로그인 실패 핸들러는 403으로 통일)
+    public static void writeError(HttpServletResponse response, int status, ErrorCode errorCode) throws IOException {
+        byte[] body = ERROR_BODIES.get(errorCode);
+        response.setStatus(status);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    // 설명. 성공 응답 등 내용이 매번 다른 JSON 응답 작성
+    public static void writeJson(HttpServletResponse response, Object body) throws IOException {
+        byte[] bytes = OBJECT_MAPPER.writeValueAsBytes(body);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+}
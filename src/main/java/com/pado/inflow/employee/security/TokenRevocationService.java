@@ -0,0 +1,177 @@
+package com.pado.inflow.employee.security;
+
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.common.schedule.SchedulerLock;
+import com.pado.inflow.employee.info.command.domain.aggregate.entity.TokenRevocation;
+import com.pado.inflow.employee.info.command.domain.repository.TokenRevocationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/* 설명. 리프레시 토큰 회전(rotation)과 폐기 목록 관리
+ *  폐기 목록은 작은 token_revocation 테이블에 두고, 메모리에는 블룸 필터만 유지한다.
+ *  - 필터에 없는 키: DB 조회 없이 바로 통과 (대부분의 리프레시 요청)
+ *  - 필터에 있을 수도 있는 키: 그때만 테이블을 조회해 확정한다.
+ *  다른 서버에서 추가된 폐기 항목은 주기적으로 가져와 필터에 반영한다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final String TOKEN_PREFIX = "T:";
+    private static final String FAMILY_PREFIX = "F:";
+    private static final String EMPLOYEE_PREFIX = "E:";
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+    private final long refreshExpirationTime;
+    private final Duration reuseGrace;
+    private final SchedulerLock schedulerLock;
+
+    private volatile BloomFilter filter;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository,
+                                  @Value("${token.revocation.expected-size:100000}") int expectedRevocations,
+                                  @Value("${token.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${token.refresh-expiration-time}") long refreshExpirationTime,
+                                  @Value("${token.revocation.reuse-grace:30000}") long reuseGraceMillis,
+                                  SchedulerLock schedulerLock) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.refreshExpirationTime = refreshExpirationTime;
+        this.reuseGrace = Duration.ofMillis(reuseGraceMillis);
+        this.schedulerLock = schedulerLock;
+    }
+
+    // 설명. 기동 시 유효한 폐기 항목으로 필터 구성
+    @PostConstruct
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        BloomFilter rebuilt = new BloomFilter(expectedRevocations, falsePositiveRate);
+        List<TokenRevocation> revocations = tokenRevocationRepository.findByExpiresAtAfter(now);
+        revocations.forEach(revocation -> rebuilt.put(revocation.getRevocationKey()));
+        this.filter = rebuilt;
+        this.lastSyncedAt = now;
+        log.info("리프레시 토큰 폐기 필터 구성 완료: {}건", revocations.size());
+    }
+
+    // 설명. 다른 서버에서 추가된 폐기 항목 반영 (서버 간 시각 차이를 고려해 1분 겹쳐서 조회)
+    @Scheduled(fixedDelayString = "${token.revocation.sync-interval:60000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        tokenRevocationRepository.findByRevokedAtAfter(lastSyncedAt.minusMinutes(1))
+                .forEach(revocation -> filter.put(revocation.getRevocationKey()));
+        lastSyncedAt = now;
+    }
+
+    /* 설명. 만료된 항목 정리 후 필터 재구성 (블룸 필터는 삭제가 불가능하므로 새로 만든다)
+     *  테이블 정리는 여러 서버 중 한 서버만 하고, 필터 재구성은 서버마다 한다.
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgeAndRebuild() {
+        schedulerLock.runExclusivelyInTransaction("tokenRevocationPurge", () -> {
+            int deleted = tokenRevocationRepository.deleteExpired(LocalDateTime.now());
+            log.info("만료된 리프레시 토큰 폐기 항목 정리: {}건", deleted);
+        });
+        rebuild();
+    }
+
+    /* 설명. 리프레시 토큰 사용 가능 여부 확인 후 회전 처리
+     *  1. family가 폐기되었으면 거부
+     *  2. 사원 단위 폐기 시각 이전에 발급된 토큰이면 거부 (회전 직후 유예 시간 안의 재사용도 포함)
+     *  3. 이미 회전된 토큰이 다시 들어오면 재사용으로 보고 family 전체를 폐기
+     *     (단, 여러 탭이 동시에 갱신하는 경우를 위해 회전 직후 짧은 유예 시간은 허용)
+     *  4. 통과하면 현재 토큰을 사용 처리(회전)한다.
+     */
+    public void verifyAndRotate(String tokenId, String familyId, String employeeNumber,
+                                Date issuedAt, Date expiresAt) {
+        if (find(FAMILY_PREFIX + familyId).isPresent()) {
+            throw new CommonException(ErrorCode.INVALID_TOKEN_ERROR);
+        }
+
+        verifyEmployee(employeeNumber, issuedAt);
+
+        Optional<TokenRevocation> usedToken = find(TOKEN_PREFIX + tokenId);
+        if (usedToken.isPresent()) {
+            if (usedToken.get().getRevokedAt().plus(reuseGrace).isBefore(LocalDateTime.now())) {
+                log.warn("리프레시 토큰 재사용 탐지, family 폐기: employeeNumber = {}", employeeNumber);
+                revokeFamily(familyId, expiresAt);
+                throw new CommonException(ErrorCode.INVALID_TOKEN_ERROR);
+            }
+            return;
+        }
+
+        insertIfAbsent(TOKEN_PREFIX + tokenId, expiresAt);
+    }
+
+    /* 설명. 사원 단위 폐기 시각 이전(같은 시각 포함)에 발급된 토큰이면 거부
+     *  폐기 시각은 밀리초 단위로 저장하고, issuedAt은 JwtUtil.issuedAt()으로 읽은 밀리초 발급 시각이다.
+     *  iat_ms가 없는 예전 토큰은 초 단위 iat로 비교하므로 폐기와 같은 초에 발급된 토큰도 거부된다. (재로그인 필요)
+     */
+    public void verifyEmployee(String employeeNumber, Date issuedAt) {
+        Optional<TokenRevocation> employeeRevocation = find(EMPLOYEE_PREFIX + employeeNumber);
+        if (employeeRevocation.isPresent()
+                && (issuedAt == null || !toLocalDateTime(issuedAt).isAfter(employeeRevocation.get().getRevokedAt()))) {
+            throw new CommonException(ErrorCode.INVALID_TOKEN_ERROR);
+        }
+    }
+
+    /* 설명. 사원 단위 폐기 시각 (필터에 걸릴 때만 테이블 조회)
+     *  다른 서버의 폐기는 필터 동기화(sync-interval) 뒤부터 보인다.
+     */
+    public Optional<LocalDateTime> findEmployeeRevokedAt(String employeeNumber) {
+        return find(EMPLOYEE_PREFIX + employeeNumber)
+                .map(TokenRevocation::getRevokedAt);
+    }
+
+    // 설명. token family 폐기
+    public void revokeFamily(String familyId, Date expiresAt) {
+        insertIfAbsent(FAMILY_PREFIX + familyId, expiresAt);
+    }
+
+    // 설명. 퇴사/권한 변경/비밀번호 재설정 시 지금까지 발급된 사원의 리프레시 토큰 폐기
+    public void revokeEmployee(String employeeNumber) {
+        if (employeeNumber == null) {
+            return;
+        }
+        String key = EMPLOYEE_PREFIX + employeeNumber;
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        tokenRevocationRepository.upsert(key, now, now.plus(Duration.ofMillis(refreshExpirationTime)));
+        filter.put(key);
+    }
+
+    // 설명. 필터에 없으면 DB 조회 없이 바로 "폐기되지 않음"
+    private Optional<TokenRevocation> find(String key) {
+        if (!filter.mightContain(key)) {
+            return Optional.empty();
+        }
+        return tokenRevocationRepository.findById(key);
+    }
+
+    private void insertIfAbsent(String key, Date expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiry = expiresAt != null
+                ? toLocalDateTime(expiresAt)
+                : now.plus(Duration.ofMillis(refreshExpirationTime));
+        tokenRevocationRepository.insertIfAbsent(key, now, expiry);
+        filter.put(key);
+    }
+
+    private LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,17 @@
+package com.pado.inflow.employee.security.dto;
+
+import java.util.List;
+
+/* 설명. 서명 검증을 마친 액세스 토큰의 claims
+ *  JwtUtil.verifyAccessToken()이 토큰당 한 번만 파싱해서 만들어 주며,
+ *  이후 인증 객체 생성은 이 값만으로 처리한다.
+ *  issuedAt은 밀리초 발급 시각이다. (발급 시각이 없는 예전 토큰은 0)
+ */
+public record AccessTokenClaims(
+        String employeeNumber,
+        Long employeeId,
+        List<String> roles,
+        long issuedAt,
+        long expiresAt
+) {
+}
@@ -1,5 +1,6 @@
 package com.pado.inflow.evaluation.command.application.config.schedule.job;
 
+import com.pado.inflow.common.schedule.SchedulerLock;
 import com.pado.inflow.evaluation.command.application.config.schedule.service.EvaluationScheduleService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -12,19 +13,24 @@ import java.time.LocalDateTime;
 public class EvaluationInitJob {
 
     private final EvaluationScheduleService scheduleService;
+    private final SchedulerLock schedulerLock;
 
-    public EvaluationInitJob(EvaluationScheduleService scheduleService) {
+    public EvaluationInitJob(EvaluationScheduleService scheduleService, SchedulerLock schedulerLock) {
         this.scheduleService = scheduleService;
+        this.schedulerLock = schedulerLock;
     }
 
     @Scheduled(cron = "0 0 0 1 6,12 *") // 설정된 시간 : 6월, 12월 // 테스트 완료
     public void initializeEvaluation() {
-        log.info("평가 초기화 Job 시작");
+        // 여러 서버 중 임대를 잡은 한 서버만 실행
+        schedulerLock.runExclusively("evaluationInit", () -> {
+            log.info("평가 초기화 Job 시작");
 
             String half = LocalDateTime.now().getMonthValue() == 6 ? "1st" : "2nd";
             scheduleService.initializeEvaluation(
                     LocalDateTime.now().getYear(),
                     half
             );
+        });
     }
 }
\ No newline at end of file
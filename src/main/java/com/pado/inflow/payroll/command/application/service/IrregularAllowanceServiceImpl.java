@@ -2,6 +2,7 @@ package com.pado.inflow.payroll.command.application.service;
 
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.common.registry.ReferenceDataRegistry;
 import com.pado.inflow.payroll.command.application.dto.RequestIrregularAllowanceDTO;
 import com.pado.inflow.payroll.command.application.dto.ResponseIrregularAllowanceDTO;
 import com.pado.inflow.payroll.command.domain.aggregate.entity.IrregularAllowance;
@@ -16,12 +17,15 @@ public class IrregularAllowanceServiceImpl implements IrregularAllowanceService
 
     private final ModelMapper modelMapper;
     private final IrregularAllowanceRepository irregularAllowanceRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Autowired
     public IrregularAllowanceServiceImpl(ModelMapper modelMapper,
-                                         IrregularAllowanceRepository irregularAllowanceRepository) {
+                                         IrregularAllowanceRepository irregularAllowanceRepository,
+                                         ReferenceDataRegistry referenceDataRegistry) {
         this.modelMapper = modelMapper;
         this.irregularAllowanceRepository = irregularAllowanceRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
     @Override
@@ -29,6 +33,7 @@ public class IrregularAllowanceServiceImpl implements IrregularAllowanceService
     public ResponseIrregularAllowanceDTO createIrregularAllowance(RequestIrregularAllowanceDTO reqAllowanceDTO) {
         IrregularAllowance irregularAllowance = modelMapper.map(reqAllowanceDTO, IrregularAllowance.class);
         IrregularAllowance savedAllowance = irregularAllowanceRepository.save(irregularAllowance);
+        referenceDataRegistry.refreshAfterCommit();
 
         return ResponseIrregularAllowanceDTO.builder()
                 .irregularAllowanceId(savedAllowance.getIrregularAllowanceId())
@@ -53,6 +58,7 @@ public class IrregularAllowanceServiceImpl implements IrregularAllowanceService
         }
 
         IrregularAllowance updatedAllowance = irregularAllowanceRepository.save(existingAllowance);
+        referenceDataRegistry.refreshAfterCommit();
 
         return ResponseIrregularAllowanceDTO.builder()
                 .irregularAllowanceId(updatedAllowance.getIrregularAllowanceId())
@@ -2,6 +2,7 @@ package com.pado.inflow.payroll.command.application.service;
 
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.common.registry.ReferenceDataRegistry;
 import com.pado.inflow.payroll.command.application.dto.RequestNonTaxableDTO;
 import com.pado.inflow.payroll.command.application.dto.ResponseNonTaxableDTO;
 import com.pado.inflow.payroll.command.domain.aggregate.entity.NonTaxable;
@@ -16,11 +17,14 @@ public class NonTaxableServiceImpl implements NonTaxableService{
 
     private final NonTaxableRepository nonTaxableRepository;
     private final ModelMapper modelMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Autowired
-    public NonTaxableServiceImpl(NonTaxableRepository nonTaxableRepository, ModelMapper modelMapper) {
+    public NonTaxableServiceImpl(NonTaxableRepository nonTaxableRepository, ModelMapper modelMapper,
+                                 ReferenceDataRegistry referenceDataRegistry) {
         this.nonTaxableRepository = nonTaxableRepository;
         this.modelMapper = modelMapper;
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
     @Override
@@ -28,6 +32,7 @@ public class NonTaxableServiceImpl implements NonTaxableService{
     public ResponseNonTaxableDTO createNonTaxable(RequestNonTaxableDTO reqNonTaxableDTO) {
         NonTaxable nonTaxable = modelMapper.map(reqNonTaxableDTO, NonTaxable.class);
         NonTaxable savedEntity = nonTaxableRepository.save(nonTaxable);
+        referenceDataRegistry.refreshAfterCommit();
 
         return ResponseNonTaxableDTO.builder()
                 .nonTaxableId(savedEntity.getNonTaxableId())
@@ -53,6 +58,7 @@ public class NonTaxableServiceImpl implements NonTaxableService{
         }
 
         NonTaxable updatedNonTaxable = nonTaxableRepository.save(existingNonTaxable);
+        referenceDataRegistry.refreshAfterCommit();
 
         return ResponseNonTaxableDTO.builder()
                 .nonTaxableId(updatedNonTaxable.getNonTaxableId())
@@ -1,10 +1,12 @@
 package com.pado.inflow.payroll.query.repository;
 
+import com.pado.inflow.common.DateRange;
 import com.pado.inflow.payroll.query.dto.AllPaymentsDTO;
 import com.pado.inflow.payroll.query.dto.PayrollDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -12,20 +14,22 @@ public interface PayrollMapper {
 
     // 사원벌 연월별 급여 명세서 조회
     PayrollDTO findPaymentByEmployeeIdAndYearAndMonth(@Param("employeeId") Long employeeId,
-                                                            @Param("year") Integer year,
-                                                            @Param("month") Integer month);
+                                                            @Param("range") DateRange range);
 
     // 사원별 전체 급여 내역 조회
     List<AllPaymentsDTO> findPaymentsByEmployeeId(@Param("employeeId") Long employeeId,
                                                   @Param("elementsPerPage") Integer elementsPerPage,
                                                   @Param("offset") Integer offset);
 
-    // 사원별 총 급여 내역 개수 조회
-    Integer getTotalPaymentsByEmployeeId(Long employeeId);
+    // 기준 시각 이후 급여 건수 (전체 개수 중 카운터 보정 구간에 해당하는 부분)
+    int countPaymentsSince(@Param("employeeId") Long employeeId,
+                           @Param("from") LocalDateTime from);
 
     // 연도별 급여 내역 조회
     List<AllPaymentsDTO> findPaymentsByYear(@Param("employeeId") Long employeeId,
-                                            @Param("year") int year);
+                                            @Param("range") DateRange range);
 
-    List<AllPaymentsDTO> findPeriodicPayments(Long employeeId, String startDate, String endDate);
+    // 기간별 급여 내역 조회
+    List<AllPaymentsDTO> findPeriodicPayments(@Param("employeeId") Long employeeId,
+                                              @Param("range") DateRange range);
 }
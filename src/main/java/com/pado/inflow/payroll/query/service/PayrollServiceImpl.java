@@ -1,5 +1,8 @@
 package com.pado.inflow.payroll.query.service;
 
+import com.pado.inflow.common.DateRange;
+import com.pado.inflow.common.counter.CounterDomain;
+import com.pado.inflow.common.counter.RequestCounterService;
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
 import com.pado.inflow.payroll.query.dto.AllPaymentsDTO;
@@ -8,6 +11,10 @@ import com.pado.inflow.payroll.query.dto.PayrollDTO;
 import com.pado.inflow.payroll.query.repository.PayrollMapper;
 import org.springframework.stereotype.Service;
 
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @Service
@@ -17,15 +24,28 @@ public class PayrollServiceImpl implements PayrollService {
     private final Integer ELEMENTS_PER_PAGE = 10; // 한 페이지 당 요소 개수
 
     private final PayrollMapper payrollMapper;
+    private final RequestCounterService requestCounterService;
 
-    public PayrollServiceImpl(PayrollMapper payrollMapper) {
+    public PayrollServiceImpl(PayrollMapper payrollMapper,
+                              RequestCounterService requestCounterService) {
         this.payrollMapper = payrollMapper;
+        this.requestCounterService = requestCounterService;
     }
 
     // 사원별 연월별 급여 명세서 조회
     @Override
     public PayrollDTO findPaymentDetail(Long employeeId, Integer year, Integer month) {
-       PayrollDTO payment = payrollMapper.findPaymentByEmployeeIdAndYearAndMonth(employeeId, year, month);
+       if (year == null || month == null) {
+           throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+       }
+       DateRange range;
+       try {
+           range = DateRange.ofMonth(year, month);
+       } catch (DateTimeException e) {
+           throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+       }
+
+       PayrollDTO payment = payrollMapper.findPaymentByEmployeeIdAndYearAndMonth(employeeId, range);
        if (payment == null) {
            throw new CommonException(ErrorCode.NOT_FOUND_PAYMENT);
        }
@@ -40,8 +60,15 @@ public class PayrollServiceImpl implements PayrollService {
             throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
         }
 
-        Integer totalElements = payrollMapper.getTotalPaymentsByEmployeeId(employeeId);
-        if(totalElements == null || totalElements < 1) {
+        /* 설명. 전체 개수 = 보정 구간 이전의 월별 급여 건수 카운터 합 + 보정 구간의 실제 급여 건수
+         *  급여는 애플리케이션 밖에서 적재되어 카운터가 하루 한 번 보정으로만 갱신되므로,
+         *  새로 적재된 달이 포함되는 최근 구간은 (employee_id, paid_at) 인덱스 범위로 직접 센다.
+         */
+        YearMonth reconcileFrom = requestCounterService.getReconcileFromMonth();
+        Integer totalElements = requestCounterService.getTotalCountBefore(
+                CounterDomain.PAYMENT, employeeId, RequestCounterService.NO_TYPE, reconcileFrom)
+                + payrollMapper.countPaymentsSince(employeeId, reconcileFrom.atDay(1).atStartOfDay());
+        if(totalElements < 1) {
             throw new CommonException(ErrorCode.NOT_FOUND_PAYMENT);
         }
 
@@ -57,7 +84,14 @@ public class PayrollServiceImpl implements PayrollService {
 
     @Override
     public List<AllPaymentsDTO> findPaymentsByYear(Long employeeId, int year) {
-        List<AllPaymentsDTO> payments = payrollMapper.findPaymentsByYear(employeeId, year);
+        DateRange range;
+        try {
+            range = DateRange.ofYear(year);
+        } catch (DateTimeException e) {
+            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+        }
+
+        List<AllPaymentsDTO> payments = payrollMapper.findPaymentsByYear(employeeId, range);
         if(payments == null || payments.isEmpty()) {
             throw new CommonException(ErrorCode.NOT_FOUND_PAYMENT);
         }
@@ -69,7 +103,23 @@ public class PayrollServiceImpl implements PayrollService {
         if (startDate == null || endDate == null) {
             throw new CommonException(ErrorCode.INVALID_DATE_RANGE);
         }
-        List<AllPaymentsDTO> payments = payrollMapper.findPeriodicPayments(employeeId, startDate, endDate);
+
+        // 날짜 형식 유효성 검사 및 변환 (yyyy-MM), 시작 월 1일 ~ 종료 월 다음 달 1일
+        YearMonth startMonth;
+        YearMonth endMonth;
+        try {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
+            startMonth = YearMonth.parse(startDate, formatter);
+            endMonth = YearMonth.parse(endDate, formatter);
+        } catch (DateTimeParseException e) {
+            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+        }
+        if (startMonth.isAfter(endMonth)) {
+            throw new CommonException(ErrorCode.INVALID_DATE_RANGE);
+        }
+
+        List<AllPaymentsDTO> payments =
+                payrollMapper.findPeriodicPayments(employeeId, DateRange.ofMonths(startMonth, endMonth));
         if (payments == null || payments.isEmpty()) {
             throw new CommonException(ErrorCode.NOT_FOUND_PAYMENT);
         }
@@ -2,9 +2,10 @@ package com.pado.inflow.statistics.command.application.service;
 
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
-import com.pado.inflow.employee.info.query.service.EmployeeQueryService;
+import com.pado.inflow.common.schedule.SchedulerLock;
+import com.pado.inflow.statistics.command.domain.aggregate.component.HeadcountSweep;
 import com.pado.inflow.statistics.command.domain.aggregate.dto.EmployeeNumDTO;
-import com.pado.inflow.statistics.command.domain.aggregate.dto.EmployeeNumInitDTO;
+import com.pado.inflow.statistics.command.domain.aggregate.dto.HeadcountCohort;
 import com.pado.inflow.statistics.command.domain.aggregate.entity.EmployeeNum;
 import com.pado.inflow.statistics.command.domain.repository.EmployeeNumRepository;
 import org.modelmapper.ModelMapper;
@@ -24,16 +25,16 @@ import java.util.stream.Collectors;
 public class EmployeeNumServiceImpl implements EmployeeNumService {
 
     private final EmployeeNumRepository employeeNumRepository;
-    private final EmployeeQueryService employeeService;
     private final ModelMapper modelMapper;
+    private final SchedulerLock schedulerLock;
 
     @Autowired
     public EmployeeNumServiceImpl(EmployeeNumRepository employeeNumRepository,
-                                  EmployeeQueryService employeeService,
-                                  ModelMapper modelMapper) {
+                                  ModelMapper modelMapper,
+                                  SchedulerLock schedulerLock) {
         this.employeeNumRepository = employeeNumRepository;
-        this.employeeService = employeeService;
         this.modelMapper = modelMapper;
+        this.schedulerLock = schedulerLock;
         this.modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
     }
 
@@ -49,18 +50,17 @@ public class EmployeeNumServiceImpl implements EmployeeNumService {
                 .orElseThrow(() -> new CommonException(ErrorCode.INTERNAL_SERVER_ERROR));
     }
 
-    // 매달 사원 수 통계 업데이트
+    // 매달 사원 수 통계 업데이트 (여러 서버 중 한 서버만, 삭제와 재생성을 한 트랜잭션으로)
     @Override
     @Scheduled(cron = "59 59 23 L * ?", zone = "Asia/Seoul")
     public void updateEmployeeNum() {
-        employeeNumStatistics();
+        schedulerLock.runExclusivelyInTransaction("employeeNumStatistics", this::employeeNumStatistics);
     }
 
     // 사원 수 통계 생성
     @Transactional
     protected List<EmployeeNum> employeeNumStatistics() {
-        List<EmployeeNumInitDTO> data = employeeData();
-        List<EmployeeNum> statistics = calculate(data);
+        List<EmployeeNum> statistics = calculate(employeeNumRepository.findHeadcountCohorts());
 
         employeeNumRepository.deleteAll();
         return Optional.ofNullable(employeeNumRepository.saveAll(statistics))
@@ -68,54 +68,20 @@ public class EmployeeNumServiceImpl implements EmployeeNumService {
                 .orElseThrow(() -> new CommonException(ErrorCode.INTERNAL_SERVER_ERROR));
     }
 
-    // 사원 데이터
-    private List<EmployeeNumInitDTO> employeeData() {
-        List<EmployeeNumInitDTO> list = new ArrayList<>();
-
-        employeeService.getAllEmployees().forEach(emp -> {
-            EmployeeNumInitDTO tmp = new EmployeeNumInitDTO();
-
-            tmp.setEmployeeId(emp.getEmployeeId());
-            tmp.setInYear(emp.getJoinDate().getYear());
-            tmp.setInMonth(emp.getJoinDate().getMonthValue());
-            tmp.setLeft(String.valueOf(emp.getResignationStatus()));
-            if (emp.getResignationDate() != null) {
-                tmp.setLeftYear(emp.getResignationDate().getYear());
-                tmp.setLeftMonth(emp.getResignationDate().getMonthValue());
-            }
-            list.add(tmp);
-        });
-        return list;
-    }
-
-    // 사원 통계 계산
-    private List<EmployeeNum> calculate(List<EmployeeNumInitDTO> list) {
-        List<Integer> years = list.stream()
-                .flatMap(emp -> emp.getLeftYear() != null ?
-                        List.of(emp.getInYear(), emp.getLeftYear()).stream() :
-                        List.of(emp.getInYear()).stream())
-                .distinct()
-                .sorted()
-                .toList();
+    // 사원 통계 계산 (입사/퇴사가 있었던 연도의 1~12월)
+    private List<EmployeeNum> calculate(List<HeadcountCohort> cohorts) {
+        HeadcountSweep sweep = HeadcountSweep.of(cohorts);
+        LocalDate today = LocalDate.now();
 
         List<EmployeeNum> result = new ArrayList<>();
-
-        for (int y : years) {
+        for (int y = sweep.getFirstYear(); y <= sweep.getLastYear(); y++) {
+            if (!sweep.hasYear(y)) {
+                continue;
+            }
             for (int m = 1; m <= 12; m++) {
-                long tot = 0, in = 0, out = 0;
-
-                for (EmployeeNumInitDTO em : list) {
-                    if (em.getInYear() == y && em.getInMonth() == m) in++;
-                    if ("Y".equals(em.getLeft()) && em.getLeftYear() == y && em.getLeftMonth() == m) out++;
-                    if (((em.getInYear() < y) || (em.getInYear() == y && em.getInMonth() <= m)) &&
-                            ((em.getLeftYear() == null) || (em.getLeftYear() > y) ||
-                                    (em.getLeftYear() == y && em.getLeftMonth() > m))) {
-                        tot++;
-                    }
-                }
-
                 EmployeeNumDTO dto = new EmployeeNumDTO(
-                        y, m, m <= 6 ? "상반기" : "하반기", tot, in, out, LocalDate.now());
+                        y, m, m <= 6 ? "상반기" : "하반기",
+                        (long) sweep.total(y, m), (long) sweep.joined(y, m), (long) sweep.left(y, m), today);
                 result.add(modelMapper.map(dto, EmployeeNum.class));
             }
         }
@@ -2,6 +2,7 @@ package com.pado.inflow.statistics.command.application.service;
 
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.common.schedule.SchedulerLock;
 import com.pado.inflow.statistics.command.domain.aggregate.dto.OvertimeAllowanceDTO;
 import com.pado.inflow.statistics.command.domain.aggregate.entity.OvertimeAllowance;
 import com.pado.inflow.statistics.command.domain.repository.OvertimeAllowanceRepository;
@@ -24,14 +25,17 @@ public class OvertimeAllowanceServiceImpl implements OvertimeAllowanceService {
     private final OvertimeAllowanceRepository overtimeAllowanceRepository;
     private final com.pado.inflow.statistics.query.service.OvertimeAllowanceService overtimeAllowanceService;
     private final ModelMapper modelMapper;
+    private final SchedulerLock schedulerLock;
 
     @Autowired
     public OvertimeAllowanceServiceImpl(OvertimeAllowanceRepository overtimeAllowanceRepository,
                                         com.pado.inflow.statistics.query.service.OvertimeAllowanceService overtimeAllowanceService,
-                                        ModelMapper modelMapper) {
+                                        ModelMapper modelMapper,
+                                        SchedulerLock schedulerLock) {
         this.overtimeAllowanceRepository = overtimeAllowanceRepository;
         this.overtimeAllowanceService = overtimeAllowanceService;
         this.modelMapper = modelMapper;
+        this.schedulerLock = schedulerLock;
         this.modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
     }
     // 초과근무수당 통계 초기화
@@ -46,11 +50,11 @@ public class OvertimeAllowanceServiceImpl implements OvertimeAllowanceService {
                 .orElseThrow(() -> new CommonException(ErrorCode.INTERNAL_SERVER_ERROR));
     }
 
-    // 매달 초과근무수당 통계 업데이트
+    // 매달 초과근무수당 통계 업데이트 (여러 서버 중 한 서버만, 삭제와 재생성을 한 트랜잭션으로)
     @Override
     @Scheduled(cron = "59 59 23 L * ?", zone = "Asia/Seoul")
     public void updateOvertimeAllowance() {
-        overtimeAllowanceStatistics();
+        schedulerLock.runExclusivelyInTransaction("overtimeAllowanceStatistics", this::overtimeAllowanceStatistics);
     }
 
     // 초과근무수당 통계 생성
@@ -0,0 +1,116 @@
+package com.pado.inflow.statistics.command.domain.aggregate.component;
+
+import com.pado.inflow.statistics.command.domain.aggregate.dto.HeadcountCohort;
+
+import java.util.List;
+
+/* 설명. 월별 재직/입사/퇴사 인원 계산 (sweep line)
+ *  첫 연도 1월부터의 월 번호(offset)마다 입사 월에 +n, 퇴사 월에 -n을 기록한 뒤 누적합으로 재직 인원을 구한다.
+ *  사원 수 N, 기간 개월 수 M일 때 O(N + M)이며, 입력은 사원 한 명이 아니라 같은 연월끼리 묶은 사원 수여도 된다.
+ *  - 재직 : 입사 연월 <= 해당 월 < 퇴사 연월 (퇴사일이 있으면 퇴사 여부와 관계없이 적용)
+ *  - 입사 : 입사 연월 = 해당 월
+ *  - 퇴사 : 퇴사 여부 Y이고 퇴사 연월 = 해당 월
+ *  통계 연도는 입사/퇴사 연도에 등장한 연도만이다. (중간에 빈 연도는 결과에 없다)
+ */
+public final class HeadcountSweep {
+
+    private static final String LEFT = "Y";
+
+    private final int firstYear;
+    private final boolean[] years;
+    private final int[] total;
+    private final int[] joined;
+    private final int[] left;
+
+    private HeadcountSweep(int firstYear, int lastYear) {
+        int months = (lastYear - firstYear + 1) * 12;
+        this.firstYear = firstYear;
+        this.years = new boolean[lastYear - firstYear + 1];
+        this.total = new int[months];
+        this.joined = new int[months];
+        this.left = new int[months];
+    }
+
+    public static HeadcountSweep of(List<? extends HeadcountCohort> cohorts) {
+        int firstYear = Integer.MAX_VALUE;
+        int lastYear = Integer.MIN_VALUE;
+        for (HeadcountCohort cohort : cohorts) {
+            if (cohort.getInYear() == null) {
+                continue;
+            }
+            firstYear = Math.min(firstYear, cohort.getInYear());
+            lastYear = Math.max(lastYear, cohort.getInYear());
+            if (cohort.getLeftYear() != null) {
+                firstYear = Math.min(firstYear, cohort.getLeftYear());
+                lastYear = Math.max(lastYear, cohort.getLeftYear());
+            }
+        }
+        if (firstYear > lastYear) {
+            return new HeadcountSweep(0, -1);
+        }
+
+        HeadcountSweep sweep = new HeadcountSweep(firstYear, lastYear);
+        sweep.accumulate(cohorts);
+        return sweep;
+    }
+
+    private void accumulate(List<? extends HeadcountCohort> cohorts) {
+        // 설명. total에는 먼저 증감분만 기록하고 마지막에 누적합으로 바꾼다.
+        for (HeadcountCohort cohort : cohorts) {
+            if (cohort.getInYear() == null) {
+                continue;
+            }
+            int count = Math.toIntExact(cohort.getEmployeeCount());
+            int in = offset(cohort.getInYear(), cohort.getInMonth());
+            years[cohort.getInYear() - firstYear] = true;
+            joined[in] += count;
+
+            if (cohort.getLeftYear() == null) {
+                total[in] += count;
+                continue;
+            }
+            int out = offset(cohort.getLeftYear(), cohort.getLeftMonth());
+            years[cohort.getLeftYear() - firstYear] = true;
+            if (LEFT.equals(cohort.getLeftStatus())) {
+                left[out] += count;
+            }
+            // 설명. 퇴사 월이 입사 월보다 앞서거나 같으면 재직 기간이 없다.
+            if (out > in) {
+                total[in] += count;
+                total[out] -= count;
+            }
+        }
+        for (int i = 1; i < total.length; i++) {
+            total[i] += total[i - 1];
+        }
+    }
+
+    // 설명. 통계를 만들 연도 (입사/퇴사가 한 번이라도 있었던 연도)
+    public boolean hasYear(int year) {
+        return year >= firstYear && year < firstYear + years.length && years[year - firstYear];
+    }
+
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    public int getLastYear() {
+        return firstYear + years.length - 1;
+    }
+
+    public int total(int year, int month) {
+        return total[offset(year, month)];
+    }
+
+    public int joined(int year, int month) {
+        return joined[offset(year, month)];
+    }
+
+    public int left(int year, int month) {
+        return left[offset(year, month)];
+    }
+
+    private int offset(int year, int month) {
+        return (year - firstYear) * 12 + (month - 1);
+    }
+}
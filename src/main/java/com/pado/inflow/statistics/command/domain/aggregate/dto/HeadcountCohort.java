@@ -0,0 +1,19 @@
+package com.pado.inflow.statistics.command.domain.aggregate.dto;
+
+/* 설명. 입사 연월, 퇴사 여부, 퇴사 연월이 같은 사원 묶음 (사원 수 통계용 GROUP BY 결과)
+ *  퇴사일이 없으면 leftYear, leftMonth는 null이다.
+ */
+public interface HeadcountCohort {
+
+    Integer getInYear();
+
+    Integer getInMonth();
+
+    String getLeftStatus();
+
+    Integer getLeftYear();
+
+    Integer getLeftMonth();
+
+    Long getEmployeeCount();
+}
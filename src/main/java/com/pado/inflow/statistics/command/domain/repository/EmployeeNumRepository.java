@@ -1,7 +1,22 @@
 package com.pado.inflow.statistics.command.domain.repository;
 
+import com.pado.inflow.statistics.command.domain.aggregate.dto.HeadcountCohort;
 import com.pado.inflow.statistics.command.domain.aggregate.entity.EmployeeNum;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface EmployeeNumRepository extends JpaRepository<EmployeeNum, Long> {
+
+    // 설명. 사원 전체를 읽지 않고 (입사 연월, 퇴사 여부, 퇴사 연월)별 사원 수만 조회
+    @Query(value = "SELECT YEAR(join_date) AS inYear, MONTH(join_date) AS inMonth, " +
+            "       resignation_status AS leftStatus, " +
+            "       YEAR(resignation_date) AS leftYear, MONTH(resignation_date) AS leftMonth, " +
+            "       COUNT(*) AS employeeCount " +
+            "  FROM employee " +
+            " GROUP BY YEAR(join_date), MONTH(join_date), resignation_status, " +
+            "          YEAR(resignation_date), MONTH(resignation_date)",
+            nativeQuery = true)
+    List<HeadcountCohort> findHeadcountCohorts();
 }
@@ -17,4 +17,5 @@ public class ResponseVacationRequestFileDTO {
     private String fileName;
     private String fileUrl;
     private Long vacationRequestId;
+    private Long attachmentBlobId;
 }
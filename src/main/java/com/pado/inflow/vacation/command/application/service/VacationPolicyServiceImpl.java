@@ -2,6 +2,7 @@ package com.pado.inflow.vacation.command.application.service;
 
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.common.registry.ReferenceDataRegistry;
 import com.pado.inflow.employee.info.command.domain.repository.EmployeeRepository;
 import com.pado.inflow.vacation.command.application.dto.RequestVacationPolicyDTO;
 import com.pado.inflow.vacation.command.application.dto.ResponseVacationPolicyDTO;
@@ -10,7 +11,6 @@ import com.pado.inflow.vacation.command.domain.aggregate.type.PaidStatus;
 import com.pado.inflow.vacation.command.domain.aggregate.type.VacationPolicyStatus;
 import com.pado.inflow.vacation.command.domain.repository.VacationPolicyRepository;
 
-import com.pado.inflow.vacation.command.domain.repository.VacationTypeRepository;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -23,17 +23,17 @@ public class VacationPolicyServiceImpl implements VacationPolicyService{
 
     private final ModelMapper modelMapper;
     private final VacationPolicyRepository vacationPolicyRepository;
-    private final VacationTypeRepository vacationTypeRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final EmployeeRepository employeeRepository;
 
     @Autowired
     public VacationPolicyServiceImpl(ModelMapper modelMapper,
                                      VacationPolicyRepository vacationPolicyRepository,
-                                     VacationTypeRepository vacationTypeRepository,
+                                     ReferenceDataRegistry referenceDataRegistry,
                                      EmployeeRepository employeeRepository) {
         this.modelMapper = modelMapper;
         this.vacationPolicyRepository = vacationPolicyRepository;
-        this.vacationTypeRepository = vacationTypeRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.employeeRepository = employeeRepository;
     }
 
@@ -125,8 +125,9 @@ public class VacationPolicyServiceImpl implements VacationPolicyService{
         }
 
         // 존재하지 않는 휴가 종류일 경우
-        vacationTypeRepository.findById(reqVacationPolicyDTO.getVacationTypeId())
-                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_VACATION_TYPE));
+        if (!referenceDataRegistry.hasVacationType(reqVacationPolicyDTO.getVacationTypeId())) {
+            throw new CommonException(ErrorCode.NOT_FOUND_VACATION_TYPE);
+        }
 
         // 존재하지 않는 사원일 경우
         employeeRepository.findById(reqVacationPolicyDTO.getPolicyRegisterId())
@@ -1,7 +1,12 @@
 package com.pado.inflow.vacation.command.application.service;
 
+import com.pado.inflow.common.counter.CounterDomain;
+import com.pado.inflow.common.counter.RequestCounterService;
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.common.upload.AttachmentUploader;
+import com.pado.inflow.common.upload.UploadedAttachment;
+import com.pado.inflow.department.query.service.DepartmentAttendanceBoard;
 import com.pado.inflow.employee.info.command.domain.repository.EmployeeRepository;
 import com.pado.inflow.vacation.command.application.dto.RequestCancelVacationRequestDTO;
 import com.pado.inflow.vacation.command.application.dto.RequestVacationRequestDTO;
@@ -19,14 +24,16 @@ import com.pado.inflow.vacation.command.domain.repository.VacationRequestReposit
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 @Service("appVacationRequestService")
 public class VacationRequestServiceImpl implements VacationRequestService {
@@ -36,7 +43,10 @@ public class VacationRequestServiceImpl implements VacationRequestService {
     private final VacationRequestFileRepository vacationRequestFileRepository;
     private final VacationRepository vacationRepository;
     private final EmployeeRepository employeeRepository;
-    private final VacationS3Service vacationS3Service;
+    private final AttachmentUploader attachmentUploader;
+    private final DepartmentAttendanceBoard departmentAttendanceBoard;
+    private final RequestCounterService requestCounterService;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public VacationRequestServiceImpl(ModelMapper modelMapper,
@@ -44,19 +54,33 @@ public class VacationRequestServiceImpl implements VacationRequestService {
                                       VacationRequestFileRepository vacationRequestFileRepository,
                                       VacationRepository vacationRepository,
                                       EmployeeRepository employeeRepository,
-                                      VacationS3Service vacationS3Service) {
+                                      AttachmentUploader attachmentUploader,
+                                      DepartmentAttendanceBoard departmentAttendanceBoard,
+                                      RequestCounterService requestCounterService,
+                                      PlatformTransactionManager transactionManager) {
         this.modelMapper = modelMapper;
         this.vacationRequestRepository = vacationRequestRepository;
         this.vacationRequestFileRepository = vacationRequestFileRepository;
         this.vacationRepository = vacationRepository;
         this.employeeRepository = employeeRepository;
-        this.vacationS3Service = vacationS3Service;
+        this.attachmentUploader = attachmentUploader;
+        this.departmentAttendanceBoard = departmentAttendanceBoard;
+        this.requestCounterService = requestCounterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    // 휴가 신청 등록
-    @Transactional
+    /* 설명. 휴가 신청 등록
+     *  첨부 파일은 트랜잭션을 열기 전에 동시에 업로드하고(같은 내용이 이미 있으면 재사용),
+     *  트랜잭션에서는 업로드된 파일 내역만 저장한다.
+     */
     @Override
     public ResponseVacationRequestDTO registVacationRequest(RequestVacationRequestDTO reqVacationRequestDTO) {
+        List<UploadedAttachment> attachments = attachmentUploader.upload(reqVacationRequestDTO.getAttachments());
+        return transactionTemplate.execute(status -> saveVacationRequest(reqVacationRequestDTO, attachments));
+    }
+
+    private ResponseVacationRequestDTO saveVacationRequest(RequestVacationRequestDTO reqVacationRequestDTO,
+                                                           List<UploadedAttachment> attachments) {
         // 사원 유효성 검사
         employeeRepository.findById(reqVacationRequestDTO.getEmployeeId())
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_EMPLOYEE));
@@ -109,6 +133,13 @@ public class VacationRequestServiceImpl implements VacationRequestService {
             throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
         }
 
+        /* 설명. 휴가 사용 처리
+         *  위의 잔여일수 확인은 조회 시점 값이므로, 실제 차감은 조건부 UPDATE 한 문장으로 하고 갱신된 행 수로 성공 여부를 정한다.
+         */
+        if (vacationRepository.deduct(vacation.getVacationId(), requestedDays) == 0) {
+            throw new CommonException(ErrorCode.INSUFFICIENT_VACATION_DAYS);
+        }
+
         ResponseVacationRequestDTO resVacationRequestDTO = ResponseVacationRequestDTO
                 .builder()
                 .startDate(startDate)
@@ -125,32 +156,25 @@ public class VacationRequestServiceImpl implements VacationRequestService {
 
         VacationRequest vacationRequest =
                 vacationRequestRepository.save(modelMapper.map(resVacationRequestDTO, VacationRequest.class));
-
-        if (reqVacationRequestDTO.getAttachments() != null && !reqVacationRequestDTO.getAttachments().isEmpty()) {
-            // 첨부 파일 DB 저장
-            try {
-                for (MultipartFile file : reqVacationRequestDTO.getAttachments()) {
-
-                    String fileUrl = vacationS3Service.uploadFile(file, vacationRequest.getEmployeeId());
-
-                    ResponseVacationRequestFileDTO resVacationRequestFileDTO = ResponseVacationRequestFileDTO
-                            .builder()
-                            .fileName(file.getOriginalFilename())
-                            .fileUrl(fileUrl)
-                            .vacationRequestId(vacationRequest.getVacationRequestId())
-                            .build();
-
-                    vacationRequestFileRepository.save(modelMapper.map(resVacationRequestFileDTO, VacationRequestFile.class));
-                }
-            } catch (Exception e) {
-                throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
-            }
+        requestCounterService.increment(CounterDomain.VACATION_REQUEST, vacationRequest.getEmployeeId(),
+                RequestCounterService.NO_TYPE, vacationRequest.getCreatedAt());
+
+        // 업로드된 첨부 파일 DB 저장
+        for (UploadedAttachment attachment : attachments) {
+            ResponseVacationRequestFileDTO resVacationRequestFileDTO = ResponseVacationRequestFileDTO
+                    .builder()
+                    .fileName(attachment.fileName())
+                    .fileUrl(attachment.fileUrl())
+                    .attachmentBlobId(attachment.attachmentBlobId())
+                    .vacationRequestId(vacationRequest.getVacationRequestId())
+                    .build();
+
+            vacationRequestFileRepository.save(modelMapper.map(resVacationRequestFileDTO, VacationRequestFile.class));
         }
+        attachmentUploader.confirm(attachments);
 
-        // 휴가 사용 처리하는 로직
-        vacation.setVacationLeft(vacation.getVacationLeft()-requestedDays);
-        vacation.setVacationUsed(vacation.getVacationUsed()+requestedDays);
-        vacationRepository.save(vacation);
+        // 부서 근태 현황판 반영 (오늘이 휴가 기간인 경우)
+        departmentAttendanceBoard.markVacation(vacationRequest.getEmployeeId(), startDate.toLocalDate(), endDate.toLocalDate());
 
         return modelMapper.map(vacationRequest, ResponseVacationRequestDTO.class);
     }
@@ -169,11 +193,26 @@ public class VacationRequestServiceImpl implements VacationRequestService {
             throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
         }
 
-        vacationRequest.setCanceledAt(LocalDateTime.now().withNano(0));
+        // 취소되지 않은 신청만 취소 (이미 취소된 신청이면 갱신된 행이 없다)
+        LocalDateTime canceledAt = LocalDateTime.now().withNano(0);
+        if (vacationRequestRepository.cancel(vacationRequestId, canceledAt,
+                reqCancelVacationRequestDTO.getCancelReason()) == 0) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
+        }
+
+        // 사용한 휴가일수 복구
+        long requestedDays = ChronoUnit.DAYS.between(vacationRequest.getStartDate().toLocalDate(),
+                vacationRequest.getEndDate().toLocalDate()) + 1;
+        vacationRepository.credit(vacationRequest.getVacationId(), requestedDays);
+
+        vacationRequest.setCanceledAt(canceledAt);
         vacationRequest.setRequestStatus(RequestStatus.ACCEPT);
         vacationRequest.setCancelReason(reqCancelVacationRequestDTO.getCancelReason());
         vacationRequest.setCancelStatus(CancelStatus.Y);
 
-        return modelMapper.map(vacationRequestRepository.save(vacationRequest), ResponseVacationRequestDTO.class);
+        // 취소된 휴가가 오늘일 수 있으므로 부서 근태 현황판은 DB 기준으로 다시 판단
+        departmentAttendanceBoard.markChanged(vacationRequest.getEmployeeId());
+
+        return modelMapper.map(vacationRequest, ResponseVacationRequestDTO.class);
     }
 }
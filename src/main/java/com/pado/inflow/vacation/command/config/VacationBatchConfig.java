@@ -1,28 +1,157 @@
 package com.pado.inflow.vacation.command.config;
 
-import com.pado.inflow.employee.info.command.domain.aggregate.entity.Employee;
+import com.pado.inflow.employee.info.command.domain.repository.EmployeeRepository;
 import com.pado.inflow.vacation.command.domain.aggregate.component.*;
+import com.pado.inflow.vacation.command.domain.aggregate.component.VacationGrantPlanner.VacationGrant;
 import com.pado.inflow.vacation.command.domain.aggregate.entity.Vacation;
+import com.pado.inflow.vacation.command.domain.repository.VacationBatchRepository;
+import com.pado.inflow.vacation.command.domain.repository.VacationPolicyRepository;
+import com.pado.inflow.vacation.command.domain.repository.VacationRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.List;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Configuration
 @EnableBatchProcessing
 public class VacationBatchConfig {
 
+    /* 설명. 만료/삭제 스텝 실행 방식
+     *  - set  : 휴가 ID 구간마다 UPDATE/DELETE 한 문장 (기본)
+     *  - item : 엔티티를 읽어 한 건씩 저장/삭제
+     */
+    private static final String SET_MODE = "set";
+
+    private final String mode;
+    private final int rangeSize;
+
+    /* 설명. 휴가 지급 파티션 수와 실행 스레드 수
+     *  파티션 수가 1이면 파티션 없이 한 스레드로 처리한다.
+     */
+    private final int insertGridSize;
+    private final ThreadPoolTaskExecutor insertTaskExecutor;
+
+    @Autowired
+    public VacationBatchConfig(@Value("${vacation.batch.mode:set}") String mode,
+                               @Value("${vacation.batch.range-size:1000}") int rangeSize,
+                               @Value("${vacation.batch.insert.grid-size:4}") int insertGridSize,
+                               @Value("${vacation.batch.insert.threads:0}") int insertThreads) {
+        this.mode = mode;
+        this.rangeSize = rangeSize;
+        this.insertGridSize = Math.max(insertGridSize, 1);
+
+        // 설명. 기본 스레드 수는 파티션 수와 코어 수 중 작은 값
+        int threads = insertThreads > 0
+                ? insertThreads
+                : Math.min(this.insertGridSize, Runtime.getRuntime().availableProcessors());
+        this.insertTaskExecutor = new ThreadPoolTaskExecutor();
+        insertTaskExecutor.setCorePoolSize(threads);
+        insertTaskExecutor.setMaxPoolSize(threads);
+        insertTaskExecutor.setThreadNamePrefix("vacation-insert-");
+        insertTaskExecutor.initialize();
+    }
+
+    /* 설명. 리더는 스텝 스코프로 만들어 실행마다 새 인스턴스를 쓴다.
+     *  반환 타입을 구체 클래스로 선언해야 프록시가 ItemStream을 드러내 스텝이 open/update/close를 호출한다.
+     */
+    @Bean
+    @StepScope
+    public UpdateVacationKeysetReader updateVacationKeysetReader(
+            VacationRepository vacationRepository,
+            @Value("#{jobParameters['time']}") Long time,
+            @Value("${vacation.batch.fetch-size:100}") int fetchSize) {
+        return new UpdateVacationKeysetReader(vacationRepository, cutoffOf(time), fetchSize);
+    }
+
+    @Bean
+    @StepScope
+    public ExpireVacationTasklet expireVacationTasklet(
+            VacationRepository vacationRepository,
+            @Value("#{jobParameters['time']}") Long time) {
+        return new ExpireVacationTasklet(vacationRepository, cutoffOf(time), rangeSize);
+    }
+
+    @Bean
+    @StepScope
+    public PurgeVacationTasklet purgeVacationTasklet(VacationRepository vacationRepository) {
+        return new PurgeVacationTasklet(vacationRepository, rangeSize);
+    }
+
+    @Bean
+    @StepScope
+    public DeleteVacationKeysetReader deleteVacationKeysetReader(
+            VacationRepository vacationRepository,
+            @Value("${vacation.batch.fetch-size:100}") int fetchSize) {
+        return new DeleteVacationKeysetReader(vacationRepository, fetchSize);
+    }
+
+    /* 설명. 휴가 지급 정책 스냅샷도 스텝 스코프로 만들어, 스텝 시작 시 기준일 연도의 정책을 새로 읽는다.
+     *  (연도가 바뀌거나 정책이 수정돼도 다음 실행부터 반영된다)
+     */
+    @Bean
+    @StepScope
+    public VacationPolicySnapshot vacationPolicySnapshot(
+            VacationPolicyRepository vacationPolicyRepository,
+            @Value("#{jobParameters['time']}") Long time) {
+        LocalDate baseDate = cutoffOf(time).toLocalDate();
+        return new VacationPolicySnapshot(
+                vacationPolicyRepository.findByYearAndAutoAllocationCycleIsNotNull(baseDate.getYear()), baseDate);
+    }
+
+    // 설명. 지급 계획에 따라 지급 대상 (사원, 정책) 쌍만 읽는다. 파티션 스텝이면 파티션의 사원 ID 구간만 읽는다.
+    @Bean
+    @StepScope
+    public GrantPlanReader grantPlanReader(
+            VacationBatchRepository vacationBatchRepository,
+            VacationPolicySnapshot vacationPolicySnapshot,
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId,
+            @Value("${vacation.batch.fetch-size:100}") int fetchSize) {
+        return new GrantPlanReader(vacationBatchRepository,
+                VacationGrantPlanner.plan(vacationPolicySnapshot),
+                vacationPolicySnapshot.getBaseDate(),
+                fetchSize,
+                minId == null ? 1L : minId,
+                maxId == null ? Long.MAX_VALUE : maxId);
+    }
+
+    @Bean
+    @StepScope
+    public InsertVacationItemProcessor insertVacationItemProcessor(VacationPolicySnapshot vacationPolicySnapshot) {
+        return new InsertVacationItemProcessor(vacationPolicySnapshot);
+    }
+
+    @Bean
+    @StepScope
+    public InsertVacationItemWriter insertVacationItemWriter(VacationBatchRepository vacationBatchRepository,
+                                                             VacationPolicySnapshot vacationPolicySnapshot) {
+        return new InsertVacationItemWriter(vacationBatchRepository, vacationPolicySnapshot.getBaseDate());
+    }
+
     // 휴가 만료 처리
     @Bean("vacationUpdateJob")
-    public Job vacationUpdateJob(JobRepository jobRepository, Step vacationUpdateStep) {
+    public Job vacationUpdateJob(JobRepository jobRepository,
+                                 Step vacationUpdateStep,
+                                 VacationBatchMetrics vacationBatchMetrics) {
         return new JobBuilder("vacationUpdateJob", jobRepository)
+                .listener(vacationBatchMetrics)
                 .start(vacationUpdateStep) // 첫 번째 스텝 실행
                 .build();
     }
@@ -30,22 +159,37 @@ public class VacationBatchConfig {
     @Bean("vacationUpdateStep")
     public Step vacationUpdateStep(JobRepository jobRepository,
                                    PlatformTransactionManager transactionManager,
-                                   UpdateVacationPageReader vacationPageReader,
+                                   ExpireVacationTasklet expireVacationTasklet,
+                                   UpdateVacationKeysetReader updateVacationKeysetReader,
                                    UpdateVacationItemProcessor vacationItemProcessor,
-                                   UpdateVacationItemWriter vacationItemWriter) {
+                                   UpdateVacationItemWriter vacationItemWriter,
+                                   VacationBatchMetrics vacationBatchMetrics) {
+        if (SET_MODE.equalsIgnoreCase(mode)) {
+            return new StepBuilder("vacationUpdateStep", jobRepository)
+                    .tasklet(expireVacationTasklet, transactionManager)
+                    .allowStartIfComplete(true)
+                    .listener((StepExecutionListener) vacationBatchMetrics)
+                    .listener((ChunkListener) vacationBatchMetrics)
+                    .build();
+        }
         return new StepBuilder("vacationUpdateStep", jobRepository)
                 .<Vacation, Vacation>chunk(100, transactionManager)
                 .allowStartIfComplete(true)
-                .reader(vacationPageReader)
+                .reader(updateVacationKeysetReader)
                 .processor(vacationItemProcessor)
                 .writer(vacationItemWriter)
+                .listener((StepExecutionListener) vacationBatchMetrics)
+                .listener((ChunkListener) vacationBatchMetrics)
                 .build();
     }
 
     // 만료된 휴가 삭제 처리
     @Bean("vacationDeleteJob")
-    public Job vacationDeleteJob(JobRepository jobRepository, Step vacationDeleteStep) {
+    public Job vacationDeleteJob(JobRepository jobRepository,
+                                 Step vacationDeleteStep,
+                                 VacationBatchMetrics vacationBatchMetrics) {
         return new JobBuilder("vacationDeleteJob", jobRepository)
+                .listener(vacationBatchMetrics)
                 .start(vacationDeleteStep)
                 .build();
     }
@@ -53,35 +197,79 @@ public class VacationBatchConfig {
     @Bean("vacationDeleteStep")
     public Step vacationDeleteStep(JobRepository jobRepository,
                                           PlatformTransactionManager transactionManager,
-                                          DeleteVacationPageReader deleteVacationPageReader,
-                                          DeleteVacationItemWriter deleteVacationItemWriter) {
+                                          PurgeVacationTasklet purgeVacationTasklet,
+                                          DeleteVacationKeysetReader deleteVacationKeysetReader,
+                                          DeleteVacationItemWriter deleteVacationItemWriter,
+                                          VacationBatchMetrics vacationBatchMetrics) {
+        if (SET_MODE.equalsIgnoreCase(mode)) {
+            return new StepBuilder("vacationDeleteStep", jobRepository)
+                    .tasklet(purgeVacationTasklet, transactionManager)
+                    .listener((StepExecutionListener) vacationBatchMetrics)
+                    .listener((ChunkListener) vacationBatchMetrics)
+                    .build();
+        }
         return new StepBuilder("vacationDeleteStep", jobRepository)
                 .<Vacation, Vacation>chunk(100, transactionManager)
-                .reader(deleteVacationPageReader)
+                .reader(deleteVacationKeysetReader)
                 .writer(deleteVacationItemWriter) // 삭제 로직을 처리할 Writer
+                .listener((StepExecutionListener) vacationBatchMetrics)
+                .listener((ChunkListener) vacationBatchMetrics)
                 .build();
     }
 
     // 휴가 지급
     @Bean("vacationInsertJob")
-    public Job vacationInsertJob(JobRepository jobRepository, Step vacationInsertStep) {
+    public Job vacationInsertJob(JobRepository jobRepository,
+                                 Step vacationInsertStep,
+                                 Step vacationInsertPartitionStep,
+                                 VacationBatchMetrics vacationBatchMetrics) {
         return new JobBuilder("vacationInsertJob", jobRepository)
-                .start(vacationInsertStep)
+                .listener(vacationBatchMetrics)
+                .start(insertGridSize > 1 ? vacationInsertPartitionStep : vacationInsertStep)
                 .build();
     }
 
+    // 설명. 재직 사원을 사원 ID 구간으로 나눠 구간마다 vacationInsertStep을 병렬로 실행
+    @Bean("vacationInsertPartitionStep")
+    public Step vacationInsertPartitionStep(JobRepository jobRepository,
+                                            EmployeeRepository employeeRepository,
+                                            Step vacationInsertStep) {
+        return new StepBuilder("vacationInsertPartitionStep", jobRepository)
+                .partitioner("vacationInsertStep", new EmployeeIdRangePartitioner(employeeRepository))
+                .step(vacationInsertStep)
+                .gridSize(insertGridSize)
+                .taskExecutor(insertTaskExecutor)
+                .build();
+    }
+
+    // 설명. 지표 리스너는 워커 스텝에만 단다. (파티션 매니저 스텝은 워커 건수를 합산하므로 이중 집계된다)
     @Bean("vacationInsertStep")
     public Step vacationInsertStep(JobRepository jobRepository,
                                    PlatformTransactionManager transactionManager,
-                                   EmployeePageReader employeePageReader,
+                                   GrantPlanReader grantPlanReader,
                                    InsertVacationItemProcessor insertVacationItemProcessor,
-                                   InsertVacationItemWriter insertVacationItemWriter) {
+                                   InsertVacationItemWriter insertVacationItemWriter,
+                                   VacationBatchMetrics vacationBatchMetrics) {
         return new StepBuilder("vacationInsertStep", jobRepository)
-                .<Employee, List<Vacation>>chunk(100, transactionManager)
-                .reader(employeePageReader) // 사원 정보 읽기
+                .<VacationGrant, Vacation>chunk(100, transactionManager)
+                .reader(grantPlanReader) // 지급 대상 (사원, 정책) 읽기
                 .processor(insertVacationItemProcessor) // 휴가 지급 처리
                 .writer(insertVacationItemWriter) // 휴가 삽입
+                .listener((StepExecutionListener) vacationBatchMetrics)
+                .listener((ChunkListener) vacationBatchMetrics)
                 .build();
     }
 
+    // 설명. 만료/지급 기준 시각은 잡 파라미터(실행 시각)로 고정 (없으면 스텝 시작 시각)
+    private static LocalDateTime cutoffOf(Long time) {
+        return time == null
+                ? LocalDateTime.now()
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        insertTaskExecutor.shutdown();
+    }
+
 }
@@ -0,0 +1,53 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/* 설명. 휴가 정책의 자동 지급 주기(auto_allocation_cycle)를 한 번 해석해 둔 날짜 판별기
+ *  - 필드가 6개보다 적으면 앞쪽(초/분/시)을 0으로 채운다. 6개를 넘으면 어떤 날짜와도 맞지 않는다.
+ *  - 지급은 날짜 단위이므로 초/분/시 필드는 보지 않고 일/월/요일만 본다. (요일은 0 또는 7이 일요일)
+ *  - 해석할 수 없는 표현식도 어떤 날짜와도 맞지 않는다.
+ */
+public final class AllocationSchedule {
+
+    private static final int FIELD_COUNT = 6;
+    private static final AllocationSchedule NEVER = new AllocationSchedule(null);
+
+    private final CronExpression expression;
+
+    private AllocationSchedule(CronExpression expression) {
+        this.expression = expression;
+    }
+
+    public static AllocationSchedule compile(String cron) {
+        if (cron == null || cron.isBlank()) {
+            return NEVER;
+        }
+        String[] fields = cron.trim().split("\\s+");
+        if (fields.length > FIELD_COUNT) {
+            return NEVER;
+        }
+
+        String[] dateFields = Arrays.copyOfRange(fields, Math.max(fields.length - 3, 0), fields.length);
+        if (dateFields.length < 3) {
+            return NEVER;
+        }
+        try {
+            return new AllocationSchedule(CronExpression.parse("0 0 0 " + String.join(" ", dateFields)));
+        } catch (IllegalArgumentException e) {
+            return NEVER;
+        }
+    }
+
+    // 설명. 해당 날짜가 지급일인지 여부
+    public boolean matches(LocalDate date) {
+        if (expression == null) {
+            return false;
+        }
+        LocalDateTime startOfDay = date.atStartOfDay();
+        return startOfDay.equals(expression.next(startOfDay.minusSeconds(1)));
+    }
+}
@@ -0,0 +1,30 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import com.pado.inflow.vacation.command.domain.aggregate.entity.Vacation;
+import com.pado.inflow.vacation.command.domain.aggregate.type.ExpirationStatus;
+import com.pado.inflow.vacation.command.domain.repository.VacationRepository;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+// 설명. 삭제 대상(만료 처리된 휴가)을 휴가 ID 순으로 읽는다.
+public class DeleteVacationKeysetReader extends KeysetItemReader<Vacation> {
+
+    private final VacationRepository vacationRepository;
+
+    public DeleteVacationKeysetReader(VacationRepository vacationRepository, int fetchSize) {
+        super("deleteVacationKeysetReader", fetchSize);
+        this.vacationRepository = vacationRepository;
+    }
+
+    @Override
+    protected List<Vacation> fetch(long afterId, int limit) {
+        return vacationRepository.findByExpirationStatusAndVacationIdGreaterThanOrderByVacationIdAsc(
+                ExpirationStatus.Y, afterId, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    protected Long idOf(Vacation vacation) {
+        return vacation.getVacationId();
+    }
+}
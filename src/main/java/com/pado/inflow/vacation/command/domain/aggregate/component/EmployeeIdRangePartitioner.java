@@ -0,0 +1,55 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import com.pado.inflow.employee.info.command.domain.aggregate.entity.Employee;
+import com.pado.inflow.employee.info.command.domain.repository.EmployeeRepository;
+import com.pado.inflow.employee.info.enums.ResignationStatus;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/* 설명. 재직 중인 사원을 사원 ID 구간으로 나눈다.
+ *  가장 작은/큰 사원 ID 사이를 gridSize개의 같은 폭 구간으로 자르고, 구간마다 minId/maxId를 ExecutionContext에 담는다.
+ *  (사원 ID는 IDENTITY 키라 구간별 인원이 크게 치우치지 않는다)
+ */
+public class EmployeeIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private final EmployeeRepository employeeRepository;
+
+    public EmployeeIdRangePartitioner(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        Optional<Employee> first = employeeRepository.findFirstByResignationStatusOrderByEmployeeIdAsc(ResignationStatus.N);
+        Optional<Employee> last = employeeRepository.findFirstByResignationStatusOrderByEmployeeIdDesc(ResignationStatus.N);
+        if (first.isEmpty() || last.isEmpty()) {
+            // 설명. 대상이 없어도 빈 구간 하나로 스텝을 마친다.
+            partitions.put("partition0", range(1L, 0L));
+            return partitions;
+        }
+
+        long min = first.get().getEmployeeId();
+        long max = last.get().getEmployeeId();
+        long width = (max - min) / Math.max(gridSize, 1) + 1;
+        int number = 0;
+        for (long from = min; from <= max; from += width) {
+            partitions.put("partition" + number++, range(from, Math.min(from + width - 1, max)));
+        }
+        return partitions;
+    }
+
+    private static ExecutionContext range(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        return context;
+    }
+}
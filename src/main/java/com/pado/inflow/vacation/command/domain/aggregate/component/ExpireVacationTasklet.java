@@ -0,0 +1,28 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import com.pado.inflow.vacation.command.domain.repository.VacationRepository;
+
+import java.time.LocalDateTime;
+
+// 설명. 기준 시각 이전에 만료된 휴가를 구간 단위 UPDATE로 만료 처리한다.
+public class ExpireVacationTasklet extends VacationRangeTasklet {
+
+    private final VacationRepository vacationRepository;
+    private final LocalDateTime cutoff;
+
+    public ExpireVacationTasklet(VacationRepository vacationRepository, LocalDateTime cutoff, int chunkSize) {
+        super("expireVacationTasklet", chunkSize);
+        this.vacationRepository = vacationRepository;
+        this.cutoff = cutoff;
+    }
+
+    @Override
+    protected Long findUpperId(long afterId, int limit) {
+        return vacationRepository.findExpirableUpperId(cutoff, afterId, limit);
+    }
+
+    @Override
+    protected int apply(long fromId, long toId) {
+        return vacationRepository.expireBetween(cutoff, fromId, toId);
+    }
+}
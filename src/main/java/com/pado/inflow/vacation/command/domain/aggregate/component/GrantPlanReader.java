@@ -0,0 +1,99 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import com.pado.inflow.vacation.command.domain.aggregate.component.VacationGrantPlanner.GrantRule;
+import com.pado.inflow.vacation.command.domain.aggregate.component.VacationGrantPlanner.VacationGrant;
+import com.pado.inflow.vacation.command.domain.repository.VacationBatchRepository;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/* 설명. 휴가 지급 대상 (사원, 정책) 쌍을 읽는다.
+ *  지급 계획의 정책 순서대로, 정책마다 조건에 맞고 아직 지급 원장에 없는 사원만 사원 ID keyset으로 읽는다.
+ *  - 지급할 정책이 없는 날은 아무것도 조회하지 않는다.
+ *  - 진행 중인 정책 순번과 사원 ID를 ExecutionContext에 남겨 재시작하면 이어서 읽는다.
+ *  - 파티션 스텝에서는 [minId, maxId] 구간의 사원만 읽는다.
+ */
+public class GrantPlanReader implements ItemStreamReader<VacationGrant> {
+
+    private static final String RULE_INDEX = "grantPlanReader.rule.index";
+
+    private final VacationBatchRepository vacationBatchRepository;
+    private final List<GrantRule> rules;
+    private final LocalDate period;
+    private final int fetchSize;
+    private final long minId;
+    private final long maxId;
+
+    private int ruleIndex;
+    private KeysetItemReader<Long> employees;
+
+    public GrantPlanReader(VacationBatchRepository vacationBatchRepository, List<GrantRule> rules,
+                           LocalDate period, int fetchSize, long minId, long maxId) {
+        this.vacationBatchRepository = vacationBatchRepository;
+        this.rules = rules;
+        this.period = period;
+        this.fetchSize = fetchSize;
+        this.minId = minId;
+        this.maxId = maxId;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        ruleIndex = executionContext.getInt(RULE_INDEX, 0);
+        employees = null;
+        if (ruleIndex < rules.size()) {
+            employees = employeesOf(rules.get(ruleIndex));
+            employees.open(executionContext);
+        }
+    }
+
+    @Override
+    public VacationGrant read() {
+        while (ruleIndex < rules.size()) {
+            Long employeeId = employees.read();
+            if (employeeId != null) {
+                return new VacationGrant(employeeId, rules.get(ruleIndex).policy());
+            }
+
+            // 설명. 다음 정책은 구간 처음부터 읽는다.
+            ruleIndex++;
+            if (ruleIndex < rules.size()) {
+                employees = employeesOf(rules.get(ruleIndex));
+                employees.open(new ExecutionContext());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putInt(RULE_INDEX, ruleIndex);
+        if (employees != null) {
+            employees.update(executionContext);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (employees != null) {
+            employees.close();
+        }
+    }
+
+    private KeysetItemReader<Long> employeesOf(GrantRule rule) {
+        return new KeysetItemReader<>("grantPlanReader", fetchSize, minId - 1) {
+            @Override
+            protected List<Long> fetch(long afterId, int limit) {
+                return vacationBatchRepository.findGrantableEmployeeIds(rule, period, afterId, maxId, limit);
+            }
+
+            @Override
+            protected Long idOf(Long employeeId) {
+                return employeeId;
+            }
+        };
+    }
+}
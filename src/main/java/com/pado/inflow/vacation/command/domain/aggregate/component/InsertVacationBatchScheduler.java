@@ -1,6 +1,10 @@
 package com.pado.inflow.vacation.command.domain.aggregate.component;
 
+import com.pado.inflow.common.schedule.SchedulerLock;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
@@ -9,28 +13,47 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 public class InsertVacationBatchScheduler {
 
     private final JobLauncher jobLauncher;
     private final Job vacationInsertJob;
+    private final VacationBatchMetrics vacationBatchMetrics;
+    private final SchedulerLock schedulerLock;
 
     @Autowired
     public InsertVacationBatchScheduler(JobLauncher jobLauncher,
-                                        @Qualifier("vacationInsertJob") Job vacationInsertJob) {
+                                        @Qualifier("vacationInsertJob") Job vacationInsertJob,
+                                        VacationBatchMetrics vacationBatchMetrics,
+                                        SchedulerLock schedulerLock) {
         this.jobLauncher = jobLauncher;
         this.vacationInsertJob = vacationInsertJob;
+        this.vacationBatchMetrics = vacationBatchMetrics;
+        this.schedulerLock = schedulerLock;
     }
 
     @Scheduled(cron = "0 15 0 * * *") // 매일 00시 15분
-    public void runBatchJob() throws Exception {
+    public void runBatchJob() {
+        // 여러 서버 중 임대를 잡은 한 서버만 실행
+        schedulerLock.runExclusively("vacationInsertJob", this::launch);
+    }
+
+    private void launch() {
         // 고유한 JobParameters 생성
         JobParameters jobParameters = new JobParametersBuilder()
                 .addLong("time", System.currentTimeMillis()) // 고유한 파라미터 추가
                 .toJobParameters();
 
-        // 배치 작업 실행
-        jobLauncher.run(vacationInsertJob, jobParameters);
+        // 배치 작업 실행 (실행 자체가 실패해도 스케줄러 스레드로 예외를 넘기지 않는다)
+        try {
+            JobExecution jobExecution = jobLauncher.run(vacationInsertJob, jobParameters);
+            log.info("vacationInsertJob 실행 종료 - executionId: {}, status: {}",
+                    jobExecution.getId(), jobExecution.getStatus());
+        } catch (JobExecutionException e) {
+            vacationBatchMetrics.recordLaunchFailure("vacationInsertJob");
+            log.error("vacationInsertJob 실행 실패", e);
+        }
     }
 
 }
@@ -1,31 +1,33 @@
 package com.pado.inflow.vacation.command.domain.aggregate.component;
 
 import com.pado.inflow.vacation.command.domain.aggregate.entity.Vacation;
-import com.pado.inflow.vacation.command.domain.repository.VacationRepository;
+import com.pado.inflow.vacation.command.domain.repository.VacationBatchRepository;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
-@Component
-@Transactional
-public class InsertVacationItemWriter implements ItemWriter<List<Vacation>> {
+/* 설명. 청크의 지급 휴가를 JDBC 배치 한 번으로 저장하고, 같은 트랜잭션에서 지급 원장에 (사원, 정책, 지급일)을 남긴다.
+ *  이미 원장에 있는 쌍은 리더가 걸러내므로, 같은 날 다시 실행해도 중복 지급되지 않는다.
+ *  (동시에 두 번 실행되면 원장의 기본 키 중복으로 청크가 롤백된다)
+ */
+public class InsertVacationItemWriter implements ItemWriter<Vacation> {
 
-    private final VacationRepository vacationRepository;
+    private final VacationBatchRepository vacationBatchRepository;
+    private final LocalDate period;
 
-    @Autowired
-    public InsertVacationItemWriter(VacationRepository vacationRepository) {
-        this.vacationRepository = vacationRepository;
+    public InsertVacationItemWriter(VacationBatchRepository vacationBatchRepository, LocalDate period) {
+        this.vacationBatchRepository = vacationBatchRepository;
+        this.period = period;
     }
 
     @Override
-    public void write(Chunk<? extends List<Vacation>> items) {
-        for (List<Vacation> vacations : items) {
-            vacationRepository.saveAll(vacations); // 여러 종류의 휴가 목록을 한 번에 저장
-        }
+    public void write(Chunk<? extends Vacation> chunk) {
+        List<Vacation> vacations = new ArrayList<>(chunk.getItems());
+        vacationBatchRepository.insertLedger(vacations, period);
+        vacationBatchRepository.insertAll(vacations);
     }
 
 }
@@ -0,0 +1,88 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/* 설명. 기본 키 기준 keyset 페이지 리더
+ *  OFFSET 대신 "id > 마지막으로 읽은 id ORDER BY id LIMIT fetchSize"로 읽으므로,
+ *  같은 스텝이 앞쪽 행을 만료/삭제해도 페이지가 밀려 건너뛰거나 다시 읽는 일이 없다.
+ *  - 마지막으로 넘겨준 id를 ExecutionContext에 남겨 재시작하면 그 다음 행부터 읽는다.
+ *  - 스텝 스코프 빈으로 만들어 실행마다 새 인스턴스를 쓴다.
+ */
+public abstract class KeysetItemReader<T> implements ItemStreamReader<T> {
+
+    private static final String LAST_READ_ID = "last.read.id";
+
+    private final String name;
+    private final int fetchSize;
+    private final long startAfterId;
+    private final Deque<T> buffer = new ArrayDeque<>();
+
+    // 설명. 마지막으로 넘겨준 행의 id (재시작 위치)
+    private long lastReadId;
+    // 설명. 마지막으로 조회한 행의 id (다음 조회 위치)
+    private long lastFetchedId;
+    private boolean exhausted;
+
+    protected KeysetItemReader(String name, int fetchSize) {
+        this(name, fetchSize, 0L);
+    }
+
+    // 설명. startAfterId보다 큰 id부터 읽는다. (파티션별 리더)
+    protected KeysetItemReader(String name, int fetchSize, long startAfterId) {
+        this.name = name;
+        this.fetchSize = Math.max(fetchSize, 1);
+        this.startAfterId = startAfterId;
+    }
+
+    // 설명. afterId보다 큰 id를 가진 행을 id 오름차순으로 최대 limit건 조회
+    protected abstract List<T> fetch(long afterId, int limit);
+
+    protected abstract Long idOf(T item);
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        lastReadId = executionContext.getLong(key(), startAfterId);
+        lastFetchedId = lastReadId;
+        exhausted = false;
+        buffer.clear();
+    }
+
+    @Override
+    public T read() {
+        if (buffer.isEmpty() && !exhausted) {
+            List<T> items = fetch(lastFetchedId, fetchSize);
+            if (!items.isEmpty()) {
+                buffer.addAll(items);
+                lastFetchedId = idOf(items.get(items.size() - 1));
+            }
+            // 설명. 덜 채워 왔으면 더 읽을 행이 없다.
+            exhausted = items.size() < fetchSize;
+        }
+
+        T item = buffer.poll();
+        if (item != null) {
+            lastReadId = idOf(item);
+        }
+        return item;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(key(), lastReadId);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        buffer.clear();
+    }
+
+    private String key() {
+        return name + "." + LAST_READ_ID;
+    }
+}
@@ -0,0 +1,24 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import com.pado.inflow.vacation.command.domain.repository.VacationRepository;
+
+// 설명. 만료 처리된 휴가를 구간 단위 DELETE로 삭제한다.
+public class PurgeVacationTasklet extends VacationRangeTasklet {
+
+    private final VacationRepository vacationRepository;
+
+    public PurgeVacationTasklet(VacationRepository vacationRepository, int chunkSize) {
+        super("purgeVacationTasklet", chunkSize);
+        this.vacationRepository = vacationRepository;
+    }
+
+    @Override
+    protected Long findUpperId(long afterId, int limit) {
+        return vacationRepository.findExpiredUpperId(afterId, limit);
+    }
+
+    @Override
+    protected int apply(long fromId, long toId) {
+        return vacationRepository.deleteExpiredBetween(fromId, toId);
+    }
+}
@@ -1,34 +1,59 @@
 package com.pado.inflow.vacation.command.domain.aggregate.component;
 
-import org.springframework.batch.core.*;
+import com.pado.inflow.common.schedule.SchedulerLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 public class UpdateVacationBatchScheduler {
 
     private final JobLauncher jobLauncher;
     private final Job vacationUpdateJob;
+    private final VacationBatchMetrics vacationBatchMetrics;
+    private final SchedulerLock schedulerLock;
 
     @Autowired
     public UpdateVacationBatchScheduler(JobLauncher jobLauncher,
-                                        @Qualifier("vacationUpdateJob") Job vacationUpdateJob) {
+                                        @Qualifier("vacationUpdateJob") Job vacationUpdateJob,
+                                        VacationBatchMetrics vacationBatchMetrics,
+                                        SchedulerLock schedulerLock) {
         this.jobLauncher = jobLauncher;
         this.vacationUpdateJob = vacationUpdateJob;
+        this.vacationBatchMetrics = vacationBatchMetrics;
+        this.schedulerLock = schedulerLock;
     }
 
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정
-    public void runBatchJob() throws Exception {
+    public void runBatchJob() {
+        // 여러 서버 중 임대를 잡은 한 서버만 실행
+        schedulerLock.runExclusively("vacationUpdateJob", this::launch);
+    }
+
+    private void launch() {
         // 고유한 JobParameters 생성
         JobParameters jobParameters = new JobParametersBuilder()
                 .addLong("time", System.currentTimeMillis()) // 고유한 파라미터 추가
                 .toJobParameters();
 
-        // 배치 작업 실행
-        jobLauncher.run(vacationUpdateJob, jobParameters);
+        // 배치 작업 실행 (실행 자체가 실패해도 스케줄러 스레드로 예외를 넘기지 않는다)
+        try {
+            JobExecution jobExecution = jobLauncher.run(vacationUpdateJob, jobParameters);
+            log.info("vacationUpdateJob 실행 종료 - executionId: {}, status: {}",
+                    jobExecution.getId(), jobExecution.getStatus());
+        } catch (JobExecutionException e) {
+            vacationBatchMetrics.recordLaunchFailure("vacationUpdateJob");
+            log.error("vacationUpdateJob 실행 실패", e);
+        }
     }
 
 }
@@ -0,0 +1,35 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import com.pado.inflow.vacation.command.domain.aggregate.entity.Vacation;
+import com.pado.inflow.vacation.command.domain.aggregate.type.ExpirationStatus;
+import com.pado.inflow.vacation.command.domain.repository.VacationRepository;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/* 설명. 만료 처리 대상(기준 시각 이전에 만료됐지만 아직 만료 처리되지 않은 휴가)을 휴가 ID 순으로 읽는다.
+ *  기준 시각은 잡 파라미터로 고정해, 재시작해도 같은 대상을 이어서 읽는다.
+ */
+public class UpdateVacationKeysetReader extends KeysetItemReader<Vacation> {
+
+    private final VacationRepository vacationRepository;
+    private final LocalDateTime cutoff;
+
+    public UpdateVacationKeysetReader(VacationRepository vacationRepository, LocalDateTime cutoff, int fetchSize) {
+        super("updateVacationKeysetReader", fetchSize);
+        this.vacationRepository = vacationRepository;
+        this.cutoff = cutoff;
+    }
+
+    @Override
+    protected List<Vacation> fetch(long afterId, int limit) {
+        return vacationRepository.findByExpiredAtBeforeAndExpirationStatusAndVacationIdGreaterThanOrderByVacationIdAsc(
+                cutoff, ExpirationStatus.N, afterId, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    protected Long idOf(Vacation vacation) {
+        return vacation.getVacationId();
+    }
+}
@@ -0,0 +1,164 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.batch.core.launch.NoSuchJobExecutionException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/* 설명. 휴가 배치 실행 이력 조회/재시작 actuator 엔드포인트
+ *  - GET  /actuator/vacationbatch               : 잡별 최근 실행 목록 (vacation.batch.admin.recent건씩)
+ *  - GET  /actuator/vacationbatch/{executionId} : 실행 상세와 스텝별 처리량
+ *  - POST /actuator/vacationbatch/{executionId} : 실패/중단된 실행을 같은 파라미터로 재시작
+ *  재시작하면 스텝 실행 컨텍스트에 남은 마지막 커밋 위치(키셋 리더의 마지막 ID 등)부터 이어서 처리한다.
+ *  management.endpoints.web.exposure.include에 vacationbatch를 추가해야 노출되며, ADMIN만 호출할 수 있다.
+ */
+@Component
+@Endpoint(id = "vacationbatch")
+public class VacationBatchEndpoint {
+
+    private final JobExplorer jobExplorer;
+    private final JobOperator jobOperator;
+    private final VacationBatchMetrics vacationBatchMetrics;
+    private final int recentCount;
+
+    @Autowired
+    public VacationBatchEndpoint(JobExplorer jobExplorer,
+                                 JobOperator jobOperator,
+                                 VacationBatchMetrics vacationBatchMetrics,
+                                 @Value("${vacation.batch.admin.recent:20}") int recentCount) {
+        this.jobExplorer = jobExplorer;
+        this.jobOperator = jobOperator;
+        this.vacationBatchMetrics = vacationBatchMetrics;
+        this.recentCount = recentCount;
+    }
+
+    @ReadOperation
+    public List<JobExecutionSummary> recentExecutions() {
+        List<JobExecutionSummary> executions = new ArrayList<>();
+        for (String jobName : jobExplorer.getJobNames()) {
+            for (JobInstance jobInstance : jobExplorer.getJobInstances(jobName, 0, recentCount)) {
+                for (JobExecution jobExecution : jobExplorer.getJobExecutions(jobInstance)) {
+                    executions.add(JobExecutionSummary.of(jobExecution));
+                }
+            }
+        }
+        executions.sort(Comparator.comparing(JobExecutionSummary::executionId).reversed());
+        return executions;
+    }
+
+    // 설명. 없는 실행이면 null을 돌려 404로 응답한다.
+    @ReadOperation
+    public JobExecutionDetail execution(@Selector long executionId) {
+        JobExecution jobExecution = jobExplorer.getJobExecution(executionId);
+        if (jobExecution == null) {
+            return null;
+        }
+        List<StepSummary> steps = new ArrayList<>();
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            steps.add(StepSummary.of(stepExecution));
+        }
+        steps.sort(Comparator.comparing(StepSummary::stepExecutionId));
+        return new JobExecutionDetail(JobExecutionSummary.of(jobExecution), steps);
+    }
+
+    // 설명. 재시작한 새 실행 ID를 돌려준다. 이미 완료됐거나 재시작할 수 없는 실행은 400으로 응답한다.
+    @WriteOperation
+    public Long restart(@Selector long executionId) {
+        JobExecution jobExecution = jobExplorer.getJobExecution(executionId);
+        if (jobExecution == null) {
+            throw new InvalidEndpointRequestException("존재하지 않는 배치 실행입니다.", "no such execution: " + executionId);
+        }
+        try {
+            Long restartedId = jobOperator.restart(executionId);
+            vacationBatchMetrics.recordRestart(jobExecution.getJobInstance().getJobName());
+            return restartedId;
+        } catch (JobInstanceAlreadyCompleteException | JobRestartException | NoSuchJobExecutionException
+                 | NoSuchJobException | JobParametersInvalidException e) {
+            throw new InvalidEndpointRequestException("재시작할 수 없는 배치 실행입니다.", e.getMessage());
+        }
+    }
+
+    public record JobExecutionSummary(Long executionId,
+                                      Long instanceId,
+                                      String jobName,
+                                      String status,
+                                      String exitCode,
+                                      LocalDateTime startTime,
+                                      LocalDateTime endTime,
+                                      long durationMillis,
+                                      String parameters) {
+
+        static JobExecutionSummary of(JobExecution jobExecution) {
+            return new JobExecutionSummary(
+                    jobExecution.getId(),
+                    jobExecution.getJobInstance().getInstanceId(),
+                    jobExecution.getJobInstance().getJobName(),
+                    jobExecution.getStatus().name(),
+                    jobExecution.getExitStatus().getExitCode(),
+                    jobExecution.getStartTime(),
+                    jobExecution.getEndTime(),
+                    elapsedMillis(jobExecution.getStartTime(), jobExecution.getEndTime()),
+                    jobExecution.getJobParameters().toString());
+        }
+    }
+
+    public record JobExecutionDetail(JobExecutionSummary execution, List<StepSummary> steps) {
+    }
+
+    // 설명. itemsPerSecond는 스텝 실행 시간 동안 쓴(write) 건수 기준이다. (실행 중이면 현재 시각까지)
+    public record StepSummary(Long stepExecutionId,
+                              String stepName,
+                              String status,
+                              long readCount,
+                              long filterCount,
+                              long writeCount,
+                              long skipCount,
+                              long commitCount,
+                              long rollbackCount,
+                              long durationMillis,
+                              double itemsPerSecond) {
+
+        static StepSummary of(StepExecution stepExecution) {
+            long durationMillis = elapsedMillis(stepExecution.getStartTime(), stepExecution.getEndTime());
+            return new StepSummary(
+                    stepExecution.getId(),
+                    stepExecution.getStepName(),
+                    stepExecution.getStatus().name(),
+                    stepExecution.getReadCount(),
+                    stepExecution.getFilterCount(),
+                    stepExecution.getWriteCount(),
+                    stepExecution.getSkipCount(),
+                    stepExecution.getCommitCount(),
+                    stepExecution.getRollbackCount(),
+                    durationMillis,
+                    durationMillis == 0 ? 0.0 : stepExecution.getWriteCount() * 1000.0 / durationMillis);
+        }
+    }
+
+    private static long elapsedMillis(LocalDateTime startTime, LocalDateTime endTime) {
+        if (startTime == null) {
+            return 0L;
+        }
+        return Duration.between(startTime, endTime == null ? LocalDateTime.now() : endTime).toMillis();
+    }
+}
@@ -0,0 +1,151 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/* 설명. 휴가 배치 잡/스텝/청크 리스너로 Micrometer 지표를 남긴다. (actuator로 노출)
+ *  - inflow.batch.job          : 잡 실행 시간 (job, status)
+ *  - inflow.batch.step         : 스텝 실행 시간 (job, step, status)
+ *  - inflow.batch.items        : 스텝별 read/process/filter/write 건수 (job, step, type)
+ *  - inflow.batch.skips        : 스텝별 read/process/write 스킵 건수 (job, step, phase)
+ *  - inflow.batch.chunk        : 청크 처리~커밋 시간 (step, outcome)
+ *  - inflow.batch.restarts     : 관리 엔드포인트로 재시작한 횟수 (job)
+ *  - inflow.batch.launch.failures : 스케줄러에서 잡 실행 자체가 실패한 횟수 (job)
+ *  파티션 스텝(vacationInsertStep:partition0 ...)은 파티션 번호를 떼고 원래 스텝 이름으로 합산한다.
+ *  스텝 리스너는 워커(실제 처리) 스텝에만 등록해야 파티션 매니저 스텝과 이중으로 집계되지 않는다.
+ */
+@Component
+public class VacationBatchMetrics implements JobExecutionListener, StepExecutionListener, ChunkListener {
+
+    private static final String CHUNK_STARTED_AT = VacationBatchMetrics.class.getName() + ".startedAt";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> chunkTimers = new ConcurrentHashMap<>();
+
+    public VacationBatchMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        Timer.builder("inflow.batch.job")
+                .description("배치 잡 실행 시간")
+                .tag("job", jobExecution.getJobInstance().getJobName())
+                .tag("status", jobExecution.getStatus().name())
+                .register(meterRegistry)
+                .record(elapsed(jobExecution.getStartTime(), jobExecution.getEndTime()));
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        String job = stepExecution.getJobExecution().getJobInstance().getJobName();
+        String step = stepNameOf(stepExecution.getStepName());
+
+        // 설명. afterStep 시점에는 종료 시각이 아직 기록되지 않으므로 현재 시각까지로 잰다.
+        Timer.builder("inflow.batch.step")
+                .description("배치 스텝 실행 시간")
+                .tags("job", job, "step", step, "status", stepExecution.getStatus().name())
+                .register(meterRegistry)
+                .record(elapsed(stepExecution.getStartTime(), LocalDateTime.now()));
+
+        // 설명. 프로세서를 거친 건수 = 읽은 건수 - 처리 중 스킵된 건수 (필터된 건도 처리된 것으로 본다)
+        items(job, step, "read", stepExecution.getReadCount());
+        items(job, step, "process", stepExecution.getReadCount() - stepExecution.getProcessSkipCount());
+        items(job, step, "filter", stepExecution.getFilterCount());
+        items(job, step, "write", stepExecution.getWriteCount());
+        skips(job, step, "read", stepExecution.getReadSkipCount());
+        skips(job, step, "process", stepExecution.getProcessSkipCount());
+        skips(job, step, "write", stepExecution.getWriteSkipCount());
+        return null;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        context.setAttribute(CHUNK_STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        recordChunk(context, "committed");
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        recordChunk(context, "failed");
+    }
+
+    // 설명. 관리 엔드포인트에서 실패한 실행을 재시작했을 때
+    public void recordRestart(String jobName) {
+        Counter.builder("inflow.batch.restarts")
+                .description("관리 엔드포인트로 재시작한 배치 실행 수")
+                .tag("job", jobName)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // 설명. 스케줄러에서 잡을 실행하지 못했을 때 (이미 실행 중, 파라미터 중복 등)
+    public void recordLaunchFailure(String jobName) {
+        Counter.builder("inflow.batch.launch.failures")
+                .description("스케줄러에서 배치 잡 실행에 실패한 횟수")
+                .tag("job", jobName)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void recordChunk(ChunkContext context, String outcome) {
+        Object startedAt = context.getAttribute(CHUNK_STARTED_AT);
+        if (!(startedAt instanceof Long started)) {
+            return;
+        }
+        context.removeAttribute(CHUNK_STARTED_AT);
+        String step = stepNameOf(context.getStepContext().getStepName());
+        chunkTimers.computeIfAbsent(step + "|" + outcome, key -> Timer.builder("inflow.batch.chunk")
+                        .description("청크 처리부터 커밋(또는 롤백)까지 걸린 시간")
+                        .tags("step", step, "outcome", outcome)
+                        .register(meterRegistry))
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    private void items(String job, String step, String type, long count) {
+        Counter.builder("inflow.batch.items")
+                .description("배치 스텝에서 처리한 아이템 수")
+                .tags("job", job, "step", step, "type", type)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private void skips(String job, String step, String phase, long count) {
+        Counter.builder("inflow.batch.skips")
+                .description("배치 스텝에서 스킵한 아이템 수")
+                .tags("job", job, "step", step, "phase", phase)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    static String stepNameOf(String stepName) {
+        int partition = stepName.indexOf(':');
+        return partition < 0 ? stepName : stepName.substring(0, partition);
+    }
+
+    private static Duration elapsed(LocalDateTime startTime, LocalDateTime endTime) {
+        if (startTime == null) {
+            return Duration.ZERO;
+        }
+        return Duration.between(startTime, endTime == null ? LocalDateTime.now() : endTime);
+    }
+}
@@ -0,0 +1,54 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import com.pado.inflow.employee.info.enums.Gender;
+import com.pado.inflow.vacation.command.domain.aggregate.entity.VacationPolicy;
+import com.pado.inflow.vacation.command.domain.aggregate.type.VacationPolicyStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/* 설명. 휴가 지급 계획
+ *  기준일에 지급할 정책마다 지급 대상 사원의 조건(성별, 입사일 범위)을 만든다.
+ *  사원마다 근속일을 계산하는 대신 입사일 범위로 바꿔 두면, 조회가 join_date 인덱스로 대상만 읽는다.
+ *  - WOMAN_ONLY : 여성
+ *  - ROOKIE     : 근속 1년(365일) 미만 → 입사일 > 기준일 - 365일
+ *  - LONG_TERM  : 근속 5년(1825일) 이상 → 입사일 <= 기준일 - 1825일
+ *  - 그 외      : 재직 중인 사원 전체
+ */
+public final class VacationGrantPlanner {
+
+    private static final int ROOKIE_DAYS = 365;
+    private static final int LONG_TERM_DAYS = 1825;
+
+    /* 설명. 지급 대상 조건 (null인 조건은 보지 않는다)
+     *  joinedAfter는 초과, joinedOnOrBefore는 이하 조건이다.
+     */
+    public record GrantRule(VacationPolicy policy, Gender gender, LocalDate joinedAfter, LocalDate joinedOnOrBefore) {
+    }
+
+    // 설명. 지급 대상 (사원, 정책) 쌍
+    public record VacationGrant(Long employeeId, VacationPolicy policy) {
+    }
+
+    private VacationGrantPlanner() {
+    }
+
+    public static List<GrantRule> plan(VacationPolicySnapshot snapshot) {
+        LocalDate baseDate = snapshot.getBaseDate();
+        List<GrantRule> rules = new ArrayList<>();
+        for (VacationPolicy policy : snapshot.getDuePolicies()) {
+            VacationPolicyStatus status = policy.getVacationPolicyStatus();
+            if (status == VacationPolicyStatus.WOMAN_ONLY) {
+                rules.add(new GrantRule(policy, Gender.FEMALE, null, null));
+            } else if (status == VacationPolicyStatus.ROOKIE) {
+                rules.add(new GrantRule(policy, null, baseDate.minusDays(ROOKIE_DAYS), null));
+            } else if (status == VacationPolicyStatus.LONG_TERM) {
+                rules.add(new GrantRule(policy, null, null, baseDate.minusDays(LONG_TERM_DAYS)));
+            } else {
+                rules.add(new GrantRule(policy, null, null, null));
+            }
+        }
+        return rules;
+    }
+}
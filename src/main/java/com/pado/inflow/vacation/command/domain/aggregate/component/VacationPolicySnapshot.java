@@ -0,0 +1,51 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import com.pado.inflow.vacation.command.domain.aggregate.entity.VacationPolicy;
+import com.pado.inflow.vacation.command.domain.aggregate.type.VacationPolicyStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/* 설명. 휴가 지급 한 번 실행에 쓰는 휴가 정책 스냅샷
+ *  스텝 시작 시 기준일 연도의 정책을 읽어, 지급 주기를 한 번씩만 해석하고 기준일에 지급할 정책만 남긴다.
+ *  만료일도 기준일로 한 번만 계산해 둔다. (대상 사원 조건은 VacationGrantPlanner가 만든다)
+ */
+public class VacationPolicySnapshot {
+
+    private final LocalDate baseDate;
+    private final List<VacationPolicy> duePolicies;
+    private final LocalDateTime yearEnd;
+    private final LocalDateTime nextMonthStart;
+
+    public VacationPolicySnapshot(List<VacationPolicy> policies, LocalDate baseDate) {
+        this.baseDate = baseDate;
+        List<VacationPolicy> due = new ArrayList<>();
+        for (VacationPolicy policy : policies) {
+            if (AllocationSchedule.compile(policy.getAutoAllocationCycle()).matches(baseDate)) {
+                due.add(policy);
+            }
+        }
+        this.duePolicies = Collections.unmodifiableList(due);
+        this.yearEnd = LocalDate.of(baseDate.getYear(), 12, 31).atStartOfDay();
+        this.nextMonthStart = baseDate.plusMonths(1).withDayOfMonth(1).atStartOfDay();
+    }
+
+    public LocalDate getBaseDate() {
+        return baseDate;
+    }
+
+    // 설명. 기준일에 지급할 정책
+    public List<VacationPolicy> getDuePolicies() {
+        return duePolicies;
+    }
+
+    /* 설명. 정책별 지급 휴가의 만료일
+     *  여성 보건 휴가는 다음 달 1일, 그 외는 기준일 연도의 12월 31일
+     */
+    public LocalDateTime expiryOf(VacationPolicy policy) {
+        return policy.getVacationPolicyStatus() == VacationPolicyStatus.WOMAN_ONLY ? nextMonthStart : yearEnd;
+    }
+}
@@ -0,0 +1,55 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/* 설명. 휴가 ID 구간 단위 일괄 처리 태스클릿
+ *  엔티티를 한 건씩 읽고 쓰는 대신, 대상 행 chunkSize건을 덮는 ID 구간을 구해 구간마다 UPDATE/DELETE 한 문장을 보낸다.
+ *  - 태스클릿 한 번 실행이 한 트랜잭션(청크)이며, 처리 건수는 스텝의 write count에 더한다.
+ *  - 처리한 구간의 끝 ID를 ExecutionContext에 남겨 재시작하면 그 다음 구간부터 처리한다.
+ *  - 대상 조건은 구간 조회와 처리 문장 모두에 들어가므로, 그 사이에 바뀐 행은 처리하지 않는다.
+ */
+@Slf4j
+public abstract class VacationRangeTasklet implements Tasklet {
+
+    private static final String LAST_ID = "last.id";
+
+    private final String name;
+    private final int chunkSize;
+
+    protected VacationRangeTasklet(String name, int chunkSize) {
+        this.name = name;
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    // 설명. afterId 다음부터 대상 행 limit건을 덮는 구간의 끝 ID (대상이 없으면 null)
+    protected abstract Long findUpperId(long afterId, int limit);
+
+    // 설명. [fromId, toId] 구간의 대상 행 처리 (처리 건수 반환)
+    protected abstract int apply(long fromId, long toId);
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        long lastId = executionContext.getLong(key(), 0L);
+
+        Long upperId = findUpperId(lastId, chunkSize);
+        if (upperId == null) {
+            return RepeatStatus.FINISHED;
+        }
+
+        int count = apply(lastId + 1, upperId);
+        contribution.incrementWriteCount(count);
+        executionContext.putLong(key(), upperId);
+        log.debug("{}: 휴가 ID {} ~ {} 구간 {}건 처리", name, lastId + 1, upperId, count);
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    private String key() {
+        return name + "." + LAST_ID;
+    }
+}
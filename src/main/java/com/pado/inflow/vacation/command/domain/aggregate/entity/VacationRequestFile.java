@@ -25,4 +25,8 @@ public class VacationRequestFile {
     @Column(name = "vacation_request_id")
     private Long vacationRequestId;
 
+    // 설명. 첨부 파일 객체 (내용 기준 중복 제거 이전의 내역은 NULL)
+    @Column(name = "attachment_blob_id")
+    private Long attachmentBlobId;
+
 }
@@ -0,0 +1,111 @@
+package com.pado.inflow.vacation.command.domain.repository;
+
+import com.pado.inflow.vacation.command.domain.aggregate.component.VacationGrantPlanner.GrantRule;
+import com.pado.inflow.vacation.command.domain.aggregate.entity.Vacation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/* 설명. 휴가 지급 배치용 JDBC 배치 저장소
+ *  vacation은 IDENTITY 키라 JPA saveAll은 한 건씩 INSERT하므로, 지급분은 JDBC batchUpdate로 묶어서 보낸다.
+ *  지급 원장(vacation_grant_ledger)은 (사원, 정책, 지급일)마다 한 번만 지급하기 위한 기록이다.
+ */
+@Repository
+public class VacationBatchRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public VacationBatchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /* 설명. 지급 조건에 맞고 아직 지급 원장에 없는 사원 ID를 afterId 다음부터 limit건 조회
+     *  입사일 조건은 (resignation_status, join_date) 인덱스로 대상 범위만 읽는다.
+     */
+    public List<Long> findGrantableEmployeeIds(GrantRule rule, LocalDate period, long afterId, long maxId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("maxId", maxId)
+                .addValue("policyId", rule.policy().getVacationPolicyId())
+                .addValue("period", Date.valueOf(period))
+                .addValue("limit", limit);
+        StringBuilder sql = new StringBuilder(
+                "SELECT e.employee_id FROM employee e " +
+                " WHERE e.resignation_status = 'N' " +
+                "   AND e.employee_id > :afterId AND e.employee_id <= :maxId ");
+        if (rule.gender() != null) {
+            sql.append("   AND e.gender = :gender ");
+            params.addValue("gender", rule.gender().name());
+        }
+        if (rule.joinedAfter() != null) {
+            sql.append("   AND e.join_date > :joinedAfter ");
+            params.addValue("joinedAfter", Date.valueOf(rule.joinedAfter()));
+        }
+        if (rule.joinedOnOrBefore() != null) {
+            sql.append("   AND e.join_date <= :joinedOnOrBefore ");
+            params.addValue("joinedOnOrBefore", Date.valueOf(rule.joinedOnOrBefore()));
+        }
+        sql.append("   AND NOT EXISTS (SELECT 1 FROM vacation_grant_ledger l " +
+                   "                    WHERE l.employee_id = e.employee_id " +
+                   "                      AND l.vacation_policy_id = :policyId " +
+                   "                      AND l.grant_period = :period) " +
+                   " ORDER BY e.employee_id " +
+                   " LIMIT :limit");
+        return jdbcTemplate.queryForList(sql.toString(), params, Long.class);
+    }
+
+    // 지급 원장 일괄 등록
+    public int insertLedger(List<Vacation> vacations, LocalDate period) {
+        if (vacations.isEmpty()) {
+            return 0;
+        }
+        List<MapSqlParameterSource> batch = new ArrayList<>(vacations.size());
+        for (Vacation vacation : vacations) {
+            batch.add(new MapSqlParameterSource()
+                    .addValue("employeeId", vacation.getEmployeeId())
+                    .addValue("vacationPolicyId", vacation.getVacationPolicyId())
+                    .addValue("period", Date.valueOf(period))
+                    .addValue("grantedAt", Timestamp.valueOf(vacation.getCreatedAt())));
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO vacation_grant_ledger (employee_id, vacation_policy_id, grant_period, granted_at) " +
+                "VALUES (:employeeId, :vacationPolicyId, :period, :grantedAt)",
+                batch.toArray(new MapSqlParameterSource[0]));
+        return vacations.size();
+    }
+
+    // 휴가 일괄 등록
+    public int insertAll(List<Vacation> vacations) {
+        if (vacations.isEmpty()) {
+            return 0;
+        }
+        List<MapSqlParameterSource> batch = new ArrayList<>(vacations.size());
+        for (Vacation vacation : vacations) {
+            batch.add(new MapSqlParameterSource()
+                    .addValue("vacationName", vacation.getVacationName())
+                    .addValue("vacationLeft", vacation.getVacationLeft())
+                    .addValue("vacationUsed", vacation.getVacationUsed())
+                    .addValue("createdAt", Timestamp.valueOf(vacation.getCreatedAt()))
+                    .addValue("expiredAt", Timestamp.valueOf(vacation.getExpiredAt()))
+                    .addValue("expirationStatus", vacation.getExpirationStatus().name())
+                    .addValue("employeeId", vacation.getEmployeeId())
+                    .addValue("vacationPolicyId", vacation.getVacationPolicyId())
+                    .addValue("vacationTypeId", vacation.getVacationTypeId()));
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO vacation (vacation_name, vacation_left, vacation_used, created_at, expired_at, " +
+                "                      expiration_status, employee_id, vacation_policy_id, vacation_type_id) " +
+                "VALUES (:vacationName, :vacationLeft, :vacationUsed, :createdAt, :expiredAt, " +
+                "        :expirationStatus, :employeeId, :vacationPolicyId, :vacationTypeId)",
+                batch.toArray(new MapSqlParameterSource[0]));
+        return vacations.size();
+    }
+}
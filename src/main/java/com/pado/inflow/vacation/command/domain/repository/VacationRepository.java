@@ -2,18 +2,74 @@ package com.pado.inflow.vacation.command.domain.repository;
 
 import com.pado.inflow.vacation.command.domain.aggregate.entity.Vacation;
 import com.pado.inflow.vacation.command.domain.aggregate.type.ExpirationStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface VacationRepository extends JpaRepository<Vacation, Long> {
 
-    // 만료일이 현재 날짜 이전인 데이터를 찾는 쿼리
-    Page<Vacation> findByExpiredAtBefore(LocalDateTime currentDateTime, Pageable pageable);
+    // 만료일이 기준 시각 이전이고 아직 만료 처리되지 않은 휴가를 휴가 ID 순으로 찾는 쿼리 (keyset)
+    List<Vacation> findByExpiredAtBeforeAndExpirationStatusAndVacationIdGreaterThanOrderByVacationIdAsc(
+            LocalDateTime cutoff, ExpirationStatus expirationStatus, Long vacationId, Pageable pageable);
 
-    // 만료된 휴가를 찾는 쿼리
-    Page<Vacation> findByExpirationStatus(ExpirationStatus expirationStatus, Pageable pageable);
+    // 만료된 휴가를 휴가 ID 순으로 찾는 쿼리 (keyset)
+    List<Vacation> findByExpirationStatusAndVacationIdGreaterThanOrderByVacationIdAsc(
+            ExpirationStatus expirationStatus, Long vacationId, Pageable pageable);
+
+    /* 설명. 구간 단위 일괄 만료/삭제
+     *  afterId 다음부터 대상 행 limit건을 덮는 구간의 끝 ID를 구한 뒤, 그 구간을 한 문장으로 처리한다.
+     */
+    @Query(value = "SELECT MAX(t.vacation_id) FROM (" +
+            "SELECT vacation_id FROM vacation " +
+            " WHERE expired_at < :cutoff AND expiration_status = 'N' AND vacation_id > :afterId " +
+            " ORDER BY vacation_id LIMIT :limit) t", nativeQuery = true)
+    Long findExpirableUpperId(@Param("cutoff") LocalDateTime cutoff,
+                              @Param("afterId") long afterId,
+                              @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE vacation SET expiration_status = 'Y' " +
+            " WHERE expired_at < :cutoff AND expiration_status = 'N' " +
+            "   AND vacation_id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int expireBetween(@Param("cutoff") LocalDateTime cutoff,
+                      @Param("fromId") long fromId,
+                      @Param("toId") long toId);
+
+    @Query(value = "SELECT MAX(t.vacation_id) FROM (" +
+            "SELECT vacation_id FROM vacation " +
+            " WHERE expiration_status = 'Y' AND vacation_id > :afterId " +
+            " ORDER BY vacation_id LIMIT :limit) t", nativeQuery = true)
+    Long findExpiredUpperId(@Param("afterId") long afterId,
+                            @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM vacation WHERE expiration_status = 'Y' AND vacation_id BETWEEN :fromId AND :toId",
+            nativeQuery = true)
+    int deleteExpiredBetween(@Param("fromId") long fromId,
+                             @Param("toId") long toId);
+
+    /* 설명. 잔여 휴가일수 차감/복구
+     *  조회한 값으로 계산해 저장하지 않고 한 문장으로 조건부 갱신해, 동시에 신청해도 잔여일수가 음수가 되지 않는다.
+     *  (갱신된 행 수가 0이면 잔여일수 부족 또는 만료)
+     */
+    @Modifying
+    @Query(value = "UPDATE vacation " +
+            "   SET vacation_left = vacation_left - :days, vacation_used = vacation_used + :days " +
+            " WHERE vacation_id = :vacationId AND expiration_status = 'N' AND vacation_left >= :days",
+            nativeQuery = true)
+    int deduct(@Param("vacationId") Long vacationId,
+               @Param("days") long days);
+
+    @Modifying
+    @Query(value = "UPDATE vacation " +
+            "   SET vacation_left = vacation_left + :days, vacation_used = GREATEST(vacation_used - :days, 0) " +
+            " WHERE vacation_id = :vacationId", nativeQuery = true)
+    int credit(@Param("vacationId") Long vacationId,
+               @Param("days") long days);
 
 }
@@ -2,6 +2,23 @@ package com.pado.inflow.vacation.command.domain.repository;
 
 import com.pado.inflow.vacation.command.domain.aggregate.entity.VacationRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 public interface VacationRequestRepository extends JpaRepository<VacationRequest, Long> {
+
+    /* 설명. 휴가 신청 취소 (취소되지 않은 신청만)
+     *  갱신된 행 수가 0이면 이미 취소된 신청이므로, 동시에 취소해도 잔여일수는 한 번만 복구된다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE vacation_request " +
+            "   SET cancel_status = 'Y', canceled_at = :canceledAt, cancel_reason = :cancelReason, " +
+            "       request_status = 'ACCEPT' " +
+            " WHERE vacation_request_id = :vacationRequestId AND cancel_status = 'N'", nativeQuery = true)
+    int cancel(@Param("vacationRequestId") Long vacationRequestId,
+               @Param("canceledAt") LocalDateTime canceledAt,
+               @Param("cancelReason") String cancelReason);
 }
@@ -1,10 +1,10 @@
 package com.pado.inflow.vacation.query.repository;
 
+import com.pado.inflow.common.DateRange;
 import com.pado.inflow.vacation.query.dto.VacationRequestDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
-import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
@@ -17,13 +17,10 @@ public interface VacationRequestMapper {
     List<VacationRequestDTO> findVacationRequestsByEmployeeId(@Param("employeeId") Long employeeId,
                                                               @Param("elementsPerPage") Integer elementsPerPage,
                                                               @Param("offset") Integer offset,
-                                                              @Param("date") LocalDate date);
-
-    // 사원별 휴가 신청 내역 전체 개수 조회
-    Integer getTotalVacationRequestsByEmployeeId(@Param("employeeId") Long employeeId,
-                                                 @Param("date") LocalDate date);
+                                                              @Param("range") DateRange range);
 
     // 당일기준 휴가 내역 조회
-    VacationRequestDTO findTodayVacationByEmployeeId(Long employeeId);
+    VacationRequestDTO findTodayVacationByEmployeeId(@Param("employeeId") Long employeeId,
+                                                     @Param("today") DateRange today);
 
 }
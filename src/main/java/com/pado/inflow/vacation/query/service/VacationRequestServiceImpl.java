@@ -1,5 +1,8 @@
 package com.pado.inflow.vacation.query.service;
 
+import com.pado.inflow.common.DateRange;
+import com.pado.inflow.common.counter.CounterDomain;
+import com.pado.inflow.common.counter.RequestCounterService;
 import com.pado.inflow.common.exception.CommonException;
 import com.pado.inflow.common.exception.ErrorCode;
 import com.pado.inflow.vacation.query.dto.PageDTO;
@@ -8,7 +11,6 @@ import com.pado.inflow.vacation.query.repository.VacationRequestMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -21,10 +23,13 @@ public class VacationRequestServiceImpl implements VacationRequestService {
     private final Integer ELEMENTS_PER_PAGE = 10; // 한 페이지 당 요소 개수
 
     private final VacationRequestMapper vacationRequestMapper;
+    private final RequestCounterService requestCounterService;
 
     @Autowired
-    public VacationRequestServiceImpl(VacationRequestMapper vacationRequestMapper) {
+    public VacationRequestServiceImpl(VacationRequestMapper vacationRequestMapper,
+                                      RequestCounterService requestCounterService) {
         this.vacationRequestMapper = vacationRequestMapper;
+        this.requestCounterService = requestCounterService;
     }
 
     // 사원별 휴가 신청 내역 미리보기 조회
@@ -57,16 +62,18 @@ public class VacationRequestServiceImpl implements VacationRequestService {
             throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
         }
 
-        LocalDate startOfMonth = parsedDate.atDay(1); // 해당 월의 첫 번째 날
+        DateRange month = DateRange.ofMonth(parsedDate); // 해당 월의 첫날 ~ 다음 달 첫날
 
-        Integer totalElements = vacationRequestMapper.getTotalVacationRequestsByEmployeeId(employeeId, startOfMonth);
-        if(totalElements == null || totalElements < 1) {
+        // 전체 개수는 월별 신청 건수 카운터에서 조회
+        Integer totalElements = requestCounterService.getMonthlyCount(
+                CounterDomain.VACATION_REQUEST, employeeId, RequestCounterService.NO_TYPE, parsedDate);
+        if(totalElements < 1) {
             throw new CommonException(ErrorCode.NOT_FOUND_VACATION_REQUEST);
         }
 
         Integer offset = (pageNo - 1) * ELEMENTS_PER_PAGE;
         List<VacationRequestDTO> vacationRequests =
-                vacationRequestMapper.findVacationRequestsByEmployeeId(employeeId, ELEMENTS_PER_PAGE, offset, startOfMonth);
+                vacationRequestMapper.findVacationRequestsByEmployeeId(employeeId, ELEMENTS_PER_PAGE, offset, month);
         if (vacationRequests == null || vacationRequests.isEmpty()) {
             throw new CommonException(ErrorCode.NOT_FOUND_VACATION_REQUEST);
         }
@@ -77,7 +84,7 @@ public class VacationRequestServiceImpl implements VacationRequestService {
     // 당일기준 휴가중인지 검사
     @Override
     public Boolean isVacationNow(Long employeeId) {
-        return vacationRequestMapper.findTodayVacationByEmployeeId(employeeId) != null;
+        return vacationRequestMapper.findTodayVacationByEmployeeId(employeeId, DateRange.today()) != null;
     }
 
 }
@@ -0,0 +1,4 @@
+-- 설명. 사원 단위 폐기 시각을 밀리초까지 저장
+--  초 단위로 자르면 폐기와 같은 초에 (폐기보다 먼저) 발급된 토큰을 구분할 수 없다.
+--  토큰 쪽도 iat_ms claim에 밀리초 발급 시각을 담는다. (TokenRevocationService.verifyEmployee)
+ALTER TABLE token_revocation MODIFY revoked_at DATETIME(3) NOT NULL;
@@ -0,0 +1,12 @@
+-- 설명. 리프레시 토큰 폐기 목록 (TokenRevocationService가 블룸 필터로 먼저 걸러 낸 뒤 확정 조회)
+--  revocation_key : T:{jti}(회전된 토큰), F:{familyId}(폐기된 family), E:{employeeNumber}(사원 단위 폐기)
+--  revoked_at     : 폐기 시각. 다른 서버의 필터 동기화가 이 시각 이후 항목을 가져간다.
+--  expires_at     : 원래 토큰의 만료 시각. 지나면 정리(deleteExpired) 대상이다.
+CREATE TABLE IF NOT EXISTS token_revocation (
+    revocation_key VARCHAR(100) NOT NULL,
+    revoked_at     DATETIME     NOT NULL,
+    expires_at     DATETIME     NOT NULL,
+    PRIMARY KEY (revocation_key),
+    INDEX idx_token_revocation_expires_at (expires_at),
+    INDEX idx_token_revocation_revoked_at (revoked_at)
+);
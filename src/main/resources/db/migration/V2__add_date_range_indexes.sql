@@ -0,0 +1,20 @@
+-- 설명. 기간 조건 조회용 복합 인덱스
+--  매퍼의 기간 조건을 "사원 = ? AND 일시 >= ? AND 일시 < ?" 형태(DateRange)로 바꾸면서
+--  사원 ID로 좁힌 뒤 일시 범위를 그대로 인덱스로 읽을 수 있도록 (사원, 일시) 순서로 만든다.
+--  버전 순서(V1, V2, ...)대로 한 번씩만 적용한다.
+
+-- 사원별 월간 출퇴근/초과근무 내역, 당일 출근 여부
+CREATE INDEX IF NOT EXISTS idx_commute_employee_start_time
+    ON commute (employee_id, start_time);
+
+-- 사원별 유형별 월간 근태 신청 내역 및 개수
+CREATE INDEX IF NOT EXISTS idx_attendance_request_employee_type_created_at
+    ON attendance_request (employee_id, attendance_request_type_id, created_at);
+
+-- 사원별 연월별/연도별/기간별 급여 내역
+CREATE INDEX IF NOT EXISTS idx_payment_employee_paid_at
+    ON payment (employee_id, paid_at);
+
+-- 사원별 당일 휴가 여부, 월간 휴가 일정
+CREATE INDEX IF NOT EXISTS idx_vacation_request_employee_start_date
+    ON vacation_request (employee_id, start_date);
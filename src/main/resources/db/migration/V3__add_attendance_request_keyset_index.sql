@@ -0,0 +1,5 @@
+-- 설명. 근태 신청 내역 커서 기반 조회용 인덱스
+--  사원, 유형으로 좁힌 뒤 attendance_request_id 내림차순으로 "id < cursor" 위치부터 바로 읽을 수 있도록
+--  (사원, 유형, 신청 ID) 순서로 만든다. 얼마나 뒤쪽 페이지를 보든 읽는 행 수는 페이지 크기만큼이다.
+CREATE INDEX IF NOT EXISTS idx_attendance_request_employee_type_id
+    ON attendance_request (employee_id, attendance_request_type_id, attendance_request_id);
@@ -0,0 +1,30 @@
+-- 설명. 사원별 월별 신청 건수 카운터 (목록 화면의 전체 건수를 COUNT(*) 대신 기본키로 조회)
+--  type_id : 근태 신청은 attendance_request_type_id, 유형이 없는 내역(휴가 신청, 급여)은 0
+--  yyyymm  : 생성(지급) 시각의 연월 (ex. 202411)
+CREATE TABLE IF NOT EXISTS request_counter (
+    employee_id   BIGINT      NOT NULL,
+    domain        VARCHAR(30) NOT NULL,
+    type_id       BIGINT      NOT NULL,
+    yyyymm        INT         NOT NULL,
+    request_count INT         NOT NULL,
+    PRIMARY KEY (employee_id, domain, type_id, yyyymm)
+);
+
+-- 기존 내역으로 초기 적재 (이후에는 신청 등록과 정기 보정이 유지한다)
+INSERT INTO request_counter (employee_id, domain, type_id, yyyymm, request_count)
+SELECT employee_id, 'ATTENDANCE_REQUEST', attendance_request_type_id, EXTRACT(YEAR_MONTH FROM created_at), COUNT(*)
+  FROM attendance_request
+ GROUP BY employee_id, attendance_request_type_id, EXTRACT(YEAR_MONTH FROM created_at)
+ON DUPLICATE KEY UPDATE request_count = VALUES(request_count);
+
+INSERT INTO request_counter (employee_id, domain, type_id, yyyymm, request_count)
+SELECT employee_id, 'VACATION_REQUEST', 0, EXTRACT(YEAR_MONTH FROM created_at), COUNT(*)
+  FROM vacation_request
+ GROUP BY employee_id, EXTRACT(YEAR_MONTH FROM created_at)
+ON DUPLICATE KEY UPDATE request_count = VALUES(request_count);
+
+INSERT INTO request_counter (employee_id, domain, type_id, yyyymm, request_count)
+SELECT employee_id, 'PAYMENT', 0, EXTRACT(YEAR_MONTH FROM paid_at), COUNT(*)
+  FROM payment
+ GROUP BY employee_id, EXTRACT(YEAR_MONTH FROM paid_at)
+ON DUPLICATE KEY UPDATE request_count = VALUES(request_count);
@@ -0,0 +1,9 @@
+-- 설명. 업로드했지만 아직 신청 내역에 연결되지 않은 첨부 파일 (AttachmentUploader.sweep이 유예 시간 이후 정리)
+CREATE TABLE IF NOT EXISTS pending_upload (
+    pending_upload_id BIGINT        NOT NULL AUTO_INCREMENT,
+    bucket_name       VARCHAR(255)  NOT NULL,
+    object_key        VARCHAR(1024) NOT NULL,
+    created_at        DATETIME      NOT NULL,
+    PRIMARY KEY (pending_upload_id),
+    INDEX idx_pending_upload_created_at (created_at)
+);
@@ -0,0 +1,25 @@
+-- 설명. 내용(SHA-256) 기준으로 한 번만 저장하는 첨부 파일 객체
+--  ref_count   : 참조하는 근태/휴가 신청 파일 내역 수
+--  uploaded_at : S3 업로드 완료 시각 (NULL이면 업로드 전 또는 실패)
+--  touched_at  : 마지막 업로드/재사용 시도 시각 (참조 0인 객체는 유예 시간 이후 AttachmentUploader.sweep이 정리)
+CREATE TABLE IF NOT EXISTS attachment_blob (
+    attachment_blob_id BIGINT        NOT NULL AUTO_INCREMENT,
+    sha256             CHAR(64)      NOT NULL,
+    bucket_name        VARCHAR(255)  NOT NULL,
+    object_key         VARCHAR(255)  NOT NULL,
+    content_type       VARCHAR(255),
+    file_size          BIGINT        NOT NULL,
+    ref_count          INT           NOT NULL DEFAULT 0,
+    uploaded_at        DATETIME,
+    touched_at         DATETIME      NOT NULL,
+    PRIMARY KEY (attachment_blob_id),
+    UNIQUE KEY uk_attachment_blob_sha256 (sha256),
+    INDEX idx_attachment_blob_ref_count_touched_at (ref_count, touched_at)
+);
+
+-- 신청 파일 내역이 가리키는 객체 (이전 내역은 NULL)
+ALTER TABLE attendance_request_file ADD COLUMN IF NOT EXISTS attachment_blob_id BIGINT NULL;
+ALTER TABLE vacation_request_file ADD COLUMN IF NOT EXISTS attachment_blob_id BIGINT NULL;
+
+-- 미연결 업로드 기록은 attachment_blob의 참조 수(0)로 대신한다.
+DROP TABLE IF EXISTS pending_upload;
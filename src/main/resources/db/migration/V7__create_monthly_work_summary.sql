@@ -0,0 +1,32 @@
+-- 설명. 사원별 월별 근무 요약 (월간 근태 화면과 통계가 한 달치 출퇴근 내역 대신 한 행만 읽도록)
+--  yyyymm           : 출근(초과근무 시작) 시각의 연월 (ex. 202411)
+--  regular_minutes  : 일반 출근 내역의 근무 시간 합 (분)
+--  overtime_minutes : 초과근무 내역의 근무 시간 합 (분)
+--  remote_days      : 재택근무로 출근한 일수
+--  late_count       : 09:00 이후 출근한 횟수
+CREATE TABLE IF NOT EXISTS monthly_work_summary (
+    employee_id      BIGINT NOT NULL,
+    yyyymm           INT    NOT NULL,
+    regular_minutes  INT    NOT NULL DEFAULT 0,
+    overtime_minutes INT    NOT NULL DEFAULT 0,
+    remote_days      INT    NOT NULL DEFAULT 0,
+    late_count       INT    NOT NULL DEFAULT 0,
+    PRIMARY KEY (employee_id, yyyymm)
+);
+
+-- 기존 출퇴근 내역으로 초기 적재 (이후에는 출근/초과근무 처리와 재집계가 유지한다)
+INSERT INTO monthly_work_summary (employee_id, yyyymm, regular_minutes, overtime_minutes, remote_days, late_count)
+SELECT employee_id,
+       EXTRACT(YEAR_MONTH FROM start_time),
+       SUM(CASE WHEN overtime_status = 'N' THEN GREATEST(TIMESTAMPDIFF(MINUTE, start_time, end_time), 0) ELSE 0 END),
+       SUM(CASE WHEN overtime_status = 'Y' THEN GREATEST(TIMESTAMPDIFF(MINUTE, start_time, end_time), 0) ELSE 0 END),
+       SUM(CASE WHEN overtime_status = 'N' AND remote_status = 'Y' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN overtime_status = 'N' AND TIME(start_time) > '09:00:00' THEN 1 ELSE 0 END)
+  FROM commute
+ WHERE start_time IS NOT NULL
+   AND end_time IS NOT NULL
+ GROUP BY employee_id, EXTRACT(YEAR_MONTH FROM start_time)
+ON DUPLICATE KEY UPDATE regular_minutes  = VALUES(regular_minutes),
+                        overtime_minutes = VALUES(overtime_minutes),
+                        remote_days      = VALUES(remote_days),
+                        late_count       = VALUES(late_count);
@@ -0,0 +1,23 @@
+-- 설명. 휴가 지급 원장
+--  자동 지급 배치가 (사원, 정책, 지급일)마다 한 번만 지급하도록 지급한 쌍을 남긴다.
+--  grant_period : 지급 주기상 지급일 (같은 날 다시 실행해도 원장에 있는 쌍은 건너뛴다)
+CREATE TABLE IF NOT EXISTS vacation_grant_ledger (
+    employee_id        BIGINT   NOT NULL,
+    vacation_policy_id BIGINT   NOT NULL,
+    grant_period       DATE     NOT NULL,
+    granted_at         DATETIME NOT NULL,
+    PRIMARY KEY (employee_id, vacation_policy_id, grant_period)
+);
+
+-- 기존 자동 지급 내역으로 초기 적재 (배치는 지급일 00시대에 실행되므로 등록일을 지급일로 본다)
+INSERT IGNORE INTO vacation_grant_ledger (employee_id, vacation_policy_id, grant_period, granted_at)
+SELECT v.employee_id, v.vacation_policy_id, DATE(v.created_at), MIN(v.created_at)
+  FROM vacation v
+  JOIN vacation_policy p ON p.vacation_policy_id = v.vacation_policy_id
+ WHERE p.auto_allocation_cycle IS NOT NULL
+   AND v.created_at IS NOT NULL
+ GROUP BY v.employee_id, v.vacation_policy_id, DATE(v.created_at);
+
+-- 지급 대상 조회: 재직 사원을 입사일 범위(근속 조건)로 좁힌다.
+CREATE INDEX IF NOT EXISTS idx_employee_resignation_status_join_date
+    ON employee (resignation_status, join_date);
@@ -0,0 +1,15 @@
+-- 설명. 스케줄 작업 임대(lease) 테이블 (여러 서버 중 한 서버만 작업을 실행하기 위한 잠금)
+--  lease_name   : 작업 이름 (ex. vacationInsertJob)
+--  owner        : 마지막으로 임대를 잡은 서버 (호스트명-임의값)
+--  lease_until  : 임대 만료 시각. 실행 중에는 heartbeat로 연장하고, 지나면 다른 서버가 가져갈 수 있다.
+--  released_at  : 정상 종료 시각. 비어 있는데 만료됐다면 실행 중이던 서버가 죽은 것이다.
+--  시각은 모두 DB 시각(NOW(3)) 기준이라 서버 간 시계 차이의 영향을 받지 않는다.
+CREATE TABLE IF NOT EXISTS scheduler_lease (
+    lease_name   VARCHAR(100) NOT NULL,
+    owner        VARCHAR(100) NULL,
+    lease_until  DATETIME(3)  NOT NULL,
+    acquired_at  DATETIME(3)  NULL,
+    heartbeat_at DATETIME(3)  NULL,
+    released_at  DATETIME(3)  NULL,
+    PRIMARY KEY (lease_name)
+);
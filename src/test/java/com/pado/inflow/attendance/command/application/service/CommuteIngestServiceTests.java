@@ -0,0 +1,134 @@
+package com.pado.inflow.attendance.command.application.service;
+
+import com.pado.inflow.attendance.command.application.dto.ResponseCommuteIngestDTO;
+import com.pado.inflow.attendance.command.domain.aggregate.component.CommuteLogFolder.WorkDay;
+import com.pado.inflow.attendance.command.domain.aggregate.component.CommuteLogFolder.WorkDayKey;
+import com.pado.inflow.attendance.command.domain.aggregate.component.TodayAttendanceSnapshot;
+import com.pado.inflow.attendance.command.domain.repository.CommuteBatchRepository;
+import com.pado.inflow.attendance.command.domain.repository.CommuteBatchRepository.ExistingCommute;
+import com.pado.inflow.department.query.service.DepartmentAttendanceBoard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/* 설명. 출입 기록 일괄 적재: 청크별 조회 후 등록/갱신, 존재하지 않는 사원 거절
+ *  저장소는 목으로 두고 청크 크기 2로 나뉘는지 확인한다.
+ */
+class CommuteIngestServiceTests {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 11, 5);
+
+    private CommuteBatchRepository commuteBatchRepository;
+    private MonthlyWorkSummaryService monthlyWorkSummaryService;
+    private CommuteIngestService commuteIngestService;
+
+    @BeforeEach
+    void setUp() {
+        commuteBatchRepository = mock(CommuteBatchRepository.class);
+        monthlyWorkSummaryService = mock(MonthlyWorkSummaryService.class);
+        commuteIngestService = new CommuteIngestService(commuteBatchRepository, monthlyWorkSummaryService,
+                mock(TodayAttendanceSnapshot.class), mock(DepartmentAttendanceBoard.class),
+                mock(PlatformTransactionManager.class), 2, 10);
+
+        when(commuteBatchRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        when(commuteBatchRepository.updateAll(anyMap())).thenAnswer(invocation -> invocation.<Map<?, ?>>getArgument(0).size());
+    }
+
+    @DisplayName("청크마다 기존 출근 내역(출근 전 재택근무 포함)은 갱신하고 없는 날은 등록한다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsertPerChunk() {
+        when(commuteBatchRepository.findExistingEmployeeIds(anyCollection())).thenReturn(Set.of(1L, 2L));
+        // 설명. 사원 2의 11/5는 재택근무 내역(commute_id 20)이 이미 있다.
+        Map<WorkDayKey, ExistingCommute> existing = new HashMap<>();
+        existing.put(new WorkDayKey(2L, DAY), new ExistingCommute(20L, 2L, DAY));
+        when(commuteBatchRepository.findExistingCommutes(anyList())).thenReturn(existing);
+
+        ResponseCommuteIngestDTO result = ingest("""
+                1,2024-11-05T08:55,IN
+                2,2024-11-05T09:10,IN
+                1,2024-11-06T08:40,IN
+                """);
+
+        assertEquals(2, result.getInsertedCount());
+        assertEquals(1, result.getUpdatedCount());
+        assertEquals(0, result.getRejectedCount());
+
+        // 설명. (사원, 날짜) 순으로 3일치가 2 + 1 청크로 나뉘어 청크마다 한 번씩 조회한다.
+        ArgumentCaptor<List<WorkDay>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(commuteBatchRepository, times(2)).findExistingCommutes(chunks.capture());
+        assertEquals(List.of(2, 1), chunks.getAllValues().stream().map(List::size).toList());
+
+        ArgumentCaptor<Map<Long, WorkDay>> updates = ArgumentCaptor.forClass(Map.class);
+        verify(commuteBatchRepository, times(2)).updateAll(updates.capture());
+        assertEquals(Set.of(), updates.getAllValues().get(0).keySet());
+        assertEquals(Set.of(20L), updates.getAllValues().get(1).keySet());
+        assertEquals(2L, updates.getAllValues().get(1).get(20L).employeeId());
+
+        verify(monthlyWorkSummaryService).rebuild(YearMonth.of(2024, 11), YearMonth.of(2024, 11));
+    }
+
+    @DisplayName("존재하지 않는 사원의 기록은 하루 단위로 첫 줄 번호와 함께 거절하고 적재하지 않는다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void rejectUnknownEmployees() {
+        when(commuteBatchRepository.findExistingEmployeeIds(anyCollection())).thenReturn(Set.of(1L));
+        when(commuteBatchRepository.findExistingCommutes(anyList())).thenReturn(Map.of());
+
+        ResponseCommuteIngestDTO result = ingest("""
+                1,2024-11-05T08:55,IN
+                99,2024-11-05T09:10,IN
+                99,2024-11-05T18:10,OUT
+                """);
+
+        assertEquals(1, result.getInsertedCount());
+        assertEquals(1, result.getRejectedCount());
+        assertEquals(2L, result.getRejects().get(0).getLineNumber());
+
+        ArgumentCaptor<List<WorkDay>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(commuteBatchRepository).insertAll(inserts.capture());
+        assertEquals(List.of(1L), inserts.getValue().stream().map(WorkDay::employeeId).toList());
+    }
+
+    @DisplayName("모든 기록이 거절되면 저장소와 파생 데이터를 건드리지 않는다")
+    @Test
+    void nothingToIngest() {
+        when(commuteBatchRepository.findExistingEmployeeIds(anyCollection())).thenReturn(Set.of());
+
+        ResponseCommuteIngestDTO result = ingest("""
+                99,2024-11-05T09:10,IN
+                """);
+
+        assertEquals(0, result.getInsertedCount());
+        assertEquals(1, result.getRejectedCount());
+        verify(commuteBatchRepository, never()).findExistingCommutes(anyList());
+        verify(monthlyWorkSummaryService, never()).rebuild(any(), any());
+    }
+
+    private ResponseCommuteIngestDTO ingest(String csv) {
+        return commuteIngestService.ingest(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "text/csv");
+    }
+}
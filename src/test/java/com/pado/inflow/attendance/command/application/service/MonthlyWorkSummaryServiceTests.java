@@ -0,0 +1,79 @@
+package com.pado.inflow.attendance.command.application.service;
+
+import com.pado.inflow.attendance.command.domain.repository.MonthlyWorkSummaryRepository;
+import com.pado.inflow.common.schedule.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MonthlyWorkSummaryServiceTests {
+
+    private MonthlyWorkSummaryRepository repository;
+    private MonthlyWorkSummaryService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MonthlyWorkSummaryRepository.class);
+        service = new MonthlyWorkSummaryService(repository, 2, mock(SchedulerLock.class));
+    }
+
+    @DisplayName("출근 시 근무 시간과 지각 여부를 출근 월의 한 행에 더한다")
+    @Test
+    void recordCheckIn() {
+        service.recordCheckIn(1L, LocalDateTime.of(2024, 11, 5, 9, 10, 30),
+                LocalDateTime.of(2024, 11, 5, 18, 0), false);
+        verify(repository).add(1L, 202411, 529, 0, 0, 1);
+
+        service.recordCheckIn(2L, LocalDateTime.of(2024, 12, 2, 9, 0),
+                LocalDateTime.of(2024, 12, 2, 18, 0), true);
+        verify(repository).add(2L, 202412, 540, 0, 1, 0);
+    }
+
+    @DisplayName("초과근무는 시작 월에 집계하고, 연장은 늘어난 시간만 더한다")
+    @Test
+    void recordOvertime() {
+        LocalDateTime start = LocalDateTime.of(2024, 11, 30, 22, 0);
+
+        service.recordOvertime(1L, start, LocalDateTime.of(2024, 12, 1, 0, 30));
+        verify(repository).add(1L, 202411, 0, 150, 0, 0);
+
+        service.recordOvertimeExtension(1L, start,
+                LocalDateTime.of(2024, 12, 1, 0, 30), LocalDateTime.of(2024, 12, 1, 1, 30));
+        verify(repository).add(1L, 202411, 0, 60, 0, 0);
+    }
+
+    @DisplayName("종료 시각이 없거나 바뀌지 않으면 시간을 더하지 않는다")
+    @Test
+    void ignoreEmptyDuration() {
+        LocalDateTime start = LocalDateTime.of(2024, 11, 5, 19, 0);
+
+        assertEquals(0, MonthlyWorkSummaryService.minutesBetween(start, null));
+        assertEquals(0, MonthlyWorkSummaryService.minutesBetween(start, start.minusMinutes(30)));
+
+        service.recordOvertimeExtension(1L, start, start.plusHours(1), start.plusHours(1));
+        verify(repository, never()).add(anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @DisplayName("재집계는 기간의 요약을 지우고 출퇴근 내역에서 다시 만든다")
+    @Test
+    void rebuild() {
+        when(repository.summarize(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 4, 1, 0, 0),
+                MonthlyWorkSummaryService.LATE_AFTER)).thenReturn(42);
+
+        int summarized = service.rebuild(YearMonth.of(2024, 1), YearMonth.of(2024, 3));
+
+        assertEquals(42, summarized);
+        verify(repository).deleteBetween(202401, 202403);
+    }
+}
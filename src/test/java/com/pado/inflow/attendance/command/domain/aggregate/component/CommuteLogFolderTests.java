@@ -0,0 +1,82 @@
+package com.pado.inflow.attendance.command.domain.aggregate.component;
+
+import com.pado.inflow.attendance.command.domain.aggregate.component.CommuteLogFolder.Format;
+import com.pado.inflow.attendance.command.domain.aggregate.component.CommuteLogFolder.WorkDay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CommuteLogFolderTests {
+
+    @DisplayName("CSV 기록을 사원별 하루 한 건(첫 출근, 마지막 퇴근)으로 접는다")
+    @Test
+    void foldCsv() throws IOException {
+        CommuteLogFolder folder = new CommuteLogFolder(10);
+        folder.fold(new StringReader("""
+                employee_id,event_time,direction
+                2,2024-11-05 09:02:10,IN
+                1,2024-11-05T08:55,IN
+                1,2024-11-05T12:00,OUT
+                1,2024-11-05T08:50,IN
+                1,2024-11-05T18:30,OUT
+                1,2024-11-06T08:40,
+                1,2024-11-06T19:10,
+                """), Format.CSV);
+
+        List<WorkDay> workDays = folder.getWorkDays();
+
+        assertEquals(3, workDays.size());
+        assertEquals(new WorkDay(1L, LocalDate.of(2024, 11, 5),
+                LocalDateTime.of(2024, 11, 5, 8, 50), LocalDateTime.of(2024, 11, 5, 18, 30), 3), workDays.get(0));
+        assertEquals(LocalDateTime.of(2024, 11, 6, 19, 10), workDays.get(1).endTime());
+        // 설명. 퇴근 기록이 없으면 18시
+        assertEquals(LocalDateTime.of(2024, 11, 5, 18, 0), workDays.get(2).endTime());
+        assertEquals(7, folder.getAcceptedCount());
+        assertEquals(0, folder.getRejectedCount());
+    }
+
+    @DisplayName("형식이 잘못된 줄은 줄 번호와 함께 거절하고 나머지는 반영한다")
+    @Test
+    void rejectInvalidLines() throws IOException {
+        CommuteLogFolder folder = new CommuteLogFolder(2);
+        folder.fold(new StringReader("""
+                {"employee_id": 1, "event_time": "2024-11-05T08:55:00", "direction": "IN"}
+                {"employee_id": "x", "event_time": "2024-11-05T08:55:00"}
+                {"employee_id": 1, "event_time": "2024-11-05T18:10:00", "direction": "OUT"}
+                not json
+                {"employee_id": 2, "event_time": "2024-13-05T08:55:00"}
+                {"employee_id": 3, "event_time": "2024-11-05T08:55:00", "direction": "SIDEWAYS"}
+                """), Format.NDJSON);
+
+        assertEquals(2, folder.getAcceptedCount());
+        assertEquals(4, folder.getRejectedCount());
+        assertEquals(2, folder.getRejects().size());
+        assertEquals(2L, folder.getRejects().get(0).lineNumber());
+        assertEquals(4L, folder.getRejects().get(1).lineNumber());
+
+        List<WorkDay> workDays = folder.getWorkDays();
+        assertEquals(1, workDays.size());
+        assertEquals(LocalDateTime.of(2024, 11, 5, 18, 10), workDays.get(0).endTime());
+    }
+
+    @DisplayName("존재하지 않는 사원의 기록은 첫 줄 번호로 거절된다")
+    @Test
+    void rejectWorkDays() throws IOException {
+        CommuteLogFolder folder = new CommuteLogFolder(10);
+        folder.fold(new StringReader("1,2024-11-05T08:55\n9,2024-11-05T09:10\n"), Format.CSV);
+
+        List<WorkDay> unknown = folder.getWorkDays().stream().filter(w -> w.employeeId() == 9L).toList();
+        folder.rejectWorkDays(unknown, "존재하지 않는 사원입니다");
+
+        assertEquals(1, folder.getWorkDays().size());
+        assertEquals(2L, folder.getRejects().get(0).lineNumber());
+        assertEquals("존재하지 않는 사원입니다: 9", folder.getRejects().get(0).reason());
+    }
+}
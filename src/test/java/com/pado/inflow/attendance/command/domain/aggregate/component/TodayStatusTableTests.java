@@ -0,0 +1,113 @@
+package com.pado.inflow.attendance.command.domain.aggregate.component;
+
+import com.pado.inflow.attendance.query.repository.CommuteMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TodayStatusTableTests {
+
+    private static final int A = 1;
+    private static final int B = 1 << 1;
+
+    @DisplayName("같은 슬롯으로 모이는 사원 ID도 선형 탐사로 각자의 플래그를 유지한다")
+    @Test
+    void collisions() {
+        // 설명. 초기 용량(32)에서 같은 슬롯에 해시되는 ID를 골라 충돌시킨다. (크기를 키우지 않도록 용량의 절반 미만)
+        List<Long> colliding = collidingIds(32, 8);
+        TodayStatusTable table = new TodayStatusTable(8);
+        for (int i = 0; i < colliding.size(); i++) {
+            table.addFlags(colliding.get(i), i % 2 == 0 ? A : B);
+        }
+
+        assertEquals(colliding.size(), table.size());
+        for (int i = 0; i < colliding.size(); i++) {
+            assertEquals(i % 2 == 0 ? A : B, table.getFlags(colliding.get(i)));
+        }
+        // 설명. 같은 슬롯에 해시되지만 넣지 않은 ID는 탐사가 빈 칸에서 멈춰 0을 돌려준다.
+        assertEquals(0, table.getFlags(collidingIds(32, 9).get(8)));
+    }
+
+    @DisplayName("예상 크기를 넘겨 넣으면 크기를 늘리고, 기존 플래그는 그대로 옮겨진다")
+    @Test
+    void resizing() {
+        TodayStatusTable table = new TodayStatusTable(4);
+        for (long employeeId = 1; employeeId <= 10_000; employeeId++) {
+            table.addFlags(employeeId, employeeId % 3 == 0 ? A | B : A);
+        }
+
+        assertEquals(10_000, table.size());
+        for (long employeeId = 1; employeeId <= 10_000; employeeId++) {
+            assertEquals(employeeId % 3 == 0 ? A | B : A, table.getFlags(employeeId));
+        }
+        assertEquals(0, table.getFlags(10_001));
+    }
+
+    @DisplayName("플래그 지우기는 해당 플래그만 지우고, 없는 사원은 무시하며 항목 수는 그대로다")
+    @Test
+    void clearingFlags() {
+        TodayStatusTable table = new TodayStatusTable(16);
+        table.addFlags(7L, A | B);
+        table.clearFlags(7L, A);
+        table.clearFlags(8L, A);
+
+        assertEquals(B, table.getFlags(7L));
+        assertEquals(0, table.getFlags(8L));
+        assertEquals(1, table.size());
+
+        // 설명. 플래그가 모두 지워진 항목도 자리는 남아 있어, 뒤에 탐사로 들어간 항목을 계속 찾을 수 있다.
+        TodayStatusTable probed = new TodayStatusTable(16);
+        List<Long> colliding = collidingIds(32, 2);
+        probed.addFlags(colliding.get(0), A);
+        probed.addFlags(colliding.get(1), B);
+        probed.clearFlags(colliding.get(0), A);
+        assertEquals(0, probed.getFlags(colliding.get(0)));
+        assertEquals(B, probed.getFlags(colliding.get(1)));
+    }
+
+    @DisplayName("빈 칸 표시로 쓰는 ID는 넣을 수 없다")
+    @Test
+    void rejectsEmptyKey() {
+        TodayStatusTable table = new TodayStatusTable(16);
+        assertThrows(IllegalArgumentException.class, () -> table.addFlags(Long.MIN_VALUE, A));
+    }
+
+    @DisplayName("스냅샷은 DB의 당일 출근 사원과 이 서버에서 커밋된 출근만 '이미 출근'으로 본다")
+    @Test
+    void snapshotShortCircuitsOnlyCheckedIn() {
+        CommuteMapper commuteMapper = mock(CommuteMapper.class);
+        when(commuteMapper.findTodayCommuteEmployeeIds(any())).thenReturn(List.of(1L));
+        TodayAttendanceSnapshot snapshot = new TodayAttendanceSnapshot(commuteMapper);
+
+        // 설명. 구성 전에는 모두 DB로 확인
+        assertFalse(snapshot.isCheckedIn(1L));
+
+        snapshot.refresh();
+        assertTrue(snapshot.isCheckedIn(1L));
+        assertFalse(snapshot.isCheckedIn(2L));
+
+        snapshot.markCheckedIn(2L);
+        assertTrue(snapshot.isCheckedIn(2L));
+    }
+
+    private static List<Long> collidingIds(int capacity, int count) {
+        List<Long> ids = new ArrayList<>();
+        int slot = TodayStatusTable.hash(1L) & (capacity - 1);
+        for (long id = 1; ids.size() < count; id++) {
+            if ((TodayStatusTable.hash(id) & (capacity - 1)) == slot) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,68 @@
+package com.pado.inflow.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DateRangeTests {
+
+    @DisplayName("월 단위 기간은 해당 월 1일부터 다음 달 1일 전까지")
+    @Test
+    void ofMonth() {
+        DateRange range = DateRange.ofMonth(YearMonth.of(2024, 12));
+
+        assertEquals(LocalDateTime.of(2024, 12, 1, 0, 0), range.getFrom());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0), range.getTo());
+        assertTrue(range.contains(LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_999_999)));
+        assertFalse(range.contains(LocalDateTime.of(2025, 1, 1, 0, 0)));
+        assertFalse(range.contains(LocalDateTime.of(2024, 11, 30, 23, 59, 59)));
+    }
+
+    @DisplayName("YEAR()/MONTH() 비교와 같은 행을 고르는지 확인")
+    @Test
+    void matchesYearMonthPredicate() {
+        YearMonth month = YearMonth.of(2024, 2);
+        DateRange range = DateRange.ofMonth(month);
+
+        LocalDateTime dateTime = LocalDateTime.of(2023, 12, 31, 12, 0);
+        for (int i = 0; i < 24 * 120; i++) {
+            boolean expected = dateTime.getYear() == month.getYear()
+                    && dateTime.getMonthValue() == month.getMonthValue();
+            assertEquals(expected, range.contains(dateTime), dateTime.toString());
+            dateTime = dateTime.plusMinutes(59);
+        }
+    }
+
+    @DisplayName("여러 달, 하루, 한 해 기간")
+    @Test
+    void otherUnits() {
+        DateRange months = DateRange.ofMonths(YearMonth.of(2024, 11), YearMonth.of(2025, 2));
+        assertEquals(LocalDateTime.of(2024, 11, 1, 0, 0), months.getFrom());
+        assertEquals(LocalDateTime.of(2025, 3, 1, 0, 0), months.getTo());
+
+        DateRange day = DateRange.ofDay(LocalDate.of(2024, 2, 29));
+        assertEquals(LocalDateTime.of(2024, 2, 29, 0, 0), day.getFrom());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 0, 0), day.getTo());
+
+        DateRange year = DateRange.ofYear(2024);
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0), year.getFrom());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0), year.getTo());
+    }
+
+    @DisplayName("시작이 끝보다 늦은 기간은 만들 수 없다")
+    @Test
+    void rejectsInvertedRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DateRange.ofMonths(YearMonth.of(2025, 1), YearMonth.of(2024, 12)));
+        assertThrows(IllegalArgumentException.class,
+                () -> DateRange.of(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0)));
+    }
+}
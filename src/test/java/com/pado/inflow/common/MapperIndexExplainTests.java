@@ -0,0 +1,143 @@
+package com.pado.inflow.common;
+
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 설명. 매퍼의 조회 조건이 db/migration 스크립트로 추가한 인덱스를 쓸 수 있는지 EXPLAIN으로 확인
+ *  실제 매퍼 SQL을 바인딩해 EXPLAIN을 실행하므로 마이그레이션이 적용된 MariaDB가 필요하다.
+ *  INFLOW_EXPLAIN_TESTS=true 일 때만 실행된다.
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "INFLOW_EXPLAIN_TESTS", matches = "true")
+class MapperIndexExplainTests {
+
+    private static final Long EMPLOYEE_ID = 1L;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DisplayName("사원별 월간 출퇴근 내역 조회는 (employee_id, start_time) 인덱스를 사용")
+    @Test
+    void commuteByMonth() throws SQLException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("employeeId", EMPLOYEE_ID);
+        params.put("range", DateRange.ofMonth(2024, 11));
+
+        assertIndexUsable("com.pado.inflow.attendance.query.repository.CommuteMapper.findCommutesByEmployeeId",
+                params, "A", "idx_commute_employee_start_time");
+    }
+
+    @DisplayName("사원별 월간 근태 신청 내역 조회는 (employee_id, attendance_request_type_id, created_at) 인덱스를 사용")
+    @Test
+    void attendanceRequestByMonth() throws SQLException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("employeeId", EMPLOYEE_ID);
+        params.put("attendanceRequestTypeId", 2L);
+        params.put("range", DateRange.ofMonth(2024, 11));
+        params.put("cursor", null);
+        params.put("limit", 10);
+        params.put("offset", 0);
+
+        assertIndexUsable("com.pado.inflow.attendance.query.repository.AttendanceRequestMapper.findAttendanceRequestIds",
+                params, "A", "idx_attendance_request_employee_type_created_at");
+    }
+
+    @DisplayName("근태 신청 내역 커서 조회는 (employee_id, attendance_request_type_id, attendance_request_id) 인덱스를 사용")
+    @Test
+    void attendanceRequestByCursor() throws SQLException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("employeeId", EMPLOYEE_ID);
+        params.put("attendanceRequestTypeId", 2L);
+        params.put("range", null);
+        params.put("cursor", 1_000_000L);
+        params.put("limit", 11);
+        params.put("offset", null);
+
+        assertIndexUsable("com.pado.inflow.attendance.query.repository.AttendanceRequestMapper.findAttendanceRequestIds",
+                params, "A", "idx_attendance_request_employee_type_id");
+    }
+
+    @DisplayName("사원별 연도별 급여 내역 조회는 (employee_id, paid_at) 인덱스를 사용")
+    @Test
+    void paymentByYear() throws SQLException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("employeeId", EMPLOYEE_ID);
+        params.put("range", DateRange.ofYear(2024));
+
+        assertIndexUsable("com.pado.inflow.payroll.query.repository.PayrollMapper.findPaymentsByYear",
+                params, "payment", "idx_payment_employee_paid_at");
+    }
+
+    @DisplayName("보정 구간의 사원별 급여 건수 조회는 (employee_id, paid_at) 인덱스를 사용")
+    @Test
+    void paymentCountSince() throws SQLException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("employeeId", EMPLOYEE_ID);
+        params.put("from", LocalDate.of(2024, 9, 1).atStartOfDay());
+
+        assertIndexUsable("com.pado.inflow.payroll.query.repository.PayrollMapper.countPaymentsSince",
+                params, "payment", "idx_payment_employee_paid_at");
+    }
+
+    @DisplayName("사원별 당일 휴가 조회는 (employee_id, start_date) 인덱스를 사용")
+    @Test
+    void vacationToday() throws SQLException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("employeeId", EMPLOYEE_ID);
+        params.put("today", DateRange.ofDay(LocalDate.of(2024, 11, 15)));
+
+        assertIndexUsable("com.pado.inflow.vacation.query.repository.VacationRequestMapper.findTodayVacationByEmployeeId",
+                params, "A", "idx_vacation_request_employee_start_date");
+    }
+
+    // 설명. 매퍼 SQL 앞에 EXPLAIN을 붙여 실행하고, 해당 테이블 행의 후보 인덱스와 접근 방식을 확인
+    private void assertIndexUsable(String statementId, Map<String, Object> params,
+                                   String table, String indexName) throws SQLException {
+        MappedStatement statement = sqlSessionFactory.getConfiguration().getMappedStatement(statementId);
+        BoundSql boundSql = statement.getBoundSql(params);
+        ParameterHandler parameterHandler = new DefaultParameterHandler(statement, params, boundSql);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            parameterHandler.setParameters(explain);
+
+            try (ResultSet plan = explain.executeQuery()) {
+                while (plan.next()) {
+                    if (!table.equals(plan.getString("table"))) {
+                        continue;
+                    }
+                    String possibleKeys = plan.getString("possible_keys");
+                    assertNotNull(possibleKeys, statementId + " 후보 인덱스 없음");
+                    assertTrue(possibleKeys.contains(indexName), statementId + " 후보 인덱스: " + possibleKeys);
+                    assertNotEquals("ALL", plan.getString("type"), statementId + " 전체 스캔");
+                    return;
+                }
+            }
+        }
+        throw new AssertionError(statementId + " 실행 계획에 " + table + " 테이블이 없습니다.");
+    }
+}
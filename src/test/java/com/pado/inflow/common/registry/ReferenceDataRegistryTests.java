@@ -0,0 +1,88 @@
+package com.pado.inflow.common.registry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReferenceDataRegistryTests {
+
+    private ReferenceDataMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(ReferenceDataMapper.class);
+        when(mapper.getAttendanceRequestTypes()).thenReturn(List.of(
+                new ReferenceItemDTO(1L, "재택근무", null), new ReferenceItemDTO(2L, "초과근무", null)));
+        when(mapper.getVacationTypes()).thenReturn(List.of(new ReferenceItemDTO(1L, "연차", null)));
+        when(mapper.getRoles()).thenReturn(List.of(new ReferenceCodeDTO("R001", "부서장"), new ReferenceCodeDTO("R002", "직원")));
+        when(mapper.getPositions()).thenReturn(List.of(new ReferenceCodeDTO("P001", "사원"), new ReferenceCodeDTO("P005", "부장")));
+        when(mapper.getDuties()).thenReturn(List.of(new ReferenceCodeDTO("D001", "개발")));
+        when(mapper.getDepartments()).thenReturn(List.of(new ReferenceCodeDTO("DP001", "인사팀")));
+        when(mapper.getAppointmentItems()).thenReturn(List.of(new ReferenceCodeDTO("A001", "승진")));
+        when(mapper.getIrregularAllowances()).thenReturn(List.of(new ReferenceItemDTO(1L, "명절 상여", 300000)));
+        when(mapper.getNonTaxables()).thenReturn(List.of(new ReferenceItemDTO(1L, "식대", 200000)));
+    }
+
+    @DisplayName("스냅샷에서 코드로 바로 찾는다")
+    @Test
+    void lookup() {
+        ReferenceDataRegistry registry = new ReferenceDataRegistry(mapper, 60000);
+
+        assertEquals(Optional.of("재택근무"), registry.findAttendanceRequestTypeName(1L));
+        assertEquals(Optional.of("부서장"), registry.findRoleName("R001"));
+        assertTrue(registry.hasVacationType(1L));
+        assertTrue(registry.isManagerPosition("P005"));
+        assertFalse(registry.isManagerPosition("P001"));
+        assertEquals(List.of("P001", "P005"), registry.current().getPositionCodes());
+        assertEquals(300000, registry.getIrregularAllowances().get(0).amount());
+
+        // 설명. 여러 번 찾아도 처음 한 번만 읽는다.
+        verify(mapper, times(1)).getRoles();
+    }
+
+    @DisplayName("갱신은 새 버전의 스냅샷으로 통째로 교체하고, 이전 스냅샷은 바뀌지 않는다")
+    @Test
+    void refreshSwapsSnapshot() {
+        ReferenceDataRegistry registry = new ReferenceDataRegistry(mapper, 60000);
+        ReferenceData before = registry.current();
+
+        when(mapper.getDepartments()).thenReturn(List.of(new ReferenceCodeDTO("DP001", "인사팀"),
+                new ReferenceCodeDTO("DP002", "개발팀")));
+        registry.refreshAfterCommit();  // 설명. 트랜잭션 밖이므로 바로 갱신
+        ReferenceData after = registry.current();
+
+        assertNotSame(before, after);
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        assertEquals(List.of("DP001"), before.getDepartmentCodes());
+        assertEquals(List.of("DP001", "DP002"), after.getDepartmentCodes());
+        assertThrows(UnsupportedOperationException.class, () -> after.getNonTaxables().clear());
+    }
+
+    @DisplayName("없는 코드는 최근 갱신 이후 일정 시간이 지났을 때만 다시 읽는다")
+    @Test
+    void refreshOnMiss() {
+        ReferenceDataRegistry throttled = new ReferenceDataRegistry(mapper, 60000);
+        ReferenceData snapshot = throttled.current();
+        assertTrue(throttled.findRoleName("R999").isEmpty());
+        assertSame(snapshot, throttled.current());
+
+        ReferenceDataRegistry eager = new ReferenceDataRegistry(mapper, 0);
+        eager.current();
+        when(mapper.getRoles()).thenReturn(List.of(new ReferenceCodeDTO("R999", "신규 직책")));
+        assertEquals(Optional.of("신규 직책"), eager.findRoleName("R999"));
+    }
+}
@@ -0,0 +1,149 @@
+package com.pado.inflow.common.schedule;
+
+import com.pado.inflow.InflowApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 설명. 실제 scheduler_lease 테이블을 두 애플리케이션 컨텍스트(서버 두 대)가 나눠 쓰는 상황
+ *  같은 MariaDB를 바라보는 컨텍스트를 두 개 띄워 각자의 SchedulerLock으로 같은 임대를 다툰다.
+ *  마이그레이션이 적용된 MariaDB가 필요하며, INFLOW_EXPLAIN_TESTS=true 일 때만 실행된다.
+ *  테스트마다 새 임대 이름을 쓰고 끝나면 지운다.
+ */
+@EnabledIfEnvironmentVariable(named = "INFLOW_EXPLAIN_TESTS", matches = "true")
+class SchedulerLockClusterTests {
+
+    private static final long TTL = 1500;
+    private static final String LEASE_PREFIX = "cluster-test-";
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) {
+            nodeA.getBean(NamedParameterJdbcTemplate.class).update(
+                    "DELETE FROM scheduler_lease WHERE lease_name LIKE :prefix",
+                    new MapSqlParameterSource("prefix", LEASE_PREFIX + "%"));
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @DisplayName("두 서버에서 같은 시각에 실행해도 작업은 한 번만 실행된다")
+    @Test
+    void oneNodePerFiring() throws Exception {
+        String leaseName = leaseName();
+        AtomicInteger runs = new AtomicInteger();
+        Runnable task = () -> {
+            runs.incrementAndGet();
+            sleep(200);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = List.of(
+                    executor.submit(() -> {
+                        start.await();
+                        return lockOf(nodeA).runExclusively(leaseName, task);
+                    }),
+                    executor.submit(() -> {
+                        start.await();
+                        return lockOf(nodeB).runExclusively(leaseName, task);
+                    }));
+            start.countDown();
+            assertTrue(results.get(0).get(10, TimeUnit.SECONDS) ^ results.get(1).get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        sleep(TTL * 2);     // 건너뛴 서버가 정상 종료를 보고 이어받지 않는지 확인
+
+        assertEquals(1, runs.get());
+    }
+
+    @DisplayName("실행 중이던 서버가 죽어 임대가 만료되면 다른 서버가 이어받고, 그동안 임대를 유지한다")
+    @Test
+    void takeOverWhenHolderDies() throws Exception {
+        String leaseName = leaseName();
+        SchedulerLeaseRepository repository = nodeA.getBean(SchedulerLeaseRepository.class);
+        assertTrue(repository.tryAcquire(leaseName, "dead-node", TTL));     // heartbeat도 해제도 하지 않는다
+
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        assertFalse(lockOf(nodeB).runExclusively(leaseName, () -> {
+            runs.incrementAndGet();
+            sleep(TTL * 2);     // ttl보다 오래 걸려도 heartbeat로 임대를 유지해야 한다
+            finished.countDown();
+        }));
+
+        // 설명. 이어받은 작업이 도는 동안 다른 서버의 실행은 건너뛴다.
+        while (runs.get() == 0) {
+            sleep(100);
+        }
+        assertFalse(lockOf(nodeA).runExclusively(leaseName, runs::incrementAndGet));
+
+        assertTrue(finished.await(TTL * 5, TimeUnit.MILLISECONDS));
+        sleep(200);
+        assertEquals(1, runs.get());
+        assertEquals(lockOf(nodeB).getOwner(), ownerOf(leaseName));
+        assertTrue(repository.isReleased(leaseName));
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(InflowApplication.class)
+                .properties("server.port=0",
+                        "scheduler.lease.ttl=" + TTL,
+                        "scheduler.lease.min-hold=1000")
+                .run();
+    }
+
+    private static SchedulerLock lockOf(ConfigurableApplicationContext node) {
+        return node.getBean(SchedulerLock.class);
+    }
+
+    private static String ownerOf(String leaseName) {
+        return nodeA.getBean(NamedParameterJdbcTemplate.class).queryForObject(
+                "SELECT owner FROM scheduler_lease WHERE lease_name = :leaseName",
+                new MapSqlParameterSource("leaseName", leaseName), String.class);
+    }
+
+    private static String leaseName() {
+        return LEASE_PREFIX + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
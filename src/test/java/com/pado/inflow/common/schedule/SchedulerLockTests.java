@@ -0,0 +1,212 @@
+package com.pado.inflow.common.schedule;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/* 설명. 두 서버(잠금 인스턴스)가 하나의 임대 테이블을 나눠 쓰는 상황
+ *  임대 테이블은 조건부 UPDATE와 같은 의미의 메모리 저장소로 흉내 낸다.
+ */
+class SchedulerLockTests {
+
+    private static final long TTL = 300;
+    private static final long MIN_HOLD = 1000;
+
+    private final InMemoryLeaseRepository repository = new InMemoryLeaseRepository();
+    private final SchedulerLock nodeA = lock("node-a");
+    private final SchedulerLock nodeB = lock("node-b");
+
+    @AfterEach
+    void tearDown() {
+        nodeA.shutdown();
+        nodeB.shutdown();
+    }
+
+    @DisplayName("두 서버에서 같은 시각에 실행해도 작업은 한 번만 실행된다")
+    @Test
+    void oneNodePerFiring() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        Runnable task = () -> {
+            runs.incrementAndGet();
+            sleep(50);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = List.of(
+                    executor.submit(() -> {
+                        start.await();
+                        return nodeA.runExclusively("job", task);
+                    }),
+                    executor.submit(() -> {
+                        start.await();
+                        return nodeB.runExclusively("job", task);
+                    }));
+            start.countDown();
+            assertTrue(results.get(0).get(5, TimeUnit.SECONDS) ^ results.get(1).get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        sleep(TTL * 2);     // 건너뛴 서버가 지켜보다가 이어받지 않는지 확인
+
+        assertEquals(1, runs.get());
+    }
+
+    @DisplayName("먼저 끝난 서버가 있어도 min-hold 안에 늦게 도착한 실행은 건너뛴다")
+    @Test
+    void lateFiringIsSkipped() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertTrue(nodeA.runExclusively("job", runs::incrementAndGet));
+        assertFalse(nodeB.runExclusively("job", runs::incrementAndGet));
+
+        assertEquals(1, runs.get());
+    }
+
+    @DisplayName("실행 중이던 서버가 죽어 임대가 만료되면 다른 서버가 이어받아 실행한다")
+    @Test
+    void takeOverWhenHolderDies() throws Exception {
+        assertTrue(repository.tryAcquire("job", "dead-node", TTL));     // heartbeat도 해제도 하지 않는다
+        CountDownLatch ran = new CountDownLatch(1);
+
+        assertFalse(nodeB.runExclusively("job", ran::countDown));
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        sleep(50);
+        assertEquals("node-b", repository.ownerOf("job"));
+        assertTrue(repository.isReleased("job"));
+    }
+
+    @DisplayName("이어받은 작업은 전용 스레드에서 실행되어, ttl보다 오래 걸려도 heartbeat가 임대를 유지한다")
+    @Test
+    void longTakeOverKeepsHeartbeat() throws Exception {
+        assertTrue(repository.tryAcquire("job", "dead-node", TTL));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        assertFalse(nodeB.runExclusively("job", () -> {
+            threadName.set(Thread.currentThread().getName());
+            started.countDown();
+            sleep(TTL * 3);
+            finished.countDown();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // 설명. 이어받은 작업이 실행되는 동안 다른 서버는 임대를 잡지 못한다.
+        while (finished.getCount() > 0) {
+            assertFalse(repository.tryAcquire("job", "node-a", TTL));
+            sleep(TTL / 3);
+        }
+        assertTrue(threadName.get().startsWith("scheduler-takeover-"));
+        sleep(50);
+        assertEquals("node-b", repository.ownerOf("job"));
+        assertTrue(repository.isReleased("job"));
+    }
+
+    private SchedulerLock lock(String owner) {
+        return new SchedulerLock(repository, mock(PlatformTransactionManager.class), TTL, MIN_HOLD, 2, 1, owner);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class InMemoryLeaseRepository extends SchedulerLeaseRepository {
+
+        private final Map<String, Lease> leases = new HashMap<>();
+
+        InMemoryLeaseRepository() {
+            super(null);
+        }
+
+        @Override
+        public synchronized boolean tryAcquire(String leaseName, String owner, long ttlMillis) {
+            Lease lease = leases.computeIfAbsent(leaseName, name -> new Lease());
+            if (lease.until > now()) {
+                return false;
+            }
+            lease.acquire(owner, ttlMillis);
+            return true;
+        }
+
+        @Override
+        public synchronized boolean takeOver(String leaseName, String owner, long ttlMillis) {
+            Lease lease = leases.get(leaseName);
+            if (lease == null || lease.until > now() || lease.released) {
+                return false;
+            }
+            lease.acquire(owner, ttlMillis);
+            return true;
+        }
+
+        @Override
+        public synchronized boolean heartbeat(String leaseName, String owner, long ttlMillis) {
+            Lease lease = leases.get(leaseName);
+            if (lease == null || !owner.equals(lease.owner) || lease.released) {
+                return false;
+            }
+            lease.until = now() + ttlMillis;
+            return true;
+        }
+
+        @Override
+        public synchronized void release(String leaseName, String owner, long minHoldMillis) {
+            Lease lease = leases.get(leaseName);
+            if (lease != null && owner.equals(lease.owner)) {
+                lease.released = true;
+                lease.until = Math.max(now(), lease.acquiredAt + minHoldMillis);
+            }
+        }
+
+        @Override
+        public synchronized boolean isReleased(String leaseName) {
+            Lease lease = leases.get(leaseName);
+            return lease != null && lease.released;
+        }
+
+        synchronized String ownerOf(String leaseName) {
+            return leases.get(leaseName).owner;
+        }
+
+        private static long now() {
+            return System.currentTimeMillis();
+        }
+    }
+
+    private static class Lease {
+        private String owner;
+        private long until;
+        private long acquiredAt;
+        private boolean released;
+
+        void acquire(String owner, long ttlMillis) {
+            this.owner = owner;
+            this.acquiredAt = System.currentTimeMillis();
+            this.until = acquiredAt + ttlMillis;
+            this.released = false;
+        }
+    }
+}
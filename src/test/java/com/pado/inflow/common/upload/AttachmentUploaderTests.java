@@ -0,0 +1,240 @@
+package com.pado.inflow.common.upload;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AttachmentUploaderTests {
+
+    private static final String BUCKET = "inflow-vacation-attendance";
+
+    private InMemoryS3 s3;
+    private Map<String, AttachmentBlob> blobs;
+    private AttachmentBlobRepository attachmentBlobRepository;
+    private AttachmentUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        s3 = new InMemoryS3();
+        blobs = new ConcurrentHashMap<>();
+        attachmentBlobRepository = mock(AttachmentBlobRepository.class);
+
+        // 설명. upsert/findBySha256/markUploaded를 메모리 맵으로 흉내 낸다.
+        AtomicLong sequence = new AtomicLong();
+        when(attachmentBlobRepository.upsert(anyString(), anyString(), anyString(), any(), anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    String sha256 = invocation.getArgument(0);
+                    LocalDateTime touchedAt = invocation.getArgument(5);
+                    blobs.compute(sha256, (key, blob) -> {
+                        if (blob == null) {
+                            return new AttachmentBlob(sequence.incrementAndGet(), sha256, invocation.getArgument(1),
+                                    invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4),
+                                    0, null, touchedAt);
+                        }
+                        blob.setTouchedAt(touchedAt);
+                        return blob;
+                    });
+                    return 1;
+                });
+        when(attachmentBlobRepository.findBySha256(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(blobs.get(invocation.<String>getArgument(0))));
+        when(attachmentBlobRepository.markUploaded(anyLong(), any())).thenAnswer(invocation -> {
+            Long attachmentBlobId = invocation.getArgument(0);
+            blobs.values().stream()
+                    .filter(blob -> blob.getAttachmentBlobId().equals(attachmentBlobId))
+                    .forEach(blob -> blob.setUploadedAt(invocation.getArgument(1)));
+            return 1;
+        });
+
+        uploader = new AttachmentUploader(s3, attachmentBlobRepository, BUCKET, 4, 16, 5000, 3600000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @DisplayName("첨부 파일을 동시에 업로드하고 전달받은 순서대로 돌려준다")
+    @Test
+    void uploadInParallel() {
+        // 설명. 세 업로드가 동시에 진행되어야만 장벽을 통과한다. (순차 업로드라면 시간 초과로 실패)
+        s3.barrier = new CyclicBarrier(3);
+
+        List<UploadedAttachment> attachments =
+                uploader.upload(List.of(file("a.pdf", "A"), file("b.pdf", "B"), file("c.pdf", "C")));
+
+        assertEquals(List.of("a.pdf", "b.pdf", "c.pdf"), attachments.stream().map(UploadedAttachment::fileName).toList());
+        assertEquals(3, s3.objects.size());
+        for (AttachmentBlob blob : blobs.values()) {
+            assertTrue(s3.objects.containsKey(blob.getObjectKey()));
+            assertTrue(blob.getObjectKey().startsWith("attachments/" + blob.getSha256()));
+            assertEquals(0, blob.getRefCount());
+        }
+    }
+
+    @DisplayName("같은 내용의 파일은 한 번만 업로드하고 같은 객체를 가리킨다")
+    @Test
+    void deduplicateByContent() {
+        UploadedAttachment first = uploader.upload(List.of(file("진단서.pdf", "same"))).get(0);
+        UploadedAttachment second = uploader.upload(List.of(file("진단서_사본.pdf", "same"))).get(0);
+        UploadedAttachment other = uploader.upload(List.of(file("진단서.pdf", "other"))).get(0);
+
+        assertEquals(2, s3.putCount.get());
+        assertEquals(first.attachmentBlobId(), second.attachmentBlobId());
+        assertEquals(first.fileUrl(), second.fileUrl());
+        assertEquals("진단서_사본.pdf", second.fileName());
+        assertNotEquals(first.attachmentBlobId(), other.attachmentBlobId());
+        // 설명. SHA-256 16진수 문자열
+        blobs.values().forEach(blob -> assertTrue(blob.getSha256().matches("[0-9a-f]{64}")));
+    }
+
+    @DisplayName("첨부 파일이 없으면 아무것도 기록하지 않는다")
+    @Test
+    void uploadNothing() {
+        assertTrue(uploader.upload(null).isEmpty());
+        assertTrue(uploader.upload(List.of()).isEmpty());
+        verify(attachmentBlobRepository, never()).upsert(anyString(), anyString(), anyString(), any(), anyLong(), any());
+    }
+
+    @DisplayName("업로드에 실패하면 FILE_UPLOAD_ERROR를 던지고 업로드 완료로 표시하지 않는다")
+    @Test
+    void uploadFailure() {
+        s3.failingContentLength = 4;
+
+        CommonException e = assertThrows(CommonException.class,
+                () -> uploader.upload(List.of(file("a.pdf", "A"), file("b.pdf", "FAIL"))));
+
+        assertEquals(ErrorCode.FILE_UPLOAD_ERROR, e.getErrorCode());
+        AttachmentBlob failed = blobs.values().stream().filter(blob -> blob.getFileSize() == 4).findFirst().orElseThrow();
+        assertNull(failed.getUploadedAt());
+
+        // 설명. 다시 시도하면 같은 기록으로 업로드한다.
+        s3.failingContentLength = -1;
+        UploadedAttachment retried = uploader.upload(List.of(file("b.pdf", "FAIL"))).get(0);
+        assertEquals(failed.getAttachmentBlobId(), retried.attachmentBlobId());
+        assertTrue(s3.objects.containsKey(failed.getObjectKey()));
+    }
+
+    @DisplayName("confirm은 객체별 참조 수를 한 번에 올리고, 정리된 객체면 FILE_UPLOAD_ERROR")
+    @Test
+    void confirm() {
+        when(attachmentBlobRepository.addReferences(anyLong(), anyInt())).thenReturn(1);
+        uploader.confirm(List.of(new UploadedAttachment(1L, "a.pdf", "url"),
+                new UploadedAttachment(1L, "a_copy.pdf", "url"),
+                new UploadedAttachment(2L, "b.pdf", "url")));
+        verify(attachmentBlobRepository).addReferences(1L, 2);
+        verify(attachmentBlobRepository).addReferences(2L, 1);
+
+        when(attachmentBlobRepository.addReferences(eq(3L), anyInt())).thenReturn(0);
+        CommonException e = assertThrows(CommonException.class,
+                () -> uploader.confirm(List.of(new UploadedAttachment(3L, "c.pdf", "url"))));
+        assertEquals(ErrorCode.FILE_UPLOAD_ERROR, e.getErrorCode());
+    }
+
+    @DisplayName("sweep은 조건부 삭제에 성공한 기록의 객체만 지운다")
+    @Test
+    void sweep() {
+        s3.objects.put("attachments/orphan", new byte[0]);
+        s3.objects.put("attachments/reused", new byte[0]);
+        LocalDateTime old = LocalDateTime.now().minusDays(1);
+        AttachmentBlob orphan = new AttachmentBlob(10L, "x", BUCKET, "attachments/orphan", null, 0L, 0, old, old);
+        AttachmentBlob reused = new AttachmentBlob(11L, "y", BUCKET, "attachments/reused", null, 0L, 0, old, old);
+        when(attachmentBlobRepository.findTop500ByRefCountAndTouchedAtBeforeOrderByAttachmentBlobIdAsc(eq(0), any()))
+                .thenReturn(List.of(orphan, reused));
+        when(attachmentBlobRepository.deleteIfUnreferenced(eq(10L), any())).thenReturn(1);
+        // 설명. 목록을 읽은 뒤 다른 신청이 재사용해 조건부 삭제가 실패한 경우
+        when(attachmentBlobRepository.deleteIfUnreferenced(eq(11L), any())).thenReturn(0);
+
+        uploader.sweep();
+
+        assertFalse(s3.objects.containsKey("attachments/orphan"));
+        assertTrue(s3.objects.containsKey("attachments/reused"));
+    }
+
+    private static MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("attachments", name, "application/pdf", content.getBytes());
+    }
+
+    // 설명. 메모리에 객체를 보관하는 S3 대역 (업로드/삭제/URL만 지원)
+    @SuppressWarnings("deprecation")
+    static class InMemoryS3 extends AmazonS3Client {
+
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        final AtomicInteger putCount = new AtomicInteger();
+        volatile CyclicBarrier barrier;
+        volatile long failingContentLength = -1;
+
+        @Override
+        public PutObjectResult putObject(String bucketName, String key, InputStream input, ObjectMetadata metadata) {
+            try {
+                if (barrier != null) {
+                    barrier.await(2, TimeUnit.SECONDS);
+                }
+                if (metadata.getContentLength() == failingContentLength) {
+                    throw new IllegalStateException("업로드 실패");
+                }
+                objects.put(key, input.readAllBytes());
+                putCount.incrementAndGet();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                throw new IllegalStateException("동시 업로드 대기 실패", e);
+            }
+            return new PutObjectResult();
+        }
+
+        @Override
+        public void deleteObject(String bucketName, String key) {
+            objects.remove(key);
+        }
+
+        @Override
+        public URL getUrl(String bucketName, String key) {
+            try {
+                return new URL("https://" + bucketName + ".s3.local/" + key);
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.pado.inflow.department.query.controller;
+
+import com.pado.inflow.department.query.dto.MemberAttendanceStatusDTO;
+import com.pado.inflow.department.query.repository.DepartmentMapper;
+import com.pado.inflow.department.query.service.DepartmentAttendanceBoard;
+import com.pado.inflow.employee.security.AuthTelemetry;
+import com.pado.inflow.employee.security.JwtFilter;
+import com.pado.inflow.employee.security.JwtUtil;
+import com.pado.inflow.employee.security.RouteAuthorizationManager;
+import com.pado.inflow.employee.security.dto.AccessTokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.DefaultSecurityFilterChain;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/* 설명. 내 부서 근태 현황판(SSE)의 ASYNC 재디스패치 인가
+ *  WebSecurity와 같은 순서(SecurityContextHolderFilter → JwtFilter → 익명 → 인가)로 필터 체인을 구성한다.
+ *  STATELESS 설정처럼 SecurityContext는 요청 속성 저장소를 쓰고, JwtFilter는 저장하지 않으므로
+ *  재디스패치에서는 익명으로 보인다.
+ */
+class DepartmentAttendanceStreamTests {
+
+    private static final String URL = "/api/departments/my-department/DP001/members/attendance";
+
+    private DepartmentAttendanceBoard board;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        DepartmentMapper mapper = mock(DepartmentMapper.class);
+        when(mapper.findMemberAttendanceStatuses(eq("DP001"), isNull(), any())).thenReturn(List.of(
+                MemberAttendanceStatusDTO.builder()
+                        .employeeId(1L)
+                        .departmentMemberId(1L)
+                        .employeeName("사원1")
+                        .departmentCode("DP001")
+                        .attendanceStatus("AT_WORK")
+                        .build()));
+        board = new DepartmentAttendanceBoard(mapper, 60000, 1, 100);
+
+        AccessTokenClaims claims = new AccessTokenClaims("202400001", 1L, List.of("ROLE_MANAGER"),
+                System.currentTimeMillis(), System.currentTimeMillis() + 1800000);
+        JwtUtil jwtUtil = mock(JwtUtil.class);
+        when(jwtUtil.verifyAccessToken("token")).thenReturn(claims);
+        when(jwtUtil.getAuthentication(claims)).thenReturn(new UsernamePasswordAuthenticationToken(
+                "202400001", "", List.of(new SimpleGrantedAuthority("ROLE_MANAGER"))));
+
+        RouteAuthorizationManager routeAuthorizationManager = new RouteAuthorizationManager();
+        FilterChainProxy securityFilterChain = new FilterChainProxy(new DefaultSecurityFilterChain(
+                AnyRequestMatcher.INSTANCE,
+                new SecurityContextHolderFilter(new RequestAttributeSecurityContextRepository()),
+                new JwtFilter(null, jwtUtil, routeAuthorizationManager,
+                        new AuthTelemetry(new SimpleMeterRegistry(), 0.0, 60000)),
+                new AnonymousAuthenticationFilter("test"),
+                new AuthorizationFilter(routeAuthorizationManager)));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new DepartmentController(null, board))
+                .addFilters(securityFilterChain)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        board.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("인증된 구독 요청은 ASYNC 재디스패치에서도 거부되지 않고 snapshot 이벤트를 응답한다")
+    @Test
+    void asyncDispatchIsAuthorized() throws Exception {
+        MvcResult result = mockMvc.perform(get(URL).header("Authorization", "Bearer token"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 설명. snapshot 전송을 기다린 뒤 연결을 닫아 비동기 처리를 끝낸다.
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!result.getResponse().getContentAsString().contains("event:snapshot")) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("snapshot 이벤트를 받지 못했습니다.");
+            }
+            Thread.sleep(10);
+        }
+        board.shutdown();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("event:snapshot")));
+    }
+
+    @DisplayName("토큰 없는 최초 요청은 여전히 401로 거부된다")
+    @Test
+    void requestWithoutTokenIsRejected() throws Exception {
+        mockMvc.perform(get(URL))
+                .andExpect(status().isUnauthorized());
+    }
+}
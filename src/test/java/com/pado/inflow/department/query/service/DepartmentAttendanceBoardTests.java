@@ -0,0 +1,206 @@
+package com.pado.inflow.department.query.service;
+
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.department.query.dto.MemberAttendanceStatusDTO;
+import com.pado.inflow.department.query.repository.DepartmentMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DepartmentAttendanceBoardTests {
+
+    private DepartmentMapper mapper;
+    private RecordingEmitter emitter;
+    private final Deque<SseEmitter> nextEmitters = new ArrayDeque<>();
+    private DepartmentAttendanceBoard board;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(DepartmentMapper.class);
+        emitter = new RecordingEmitter();
+        board = new DepartmentAttendanceBoard(mapper, 60000, 2, 3) {
+            @Override
+            SseEmitter createEmitter() {
+                SseEmitter next = nextEmitters.poll();
+                return next != null ? next : emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        board.shutdown();
+    }
+
+    @DisplayName("구독하면 부서 전체 목록을 snapshot으로 받는다")
+    @Test
+    void snapshotOnSubscribe() throws InterruptedException {
+        when(mapper.findMemberAttendanceStatuses(eq("DP001"), isNull(), any()))
+                .thenReturn(List.of(member(1L, "NOT_CHECKED_IN"), member(2L, "AT_WORK")));
+
+        board.subscribe("DP001");
+
+        List<?> snapshot = assertInstanceOf(List.class, emitter.next());
+        assertEquals(2, snapshot.size());
+        assertEquals("정상출근", ((MemberAttendanceStatusDTO) snapshot.get(1)).getAttendanceStatusTypeName());
+    }
+
+    @DisplayName("상태가 바뀐 사원만 status 이벤트로 받는다")
+    @Test
+    void deltaOnChange() throws InterruptedException {
+        when(mapper.findMemberAttendanceStatuses(eq("DP001"), isNull(), any()))
+                .thenReturn(List.of(member(1L, "NOT_CHECKED_IN"), member(2L, "NOT_CHECKED_IN")));
+        board.subscribe("DP001");
+        emitter.next();
+
+        board.markCheckIn(1L, false);
+        board.markCheckIn(1L, false);       // 같은 상태는 보내지 않는다
+        board.markCheckIn(99L, true);       // 현황판에 없는 사원은 무시
+        LocalDate today = LocalDate.now();
+        board.markVacation(2L, today.plusDays(1), today.plusDays(2));   // 오늘이 아닌 휴가는 무시
+        board.markVacation(2L, today, today);
+
+        MemberAttendanceStatusDTO first = assertInstanceOf(MemberAttendanceStatusDTO.class, emitter.next());
+        assertEquals(1L, first.getEmployeeId());
+        assertEquals("AT_WORK", first.getAttendanceStatus());
+
+        MemberAttendanceStatusDTO second = assertInstanceOf(MemberAttendanceStatusDTO.class, emitter.next());
+        assertEquals(2L, second.getEmployeeId());
+        assertEquals("휴가", second.getAttendanceStatusTypeName());
+    }
+
+    @DisplayName("재조회에서 바뀐 사원만 보내고, 구독이 없는 사원은 DB에서 다시 읽지 않는다")
+    @Test
+    void refreshAndMarkChanged() throws InterruptedException {
+        when(mapper.findMemberAttendanceStatuses(eq("DP001"), isNull(), any()))
+                .thenReturn(List.of(member(1L, "NOT_CHECKED_IN"), member(2L, "NOT_CHECKED_IN")))
+                .thenReturn(List.of(member(1L, "NOT_CHECKED_IN"), member(2L, "REMOTE")));
+        board.subscribe("DP001");
+        emitter.next();
+
+        board.markChanged(99L);
+        board.refresh();
+
+        MemberAttendanceStatusDTO changed = assertInstanceOf(MemberAttendanceStatusDTO.class, emitter.next());
+        assertEquals(2L, changed.getEmployeeId());
+        assertEquals("재택근무", changed.getAttendanceStatusTypeName());
+        verify(mapper, never()).findMemberAttendanceStatuses(isNull(), eq(99L), any());
+    }
+
+    @DisplayName("전송이 멈춘 구독자가 있어도 다른 현황판 구독자는 이벤트를 받고, 대기열이 넘친 구독자는 연결이 끊긴다")
+    @Test
+    void slowSubscriberDoesNotStallOthers() throws InterruptedException {
+        when(mapper.findMemberAttendanceStatuses(eq("DP001"), isNull(), any()))
+                .thenReturn(List.of(member(1L, "NOT_CHECKED_IN")));
+        when(mapper.findMemberAttendanceStatuses(eq("DP002"), isNull(), any()))
+                .thenReturn(List.of(member(2L, "NOT_CHECKED_IN")));
+        BlockedEmitter slow = new BlockedEmitter();
+        nextEmitters.add(slow);
+        board.subscribe("DP001");
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+
+        board.subscribe("DP002");
+        assertInstanceOf(List.class, emitter.next());
+
+        // 설명. 멈춘 구독자의 대기열(3칸)을 넘기는 동안에도 다른 구독자는 바로 받는다.
+        for (int i = 0; i < 4; i++) {
+            board.markCheckIn(1L, i % 2 == 0);
+        }
+        board.markCheckIn(2L, false);
+        assertEquals(2L, assertInstanceOf(MemberAttendanceStatusDTO.class, emitter.next()).getEmployeeId());
+
+        slow.release.countDown();
+        assertTrue(slow.failed.await(5, TimeUnit.SECONDS));
+    }
+
+    @DisplayName("사원이 없는 부서는 구독할 수 없다")
+    @Test
+    void emptyDepartment() {
+        when(mapper.findMemberAttendanceStatuses(eq("DP404"), isNull(), any())).thenReturn(List.of());
+
+        assertThrows(CommonException.class, () -> board.subscribe("DP404"));
+    }
+
+    private static MemberAttendanceStatusDTO member(Long employeeId, String status) {
+        return MemberAttendanceStatusDTO.builder()
+                .employeeId(employeeId)
+                .departmentMemberId(employeeId)
+                .employeeName("사원" + employeeId)
+                .departmentCode("DP001")
+                .attendanceStatus(status)
+                .build();
+    }
+
+    // 설명. 첫 전송에서 풀릴 때까지 멈추는 느린 구독자
+    private static class BlockedEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch failed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failed.countDown();
+        }
+    }
+
+    // 설명. 보낸 이벤트의 데이터(주석, 이벤트 이름 제외)를 순서대로 모은다.
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<Object> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            Set<ResponseBodyEmitter.DataWithMediaType> items = builder.build();
+            for (ResponseBodyEmitter.DataWithMediaType item : items) {
+                if (!MediaType.TEXT_PLAIN.equals(item.getMediaType())) {
+                    sent.add(item.getData());
+                }
+            }
+        }
+
+        Object next() throws InterruptedException {
+            Object data = sent.poll(5, TimeUnit.SECONDS);
+            if (data == null) {
+                throw new AssertionError("이벤트를 받지 못했습니다.");
+            }
+            return data;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.pado.inflow.employee.security;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.employee.security.AuthTelemetry.Outcome;
+import com.pado.inflow.employee.security.AuthTelemetry.Stage;
+import com.pado.inflow.employee.security.dto.AccessTokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/* 설명. 인증 텔레메트리: 샘플링, 사원별 추적, 거부(REJECTED) 이벤트
+ *  이벤트 로그(inflow.auth.event)는 ListAppender로 받아 확인한다.
+ */
+class AuthTelemetryTests {
+
+    private static final String EMPLOYEE_NUMBER = "202400001";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ListAppender<ILoggingEvent> events = new ListAppender<>();
+    private Logger eventLog;
+
+    @BeforeEach
+    void setUp() {
+        eventLog = (Logger) LoggerFactory.getLogger("inflow.auth.event");
+        eventLog.setLevel(Level.INFO);
+        events.start();
+        eventLog.addAppender(events);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventLog.detachAppender(events);
+        eventLog.setLevel(null);
+    }
+
+    @DisplayName("샘플링 비율이 0이면 이벤트 없이 지표만, 1이면 모든 요청을 이벤트로 남긴다")
+    @Test
+    void sampling() {
+        new AuthTelemetry(meterRegistry, 0.0, 60000)
+                .record(Stage.JWT, Outcome.AUTHENTICATED, request(), EMPLOYEE_NUMBER, null, System.nanoTime());
+        assertTrue(events.list.isEmpty());
+        assertEquals(1, timerCount("inflow.auth.jwt", "authenticated"));
+
+        new AuthTelemetry(meterRegistry, 1.0, 60000)
+                .record(Stage.JWT, Outcome.AUTHENTICATED, request(), EMPLOYEE_NUMBER, null, System.nanoTime());
+        assertEquals(1, events.list.size());
+        assertTrue(events.list.get(0).getFormattedMessage().contains("outcome=authenticated"));
+    }
+
+    @DisplayName("추적 중인 사원은 샘플링과 관계없이 상세 이벤트를 남기고, 추적 시간이 지나면 자동으로 해제된다")
+    @Test
+    void perEmployeeTrace() throws InterruptedException {
+        AuthTelemetry telemetry = new AuthTelemetry(meterRegistry, 0.0, 50);
+        telemetry.startTrace(EMPLOYEE_NUMBER);
+
+        telemetry.record(Stage.JWT, Outcome.AUTHENTICATED, request(), EMPLOYEE_NUMBER, null, System.nanoTime());
+        telemetry.record(Stage.JWT, Outcome.AUTHENTICATED, request(), "202400002", null, System.nanoTime());
+        assertEquals(1, events.list.size());
+        String event = events.list.get(0).getFormattedMessage();
+        assertTrue(event.contains("employee=" + EMPLOYEE_NUMBER));
+        assertTrue(event.contains("agent=test-agent"));
+        assertEquals(List.of(EMPLOYEE_NUMBER), List.copyOf(telemetry.getTracedEmployees()));
+
+        Thread.sleep(100);
+        assertFalse(telemetry.isTraced(EMPLOYEE_NUMBER));
+        assertTrue(telemetry.getTracedEmployees().isEmpty());
+    }
+
+    @DisplayName("서명 검증 뒤 거부된 토큰은 REJECTED 지표/에러 코드와 함께 사번을 남겨 사원별 추적에 걸린다")
+    @Test
+    void rejectedTokenCarriesSubject() throws Exception {
+        AuthTelemetry telemetry = new AuthTelemetry(meterRegistry, 0.0, 60000);
+        telemetry.startTrace(EMPLOYEE_NUMBER);
+
+        AccessTokenClaims claims = new AccessTokenClaims(EMPLOYEE_NUMBER, 1L, List.of("ROLE_EMPLOYEE"),
+                System.currentTimeMillis(), System.currentTimeMillis() + 1800000);
+        JwtUtil jwtUtil = mock(JwtUtil.class);
+        when(jwtUtil.verifyAccessToken("token")).thenReturn(claims);
+        when(jwtUtil.getAuthentication(claims)).thenThrow(new CommonException(ErrorCode.INACTIVE_USER));
+        JwtFilter jwtFilter = new JwtFilter(null, jwtUtil, new RouteAuthorizationManager(), telemetry);
+
+        MockHttpServletRequest request = request();
+        request.addHeader("Authorization", "Bearer token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals(ErrorCode.INACTIVE_USER.getHttpStatus().value(), response.getStatus());
+        assertEquals(1, timerCount("inflow.auth.jwt", "rejected"));
+        assertEquals(1.0, meterRegistry.get("inflow.auth.errors").tag("code", "INACTIVE_USER").counter().count());
+        assertEquals(1, events.list.size());
+        String event = events.list.get(0).getFormattedMessage();
+        assertTrue(event.contains("outcome=rejected"));
+        assertTrue(event.contains("code=INACTIVE_USER"));
+        assertTrue(event.contains("employee=" + EMPLOYEE_NUMBER));
+    }
+
+    private long timerCount(String name, String outcome) {
+        return meterRegistry.get(name).tag("outcome", outcome).timer().count();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees/1");
+        request.setServletPath("/api/employees/1");
+        request.addHeader("User-Agent", "test-agent");
+        return request;
+    }
+}
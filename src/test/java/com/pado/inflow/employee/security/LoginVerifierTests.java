@@ -0,0 +1,92 @@
+package com.pado.inflow.employee.security;
+
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/* 설명. 로그인 검증 풀의 대기열 초과 처리와 지표
+ *  스레드 1개, 대기열 1칸짜리 풀에서 BCrypt 검증을 래치로 붙잡아 풀을 가득 채운다.
+ */
+class LoginVerifierTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BCryptPasswordEncoder encoder;
+    private LoginVerifier loginVerifier;
+
+    @BeforeEach
+    void setUp() {
+        encoder = mock(BCryptPasswordEncoder.class);
+        when(encoder.matches(anyString(), anyString())).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+        loginVerifier = new LoginVerifier(encoder, meterRegistry, 1, 1, 5000, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        loginVerifier.shutdown();
+    }
+
+    @DisplayName("실행 중 1건 + 대기 1건으로 풀이 가득 차면 다음 로그인은 503으로 바로 거절하고 거절 수를 센다")
+    @Test
+    void rejectsWhenSaturated() throws Exception {
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> loginVerifier.matches("pw", "hash"));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> loginVerifier.matches("pw", "hash"));
+        awaitQueueDepth(1);
+
+        CommonException e = assertThrows(CommonException.class, () -> loginVerifier.matches("pw", "hash"));
+        assertEquals(ErrorCode.LOGIN_OVERLOADED, e.getErrorCode());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getErrorCode().getHttpStatus());
+        assertEquals(1.0, meterRegistry.get("inflow.login.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+
+        // 설명. 거절된 요청은 풀에 들어가지 않았으므로 대기/검증 시간은 두 건만 기록된다.
+        assertEquals(2, meterRegistry.get("inflow.login.queue.wait").timer().count());
+        assertEquals(2, meterRegistry.get("inflow.login.bcrypt").timer().count());
+        // 설명. 대기열에 있던 요청은 앞선 검증이 끝날 때까지 기다렸다.
+        assertTrue(meterRegistry.get("inflow.login.queue.wait").timer().max(TimeUnit.MILLISECONDS) > 0);
+    }
+
+    @DisplayName("검증이 시간 안에 끝나지 않으면 503으로 응답하고 거절 수를 센다")
+    @Test
+    void rejectsOnTimeout() {
+        LoginVerifier impatient = new LoginVerifier(encoder, meterRegistry, 1, 1, 50, 3);
+        try {
+            CommonException e = assertThrows(CommonException.class, () -> impatient.matches("pw", "hash"));
+            assertEquals(ErrorCode.LOGIN_OVERLOADED, e.getErrorCode());
+            assertEquals(1.0, meterRegistry.get("inflow.login.rejected").counter().count());
+        } finally {
+            impatient.shutdown();
+        }
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("inflow.login.queue.depth").gauge().value() < depth) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("대기열이 차지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.pado.inflow.employee.security;
+
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.exception.ErrorCode;
+import com.pado.inflow.employee.info.command.application.service.EmployeeCommandService;
+import com.pado.inflow.employee.info.command.domain.aggregate.entity.Employee;
+import com.pado.inflow.employee.info.command.domain.repository.EmployeeRepository;
+import com.pado.inflow.employee.info.enums.EmployeeRole;
+import com.pado.inflow.employee.info.enums.ResignationStatus;
+import com.pado.inflow.employee.security.dto.AccessTokenClaims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/* 설명. claims 전용 모드에서 두 서버(JwtUtil + PrincipalCache)가 하나의 사원 단위 폐기 기록을 나눠 쓰는 상황
+ *  폐기 기록은 사번 하나의 폐기 시각으로 흉내 낸다.
+ */
+class PrincipalCacheTests {
+
+    private static final String EMPLOYEE_NUMBER = "202400001";
+    private static final long RECHECK_INTERVAL = 50;
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+    private final AtomicReference<LocalDateTime> revokedAt = new AtomicReference<>();
+    private TokenRevocationService tokenRevocationService;
+    private EmployeeCommandService employeeService;
+    private JwtUtil nodeA;
+    private JwtUtil nodeB;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = mock(TokenRevocationService.class);
+        when(tokenRevocationService.findEmployeeRevokedAt(EMPLOYEE_NUMBER))
+                .thenAnswer(invocation -> Optional.ofNullable(revokedAt.get()));
+        employeeService = mock(EmployeeCommandService.class);
+        when(employeeService.loadUserByUsername(EMPLOYEE_NUMBER))
+                .thenReturn(new User(EMPLOYEE_NUMBER, "password", List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE"))));
+
+        nodeA = node(tokenRevocationService);
+        nodeB = node(tokenRevocationService);
+    }
+
+    @DisplayName("폐기 기록이 없으면 claims로 인증하고 DB를 읽지 않는다")
+    @Test
+    void claimsOnlyWithoutRevocation() throws InterruptedException {
+        assertEquals("ROLE_ADMIN", authority(nodeA.getAuthentication(adminClaims(System.currentTimeMillis()))));
+        Thread.sleep(RECHECK_INTERVAL * 2);
+        assertEquals("ROLE_ADMIN", authority(nodeA.getAuthentication(adminClaims(System.currentTimeMillis()))));
+
+        verify(employeeService, never()).loadUserByUsername(EMPLOYEE_NUMBER);
+    }
+
+    @DisplayName("다른 서버에서 권한이 바뀌면 recheck-interval 뒤에는 캐시 대신 DB의 권한을 쓴다")
+    @Test
+    void revocationOnOtherNode() throws InterruptedException {
+        long issuedAt = System.currentTimeMillis();
+        assertEquals("ROLE_ADMIN", authority(nodeA.getAuthentication(adminClaims(issuedAt))));
+
+        // 노드 B에서 강등 처리: 로컬 무효화 표시는 B에만, 폐기 기록은 공유 저장소에 남는다.
+        revokedAt.set(LocalDateTime.now());
+        Thread.sleep(RECHECK_INTERVAL * 2);
+
+        assertEquals("ROLE_EMPLOYEE", authority(nodeA.getAuthentication(adminClaims(issuedAt))));
+        // 캐시가 없는 서버도 폐기 기록이 있으면 강등 이전 토큰의 claims를 믿지 않는다.
+        assertEquals("ROLE_EMPLOYEE", authority(nodeB.getAuthentication(adminClaims(issuedAt))));
+        verify(employeeService, times(2)).loadUserByUsername(EMPLOYEE_NUMBER);
+    }
+
+    @DisplayName("폐기 이후에 발급된 토큰은 캐시가 없어도 claims로 인증하고 DB를 읽지 않는다")
+    @Test
+    void tokenIssuedAfterRevocation() throws InterruptedException {
+        revokedAt.set(LocalDateTime.now());
+        Thread.sleep(RECHECK_INTERVAL * 2);
+
+        // 설명. 재로그인으로 받은 새 토큰 (이미 바뀐 권한이 claims에 들어 있다)
+        assertEquals("ROLE_ADMIN", authority(nodeA.getAuthentication(adminClaims(System.currentTimeMillis()))));
+        assertEquals("ROLE_ADMIN", authority(nodeB.getAuthentication(adminClaims(System.currentTimeMillis()))));
+        verify(employeeService, never()).loadUserByUsername(EMPLOYEE_NUMBER);
+    }
+
+    @DisplayName("퇴사한 사원은 비활성 계정으로 읽혀 폐기 이전 토큰으로 인증할 수 없다")
+    @Test
+    void resignedEmployeeIsRejected() {
+        Employee employee = new Employee();
+        employee.setEmployeeNumber(EMPLOYEE_NUMBER);
+        employee.setPassword("password");
+        employee.setEmployeeRole(EmployeeRole.EMPLOYEE);
+        employee.setResignationStatus(ResignationStatus.Y);
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.findByEmployeeNumber(EMPLOYEE_NUMBER)).thenReturn(Optional.of(employee));
+        employeeService = new EmployeeCommandService(employeeRepository, null, null, null, null, null, null,
+                mock(PrincipalCache.class), tokenRevocationService);
+        JwtUtil node = node(tokenRevocationService);
+
+        assertFalse(employeeService.loadUserByUsername(EMPLOYEE_NUMBER).isEnabled());
+
+        long issuedAt = System.currentTimeMillis();
+        revokedAt.set(LocalDateTime.now());
+        CommonException e = assertThrows(CommonException.class,
+                () -> node.getAuthentication(adminClaims(issuedAt)));
+        assertEquals(ErrorCode.INACTIVE_USER, e.getErrorCode());
+    }
+
+    private JwtUtil node(TokenRevocationService tokenRevocationService) {
+        PrincipalCache principalCache = new PrincipalCache(100, 600000, RECHECK_INTERVAL, 1800000);
+        return new JwtUtil(SECRET, SECRET, 1800000, 604800000, true, 100,
+                employeeService, mock(EmployeeRepository.class), principalCache, tokenRevocationService);
+    }
+
+    private static AccessTokenClaims adminClaims(long issuedAt) {
+        return new AccessTokenClaims(EMPLOYEE_NUMBER, 1L, List.of("ROLE_ADMIN"), issuedAt,
+                issuedAt + 1800000);
+    }
+
+    private static String authority(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,310 @@
+package com.pado.inflow.employee.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.access.intercept.RequestMatcherDelegatingAuthorizationManager;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteAuthorizationTableTests {
+
+    private static final List<String> METHODS = List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS");
+
+    private static final String[] ALL_ROLES = {"EMPLOYEE", "HR", "MANAGER", "ADMIN"};
+
+    /* 설명. 트라이 전환 이전 WebSecurity.authorizeHttpRequests 체인을 그대로 옮긴 목록 (pattern, method, permitAll)
+     *  RouteRules와 독립적으로 기대값을 만들기 위해 따로 적어 둔다. hasAnyRole은 모두 ALL_ROLES였다.
+     *  중복 선언된 평가 도메인 규칙은 먼저 선언된 것만 남겼다. (뒤의 중복은 어떤 요청에도 먼저 일치하지 않는다)
+     */
+    private static final String[][] BASELINE_CHAIN = {
+            {"/actuator/health", "GET", "permitAll"},
+            {"/api/login", "POST", "permitAll"},
+            {"/api/auth/**", "POST", "permitAll"},
+            {"/api/employees/**", "GET"}, {"/api/employees/**", "POST"}, {"/api/employees/**", "DELETE"},
+            {"/api/employees/**", "PUT"}, {"/api/employees/**", "PATCH"},
+            {"/api/appointments/**", "GET"}, {"/api/appointments/**", "POST"}, {"/api/appointments/**", "DELETE"},
+            {"/api/appointments/**", "PUT"}, {"/api/appointments/**", "PATCH"},
+            {"/api/companies/**", "GET"},
+            {"/api/forms/**", "GET"},
+            {"/api/validations/**", "GET"},
+            {"/api/departments/hierarchy/**", "GET"},
+            {"/api/departments/search/members/**", "GET"},
+            {"/api/departments/search/members/detail/employee-code/**", "GET"},
+            {"/api/departments/search/members/detail/department-code/**", "GET"},
+            {"/api/departments/search/departments/**", "GET"},
+            {"/api/departments/dropdown/**", "GET"},
+            {"/api/departments/my-department/*/members/**", "GET"},
+            {"/api/departments/**", "DELETE"},
+            {"/api/departments/add-department/**", "POST"},
+            {"/api/departments/**", "PATCH"},
+            {"/api/attendance-requests/**", "GET"}, {"/api/attendance-requests/**", "POST"},
+            {"/api/attendance-requests/**", "DELETE"}, {"/api/attendance-requests/**", "PUT"},
+            {"/api/attendance-requests/**", "PATCH"},
+            {"/api/vacations/**", "GET"}, {"/api/vacations/**", "POST"}, {"/api/vacations/**", "DELETE"},
+            {"/api/vacations/**", "PUT"}, {"/api/vacations/**", "PATCH"},
+            {"/api/evaluations/taskType/allTaskType", "GET"},
+            {"/api/evaluations/taskType/create", "POST"},
+            {"/api/evaluations/taskType/**", "PATCH"},
+            {"/api/evaluations/taskType/**", "DELETE"},
+            {"/api/evaluations/taskItem/departmentTasks", "GET"},
+            {"/api/evaluations/taskItem/departmentTask", "GET"},
+            {"/api/evaluations/taskItem/individualTasks", "GET"},
+            {"/api/evaluations/taskItem/individualTask/**", "GET"},
+            {"/api/evaluations/taskItem/AllTaskItems/**", "GET"},
+            {"/api/evaluations/taskItem/commonTasks", "GET"},
+            {"/api/evaluations/taskItem/commonTask/**", "GET"},
+            {"/api/evaluations/taskItem/TaskItems/**", "GET"},
+            {"/api/evaluations/taskEval/**", "GET"},
+            {"/api/evaluations/taskEval/byEvaluationId/**", "GET"},
+            {"/api/evaluations/taskEval/**", "POST"},
+            {"/api/evaluations/taskEval/**", "PATCH"},
+            {"/api/evaluations/grade/**", "GET"},
+            {"/api/evaluations/feedback/**", "GET"},
+            {"/api/evaluations/feedback/**", "POST"},
+            {"/api/evaluations/feedback/**", "PATCH"},
+            {"/api/evaluations/evaluationPolicy/policySearch", "GET"},
+            {"/api/evaluations/evaluationPolicy/**", "GET"},
+            {"/api/evaluations/evaluationPolicy/**", "PATCH"},
+            {"/api/evaluations/evaluationPolicy/**", "DELETE"},
+            {"/api/evaluations/evaluationPolicy/policyCreation", "POST"},
+            {"/api/evaluations/evaluation/**", "GET"},
+            {"/api/evaluations/taskTypeEval/**", "GET"},
+            {"/api/payrolls/details", "GET"},
+            {"/api/payrolls/all", "GET"},
+            {"/api/payrolls/**", "POST"}, {"/api/payrolls/**", "DELETE"},
+            {"/api/payrolls/**", "PUT"}, {"/api/payrolls/**", "PATCH"},
+            {"/api/payrolls/period", "GET"},
+            {"/api/payrolls/list", null},
+            {"/api/non-taxable-payrolls/**", "GET"},
+            {"/api/non-taxable-payrolls/**", "POST"},
+            {"/api/non-taxable-payrolls/**", "PUT"},
+            {"/api/irregular-allowances/**", "GET"},
+            {"/api/irregular-allowances/**", "POST"},
+            {"/api/irregular-allowances/**", "PUT"},
+            {"/api/severance-pay/estimate/**", "GET"},
+            {"/api/severance-pay/calculate/**", "GET"},
+            {"/api/statistics/**", "GET"}, {"/api/statistics/**", "POST"}, {"/api/statistics/**", "DELETE"},
+            {"/api/statistics/**", "PUT"}, {"/api/statistics/**", "PATCH"},
+    };
+
+    // 설명. 트라이 전환 이후에 의도적으로 추가된 규칙 (기존 체인과 비교하지 않고 pinnedDecisions에서 따로 확인)
+    private static final List<AntPathRequestMatcher> ADDED_AFTER_BASELINE = List.of(
+            new AntPathRequestMatcher("/actuator/authtrace/**"),
+            new AntPathRequestMatcher("/actuator/vacationbatch/**"),
+            new AntPathRequestMatcher("/api/commutes/summary/rebuild", "POST"),
+            new AntPathRequestMatcher("/api/commutes/bulk", "POST"));
+
+    private final List<RouteRule> rules = RouteRules.defaults();
+    private final RouteAuthorizationTable table = new RouteAuthorizationTable(rules);
+    private final RouteAuthorizationManager manager = new RouteAuthorizationManager();
+
+    @DisplayName("(메서드, 경로, 역할)별 인가 결과가 트라이 전환 이전 WebSecurity 체인과 같은지 확인")
+    @Test
+    void matchesBaselineWebSecurityChain() {
+        AuthorizationManager<HttpServletRequest> baseline = baselineChain();
+        Set<String> paths = samplePaths();
+        for (String[] entry : BASELINE_CHAIN) {
+            paths.addAll(pathsAround(entry[0].replace("*/", "7/")));
+        }
+
+        int compared = 0;
+        for (String path : paths) {
+            for (String method : METHODS) {
+                MockHttpServletRequest request = request(method, path);
+                if (ADDED_AFTER_BASELINE.stream().anyMatch(matcher -> matcher.matches(request))) {
+                    continue;
+                }
+                for (Map.Entry<String, Authentication> user : users().entrySet()) {
+                    boolean expected = baseline.check(user::getValue, request).isGranted();
+                    boolean actual = manager.check(user::getValue, new RequestAuthorizationContext(request)).isGranted();
+                    assertEquals(expected, actual, method + " " + path + " as " + user.getKey());
+                    compared++;
+                }
+            }
+        }
+        assertTrue(compared > 1000, "비교한 경우의 수가 너무 적다: " + compared);
+    }
+
+    @DisplayName("대표 (메서드, 경로, 역할) 조합의 인가 결과")
+    @Test
+    void pinnedDecisions() {
+        Object[][] cases = {
+                // 기존 체인에서 옮긴 규칙
+                {"GET", "/actuator/health", "anonymous", true},
+                {"POST", "/actuator/health", "anonymous", false},
+                {"POST", "/api/login", "anonymous", true},
+                {"GET", "/api/login", "anonymous", false},
+                {"POST", "/api/auth/refresh", "anonymous", true},
+                {"GET", "/api/employees/1", "anonymous", false},
+                {"GET", "/api/employees/1", "EMPLOYEE", true},
+                {"GET", "/api/employees/1", "GUEST", false},
+                {"POST", "/api/companies/1", "GUEST", true},          // 규칙 없음 -> 인증만 필요
+                {"GET", "/api/departments/my-department/10/members/1", "MANAGER", true},
+                {"GET", "/api/departments/my-department/10/members/1", "GUEST", false},
+                {"GET", "/api/departments/my-department/10/other", "GUEST", true},
+                {"POST", "/api/departments/add-department", "HR", true},
+                {"POST", "/api/departments/other", "GUEST", true},
+                {"GET", "/api/evaluations/taskType/allTaskType", "GUEST", false},
+                {"GET", "/api/evaluations/taskType/allTaskType/1", "GUEST", true},
+                {"DELETE", "/api/payrolls/list", "GUEST", false},      // 메서드 없는 규칙
+                {"DELETE", "/api/payrolls/list", "ADMIN", true},
+                {"GET", "/api/unknown", "anonymous", false},
+                {"GET", "/api/unknown", "GUEST", true},
+                // 트라이 전환 이후 추가된 규칙
+                {"GET", "/actuator/vacationbatch", "HR", false},
+                {"POST", "/actuator/vacationbatch/1", "ADMIN", true},
+                {"GET", "/actuator/authtrace", "EMPLOYEE", false},
+                {"POST", "/api/commutes/bulk", "EMPLOYEE", false},
+                {"POST", "/api/commutes/bulk", "HR", true},
+                {"POST", "/api/commutes/summary/rebuild", "MANAGER", false},
+                {"POST", "/api/commutes/summary/rebuild", "ADMIN", true},
+        };
+
+        Map<String, Authentication> users = users();
+        for (Object[] c : cases) {
+            MockHttpServletRequest request = request((String) c[0], (String) c[1]);
+            Authentication user = users.get((String) c[2]);
+            assertEquals(c[3], manager.check(() -> user, new RequestAuthorizationContext(request)).isGranted(),
+                    c[0] + " " + c[1] + " as " + c[2]);
+        }
+    }
+
+    @DisplayName("컴파일된 테이블과 기존 AntPathRequestMatcher 체인의 결과가 같은지 확인")
+    @Test
+    void matchesLinearAntPathChain() {
+        List<AntPathRequestMatcher> matchers = new ArrayList<>();
+        for (RouteRule rule : rules) {
+            matchers.add(new AntPathRequestMatcher(rule.pattern(), rule.method()));
+        }
+
+        for (String path : samplePaths()) {
+            for (String method : METHODS) {
+                MockHttpServletRequest request = request(method, path);
+
+                RouteRule expected = null;
+                for (int i = 0; i < matchers.size(); i++) {
+                    if (matchers.get(i).matches(request)) {
+                        expected = rules.get(i);
+                        break;
+                    }
+                }
+
+                assertSame(expected, table.match(request), method + " " + path);
+            }
+        }
+    }
+
+    @DisplayName("먼저 선언된 규칙이 우선한다")
+    @Test
+    void firstDeclaredRuleWins() {
+        RouteRule specific = RouteRule.permitAll("/api/items/public", "GET");
+        RouteRule broad = RouteRule.hasAnyRole("/api/items/**", "GET", "ADMIN");
+        RouteRule anyMethod = RouteRule.hasAnyRole("/api/**", null, "HR");
+        RouteAuthorizationTable table = new RouteAuthorizationTable(List.of(anyMethod, specific, broad));
+
+        assertSame(anyMethod, table.match("GET", "/api/items/public"));
+
+        table = new RouteAuthorizationTable(List.of(specific, broad, anyMethod));
+        assertSame(specific, table.match("GET", "/api/items/public"));
+        assertSame(broad, table.match("GET", "/api/items/1"));
+        assertSame(broad, table.match("GET", "/api/items"));
+        assertSame(anyMethod, table.match("POST", "/api/items/1"));
+        assertNull(table.match("GET", "/apix/items"));
+        assertNull(table.match("GET", "/api/items/public/"), "리터럴 패턴은 끝의 '/'를 허용하지 않는다");
+    }
+
+    @DisplayName("지원하지 않는 패턴은 기동 시점에 거부한다")
+    @Test
+    void rejectsUnsupportedPatterns() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RouteAuthorizationTable(List.of(RouteRule.permitAll("/api/**/items", "GET"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RouteAuthorizationTable(List.of(RouteRule.permitAll("/api/item*", "GET"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RouteAuthorizationTable(List.of(RouteRule.permitAll("api/items", "GET"))));
+    }
+
+    // 설명. 규칙의 패턴에서 경계 근처의 경로(정확히 일치, 하위 경로, 끝 '/', 접두어만 같은 경로 등)를 만든다.
+    private Set<String> samplePaths() {
+        Set<String> paths = new LinkedHashSet<>();
+        paths.add("/");
+        paths.add("/api");
+        paths.add("/api/unknown");
+        paths.add("/actuator/info");
+        for (RouteRule rule : rules) {
+            paths.addAll(pathsAround(rule.pattern()));
+        }
+        return paths;
+    }
+
+    private static Set<String> pathsAround(String pattern) {
+        Set<String> paths = new LinkedHashSet<>();
+        String base = pattern.endsWith("/**") ? pattern.substring(0, pattern.length() - 3) : pattern;
+        paths.add(base);
+        paths.add(base + "/");
+        paths.add(base + "/1");
+        paths.add(base + "/1/detail");
+        paths.add(base + "x");
+        paths.add(base + "x/1");
+        paths.add(base.toUpperCase());
+        int lastSlash = base.lastIndexOf('/');
+        if (lastSlash > 0) {
+            paths.add(base.substring(0, lastSlash));
+            paths.add(base.substring(0, lastSlash) + "/other");
+        }
+        return paths;
+    }
+
+    // 설명. BASELINE_CHAIN으로 authorizeHttpRequests DSL이 만들던 것과 같은 인가 관리자를 구성한다.
+    private static AuthorizationManager<HttpServletRequest> baselineChain() {
+        RequestMatcherDelegatingAuthorizationManager.Builder builder = RequestMatcherDelegatingAuthorizationManager.builder();
+        AuthorizationManager<RequestAuthorizationContext> permitAll = (authentication, context) -> new AuthorizationDecision(true);
+        AuthorizationManager<RequestAuthorizationContext> hasAnyRole = AuthorityAuthorizationManager.hasAnyRole(ALL_ROLES);
+        for (String[] entry : BASELINE_CHAIN) {
+            builder.add(new AntPathRequestMatcher(entry[0], entry[1]), entry.length > 2 ? permitAll : hasAnyRole);
+        }
+        builder.add(AnyRequestMatcher.INSTANCE, AuthenticatedAuthorizationManager.authenticated());
+        return builder.build();
+    }
+
+    private static Map<String, Authentication> users() {
+        Map<String, Authentication> users = new LinkedHashMap<>();
+        users.put("anonymous", new AnonymousAuthenticationToken("key", "anonymousUser",
+                List.of(new SimpleGrantedAuthority("ROLE_ANONYMOUS"))));
+        for (String role : List.of("EMPLOYEE", "HR", "MANAGER", "ADMIN", "GUEST")) {
+            users.put(role, new UsernamePasswordAuthenticationToken("202400001", null,
+                    List.of(new SimpleGrantedAuthority("ROLE_" + role))));
+        }
+        return users;
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
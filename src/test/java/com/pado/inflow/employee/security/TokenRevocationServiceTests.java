@@ -0,0 +1,116 @@
+package com.pado.inflow.employee.security;
+
+import com.pado.inflow.common.exception.CommonException;
+import com.pado.inflow.common.schedule.SchedulerLock;
+import com.pado.inflow.employee.info.command.domain.aggregate.entity.TokenRevocation;
+import com.pado.inflow.employee.info.command.domain.repository.TokenRevocationRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/* 설명. 리프레시 토큰 폐기 판정
+ *  token_revocation 테이블은 키 -> 항목 맵으로 흉내 낸다.
+ */
+class TokenRevocationServiceTests {
+
+    private static final String EMPLOYEE_NUMBER = "202400001";
+    private static final long REFRESH_EXPIRATION = 7L * 24 * 60 * 60 * 1000;
+
+    private final Map<String, TokenRevocation> table = new HashMap<>();
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of());
+        when(repository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(table.get(invocation.<String>getArgument(0))));
+        when(repository.upsert(anyString(), any(), any())).thenAnswer(invocation -> save(
+                invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), true));
+        when(repository.insertIfAbsent(anyString(), any(), any())).thenAnswer(invocation -> save(
+                invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), false));
+
+        tokenRevocationService = new TokenRevocationService(repository, 1000, 0.01, REFRESH_EXPIRATION,
+                30000, mock(SchedulerLock.class));
+        tokenRevocationService.rebuild();
+    }
+
+    @DisplayName("폐기 시각 이후(밀리초)에 발급된 토큰만 통과하고, 같은 초라도 폐기 이전에 발급된 토큰은 거부한다")
+    @Test
+    void issuedBeforeRevocationInSameSecondIsRejected() {
+        tokenRevocationService.revokeEmployee(EMPLOYEE_NUMBER);
+        LocalDateTime revokedAt = table.get("E:" + EMPLOYEE_NUMBER).getRevokedAt();
+
+        assertDoesNotThrow(() -> tokenRevocationService.verifyEmployee(EMPLOYEE_NUMBER, toDate(revokedAt.plusNanos(1_000_000))));
+        assertThrows(CommonException.class,
+                () -> tokenRevocationService.verifyEmployee(EMPLOYEE_NUMBER, toDate(revokedAt)));
+        assertThrows(CommonException.class,
+                () -> tokenRevocationService.verifyEmployee(EMPLOYEE_NUMBER, toDate(revokedAt.minusNanos(1_000_000))));
+        // 설명. iat_ms가 없는 예전 토큰: 초 단위 iat는 폐기와 같은 초 안이면 거부
+        assertThrows(CommonException.class,
+                () -> tokenRevocationService.verifyEmployee(EMPLOYEE_NUMBER, toDate(revokedAt.withNano(0))));
+    }
+
+    @DisplayName("발급 시각은 iat_ms가 있으면 밀리초로, 없으면 초 단위 iat로 읽는다")
+    @Test
+    void issuedAtPrefersMillisClaim() {
+        Date issuedAt = new Date(1_700_000_000_123L);
+        Claims withMillis = Jwts.claims().setIssuedAt(new Date(1_700_000_000_000L));
+        withMillis.put(JwtUtil.ISSUED_AT_MILLIS, issuedAt.getTime());
+        Claims legacy = Jwts.claims().setIssuedAt(new Date(1_700_000_000_000L));
+
+        assertEquals(issuedAt, JwtUtil.issuedAt(withMillis));
+        assertEquals(new Date(1_700_000_000_000L), JwtUtil.issuedAt(legacy));
+    }
+
+    @DisplayName("회전 직후 유예 시간 안의 재사용이라도 사원 단위 폐기 이전에 발급된 토큰이면 거부한다")
+    @Test
+    void reuseGraceDoesNotBypassEmployeeRevocation() {
+        Date issuedAt = toDate(LocalDateTime.now().withNano(0).minusMinutes(1));
+        Date expiresAt = toDate(LocalDateTime.now().plusDays(1));
+
+        tokenRevocationService.verifyAndRotate("jti-1", "family-1", EMPLOYEE_NUMBER, issuedAt, expiresAt);
+        // 여러 탭의 동시 갱신: 유예 시간 안의 재사용은 허용
+        assertDoesNotThrow(() -> tokenRevocationService.verifyAndRotate(
+                "jti-1", "family-1", EMPLOYEE_NUMBER, issuedAt, expiresAt));
+
+        tokenRevocationService.revokeEmployee(EMPLOYEE_NUMBER);
+
+        assertThrows(CommonException.class, () -> tokenRevocationService.verifyAndRotate(
+                "jti-1", "family-1", EMPLOYEE_NUMBER, issuedAt, expiresAt));
+    }
+
+    private int save(String key, LocalDateTime revokedAt, LocalDateTime expiresAt, boolean overwrite) {
+        if (!overwrite && table.containsKey(key)) {
+            return 0;
+        }
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.setRevocationKey(key);
+        revocation.setRevokedAt(revokedAt);
+        revocation.setExpiresAt(expiresAt);
+        table.put(key, revocation);
+        return 1;
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
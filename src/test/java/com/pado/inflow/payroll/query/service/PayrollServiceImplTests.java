@@ -0,0 +1,42 @@
+package com.pado.inflow.payroll.query.service;
+
+import com.pado.inflow.common.counter.CounterDomain;
+import com.pado.inflow.common.counter.RequestCounterService;
+import com.pado.inflow.payroll.query.dto.AllPaymentsDTO;
+import com.pado.inflow.payroll.query.dto.PageDTO;
+import com.pado.inflow.payroll.query.repository.PayrollMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PayrollServiceImplTests {
+
+    @DisplayName("급여 전체 개수는 보정 구간 이전 카운터 합에 보정 구간의 실제 급여 건수를 더한다")
+    @Test
+    void totalCombinesCountersAndRecentPayments() {
+        YearMonth reconcileFrom = YearMonth.of(2024, 9);
+        RequestCounterService requestCounterService = mock(RequestCounterService.class);
+        when(requestCounterService.getReconcileFromMonth()).thenReturn(reconcileFrom);
+        when(requestCounterService.getTotalCountBefore(
+                CounterDomain.PAYMENT, 1L, RequestCounterService.NO_TYPE, reconcileFrom)).thenReturn(20);
+
+        PayrollMapper payrollMapper = mock(PayrollMapper.class);
+        // 설명. 오늘 새로 적재된 달까지 포함해 카운터 보정 전에도 반영된다.
+        when(payrollMapper.countPaymentsSince(1L, reconcileFrom.atDay(1).atStartOfDay())).thenReturn(3);
+        when(payrollMapper.findPaymentsByEmployeeId(eq(1L), anyInt(), anyInt()))
+                .thenReturn(List.of(new AllPaymentsDTO()));
+
+        PageDTO<AllPaymentsDTO> page = new PayrollServiceImpl(payrollMapper, requestCounterService)
+                .findPaymentsByEmployeeId(1L, 1);
+
+        assertEquals(23, page.getTotal());
+    }
+}
@@ -0,0 +1,132 @@
+package com.pado.inflow.statistics.command.domain.aggregate.component;
+
+import com.pado.inflow.statistics.command.domain.aggregate.dto.HeadcountCohort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeadcountSweepTests {
+
+    @DisplayName("무작위 사원 데이터에서 기존 (연도 x 12개월 x 사원) 계산과 결과가 같다")
+    @Test
+    void sameAsMonthByMonthScan() {
+        Random random = new Random(20241101L);
+        List<Cohort> employees = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int inYear = 2010 + random.nextInt(15);
+            int inMonth = 1 + random.nextInt(12);
+            if (random.nextInt(3) == 0) {
+                // 퇴사일 앞뒤가 뒤집힌 데이터, 퇴사 여부 N인데 퇴사일만 있는 데이터도 섞는다.
+                int leftYear = inYear - 1 + random.nextInt(6);
+                employees.add(new Cohort(inYear, inMonth, random.nextInt(5) == 0 ? "N" : "Y",
+                        leftYear, 1 + random.nextInt(12), 1L));
+            } else {
+                employees.add(new Cohort(inYear, inMonth, "N", null, null, 1L));
+            }
+        }
+
+        HeadcountSweep sweep = HeadcountSweep.of(employees);
+
+        TreeSet<Integer> years = new TreeSet<>();
+        employees.forEach(employee -> {
+            years.add(employee.getInYear());
+            if (employee.getLeftYear() != null) {
+                years.add(employee.getLeftYear());
+            }
+        });
+        for (int y = sweep.getFirstYear(); y <= sweep.getLastYear(); y++) {
+            assertEquals(years.contains(y), sweep.hasYear(y));
+        }
+        for (int y : years) {
+            for (int m = 1; m <= 12; m++) {
+                long[] expected = scan(employees, y, m);
+                assertEquals(expected[0], sweep.total(y, m), y + "-" + m + " 재직");
+                assertEquals(expected[1], sweep.joined(y, m), y + "-" + m + " 입사");
+                assertEquals(expected[2], sweep.left(y, m), y + "-" + m + " 퇴사");
+            }
+        }
+    }
+
+    @DisplayName("같은 연월끼리 묶은 사원 수도 한 명씩 넣은 것과 같게 계산하고, 빈 연도는 통계 연도가 아니다")
+    @Test
+    void groupedCohorts() {
+        HeadcountSweep sweep = HeadcountSweep.of(List.of(
+                new Cohort(2020, 3, "N", null, null, 4L),
+                new Cohort(2020, 3, "Y", 2023, 1, 2L)));
+
+        assertEquals(0, sweep.total(2020, 2));
+        assertEquals(6, sweep.total(2020, 3));
+        assertEquals(6, sweep.joined(2020, 3));
+        assertEquals(6, sweep.total(2022, 12));
+        assertEquals(4, sweep.total(2023, 1));
+        assertEquals(2, sweep.left(2023, 1));
+        assertTrue(sweep.hasYear(2020));
+        assertFalse(sweep.hasYear(2021));
+        assertTrue(sweep.hasYear(2023));
+    }
+
+    @DisplayName("사원이 없으면 통계 연도도 없다")
+    @Test
+    void empty() {
+        HeadcountSweep sweep = HeadcountSweep.of(List.of());
+
+        assertTrue(sweep.getFirstYear() > sweep.getLastYear());
+    }
+
+    // 설명. 기존 EmployeeNumServiceImpl.calculate의 한 달 계산 (재직, 입사, 퇴사)
+    private static long[] scan(List<Cohort> employees, int y, int m) {
+        long tot = 0, in = 0, out = 0;
+        for (Cohort em : employees) {
+            if (em.getInYear() == y && em.getInMonth() == m) in++;
+            if ("Y".equals(em.getLeftStatus()) && em.getLeftYear() == y && em.getLeftMonth() == m) out++;
+            if (((em.getInYear() < y) || (em.getInYear() == y && em.getInMonth() <= m)) &&
+                    ((em.getLeftYear() == null) || (em.getLeftYear() > y) ||
+                            (em.getLeftYear() == y && em.getLeftMonth() > m))) {
+                tot++;
+            }
+        }
+        return new long[]{tot, in, out};
+    }
+
+    private record Cohort(Integer inYear, Integer inMonth, String leftStatus,
+                          Integer leftYear, Integer leftMonth, Long employeeCount) implements HeadcountCohort {
+
+        @Override
+        public Integer getInYear() {
+            return inYear;
+        }
+
+        @Override
+        public Integer getInMonth() {
+            return inMonth;
+        }
+
+        @Override
+        public String getLeftStatus() {
+            return leftStatus;
+        }
+
+        @Override
+        public Integer getLeftYear() {
+            return leftYear;
+        }
+
+        @Override
+        public Integer getLeftMonth() {
+            return leftMonth;
+        }
+
+        @Override
+        public Long getEmployeeCount() {
+            return employeeCount;
+        }
+    }
+}
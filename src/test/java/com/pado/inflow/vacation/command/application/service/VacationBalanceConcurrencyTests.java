@@ -0,0 +1,168 @@
+package com.pado.inflow.vacation.command.application.service;
+
+import com.pado.inflow.vacation.command.domain.aggregate.entity.Vacation;
+import com.pado.inflow.vacation.command.domain.aggregate.type.ExpirationStatus;
+import com.pado.inflow.vacation.command.domain.repository.VacationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/* 설명. 잔여 휴가일수 동시성 스트레스 테스트
+ *  VacationRepository.deduct/credit의 실제 조건부 UPDATE를 여러 트랜잭션에서 동시에 실행해
+ *  잔여일수가 음수가 되지 않고, 성공한 차감/복구 건수와 최종 잔여일수가 맞는지 확인한다.
+ *  기존 휴가 행의 사원/정책/유형으로 테스트용 휴가 행을 만들고 끝나면 지우므로, 휴가 데이터가 있는 MariaDB가 필요하다.
+ *  INFLOW_EXPLAIN_TESTS=true 일 때만 실행된다. (MapperIndexExplainTests와 같은 DB)
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "INFLOW_EXPLAIN_TESTS", matches = "true")
+class VacationBalanceConcurrencyTests {
+
+    private static final int THREADS = 32;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private VacationRepository vacationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long vacationId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        List<Vacation> existing = vacationRepository.findAll(PageRequest.of(0, 1)).getContent();
+        assumeFalse(existing.isEmpty(), "테스트용 휴가 행을 만들 기존 휴가 데이터가 없습니다.");
+        Vacation template = existing.get(0);
+
+        Vacation vacation = new Vacation();
+        vacation.setVacationName("동시성 테스트");
+        vacation.setVacationLeft(0L);
+        vacation.setVacationUsed(0L);
+        vacation.setCreatedAt(LocalDate.now().atStartOfDay());
+        vacation.setExpiredAt(LocalDate.now().plusYears(1).atStartOfDay());
+        vacation.setExpirationStatus(ExpirationStatus.N);
+        vacation.setEmployeeId(template.getEmployeeId());
+        vacation.setVacationPolicyId(template.getVacationPolicyId());
+        vacation.setVacationTypeId(template.getVacationTypeId());
+        vacationId = vacationRepository.save(vacation).getVacationId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (vacationId != null) {
+            vacationRepository.deleteById(vacationId);
+        }
+    }
+
+    @DisplayName("동시에 차감해도 잔여일수는 음수가 되지 않고, 남은 일수만큼만 차감이 성공한다")
+    @Test
+    void parallelDeducts() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            reset(15L, 0L);
+            AtomicInteger deducted = new AtomicInteger();
+
+            runConcurrently(THREADS, () -> {
+                if (inTransaction(() -> vacationRepository.deduct(vacationId, 2)) == 1) {
+                    deducted.incrementAndGet();
+                }
+                return null;
+            });
+
+            Vacation vacation = reload();
+            assertEquals(7, deducted.get(), "round " + round);
+            assertEquals(1L, vacation.getVacationLeft(), "round " + round);
+            assertEquals(14L, vacation.getVacationUsed(), "round " + round);
+        }
+    }
+
+    @DisplayName("차감과 복구가 섞여도 잃어버리는 갱신 없이 잔여일수 + 사용일수가 보존된다")
+    @Test
+    void interleavedDeductsAndCredits() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            // 설명. 사용일수가 복구 총량보다 크게 시작해 GREATEST(.., 0) 보정이 끼어들지 않게 한다.
+            reset(3L, THREADS);
+            AtomicInteger deducted = new AtomicInteger();
+            AtomicInteger worker = new AtomicInteger();
+
+            runConcurrently(THREADS, () -> {
+                if (worker.getAndIncrement() % 2 == 0) {
+                    if (inTransaction(() -> vacationRepository.deduct(vacationId, 1)) == 1) {
+                        deducted.incrementAndGet();
+                    }
+                } else {
+                    assertEquals(1, inTransaction(() -> vacationRepository.credit(vacationId, 1)));
+                }
+                return null;
+            });
+
+            Vacation vacation = reload();
+            long credited = THREADS / 2;
+            assertEquals(3L - deducted.get() + credited, vacation.getVacationLeft(), "round " + round);
+            assertEquals(3L + THREADS, vacation.getVacationLeft() + vacation.getVacationUsed(), "round " + round);
+        }
+    }
+
+    private void reset(long left, long used) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Vacation vacation = vacationRepository.findById(vacationId).orElseThrow();
+            vacation.setVacationLeft(left);
+            vacation.setVacationUsed(used);
+            vacationRepository.save(vacation);
+        });
+    }
+
+    private Vacation reload() {
+        return vacationRepository.findById(vacationId).orElseThrow();
+    }
+
+    // 설명. 작업마다 서비스처럼 별도 트랜잭션에서 갱신
+    private int inTransaction(IntSupplier update) {
+        return transactionTemplate.execute(status -> update.getAsInt());
+    }
+
+    // 설명. 모든 작업이 함께 출발하도록 한 뒤 실행하고, 작업 안에서 난 실패는 그대로 던진다.
+    private static void runConcurrently(int threads, Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
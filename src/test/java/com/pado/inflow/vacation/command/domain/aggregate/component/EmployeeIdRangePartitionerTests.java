@@ -0,0 +1,75 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import com.pado.inflow.employee.info.command.domain.aggregate.entity.Employee;
+import com.pado.inflow.employee.info.command.domain.repository.EmployeeRepository;
+import com.pado.inflow.employee.info.enums.ResignationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeIdRangePartitionerTests {
+
+    @DisplayName("사원 ID 범위를 겹치지 않는 구간으로 빈틈없이 나눈다")
+    @Test
+    void splitIntoRanges() {
+        EmployeeRepository repository = repository(3L, 102L);
+
+        Map<String, ExecutionContext> partitions = new EmployeeIdRangePartitioner(repository).partition(4);
+
+        assertEquals(4, partitions.size());
+        long expectedMin = 3L;
+        for (ExecutionContext context : partitions.values()) {
+            assertEquals(expectedMin, context.getLong(EmployeeIdRangePartitioner.MIN_ID));
+            expectedMin = context.getLong(EmployeeIdRangePartitioner.MAX_ID) + 1;
+        }
+        assertEquals(103L, expectedMin);
+    }
+
+    @DisplayName("사원 수보다 파티션이 많으면 사원 ID 하나씩으로 나눈다")
+    @Test
+    void moreGridThanEmployees() {
+        EmployeeRepository repository = repository(7L, 8L);
+
+        Map<String, ExecutionContext> partitions = new EmployeeIdRangePartitioner(repository).partition(8);
+
+        assertEquals(2, partitions.size());
+        assertEquals(8L, partitions.get("partition1").getLong(EmployeeIdRangePartitioner.MIN_ID));
+    }
+
+    @DisplayName("재직 중인 사원이 없으면 빈 구간 하나를 만든다")
+    @Test
+    void noEmployees() {
+        EmployeeRepository repository = mock(EmployeeRepository.class);
+        when(repository.findFirstByResignationStatusOrderByEmployeeIdAsc(ResignationStatus.N)).thenReturn(Optional.empty());
+        when(repository.findFirstByResignationStatusOrderByEmployeeIdDesc(ResignationStatus.N)).thenReturn(Optional.empty());
+
+        Map<String, ExecutionContext> partitions = new EmployeeIdRangePartitioner(repository).partition(4);
+
+        assertEquals(1, partitions.size());
+        ExecutionContext context = partitions.get("partition0");
+        assertEquals(1L, context.getLong(EmployeeIdRangePartitioner.MIN_ID));
+        assertEquals(0L, context.getLong(EmployeeIdRangePartitioner.MAX_ID));
+    }
+
+    private static EmployeeRepository repository(long minId, long maxId) {
+        EmployeeRepository repository = mock(EmployeeRepository.class);
+        when(repository.findFirstByResignationStatusOrderByEmployeeIdAsc(ResignationStatus.N))
+                .thenReturn(Optional.of(employee(minId)));
+        when(repository.findFirstByResignationStatusOrderByEmployeeIdDesc(ResignationStatus.N))
+                .thenReturn(Optional.of(employee(maxId)));
+        return repository;
+    }
+
+    private static Employee employee(long employeeId) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        return employee;
+    }
+}
@@ -0,0 +1,80 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import com.pado.inflow.vacation.command.domain.aggregate.component.VacationGrantPlanner.GrantRule;
+import com.pado.inflow.vacation.command.domain.aggregate.component.VacationGrantPlanner.VacationGrant;
+import com.pado.inflow.vacation.command.domain.aggregate.entity.VacationPolicy;
+import com.pado.inflow.vacation.command.domain.repository.VacationBatchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class GrantPlanReaderTests {
+
+    private static final LocalDate PERIOD = LocalDate.of(2025, 1, 1);
+
+    @DisplayName("정책 순서대로 대상 사원을 읽고, 재시작하면 진행 중인 정책의 다음 사원부터 읽는다")
+    @Test
+    void readAndRestart() {
+        GrantRule first = rule(1L);
+        GrantRule second = rule(2L);
+        VacationBatchRepository repository = mock(VacationBatchRepository.class);
+        when(repository.findGrantableEmployeeIds(eq(first), eq(PERIOD), anyLong(), anyLong(), anyInt()))
+                .thenAnswer(invocation -> after(List.of(3L, 5L), invocation.getArgument(2)));
+        when(repository.findGrantableEmployeeIds(eq(second), eq(PERIOD), anyLong(), anyLong(), anyInt()))
+                .thenAnswer(invocation -> after(List.of(4L, 8L), invocation.getArgument(2)));
+
+        ExecutionContext context = new ExecutionContext();
+        GrantPlanReader reader = new GrantPlanReader(repository, List.of(first, second), PERIOD, 10, 1L, 100L);
+        reader.open(context);
+        assertEquals(new VacationGrant(3L, first.policy()), reader.read());
+        assertEquals(new VacationGrant(5L, first.policy()), reader.read());
+        assertEquals(new VacationGrant(4L, second.policy()), reader.read());
+        reader.update(context);     // 두 번째 정책의 4번 사원까지 커밋
+        reader.close();
+
+        GrantPlanReader restarted = new GrantPlanReader(repository, List.of(first, second), PERIOD, 10, 1L, 100L);
+        restarted.open(context);
+        assertEquals(new VacationGrant(8L, second.policy()), restarted.read());
+        assertNull(restarted.read());
+    }
+
+    @DisplayName("지급할 정책이 없으면 아무것도 조회하지 않는다")
+    @Test
+    void noRules() {
+        VacationBatchRepository repository = mock(VacationBatchRepository.class);
+        GrantPlanReader reader = new GrantPlanReader(repository, List.of(), PERIOD, 10, 1L, 100L);
+        reader.open(new ExecutionContext());
+
+        assertNull(reader.read());
+        verifyNoInteractions(repository);
+    }
+
+    private static List<Long> after(List<Long> ids, long afterId) {
+        List<Long> result = new ArrayList<>();
+        for (Long id : ids) {
+            if (id > afterId) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static GrantRule rule(Long policyId) {
+        VacationPolicy policy = new VacationPolicy();
+        policy.setVacationPolicyId(policyId);
+        return new GrantRule(policy, null, null, null);
+    }
+}
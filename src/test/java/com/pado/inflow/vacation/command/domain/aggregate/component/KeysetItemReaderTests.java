@@ -0,0 +1,95 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class KeysetItemReaderTests {
+
+    @DisplayName("읽는 도중 앞쪽 행이 삭제돼도 건너뛰거나 다시 읽지 않는다")
+    @Test
+    void noSkipWhileDeleting() {
+        TreeSet<Long> table = rows(1, 25);
+        TableReader reader = new TableReader(table, 10);
+        reader.open(new ExecutionContext());
+
+        List<Long> read = new ArrayList<>();
+        Long id;
+        while ((id = reader.read()) != null) {
+            read.add(id);
+            table.remove(id);       // 읽은 행을 바로 삭제하는 스텝과 같은 상황
+        }
+
+        assertEquals(new ArrayList<>(rows(1, 25)), read);
+        assertEquals(3, reader.fetchCount);   // 10 + 10 + 5
+    }
+
+    @DisplayName("재시작하면 마지막으로 커밋한 위치 다음부터 읽는다")
+    @Test
+    void restartFromExecutionContext() {
+        TreeSet<Long> table = rows(1, 30);
+        ExecutionContext context = new ExecutionContext();
+
+        TableReader first = new TableReader(table, 10);
+        first.open(context);
+        for (int i = 0; i < 12; i++) {
+            first.read();
+        }
+        first.update(context);      // 12번째 행까지 커밋
+        first.read();               // 커밋되지 않은 읽기
+        first.close();
+
+        TableReader restarted = new TableReader(table, 10);
+        restarted.open(context);
+        assertEquals(13L, restarted.read());
+    }
+
+    @DisplayName("조회 결과가 비어 있으면 null을 반환한다")
+    @Test
+    void emptyTable() {
+        TableReader reader = new TableReader(new TreeSet<>(), 10);
+        reader.open(new ExecutionContext());
+
+        assertNull(reader.read());
+        assertNull(reader.read());
+        assertEquals(1, reader.fetchCount);
+    }
+
+    private static TreeSet<Long> rows(long from, long to) {
+        TreeSet<Long> rows = new TreeSet<>();
+        for (long id = from; id <= to; id++) {
+            rows.add(id);
+        }
+        return rows;
+    }
+
+    // 설명. id만 있는 테이블을 keyset으로 읽는다.
+    private static class TableReader extends KeysetItemReader<Long> {
+
+        private final TreeSet<Long> table;
+        private int fetchCount;
+
+        TableReader(TreeSet<Long> table, int fetchSize) {
+            super("tableReader", fetchSize);
+            this.table = table;
+        }
+
+        @Override
+        protected List<Long> fetch(long afterId, int limit) {
+            fetchCount++;
+            return table.tailSet(afterId, false).stream().limit(limit).toList();
+        }
+
+        @Override
+        protected Long idOf(Long item) {
+            return item;
+        }
+    }
+}
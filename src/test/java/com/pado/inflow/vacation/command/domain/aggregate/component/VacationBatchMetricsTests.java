@@ -0,0 +1,87 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class VacationBatchMetricsTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final VacationBatchMetrics metrics = new VacationBatchMetrics(registry);
+
+    @DisplayName("파티션 워커 스텝의 건수는 원래 스텝 이름으로 합산된다")
+    @Test
+    void stepCountsByStepName() {
+        JobExecution jobExecution = jobExecution();
+        metrics.afterStep(worker(jobExecution, "vacationInsertStep:partition0", 10, 2, 8));
+        metrics.afterStep(worker(jobExecution, "vacationInsertStep:partition1", 5, 0, 5));
+
+        assertEquals(15.0, items("read"));
+        assertEquals(2.0, items("filter"));
+        assertEquals(13.0, items("write"));
+        assertEquals(15.0, items("process"));
+        assertEquals(2, registry.get("inflow.batch.step").tag("step", "vacationInsertStep").timer().count());
+    }
+
+    @DisplayName("청크 시간은 커밋/실패로 나눠 기록하고, 시작 시각이 없으면 기록하지 않는다")
+    @Test
+    void chunkTimer() {
+        StepExecution stepExecution = worker(jobExecution(), "vacationInsertStep:partition0", 0, 0, 0);
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+
+        metrics.beforeChunk(chunkContext);
+        metrics.afterChunk(chunkContext);
+        metrics.afterChunkError(chunkContext);      // beforeChunk 없이 온 완료 통지
+        metrics.beforeChunk(chunkContext);
+        metrics.afterChunkError(chunkContext);
+
+        assertEquals(1, registry.get("inflow.batch.chunk").tags("step", "vacationInsertStep", "outcome", "committed")
+                .timer().count());
+        assertEquals(1, registry.get("inflow.batch.chunk").tags("step", "vacationInsertStep", "outcome", "failed")
+                .timer().count());
+    }
+
+    @DisplayName("잡 실행 시간은 잡 이름과 상태로 기록한다")
+    @Test
+    void jobTimer() {
+        JobExecution jobExecution = jobExecution();
+        jobExecution.setStatus(BatchStatus.FAILED);
+
+        metrics.afterJob(jobExecution);
+
+        assertEquals(1, registry.get("inflow.batch.job").tags("job", "vacationInsertJob", "status", "FAILED")
+                .timer().count());
+        assertNull(registry.find("inflow.batch.job").tag("status", "COMPLETED").timer());
+    }
+
+    private double items(String type) {
+        return registry.get("inflow.batch.items").tags("step", "vacationInsertStep", "type", type).counter().count();
+    }
+
+    private static JobExecution jobExecution() {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "vacationInsertJob"), 1L, new JobParameters());
+        jobExecution.setStartTime(LocalDateTime.now().minusSeconds(1));
+        return jobExecution;
+    }
+
+    private static StepExecution worker(JobExecution jobExecution, String stepName, long read, long filter, long write) {
+        StepExecution stepExecution = jobExecution.createStepExecution(stepName);
+        stepExecution.setStartTime(LocalDateTime.now().minusSeconds(1));
+        stepExecution.setReadCount(read);
+        stepExecution.setFilterCount(filter);
+        stepExecution.setWriteCount(write);
+        return stepExecution;
+    }
+}
@@ -0,0 +1,94 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import com.pado.inflow.employee.info.enums.Gender;
+import com.pado.inflow.vacation.command.domain.aggregate.component.VacationGrantPlanner.GrantRule;
+import com.pado.inflow.vacation.command.domain.aggregate.component.VacationGrantPlanner.VacationGrant;
+import com.pado.inflow.vacation.command.domain.aggregate.entity.Vacation;
+import com.pado.inflow.vacation.command.domain.aggregate.entity.VacationPolicy;
+import com.pado.inflow.vacation.command.domain.aggregate.type.VacationPolicyStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VacationPolicySnapshotTests {
+
+    // 2025-01-01은 수요일
+    private static final LocalDate NEW_YEAR = LocalDate.of(2025, 1, 1);
+
+    @DisplayName("지급 주기는 일/월/요일만 보고, 필드가 모자라면 앞을 채운다")
+    @Test
+    void allocationSchedule() {
+        assertTrue(AllocationSchedule.compile("0 0 0 1 1 *").matches(NEW_YEAR));
+        assertTrue(AllocationSchedule.compile("0 9 1 1 *").matches(NEW_YEAR));     // 시 필드는 보지 않는다
+        assertTrue(AllocationSchedule.compile("1 * *").matches(NEW_YEAR.plusMonths(3)));
+        assertTrue(AllocationSchedule.compile("* * 3").matches(NEW_YEAR));         // 수요일
+        assertFalse(AllocationSchedule.compile("* * 0").matches(NEW_YEAR));
+        assertFalse(AllocationSchedule.compile("2 1 *").matches(NEW_YEAR));
+        assertFalse(AllocationSchedule.compile("0 0 0 0 1 1 *").matches(NEW_YEAR)); // 필드 초과
+        assertFalse(AllocationSchedule.compile("1 1").matches(NEW_YEAR));
+        assertFalse(AllocationSchedule.compile("x y z").matches(NEW_YEAR));
+    }
+
+    @DisplayName("기준일에 지급할 정책만 남기고, 정책마다 성별/입사일 조건을 만든다")
+    @Test
+    void planByCondition() {
+        VacationPolicySnapshot snapshot = new VacationPolicySnapshot(List.of(
+                policy(1L, VacationPolicyStatus.NORMAL, "0 0 0 1 1 *"),
+                policy(2L, VacationPolicyStatus.WOMAN_ONLY, "0 0 0 1 * *"),
+                policy(3L, VacationPolicyStatus.LONG_TERM, "0 0 0 1 1 *"),
+                policy(4L, VacationPolicyStatus.ROOKIE, "0 0 0 1 * *"),
+                policy(5L, VacationPolicyStatus.NORMAL, "0 0 0 2 * *")), NEW_YEAR);
+
+        List<GrantRule> rules = VacationGrantPlanner.plan(snapshot);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L),
+                rules.stream().map(rule -> rule.policy().getVacationPolicyId()).toList());
+        assertEquals(new GrantRule(rules.get(0).policy(), null, null, null), rules.get(0));
+        assertEquals(Gender.FEMALE, rules.get(1).gender());
+        assertEquals(NEW_YEAR.minusDays(1825), rules.get(2).joinedOnOrBefore());
+        assertEquals(NEW_YEAR.minusDays(365), rules.get(3).joinedAfter());
+    }
+
+    @DisplayName("지급 휴가의 만료일은 여성 보건 휴가는 다음 달 1일, 그 외는 연말이다")
+    @Test
+    void expiry() {
+        VacationPolicy woman = policy(2L, VacationPolicyStatus.WOMAN_ONLY, "0 0 0 1 * *");
+        VacationPolicy normal = policy(1L, VacationPolicyStatus.NORMAL, "0 0 0 1 1 *");
+        InsertVacationItemProcessor processor = new InsertVacationItemProcessor(
+                new VacationPolicySnapshot(List.of(woman, normal), NEW_YEAR));
+
+        Vacation monthly = processor.process(new VacationGrant(7L, woman));
+        Vacation yearly = processor.process(new VacationGrant(7L, normal));
+
+        assertEquals(LocalDate.of(2025, 2, 1).atStartOfDay(), monthly.getExpiredAt());
+        assertEquals(LocalDate.of(2025, 12, 31).atStartOfDay(), yearly.getExpiredAt());
+        assertEquals(7L, yearly.getEmployeeId());
+        assertEquals(1L, yearly.getVacationPolicyId());
+    }
+
+    @DisplayName("기준일에 지급할 정책이 없으면 지급 계획도 비어 있다")
+    @Test
+    void nothingDue() {
+        VacationPolicySnapshot snapshot = new VacationPolicySnapshot(
+                List.of(policy(1L, VacationPolicyStatus.NORMAL, "0 0 0 1 1 *")), NEW_YEAR.plusDays(1));
+
+        assertTrue(VacationGrantPlanner.plan(snapshot).isEmpty());
+    }
+
+    private static VacationPolicy policy(Long id, VacationPolicyStatus status, String cron) {
+        VacationPolicy policy = new VacationPolicy();
+        policy.setVacationPolicyId(id);
+        policy.setVacationPolicyName("정책" + id);
+        policy.setVacationPolicyStatus(status);
+        policy.setAllocationDays(1L);
+        policy.setAutoAllocationCycle(cron);
+        policy.setVacationTypeId(1L);
+        return policy;
+    }
+}
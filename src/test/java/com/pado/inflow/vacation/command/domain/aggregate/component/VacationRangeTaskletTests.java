@@ -0,0 +1,88 @@
+package com.pado.inflow.vacation.command.domain.aggregate.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VacationRangeTaskletTests {
+
+    @DisplayName("대상 행을 구간 단위로 처리하고 처리 건수를 스텝에 남긴다")
+    @Test
+    void processByRange() {
+        TreeSet<Long> targets = new TreeSet<>(List.of(2L, 3L, 5L, 8L, 13L, 21L, 34L));
+        TableTasklet tasklet = new TableTasklet(targets, 3);
+        StepExecution stepExecution = new StepExecution("vacationUpdateStep", new JobExecution(1L));
+
+        int runs = run(tasklet, stepExecution);
+
+        assertEquals(3, runs);                                          // 3 + 3 + 1건
+        assertEquals(List.of("1-5", "6-21", "22-34"), tasklet.ranges);
+        assertEquals(7, stepExecution.getWriteCount());
+        assertEquals(0, targets.size());
+    }
+
+    @DisplayName("재시작하면 처리한 구간 다음부터 이어서 처리한다")
+    @Test
+    void restartAfterLastRange() {
+        TreeSet<Long> targets = new TreeSet<>(List.of(2L, 3L, 5L, 8L));
+        StepExecution stepExecution = new StepExecution("vacationUpdateStep", new JobExecution(1L));
+        stepExecution.getExecutionContext().putLong("tableTasklet.last.id", 3L);
+        TableTasklet tasklet = new TableTasklet(targets, 10);
+
+        run(tasklet, stepExecution);
+
+        assertEquals(List.of("4-8"), tasklet.ranges);
+        assertEquals(2, stepExecution.getWriteCount());
+    }
+
+    // 설명. FINISHED가 나올 때까지 실행하고 CONTINUABLE 횟수를 반환한다.
+    private static int run(VacationRangeTasklet tasklet, StepExecution stepExecution) {
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+        int runs = 0;
+        while (true) {
+            StepContribution contribution = stepExecution.createStepContribution();
+            RepeatStatus status = tasklet.execute(contribution, chunkContext);
+            stepExecution.apply(contribution);
+            if (status == RepeatStatus.FINISHED) {
+                return runs;
+            }
+            runs++;
+        }
+    }
+
+    // 설명. 대상 행 ID만 있는 테이블을 구간 단위로 삭제한다.
+    private static class TableTasklet extends VacationRangeTasklet {
+
+        private final TreeSet<Long> targets;
+        private final List<String> ranges = new ArrayList<>();
+
+        TableTasklet(TreeSet<Long> targets, int chunkSize) {
+            super("tableTasklet", chunkSize);
+            this.targets = targets;
+        }
+
+        @Override
+        protected Long findUpperId(long afterId, int limit) {
+            return targets.tailSet(afterId, false).stream().limit(limit).reduce((a, b) -> b).orElse(null);
+        }
+
+        @Override
+        protected int apply(long fromId, long toId) {
+            ranges.add(fromId + "-" + toId);
+            TreeSet<Long> range = new TreeSet<>(targets.subSet(fromId, true, toId, true));
+            targets.removeAll(range);
+            return range.size();
+        }
+    }
+}